@@ -0,0 +1,33 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateSorter;
+import co.edu.uptc.admitted_candidates_system_engineering.service.ISorter;
+import co.edu.uptc.admitted_candidates_system_engineering.service.ParallelCandidateSorter;
+import co.edu.uptc.admitted_candidates_system_engineering.service.RadixCandidateSorter;
+import co.edu.uptc.admitted_candidates_system_engineering.service.RankingRules;
+import co.edu.uptc.admitted_candidates_system_engineering.service.RuleBasedCandidateSorter;
+
+/**
+ * Crea las estrategias de ordenamiento por el mismo nombre que usa admission.sorter.type.
+ */
+final class BenchmarkSorters {
+
+    private BenchmarkSorters() {
+    }
+
+    static ISorter<Candidate> create(String type) {
+        switch (type) {
+            case "comparator":
+                return new CandidateSorter();
+            case "radix":
+                return new RadixCandidateSorter();
+            case "parallel":
+                return new ParallelCandidateSorter(100_000, 0);
+            case "rules":
+                return new RuleBasedCandidateSorter(RankingRules.defaults());
+            default:
+                throw new IllegalArgumentException("Estrategia de ordenamiento desconocida: " + type);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateDataLoader;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CsvCandidateParser;
+import co.edu.uptc.admitted_candidates_system_engineering.service.NdjsonCandidateParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialización de candidatos: lista completa con readValue frente a la carga en streaming,
+ * y los lectores de bytes de CSV y NDJSON sobre los mismos candidatos (misma semilla).
+ * Los registros por segundo son size / tiempo por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class CandidateLoaderBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"0.2"})
+    private double minorityRatio;
+
+    @Param({"NORMAL"})
+    private SyntheticCandidateGenerator.ScoreDistribution distribution;
+
+    private Path file;
+    private Path csvFile;
+    private Path ndjsonFile;
+    private CandidateDataLoader dataLoader;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("candidates-benchmark", ".json");
+        new SyntheticCandidateGenerator(42, minorityRatio, distribution).writeJson(file, size);
+        csvFile = Files.createTempFile("candidates-benchmark", ".csv");
+        new SyntheticCandidateGenerator(42, minorityRatio, distribution).writeCsv(csvFile, size);
+        ndjsonFile = Files.createTempFile("candidates-benchmark", ".ndjson");
+        new SyntheticCandidateGenerator(42, minorityRatio, distribution).writeNdjson(ndjsonFile, size);
+        dataLoader = new CandidateDataLoader();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(ndjsonFile);
+    }
+
+    @Benchmark
+    public List<Candidate> readValueList() throws IOException {
+        return objectMapper.readValue(file.toFile(), new TypeReference<List<Candidate>>() {});
+    }
+
+    @Benchmark
+    public long streamFromFile(Blackhole blackhole) throws IOException {
+        return dataLoader.streamCandidatesFromFile(file, blackhole::consume);
+    }
+
+    @Benchmark
+    public long csvMapped(Blackhole blackhole) throws IOException {
+        return new CsvCandidateParser().parse(csvFile, blackhole::consume);
+    }
+
+    @Benchmark
+    public long ndjsonMapped(Blackhole blackhole) throws IOException {
+        return new NdjsonCandidateParser().parse(ndjsonFile, blackhole::consume);
+    }
+}
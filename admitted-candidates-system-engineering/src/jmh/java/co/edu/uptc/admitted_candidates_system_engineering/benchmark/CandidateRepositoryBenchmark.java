@@ -0,0 +1,76 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ConcurrentCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.InMemoryCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.RankedCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura completa del repositorio con {@link ICandidateRepository#getAllCandidates()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class CandidateRepositoryBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"memory", "columnar", "ranked", "concurrent", "offheap"})
+    private String repository;
+
+    private ICandidateRepository candidateRepository;
+
+    @Setup
+    public void setUp() {
+        candidateRepository = createRepository(repository);
+        SyntheticCandidateGenerator generator =
+            new SyntheticCandidateGenerator(42, 0.2, SyntheticCandidateGenerator.ScoreDistribution.NORMAL);
+        for (int i = 0; i < size; i++) {
+            candidateRepository.addCandidate(generator.next());
+        }
+    }
+
+    @Benchmark
+    public List<Candidate> getAllCandidates() {
+        return candidateRepository.getAllCandidates();
+    }
+
+    static ICandidateRepository createRepository(String type) {
+        switch (type) {
+            case "memory":
+                return new InMemoryCandidateRepository();
+            case "columnar":
+                return new ColumnarCandidateRepository();
+            case "ranked":
+                return new RankedCandidateRepository(new CandidateSorter());
+            case "concurrent":
+                return new ConcurrentCandidateRepository();
+            case "offheap":
+                return new OffHeapCandidateRepository(new CandidateSorter());
+            default:
+                throw new IllegalArgumentException("Repositorio desconocido: " + type);
+        }
+    }
+}
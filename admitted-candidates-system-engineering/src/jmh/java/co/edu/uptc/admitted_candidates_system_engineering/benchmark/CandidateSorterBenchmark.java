@@ -0,0 +1,56 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.ISorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordenamiento completo de candidatos con cada estrategia de {@link ISorter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class CandidateSorterBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"comparator", "radix", "rules", "parallel"})
+    private String sorter;
+
+    @Param({"0.2"})
+    private double minorityRatio;
+
+    @Param({"NORMAL"})
+    private SyntheticCandidateGenerator.ScoreDistribution distribution;
+
+    private List<Candidate> candidates;
+    private ISorter<Candidate> candidateSorter;
+
+    @Setup
+    public void setUp() {
+        candidates = new SyntheticCandidateGenerator(42, minorityRatio, distribution).generate(size);
+        candidateSorter = BenchmarkSorters.create(sorter);
+    }
+
+    @Benchmark
+    public List<Candidate> sort() {
+        return candidateSorter.sort(candidates);
+    }
+}
@@ -0,0 +1,104 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.service.DeferredAcceptance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asignación de cupos por aceptación diferida sobre preferencias sintéticas.
+ * Los programas tienen popularidad desigual (unos pocos concentran la demanda) y los cupos
+ * suman {@code seatRatio} veces el número de aspirantes, así que hay desplazamientos en
+ * cadena. La mitad de los programas usa la prioridad por puntaje y la otra mitad una
+ * prioridad distinta, como programas con reglas propias.
+ * Para 10M aspirantes con 10 opciones conviene -Djmh.args="-jvmArgsAppend -Xmx4g".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class DeferredAcceptanceBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int applicants;
+
+    @Param({"3", "10"})
+    private int preferences;
+
+    @Param({"50"})
+    private int programs;
+
+    @Param({"0.6"})
+    private double seatRatio;
+
+    private DeferredAcceptance engine;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int choicesPerApplicant = Math.min(preferences, programs);
+        int[] choiceStart = new int[applicants + 1];
+        short[] choices = new short[applicants * choicesPerApplicant];
+        boolean[] chosen = new boolean[programs];
+        for (int a = 0, position = 0; a < applicants; a++) {
+            for (int c = 0; c < choicesPerApplicant; c++) {
+                int program;
+                do {
+                    // Sesgo hacia los primeros programas: el mínimo de dos sorteos
+                    program = Math.min(random.nextInt(programs), random.nextInt(programs));
+                } while (chosen[program]);
+                chosen[program] = true;
+                choices[position++] = (short) program;
+            }
+            for (int i = position - choicesPerApplicant; i < position; i++) {
+                chosen[choices[i]] = false;
+            }
+            choiceStart[a + 1] = position;
+        }
+
+        int[] capacities = new int[programs];
+        int seats = (int) Math.max(1, applicants * seatRatio / programs);
+        Arrays.fill(capacities, seats);
+
+        int[] byScore = randomPermutation(applicants, random);
+        int[] byOtherRules = randomPermutation(applicants, random);
+        int[][] priority = new int[programs][];
+        for (int p = 0; p < programs; p++) {
+            priority[p] = p % 2 == 0 ? byScore : byOtherRules;
+        }
+        engine = new DeferredAcceptance(applicants, choiceStart, choices, capacities, priority);
+    }
+
+    @Benchmark
+    public int[] assign() {
+        return engine.run();
+    }
+
+    private static int[] randomPermutation(int size, SplittableRandom random) {
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = swap;
+        }
+        return permutation;
+    }
+}
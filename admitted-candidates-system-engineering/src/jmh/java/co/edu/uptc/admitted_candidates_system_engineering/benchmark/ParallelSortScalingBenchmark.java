@@ -0,0 +1,60 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.ParallelCandidateSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalamiento de {@link ParallelCandidateSorter} con el número de hilos. El umbral se fija en
+ * 2 para que siempre ordene en paralelo; la línea base de un hilo con TimSort es
+ * CandidateSorterBenchmark con sorter=comparator.
+ * Curva completa: -Djmh.benchmarks=ParallelSortScaling -Djmh.args="-prof gc -jvmArgsAppend -Xmx8g"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ParallelSortScalingBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    private List<Candidate> candidates;
+    private ParallelCandidateSorter sorter;
+
+    @Setup
+    public void setUp() {
+        candidates = new SyntheticCandidateGenerator(42, 0.2, SyntheticCandidateGenerator.ScoreDistribution.NORMAL)
+            .generate(size);
+        sorter = new ParallelCandidateSorter(2, threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sorter.shutdown();
+    }
+
+    @Benchmark
+    public List<Candidate> sort() {
+        return sorter.sort(candidates);
+    }
+}
@@ -0,0 +1,137 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prueba de carga local para el servidor HTTP del ranking (admission.http.enabled=true).
+ * Lanza varios clientes concurrentes que mezclan consultas de posición por nombre (la más
+ * común: aspirantes revisando su puesto), top-K y páginas al azar, y reporta latencias
+ * p50/p90/p99/máxima y el rendimiento total.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=co.edu.uptc.admitted_candidates_system_engineering.benchmark.RankingLoadTest \
+ *     -Dbenchmark.args="http://localhost:8080 64 20000"
+ * </pre>
+ * Argumentos: URL base, clientes concurrentes y peticiones totales.
+ */
+public class RankingLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int totalRequests = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        JsonNode firstPage = MAPPER.readTree(client.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/api/ranking?limit=1000")).build(),
+            HttpResponse.BodyHandlers.ofByteArray()).body());
+        int total = firstPage.get("total").asInt();
+        List<String> lookups = new ArrayList<>();
+        for (JsonNode candidate : firstPage.get("candidates")) {
+            lookups.add("/api/ranking/position?name=" + encode(candidate.get("name").asText())
+                + "&lastName=" + encode(candidate.get("lastName").asText()));
+        }
+        if (lookups.isEmpty()) {
+            throw new IllegalStateException("El ranking está vacío");
+        }
+
+        // Unas cuantas peticiones previas para que el servidor y el cliente estén calientes
+        runClients(client, baseUrl, lookups, total, clients, Math.min(totalRequests, 2_000));
+        long start = System.nanoTime();
+        Result result = runClients(client, baseUrl, lookups, total, clients, totalRequests);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = result.latencies;
+        Arrays.sort(latencies);
+        System.out.printf("Peticiones: %d | Clientes: %d | Errores: %d | %.0f req/s%n",
+            latencies.length, clients, result.errors, latencies.length / seconds);
+        System.out.printf("Latencia (ms): p50 %.3f | p90 %.3f | p99 %.3f | máx %.3f%n",
+            percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+            latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static Result runClients(HttpClient client, String baseUrl, List<String> lookups, int total,
+                                     int clients, int totalRequests) throws InterruptedException {
+        long[] latencies = new long[totalRequests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            SplittableRandom random = new SplittableRandom(c);
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int i = next.getAndIncrement(); i < totalRequests; i = next.getAndIncrement()) {
+                        URI uri = URI.create(baseUrl + nextPath(random, lookups, total));
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).build(),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + c);
+            worker.start();
+        }
+        done.await();
+        return new Result(latencies, errors.get());
+    }
+
+    private static String nextPath(SplittableRandom random, List<String> lookups, int total) {
+        int kind = random.nextInt(10);
+        if (kind < 6) {
+            return lookups.get(random.nextInt(lookups.size()));
+        }
+        if (kind < 9) {
+            return "/api/ranking/top?k=" + (1 + random.nextInt(100));
+        }
+        return "/api/ranking?offset=" + random.nextInt(Math.max(total, 1)) + "&limit=100";
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Result {
+        private final long[] latencies;
+        private final int errors;
+
+        Result(long[] latencies, int errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+    }
+}
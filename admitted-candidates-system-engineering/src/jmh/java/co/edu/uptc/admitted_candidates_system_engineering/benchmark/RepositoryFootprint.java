@@ -0,0 +1,64 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.IRankedCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+
+import java.util.Arrays;
+
+/**
+ * Heap retenido por cada repositorio con el ciclo completo cargado: lo que el recolector
+ * tendría que marcar en cada recolección completa. Se mide el heap usado tras varias
+ * recolecciones antes y después de llenar el repositorio (JOL no puede recorrer las lambdas
+ * del comparador de los repositorios ordenados). La memoria directa del repositorio fuera del
+ * heap no cuenta, que es justamente lo que se quiere mostrar.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=co.edu.uptc.admitted_candidates_system_engineering.benchmark.RepositoryFootprint \
+ *     -Dbenchmark.args="1000000 memory columnar offheap"
+ * </pre>
+ * Argumentos: número de aspirantes y, opcionalmente, los repositorios a medir (por omisión, todos).
+ */
+public class RepositoryFootprint {
+
+    private static final String[] REPOSITORIES = {"memory", "columnar", "ranked", "concurrent", "offheap"};
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String[] repositories = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : REPOSITORIES;
+
+        System.out.printf("%-12s %14s %10s%n", "Repositorio", "Heap retenido", "B/aspirante");
+        for (String type : repositories) {
+            long baseline = retainedHeap();
+            ICandidateRepository repository = CandidateRepositoryBenchmark.createRepository(type);
+            SyntheticCandidateGenerator generator =
+                new SyntheticCandidateGenerator(42, 0.2, SyntheticCandidateGenerator.ScoreDistribution.NORMAL);
+            for (int i = 0; i < size; i++) {
+                repository.addCandidate(generator.next());
+            }
+            if (repository instanceof IRankedCandidateRepository) {
+                // El ranking forma parte del estado en operación: se calcula antes de medir
+                ((IRankedCandidateRepository) repository).getTopCandidates(10);
+            }
+            long retained = retainedHeap() - baseline;
+            System.out.printf("%-12s %11d KB %10.1f%n", type, retained / 1024, (double) retained / size);
+
+            if (repository.getTotalCandidates() != size) {
+                throw new IllegalStateException(type + " guardó " + repository.getTotalCandidates() + " aspirantes");
+            }
+            if (repository instanceof OffHeapCandidateRepository) {
+                ((OffHeapCandidateRepository) repository).close();
+            }
+        }
+    }
+
+    private static long retainedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
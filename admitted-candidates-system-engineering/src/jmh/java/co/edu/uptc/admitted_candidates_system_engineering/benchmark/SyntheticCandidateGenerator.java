@@ -0,0 +1,167 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.EthnicityClassifier;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generador determinista de candidatos sintéticos para los benchmarks.
+ * Permite controlar la proporción de comunidades minoritarias y la distribución
+ * de los puntajes (uniforme o normal alrededor de la media nacional).
+ */
+public class SyntheticCandidateGenerator {
+
+    /** Distribución de los puntajes generados. */
+    public enum ScoreDistribution {
+        /** Puntajes repartidos de forma uniforme en todo el rango. */
+        UNIFORM,
+        /** Puntajes concentrados alrededor de la media, con muchos empates. */
+        NORMAL
+    }
+
+    private static final String[] NAMES = {
+        "María Fernanda", "Carlos Andrés", "Ana Lucía", "Diego Fernando", "Valeria Nicole",
+        "Santiago David", "Laura Valentina", "Andrés Felipe", "Sofía Isabel", "Juan Sebastián",
+        "Camila Andrea", "Nicolás Alberto", "Isabella María", "Alejandro José", "Daniela Alejandra"
+    };
+    private static final String[] LAST_NAMES = {
+        "González Rodríguez", "Martínez López", "Vargas Castillo", "Silva Herrera", "Restrepo Ospina",
+        "Mejía Cardona", "Moreno Jiménez", "García Muñoz", "Hernández Cruz", "Rodríguez Peña",
+        "López Torres", "Aguilar Montoya", "Castro Delgado", "Ramírez Vega", "Pineda Ruiz"
+    };
+    private static final String[] MINORITY_ETHNICITIES = {
+        "Indígena Wayuu", "Indígena Emberá", "Afrocolombiano", "Raizal", "Palenquero", "Rom"
+    };
+    private static final String[] GENERAL_ETHNICITIES = {"General", "Mestizo"};
+    private static final LocalDate FIRST_REGISTRATION = LocalDate.of(2024, 9, 1);
+
+    private final SplittableRandom random;
+    private final double minorityRatio;
+    private final ScoreDistribution distribution;
+
+    /**
+     * @param seed semilla para reproducir exactamente la misma secuencia
+     * @param minorityRatio proporción de candidatos de comunidades minoritarias (0 a 1)
+     * @param distribution distribución de los puntajes
+     */
+    public SyntheticCandidateGenerator(long seed, double minorityRatio, ScoreDistribution distribution) {
+        this.random = new SplittableRandom(seed);
+        this.minorityRatio = minorityRatio;
+        this.distribution = distribution;
+    }
+
+    /**
+     * @return candidato ya clasificado; las etnias de cada grupo coinciden con las palabras clave
+     *         predeterminadas de {@link EthnicityClassifier}
+     */
+    public Candidate next() {
+        boolean minority = random.nextDouble() < minorityRatio;
+        String[] ethnicities = minority ? MINORITY_ETHNICITIES : GENERAL_ETHNICITIES;
+        Candidate candidate = new Candidate(
+            NAMES[random.nextInt(NAMES.length)],
+            LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+            ethnicities[random.nextInt(ethnicities.length)],
+            score(500, 250, 60),
+            FIRST_REGISTRATION.plusDays(random.nextInt(60)),
+            score(100, 50, 15),
+            score(100, 50, 15));
+        candidate.applyEthnicityClassification(minority);
+        return candidate;
+    }
+
+    public List<Candidate> generate(int count) {
+        List<Candidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            candidates.add(next());
+        }
+        return candidates;
+    }
+
+    /**
+     * Escribe un arreglo JSON con el mismo formato que candidates.json sin mantener
+     * los candidatos en memoria.
+     */
+    public void writeJson(Path file, int count) throws IOException {
+        try (JsonGenerator json = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            json.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                Candidate candidate = next();
+                json.writeStartObject();
+                json.writeStringField("name", candidate.getName());
+                json.writeStringField("lastName", candidate.getLastName());
+                json.writeStringField("ethnicity", candidate.getEthnicity());
+                json.writeNumberField("globalIcfesScore", candidate.getGlobalIcfesScore());
+                json.writeStringField("registrationDate", candidate.getRegistrationDate().toString());
+                json.writeNumberField("mathScore", candidate.getMathScore());
+                json.writeNumberField("englishScore", candidate.getEnglishScore());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Escribe los candidatos en CSV con encabezado, en el formato que lee CsvCandidateParser.
+     * Con la misma semilla produce los mismos candidatos que {@link #writeJson(Path, int)}.
+     */
+    public void writeCsv(Path file, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("name,lastName,ethnicity,globalIcfesScore,registrationDate,mathScore,englishScore\n");
+            for (int i = 0; i < count; i++) {
+                Candidate candidate = next();
+                writer.write(candidate.getName() + ',' + candidate.getLastName() + ',' + candidate.getEthnicity()
+                    + ',' + candidate.getGlobalIcfesScore() + ',' + candidate.getRegistrationDate()
+                    + ',' + candidate.getMathScore() + ',' + candidate.getEnglishScore() + '\n');
+            }
+        }
+    }
+
+    /**
+     * Escribe un objeto JSON por línea (NDJSON) con los mismos campos que {@link #writeJson(Path, int)}.
+     */
+    public void writeNdjson(Path file, int count) throws IOException {
+        try (JsonGenerator json = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            json.setRootValueSeparator(new SerializedString("\n"));
+            for (int i = 0; i < count; i++) {
+                Candidate candidate = next();
+                json.writeStartObject();
+                json.writeStringField("name", candidate.getName());
+                json.writeStringField("lastName", candidate.getLastName());
+                json.writeStringField("ethnicity", candidate.getEthnicity());
+                json.writeNumberField("globalIcfesScore", candidate.getGlobalIcfesScore());
+                json.writeStringField("registrationDate", candidate.getRegistrationDate().toString());
+                json.writeNumberField("mathScore", candidate.getMathScore());
+                json.writeNumberField("englishScore", candidate.getEnglishScore());
+                json.writeEndObject();
+            }
+        }
+    }
+
+    private int score(int max, int mean, int deviation) {
+        if (distribution == ScoreDistribution.UNIFORM) {
+            return random.nextInt(max + 1);
+        }
+        double gaussian = nextGaussian();
+        return (int) Math.max(0, Math.min(max, Math.round(mean + gaussian * deviation)));
+    }
+
+    /** Box-Muller, porque SplittableRandom no ofrece nextGaussian en Java 17. */
+    private double nextGaussian() {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+}
@@ -0,0 +1,61 @@
+package co.edu.uptc.admitted_candidates_system_engineering.benchmark;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.RadixCandidateSorter;
+import co.edu.uptc.admitted_candidates_system_engineering.view.TablePrinter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Impresión de la tabla de admitidos hacia una salida nula, para medir solo el formateo y la escritura.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TablePrinterBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private List<Candidate> ranking;
+    private TablePrinter tablePrinter;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        List<Candidate> candidates =
+            new SyntheticCandidateGenerator(42, 0.2, SyntheticCandidateGenerator.ScoreDistribution.NORMAL).generate(size);
+        ranking = new RadixCandidateSorter().sort(candidates);
+        tablePrinter = new TablePrinter();
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void printTable() {
+        tablePrinter.printTable(ranking);
+    }
+}
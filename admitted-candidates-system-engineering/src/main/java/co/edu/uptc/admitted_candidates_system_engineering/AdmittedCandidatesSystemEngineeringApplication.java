@@ -1,6 +1,9 @@
 package co.edu.uptc.admitted_candidates_system_engineering;
 
 import co.edu.uptc.admitted_candidates_system_engineering.controller.AdmissionController;
+import co.edu.uptc.admitted_candidates_system_engineering.controller.DeltaReloadWatcher;
+import co.edu.uptc.admitted_candidates_system_engineering.controller.RankingHttpServer;
+import co.edu.uptc.admitted_candidates_system_engineering.view.IMessagePrinter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
@@ -18,6 +21,15 @@ public class AdmittedCandidatesSystemEngineeringApplication implements CommandLi
     @Autowired
     private AdmissionController admissionController;
 
+    @Autowired(required = false)
+    private RankingHttpServer rankingHttpServer;
+
+    @Autowired(required = false)
+    private DeltaReloadWatcher deltaReloadWatcher;
+
+    @Autowired
+    private IMessagePrinter messagePrinter;
+
     public static void main(String[] args) {
         SpringApplication.run(AdmittedCandidatesSystemEngineeringApplication.class, args);
     }
@@ -30,5 +42,13 @@ public class AdmittedCandidatesSystemEngineeringApplication implements CommandLi
     @Override
     public void run(String... args) throws Exception {
         admissionController.executeAdmissionProcess();
+        // Con admission.delta.enabled=true los lotes nuevos de la carpeta de entrada actualizan el ranking
+        if (deltaReloadWatcher != null) {
+            messagePrinter.printDeltaWatcherStarted(deltaReloadWatcher.start());
+        }
+        // Con admission.http.enabled=true la aplicación sigue atendiendo consultas del ranking
+        if (rankingHttpServer != null) {
+            messagePrinter.printHttpServerStarted(rankingHttpServer.start());
+        }
     }
 }
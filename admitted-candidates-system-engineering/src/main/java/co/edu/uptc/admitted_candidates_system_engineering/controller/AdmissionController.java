@@ -1,13 +1,22 @@
 package co.edu.uptc.admitted_candidates_system_engineering.controller;
 
+import co.edu.uptc.admitted_candidates_system_engineering.model.AdmissionResult;
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramRanking;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingPools;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import co.edu.uptc.admitted_candidates_system_engineering.service.IAdmissionMetrics;
 import co.edu.uptc.admitted_candidates_system_engineering.service.IAdmissionService;
 import co.edu.uptc.admitted_candidates_system_engineering.view.ITablePrinter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import co.edu.uptc.admitted_candidates_system_engineering.view.IMessagePrinter;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Controlador que coordina el flujo de la aplicación.
@@ -21,32 +30,62 @@ public class AdmissionController {
     private final IAdmissionService admissionService;
     private final ITablePrinter tablePrinter;
     private final IMessagePrinter messagePrinter;
+    private final IAdmissionMetrics metrics;
+    private final int seats;
+    private final boolean pooledRanking;
+    private final boolean analyticsOnly;
+    private final boolean multiProgram;
+    private final boolean seatAssignment;
     
     @Autowired
     public AdmissionController(IAdmissionService admissionService,
                               ITablePrinter tablePrinter,
-                              IMessagePrinter messagePrinter) {
+                              IMessagePrinter messagePrinter,
+                              IAdmissionMetrics metrics,
+                              @Value("${admission.seats:0}") int seats,
+                              @Value("${admission.ranking.mode:full}") String rankingMode) {
         this.admissionService = admissionService;
         this.tablePrinter = tablePrinter;
         this.messagePrinter = messagePrinter;
+        this.metrics = metrics;
+        this.seats = seats;
+        this.pooledRanking = "pooled".equalsIgnoreCase(rankingMode.trim());
+        this.analyticsOnly = "analytics".equalsIgnoreCase(rankingMode.trim());
+        this.multiProgram = "programs".equalsIgnoreCase(rankingMode.trim());
+        this.seatAssignment = "assignment".equalsIgnoreCase(rankingMode.trim());
     }
     
     /**
      * Ejecuta el flujo completo del proceso de admisión.
+     * Cada etapa (carga, clasificación e impresión) se mide por separado.
      * Aplica principio KISS: flujo lineal y claro.
      */
     public void executeAdmissionProcess() {
         try {
             // 1. Inicializar sistema
             printSystemStart();
-            admissionService.initializeSystem();            
+            try (IAdmissionMetrics.Stage stage = metrics.startStage("load")) {
+                admissionService.initializeSystem();
+                IngestionReport report = admissionService.getLastIngestionReport();
+                stage.setRecords(report.getTotalRecords());
+                stage.setBytesRead(report.getBytesRead());
+            }
+            messagePrinter.printIngestionReport(admissionService.getLastIngestionReport());
+            
             // 2. Procesar candidatos
-            List<Candidate> admittedCandidates = admissionService.processAdmittedCandidates();
+            Runnable output;
+            try (IAdmissionMetrics.Stage stage = metrics.startStage("rank")) {
+                output = rank();
+                stage.setRecords(admissionService.getTotalCandidates());
+            }
             
             // 3. Mostrar resultados
-            tablePrinter.printTable(admittedCandidates);
+            metrics.time("print", output);
+            if (metrics.isEnabled()) {
+                messagePrinter.printStageMetrics(metrics.getStages());
+            }
             
-            // 5. Finalizar
+            // 4. Finalizar
             printSystemSuccess();
             
         } catch (Exception e) {
@@ -54,6 +93,60 @@ public class AdmissionController {
         }
     }
     
+    /**
+     * Clasifica según el modo configurado y devuelve la impresión pendiente, para que la
+     * clasificación y la salida se midan como etapas distintas.
+     */
+    private Runnable rank() {
+        if (analyticsOnly) {
+            // Solo cifras: no se ordena ni se imprime el ranking
+            ScoreAnalytics analytics = admissionService.analyzeScores(seats);
+            return () -> messagePrinter.printScoreAnalytics(analytics);
+        }
+        if (seatAssignment) {
+            SeatAssignment assignment = admissionService.assignSeats();
+            return () -> printSeatAssignment(assignment);
+        }
+        if (multiProgram) {
+            ProgramAdmissions admissions = admissionService.processPrograms();
+            return () -> printPrograms(admissions);
+        }
+        if (pooledRanking) {
+            RankingPools pools = admissionService.processRankingPools(seats);
+            return () -> printRankingPools(pools);
+        }
+        if (seats > 0) {
+            AdmissionResult result = admissionService.processAdmittedCandidates(seats);
+            return () -> {
+                tablePrinter.printTable(result.getAdmittedCandidates());
+                messagePrinter.printAdmissionSummary(result);
+            };
+        }
+        // El ranking se recorre de forma perezosa, sin materializar otra lista para la vista
+        Stream<Candidate> ranked = admissionService.streamRanked();
+        return () -> tablePrinter.printTable(ranked);
+    }
+    
+    private void printRankingPools(RankingPools pools) {
+        tablePrinter.printTable(pools.getAdmittedMinority(), "ADMITIDOS - BOLSA COMUNIDADES MINORITARIAS");
+        tablePrinter.printTable(pools.getAdmittedGeneral(), "ADMITIDOS - BOLSA GENERAL");
+        messagePrinter.printPoolSummary(pools);
+    }
+    
+    private void printPrograms(ProgramAdmissions admissions) {
+        for (ProgramRanking ranking : admissions.getRankings()) {
+            tablePrinter.printTable(ranking.getAdmittedCandidates(), "CANDIDATOS ADMITIDOS - " + ranking.getTitle());
+        }
+        messagePrinter.printProgramSummary(admissions);
+    }
+    
+    private void printSeatAssignment(SeatAssignment assignment) {
+        for (ProgramRanking ranking : assignment.getPrograms()) {
+            tablePrinter.printTable(ranking.getAdmittedCandidates(), "CANDIDATOS ADMITIDOS - " + ranking.getTitle());
+        }
+        messagePrinter.printSeatAssignment(assignment);
+    }
+    
     private void printSystemStart() {
         messagePrinter.printSystemStart();
 
@@ -0,0 +1,306 @@
+package co.edu.uptc.admitted_candidates_system_engineering.controller;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateDataLoader;
+import co.edu.uptc.admitted_candidates_system_engineering.service.IAdmissionService;
+import co.edu.uptc.admitted_candidates_system_engineering.view.IMessagePrinter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Vigila la carpeta de lotes y aplica cada lote de inscripción nuevo o modificado sobre los
+ * datos ya cargados, sin volver a leer el archivo completo del ciclo. Un lote se aplica cuando
+ * deja de recibir escrituras durante el periodo de espera, para no leer archivos a medio copiar;
+ * los lotes que llegan juntos se aplican en orden de fecha de modificación (y de nombre si la
+ * fecha coincide), así que un retiro escrito después de un alta no queda deshecho por ella.
+ * Un archivo que no cambió (mismo tamaño y fecha de modificación) no se vuelve a aplicar.
+ * <p>
+ * Los lotes aplicados se registran, en el orden en que se aplicaron, en {@value #LEDGER_FILE}
+ * dentro de la misma carpeta. Al arrancar, si los datos se recuperaron con esos lotes ya
+ * incluidos no se repiten; si la carga partió de la fuente, se vuelven a aplicar en ese mismo
+ * orden antes que los lotes nuevos.
+ * Aplica principio Single Responsibility: solo detecta lotes; aplicarlos es tarea del servicio.
+ */
+@Component
+@ConditionalOnProperty(name = "admission.delta.enabled", havingValue = "true")
+public class DeltaReloadWatcher {
+
+    private static final List<String> EXTENSIONS = List.of(".json", ".csv", ".ndjson", ".jsonl");
+    /** Registro de lotes aplicados; empieza con punto, así que no se toma como lote. */
+    static final String LEDGER_FILE = ".lotes-aplicados";
+    private static final Comparator<Path> MODIFICATION_ORDER = Comparator
+        .comparingLong(DeltaReloadWatcher::modifiedMillis)
+        .thenComparing(Path::getFileName);
+
+    private final IAdmissionService admissionService;
+    private final IMessagePrinter messagePrinter;
+    private final Path directory;
+    private final Path ledger;
+    private final long quietPeriodMillis;
+    /** Tamaño y fecha de cada lote cuando se aplicó, en orden de aplicación. */
+    private final Map<Path, FileStamp> applied = new LinkedHashMap<>();
+    /** Lotes con eventos recientes -> instante del último evento; solo lo usa el hilo vigilante. */
+    private final Map<Path, Long> pending = new TreeMap<>();
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * @param directory carpeta exclusiva de lotes; no puede ser la del archivo de datos, donde
+     *                  cualquier otro .json o .csv se tomaría como lote
+     * @param quietPeriodMillis tiempo sin escrituras tras el cual un lote se considera completo
+     */
+    @Autowired
+    public DeltaReloadWatcher(IAdmissionService admissionService,
+                              IMessagePrinter messagePrinter,
+                              CandidateDataLoader dataLoader,
+                              @Value("${admission.delta.directory:}") String directory,
+                              @Value("${admission.delta.quiet-period-ms:500}") long quietPeriodMillis) {
+        this.admissionService = admissionService;
+        this.messagePrinter = messagePrinter;
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalStateException("admission.delta.directory es obligatorio: los lotes van en una carpeta propia");
+        }
+        this.directory = Path.of(directory.trim()).toAbsolutePath().normalize();
+        Path dataFile = dataLoader.resolveConfiguredFile();
+        if (dataFile != null && this.directory.equals(dataFile.toAbsolutePath().normalize().getParent())) {
+            throw new IllegalStateException("admission.delta.directory no puede ser la carpeta de admission.data.file: "
+                + this.directory);
+        }
+        this.ledger = this.directory.resolve(LEDGER_FILE);
+        this.quietPeriodMillis = Math.max(0, quietPeriodMillis);
+    }
+
+    /**
+     * Pone al día los datos con los lotes registrados y los que ya están en la carpeta, y
+     * empieza a vigilarla en segundo plano. Crea la carpeta si no existe.
+     *
+     * @return carpeta vigilada
+     * @throws IOException si la carpeta no se puede vigilar o el registro no se puede leer
+     */
+    public synchronized Path start() throws IOException {
+        if (thread != null) {
+            return directory;
+        }
+        Files.createDirectories(directory);
+        // Se registra antes de listar para no perder un lote que llegue entre ambos pasos
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        // Con el ranking ya publicado, cada lote lo actualiza en lugar de invalidarlo
+        admissionService.getRankingSnapshot();
+        boolean retained = admissionService.retainsAppliedBatches();
+        for (Map.Entry<Path, FileStamp> entry : readLedger().entrySet()) {
+            // Un lote registrado que cambió o desapareció ya no es el que se aplicó
+            if (entry.getValue().equals(stampOf(entry.getKey()))) {
+                if (retained) {
+                    applied.put(entry.getKey(), entry.getValue());
+                } else {
+                    apply(entry.getKey());
+                }
+            }
+        }
+        writeLedger();
+        for (Path file : listBatches()) {
+            apply(file);
+        }
+        thread = new Thread(this::watch, "delta-reload");
+        thread.start();
+        return directory;
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws IOException, InterruptedException {
+        if (thread == null) {
+            return;
+        }
+        watchService.close();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        thread = null;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = pending.isEmpty()
+                    ? watchService.take()
+                    : watchService.poll(quietPeriodMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    collect(key);
+                    if (!key.reset()) {
+                        return;
+                    }
+                }
+                applySettled();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // stop() cerró el servicio: termina el hilo
+        }
+    }
+
+    private void collect(WatchKey key) {
+        long now = System.nanoTime();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Se perdieron eventos: se revisa la carpeta completa
+                try {
+                    listBatches().forEach(file -> pending.put(file, now));
+                } catch (IOException e) {
+                    messagePrinter.printDeltaRejected(directory.toString(), e);
+                }
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (isBatch(file)) {
+                pending.put(file, now);
+            }
+        }
+    }
+
+    private void applySettled() {
+        long now = System.nanoTime();
+        List<Path> settled = new ArrayList<>();
+        pending.forEach((file, lastEvent) -> {
+            if (now - lastEvent >= TimeUnit.MILLISECONDS.toNanos(quietPeriodMillis)) {
+                settled.add(file);
+            }
+        });
+        settled.forEach(pending::remove);
+        settled.removeIf(file -> !Files.isRegularFile(file));
+        settled.sort(MODIFICATION_ORDER);
+        for (Path file : settled) {
+            apply(file);
+        }
+    }
+
+    private void apply(Path file) {
+        FileStamp stamp = stampOf(file);
+        if (stamp == null || stamp.equals(applied.get(file))) {
+            // Se borró o movió antes de leerlo, o ya se aplicó así como está
+            return;
+        }
+        // Un lote rechazado tampoco se reintenta hasta que cambie; uno modificado pasa al final del orden
+        applied.remove(file);
+        applied.put(file, stamp);
+        try {
+            IngestionReport report = admissionService.applyDelta(file);
+            messagePrinter.printDeltaApplied(file.getFileName().toString(), report);
+        } catch (IOException | RuntimeException e) {
+            messagePrinter.printDeltaRejected(file.getFileName().toString(), e);
+        }
+        try {
+            writeLedger();
+        } catch (IOException e) {
+            messagePrinter.printDeltaRejected(LEDGER_FILE, e);
+        }
+    }
+
+    private List<Path> listBatches() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(this::isBatch).sorted(MODIFICATION_ORDER).toList();
+        }
+    }
+
+    private boolean isBatch(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return !name.startsWith(".") && EXTENSIONS.stream().anyMatch(name::endsWith) && Files.isRegularFile(file);
+    }
+
+    /**
+     * Una línea por lote, en orden de aplicación: tamaño, fecha de modificación y nombre,
+     * separados por tabuladores.
+     */
+    private Map<Path, FileStamp> readLedger() throws IOException {
+        Map<Path, FileStamp> entries = new LinkedHashMap<>();
+        if (!Files.isRegularFile(ledger)) {
+            return entries;
+        }
+        for (String line : Files.readAllLines(ledger, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", 3);
+            if (fields.length == 3) {
+                try {
+                    entries.put(directory.resolve(fields[2]),
+                        new FileStamp(Long.parseLong(fields[0]), Long.parseLong(fields[1])));
+                } catch (NumberFormatException e) {
+                    // Línea dañada: ese lote se tratará como nuevo
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Reescribe el registro en un archivo temporal y lo reemplaza, para no dejarlo a medias.
+     */
+    private void writeLedger() throws IOException {
+        List<String> lines = new ArrayList<>(applied.size());
+        applied.forEach((file, stamp) -> lines.add(stamp.size + "\t" + stamp.modified + "\t" + file.getFileName()));
+        Path temporary = ledger.resolveSibling(LEDGER_FILE + ".tmp");
+        Files.write(temporary, lines, StandardCharsets.UTF_8);
+        Files.move(temporary, ledger, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return tamaño y fecha actuales del archivo, o null si ya no existe
+     */
+    private static FileStamp stampOf(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static long modifiedMillis(Path file) {
+        FileStamp stamp = stampOf(file);
+        return stamp == null ? Long.MAX_VALUE : stamp.modified;
+    }
+
+    private static final class FileStamp {
+        private final long size;
+        private final long modified;
+
+        private FileStamp(long size, long modified) {
+            this.size = size;
+            this.modified = modified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FileStamp)) return false;
+            FileStamp other = (FileStamp) o;
+            return size == other.size && modified == other.modified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, modified);
+        }
+    }
+}
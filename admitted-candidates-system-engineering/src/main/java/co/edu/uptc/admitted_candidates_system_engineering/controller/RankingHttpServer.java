@@ -0,0 +1,243 @@
+package co.edu.uptc.admitted_candidates_system_engineering.controller;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingSnapshot;
+import co.edu.uptc.admitted_candidates_system_engineering.service.IAdmissionService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP de solo lectura que publica el ranking de admisión.
+ * Todas las consultas leen el {@link RankingSnapshot} vigente del servicio: cada petición toma
+ * una referencia al ranking una sola vez y responde con él, así que nunca se ordena durante
+ * una lectura y un cambio de datos no deja a nadie viendo un ranking a medio construir.
+ * Cada petición se atiende en un hilo virtual cuando la JVM es Java 21 o superior.
+ * Aplica principio Single Responsibility: solo traduce peticiones HTTP a consultas del servicio.
+ * <ul>
+ *   <li>{@code GET /api/ranking?offset=0&limit=100} - tramo del ranking</li>
+ *   <li>{@code GET /api/ranking/top?k=10} - primeros k candidatos</li>
+ *   <li>{@code GET /api/ranking/position?name=...&lastName=...} - posición de un candidato</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "admission.http.enabled", havingValue = "true")
+public class RankingHttpServer {
+
+    private static final String BASE_PATH = "/api/ranking";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final IAdmissionService admissionService;
+    private final int port;
+    private final int maxPageSize;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Autowired
+    public RankingHttpServer(IAdmissionService admissionService,
+                             @Value("${admission.http.port:8080}") int port,
+                             @Value("${admission.http.max-page-size:1000}") int maxPageSize) {
+        this.admissionService = admissionService;
+        this.port = port;
+        this.maxPageSize = Math.max(1, maxPageSize);
+    }
+
+    /**
+     * Precalcula el ranking y empieza a atender peticiones.
+     *
+     * @return puerto en el que quedó escuchando
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public synchronized int start() throws IOException {
+        if (server != null) {
+            return server.getAddress().getPort();
+        }
+        // El primer cliente no debe pagar el ordenamiento
+        admissionService.getRankingSnapshot();
+        executor = newRequestExecutor();
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH, this::handle);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Solo se permite GET");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            RankingSnapshot snapshot = admissionService.getRankingSnapshot();
+            String path = exchange.getRequestURI().getPath();
+            switch (path) {
+                case BASE_PATH:
+                case BASE_PATH + "/":
+                    sendPage(exchange, snapshot, intParam(query, "offset", 0), intParam(query, "limit", 100));
+                    break;
+                case BASE_PATH + "/top":
+                    sendPage(exchange, snapshot, 0, intParam(query, "k", 10));
+                    break;
+                case BASE_PATH + "/position":
+                    sendPositions(exchange, snapshot, query.get("name"), query.get("lastName"));
+                    break;
+                default:
+                    sendError(exchange, 404, "Ruta no encontrada: " + path);
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sendPage(HttpExchange exchange, RankingSnapshot snapshot, int offset, int limit) throws IOException {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset y limit no pueden ser negativos");
+        }
+        List<Candidate> page = snapshot.page(offset, Math.min(limit, maxPageSize));
+        ByteArrayOutputStream body = new ByteArrayOutputStream(256 + page.size() * 192);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(body, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeNumberField("total", snapshot.size());
+            json.writeNumberField("offset", offset);
+            json.writeArrayFieldStart("candidates");
+            for (int i = 0; i < page.size(); i++) {
+                writeCandidate(json, offset + i + 1, page.get(i));
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        send(exchange, 200, body);
+    }
+
+    private void sendPositions(HttpExchange exchange, RankingSnapshot snapshot, String name, String lastName)
+            throws IOException {
+        if (name == null || lastName == null) {
+            throw new IllegalArgumentException("Se requieren los parámetros name y lastName");
+        }
+        int[] positions = snapshot.positionsOf(name, lastName);
+        if (positions.length == 0) {
+            sendError(exchange, 404, "Candidato no encontrado");
+            return;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128 + positions.length * 192);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(body, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeNumberField("total", snapshot.size());
+            json.writeArrayFieldStart("candidates");
+            for (int position : positions) {
+                writeCandidate(json, position, snapshot.getRankedCandidates().get(position - 1));
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        send(exchange, 200, body);
+    }
+
+    private void writeCandidate(JsonGenerator json, int position, Candidate candidate) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("position", position);
+        json.writeStringField("name", candidate.getName());
+        json.writeStringField("lastName", candidate.getLastName());
+        json.writeStringField("ethnicity", candidate.getEthnicity());
+        json.writeBooleanField("minorityCommunity", candidate.isMinorityCommunity());
+        json.writeNumberField("globalIcfesScore", candidate.getGlobalIcfesScore());
+        json.writeNumberField("mathScore", candidate.getMathScore());
+        json.writeNumberField("englishScore", candidate.getEnglishScore());
+        json.writeEndObject();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(body, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("error", message);
+            json.writeEndObject();
+        }
+        send(exchange, status, body);
+    }
+
+    private void send(HttpExchange exchange, int status, ByteArrayOutputStream body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.size());
+        try (OutputStream output = exchange.getResponseBody()) {
+            body.writeTo(output);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro " + name + " debe ser un número entero");
+        }
+    }
+
+    /**
+     * Usa un hilo virtual por petición si la JVM lo soporta (Java 21+). El proyecto compila
+     * para Java 17, por eso se busca por reflexión; en versiones anteriores se usa un pool
+     * de hilos de plataforma que crece según la demanda.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "ranking-http-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de un proceso de admisión con cupos limitados.
+ * Contiene los admitidos en orden y el puntaje de corte, es decir,
+ * el puntaje global ICFES del último candidato que obtuvo cupo.
+ * Aplica principio KISS: objeto inmutable de solo datos.
+ */
+public class AdmissionResult {
+
+    private final List<Candidate> admittedCandidates;
+    private final int seats;
+    private final int totalApplicants;
+
+    public AdmissionResult(List<Candidate> admittedCandidates, int seats, int totalApplicants) {
+        this.admittedCandidates = Collections.unmodifiableList(admittedCandidates);
+        this.seats = seats;
+        this.totalApplicants = totalApplicants;
+    }
+
+    public List<Candidate> getAdmittedCandidates() {
+        return admittedCandidates;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public int getTotalApplicants() {
+        return totalApplicants;
+    }
+
+    /**
+     * @return último candidato admitido, o null si no hubo admitidos
+     */
+    public Candidate getCutoffCandidate() {
+        return admittedCandidates.isEmpty() ? null : admittedCandidates.get(admittedCandidates.size() - 1);
+    }
+
+    /**
+     * @return puntaje global ICFES del último admitido, o -1 si no hubo admitidos
+     */
+    public int getCutoffScore() {
+        Candidate cutoff = getCutoffCandidate();
+        return cutoff == null ? -1 : cutoff.getGlobalIcfesScore();
+    }
+}
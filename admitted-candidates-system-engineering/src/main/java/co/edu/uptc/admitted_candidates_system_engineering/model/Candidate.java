@@ -1,20 +1,39 @@
 package co.edu.uptc.admitted_candidates_system_engineering.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Representa un candidato admitido al programa de Ingeniería de Sistemas.
+ * Se guarda en forma compacta porque hay un objeto por aspirante: la fecha de inscripción como
+ * día epoch, los puntajes como short y la etnia como la instancia canónica de su valor.
+ * Hacia afuera expone los mismos tipos de siempre (int y {@link LocalDate}).
  * Aplica principio KISS: Clase simple y directa con propósito claro.
  */
+@JsonDeserialize(using = CandidateDeserializer.class)
 public class Candidate {
+    /** Día epoch de un candidato sin fecha de inscripción. */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final byte UNCLASSIFIED = 0;
+    private static final byte MINORITY = 1;
+    private static final byte GENERAL = 2;
+
     private String name;
     private String lastName;
     private String ethnicity;
-    private int globalIcfesScore;
-    private LocalDate registrationDate;
-    private int mathScore;
-    private int englishScore;
+    private int registrationDay = NO_DATE;
+    private short globalIcfesScore;
+    private short mathScore;
+    private short englishScore;
+    // Programas a los que aspira, en orden de preferencia; vacío si solo aspira al programa principal
+    private List<String> programChoices = List.of();
+    // Clasificación étnica precalculada; no forma parte de la identidad del candidato
+    private byte ethnicityClass = UNCLASSIFIED;
 
     // Constructor por defecto
     public Candidate() {}
@@ -25,27 +44,37 @@ public class Candidate {
                     int mathScore, int englishScore) {
         this.name = name;
         this.lastName = lastName;
-        this.ethnicity = ethnicity;
-        this.globalIcfesScore = globalIcfesScore;
-        this.registrationDate = registrationDate;
-        this.mathScore = mathScore;
-        this.englishScore = englishScore;
+        this.ethnicity = CanonicalStrings.canonical(ethnicity);
+        this.globalIcfesScore = score(globalIcfesScore);
+        this.registrationDay = epochDay(registrationDate);
+        this.mathScore = score(mathScore);
+        this.englishScore = score(englishScore);
     }
 
     /**
      * Determina si el candidato pertenece a una comunidad minoritaria.
      * Aplica principio KISS: Lógica simple y clara.
+     * Lee la clasificación que dejó el {@link EthnicityClassifier} configurado al ingresar el
+     * candidato. No hay una clasificación de respaldo: con otras palabras clave que las
+     * configuradas el ranking cambiaría sin aviso.
      * 
      * @return true si pertenece a etnia indígena o comunidad minoritaria
+     * @throws IllegalStateException si el candidato no ha pasado por un clasificador
      */
     public boolean isMinorityCommunity() {
-        return ethnicity != null && 
-               (ethnicity.toLowerCase().contains("indígena") || 
-                ethnicity.toLowerCase().contains("indigena") ||
-                ethnicity.toLowerCase().contains("afrocolombiano") ||
-                ethnicity.toLowerCase().contains("raizal") ||
-                ethnicity.toLowerCase().contains("palenquero") ||
-                ethnicity.toLowerCase().contains("rom"));
+        if (ethnicityClass == UNCLASSIFIED) {
+            throw new IllegalStateException("Candidato sin clasificación étnica: " + this);
+        }
+        return ethnicityClass == MINORITY;
+    }
+
+    /**
+     * Guarda la clasificación étnica calculada por un {@link EthnicityClassifier}.
+     * 
+     * @param minority true si la etnia corresponde a una comunidad minoritaria
+     */
+    public void applyEthnicityClassification(boolean minority) {
+        this.ethnicityClass = minority ? MINORITY : GENERAL;
     }
 
     // Getters y Setters - Aplicando principio KISS: nombres claros y directos
@@ -70,7 +99,8 @@ public class Candidate {
     }
 
     public void setEthnicity(String ethnicity) {
-        this.ethnicity = ethnicity;
+        this.ethnicity = CanonicalStrings.canonical(ethnicity);
+        this.ethnicityClass = UNCLASSIFIED;
     }
 
     public int getGlobalIcfesScore() {
@@ -78,15 +108,35 @@ public class Candidate {
     }
 
     public void setGlobalIcfesScore(int globalIcfesScore) {
-        this.globalIcfesScore = globalIcfesScore;
+        this.globalIcfesScore = score(globalIcfesScore);
     }
 
+    /**
+     * @return fecha de inscripción, o null si no tiene; se crea en cada llamada
+     */
     public LocalDate getRegistrationDate() {
-        return registrationDate;
+        return registrationDay == NO_DATE ? null : LocalDate.ofEpochDay(registrationDay);
     }
 
     public void setRegistrationDate(LocalDate registrationDate) {
-        this.registrationDate = registrationDate;
+        this.registrationDay = epochDay(registrationDate);
+    }
+
+    /**
+     * Fecha de inscripción sin crear un {@link LocalDate}, para ordenar y comparar.
+     *
+     * @return día epoch de la inscripción, o {@link #NO_DATE} si no tiene
+     */
+    @JsonIgnore
+    public int getRegistrationEpochDay() {
+        return registrationDay;
+    }
+
+    /**
+     * @param registrationDay día epoch de la inscripción, o {@link #NO_DATE} si no tiene
+     */
+    public void setRegistrationEpochDay(int registrationDay) {
+        this.registrationDay = registrationDay;
     }
 
     public int getMathScore() {
@@ -94,7 +144,7 @@ public class Candidate {
     }
 
     public void setMathScore(int mathScore) {
-        this.mathScore = mathScore;
+        this.mathScore = score(mathScore);
     }
 
     public int getEnglishScore() {
@@ -102,7 +152,27 @@ public class Candidate {
     }
 
     public void setEnglishScore(int englishScore) {
-        this.englishScore = englishScore;
+        this.englishScore = score(englishScore);
+    }
+
+    /**
+     * @return códigos de los programas elegidos, en orden de preferencia (lista inmutable)
+     */
+    public List<String> getProgramChoices() {
+        return programChoices;
+    }
+
+    public void setProgramChoices(List<String> programChoices) {
+        if (programChoices == null || programChoices.isEmpty()) {
+            this.programChoices = List.of();
+            return;
+        }
+        // Pocos códigos distintos repetidos en todos los aspirantes: se guarda la instancia canónica
+        String[] codes = new String[programChoices.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = CanonicalStrings.canonical(programChoices.get(i));
+        }
+        this.programChoices = List.of(codes);
     }
 
     @Override
@@ -115,14 +185,33 @@ public class Candidate {
                englishScore == candidate.englishScore &&
                Objects.equals(name, candidate.name) &&
                Objects.equals(lastName, candidate.lastName) &&
-               Objects.equals(ethnicity, candidate.ethnicity) &&
-               Objects.equals(registrationDate, candidate.registrationDate);
+               registrationDay == candidate.registrationDay &&
+               Objects.equals(ethnicity, candidate.ethnicity);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, lastName, ethnicity, globalIcfesScore, 
-                          registrationDate, mathScore, englishScore);
+        // Combina los siete campos como Objects.hash, sin arreglo varargs ni boxing
+        int result = 1;
+        result = 31 * result + Objects.hashCode(name);
+        result = 31 * result + Objects.hashCode(lastName);
+        result = 31 * result + Objects.hashCode(ethnicity);
+        result = 31 * result + globalIcfesScore;
+        result = 31 * result + registrationDay;
+        result = 31 * result + mathScore;
+        result = 31 * result + englishScore;
+        return result;
+    }
+
+    private static short score(int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Puntaje fuera de rango: " + value);
+        }
+        return (short) value;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
     }
 
     @Override
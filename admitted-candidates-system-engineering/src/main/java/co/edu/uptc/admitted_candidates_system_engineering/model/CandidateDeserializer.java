@@ -0,0 +1,151 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee un candidato de JSON directo a su forma compacta. La fecha pasa del texto aaaa-mm-dd
+ * al día epoch sin guardar un {@link LocalDate}, y la etnia y los programas quedan como
+ * instancias canónicas, así que Jackson no deja un texto nuevo por fila para valores que se
+ * repiten. Los números aceptan las mismas conversiones que la lectura de Jackson por defecto;
+ * un null deja el valor por defecto y las propiedades desconocidas siguen la configuración
+ * del ObjectMapper.
+ */
+public class CandidateDeserializer extends StdDeserializer<Candidate> {
+
+    private static final long serialVersionUID = 1L;
+
+    public CandidateDeserializer() {
+        super(Candidate.class);
+    }
+
+    @Override
+    public Candidate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Candidate) context.handleUnexpectedToken(Candidate.class, parser);
+        }
+        Candidate candidate = new Candidate();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "name" -> candidate.setName(text(parser, context));
+                case "lastName" -> candidate.setLastName(text(parser, context));
+                case "ethnicity" -> candidate.setEthnicity(text(parser, context));
+                case "globalIcfesScore" -> candidate.setGlobalIcfesScore(_parseIntPrimitive(parser, context));
+                case "mathScore" -> candidate.setMathScore(_parseIntPrimitive(parser, context));
+                case "englishScore" -> candidate.setEnglishScore(_parseIntPrimitive(parser, context));
+                case "registrationDate" -> candidate.setRegistrationEpochDay(epochDay(parser, context));
+                case "programChoices" -> candidate.setProgramChoices(choices(parser, context));
+                default -> context.handleUnknownProperty(parser, this, Candidate.class, field);
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Los textos llegan tal cual; otros escalares pasan por las coerciones de Jackson y, si la
+     * configuración los convierte en null, quedan como null.
+     */
+    private String text(JsonParser parser, DeserializationContext context) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_STRING
+            ? parser.getText()
+            : _parseString(parser, context, NullsConstantProvider.nuller());
+    }
+
+    /**
+     * Acepta la fecha como texto aaaa-mm-dd (vacío = sin fecha) o como arreglo [año, mes, día],
+     * los mismos formatos que el módulo de fechas de Jackson.
+     */
+    private int epochDay(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int year = nextInt(parser, context);
+            int month = nextInt(parser, context);
+            int day = nextInt(parser, context);
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                return (Integer) context.handleUnexpectedToken(LocalDate.class, parser);
+            }
+            return date(year, month, day, parser, context);
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return (Integer) context.handleUnexpectedToken(LocalDate.class, parser);
+        }
+        String text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return Candidate.NO_DATE;
+        }
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 2);
+            int day = digits(text, 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return date(year, month, day, parser, context);
+            }
+        }
+        try {
+            return (int) LocalDate.parse(text).toEpochDay();
+        } catch (DateTimeException e) {
+            throw context.weirdStringException(text, LocalDate.class, e.getMessage());
+        }
+    }
+
+    private int nextInt(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+            return (Integer) context.handleUnexpectedToken(LocalDate.class, parser);
+        }
+        return parser.getIntValue();
+    }
+
+    private static int date(int year, int month, int day, JsonParser parser, DeserializationContext context)
+            throws IOException {
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            throw context.weirdStringException(parser.getText(), LocalDate.class, e.getMessage());
+        }
+    }
+
+    /**
+     * @return valor de los dígitos, o -1 si hay otro carácter
+     */
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private List<String> choices(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            @SuppressWarnings("unchecked")
+            List<String> handled = (List<String>) context.handleUnexpectedToken(List.class, parser);
+            return handled;
+        }
+        List<String> choices = new ArrayList<>(4);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                choices.add(text(parser, context));
+            }
+        }
+        return choices;
+    }
+}
@@ -0,0 +1,39 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instancias canónicas de los textos que se repiten en casi todos los aspirantes: etnias y
+ * códigos de programa. Cada valor distinto se guarda una sola vez y los candidatos comparten
+ * esa referencia, sin importar por cuál lector llegaron.
+ * El conjunto tiene un tope: si llegan más valores distintos de los esperados (por ejemplo
+ * un archivo con la etnia escrita a mano en cada fila), los nuevos se devuelven tal cual.
+ */
+public final class CanonicalStrings {
+
+    static final int MAX_ENTRIES = 4096;
+
+    private static final ConcurrentHashMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private CanonicalStrings() {
+    }
+
+    /**
+     * @param value texto; puede ser null
+     * @return la instancia canónica igual a {@code value}, o el mismo valor si el conjunto está lleno
+     */
+    public static String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = POOL.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (POOL.size() >= MAX_ENTRIES) {
+            return value;
+        }
+        canonical = POOL.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+}
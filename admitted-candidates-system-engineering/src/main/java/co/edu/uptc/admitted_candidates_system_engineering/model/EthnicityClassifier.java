@@ -0,0 +1,83 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Clasifica valores de etnia como comunidad minoritaria o general.
+ * Cada texto distinto se resuelve una sola vez (minúsculas y búsqueda de palabras clave)
+ * y el resultado queda en una tabla en caché; las siguientes consultas son una búsqueda en el mapa.
+ * Las palabras clave se configuran con {@code admission.ethnicity.minority-keywords}; todo punto
+ * de entrada de candidatos debe pasar por este clasificador, porque {@link Candidate} no se
+ * clasifica por su cuenta.
+ * Aplica principio Single Responsibility: solo decide la clasificación étnica.
+ */
+@Component
+public class EthnicityClassifier {
+
+    public static final String DEFAULT_KEYWORDS = "indígena,indigena,afrocolombiano,raizal,palenquero,rom";
+
+    private final List<String> keywords;
+    private final Map<String, Boolean> cache;
+
+    /**
+     * @param keywords palabras clave separadas por coma; una etnia es minoritaria
+     *                 si contiene alguna de ellas (sin distinguir mayúsculas)
+     */
+    @Autowired
+    public EthnicityClassifier(@Value("${admission.ethnicity.minority-keywords:" + DEFAULT_KEYWORDS + "}") String keywords) {
+        this.keywords = Arrays.stream(keywords.split(","))
+            .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+            .filter(keyword -> !keyword.isEmpty())
+            .collect(Collectors.toUnmodifiableList());
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param ethnicity valor de etnia tal como llega en los datos
+     * @return true si corresponde a una comunidad minoritaria
+     */
+    public boolean isMinority(String ethnicity) {
+        if (ethnicity == null) {
+            return false;
+        }
+        Boolean minority = cache.get(ethnicity);
+        if (minority == null) {
+            minority = matchesKeyword(ethnicity);
+            cache.putIfAbsent(ethnicity, minority);
+        }
+        return minority;
+    }
+
+    /**
+     * Calcula la clasificación del candidato y la guarda en él, para que el ordenamiento
+     * y la impresión lean la bandera precalculada.
+     *
+     * @param candidate candidato a clasificar
+     */
+    public void classify(Candidate candidate) {
+        candidate.applyEthnicityClassification(isMinority(candidate.getEthnicity()));
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    private boolean matchesKeyword(String ethnicity) {
+        String normalized = ethnicity.toLowerCase(Locale.ROOT);
+        for (String keyword : keywords) {
+            if (normalized.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,116 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resumen de una carga de candidatos: modo usado, bytes leídos y
+ * rendimiento de cada etapa (registros procesados y tiempo empleado).
+ * Aplica principio KISS: solo datos, sin lógica de presentación.
+ */
+public class IngestionReport {
+
+    private final String mode;
+    private final long bytesRead;
+    private final List<Stage> stages;
+    private long duplicatesRemoved;
+    private long candidatesRemoved;
+
+    public IngestionReport(String mode, long bytesRead) {
+        this.mode = mode;
+        this.bytesRead = bytesRead;
+        this.stages = new ArrayList<>();
+    }
+
+    /**
+     * Registra una etapa de la carga.
+     *
+     * @param name nombre de la etapa (por ejemplo scan, parse, insert)
+     * @param records registros procesados en la etapa
+     * @param elapsedNanos tiempo de pared empleado en la etapa
+     */
+    public void addStage(String name, long records, long elapsedNanos) {
+        stages.add(new Stage(name, records, elapsedNanos));
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public List<Stage> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * @return registros entregados al repositorio (los de la última etapa)
+     */
+    public long getTotalRecords() {
+        return stages.isEmpty() ? 0 : stages.get(stages.size() - 1).getRecords();
+    }
+
+    /**
+     * @param duplicatesRemoved registros descartados por ser aspirantes repetidos
+     */
+    public void setDuplicatesRemoved(long duplicatesRemoved) {
+        this.duplicatesRemoved = duplicatesRemoved;
+    }
+
+    public long getDuplicatesRemoved() {
+        return duplicatesRemoved;
+    }
+
+    /**
+     * @param candidatesRemoved candidatos ya registrados que un lote incremental retiró o reemplazó
+     */
+    public void setCandidatesRemoved(long candidatesRemoved) {
+        this.candidatesRemoved = candidatesRemoved;
+    }
+
+    public long getCandidatesRemoved() {
+        return candidatesRemoved;
+    }
+
+    public long getTotalNanos() {
+        long total = 0;
+        for (Stage stage : stages) {
+            total += stage.getElapsedNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Etapa individual de la carga.
+     */
+    public static class Stage {
+        private final String name;
+        private final long records;
+        private final long elapsedNanos;
+
+        public Stage(String name, long records, long elapsedNanos) {
+            this.name = name;
+            this.records = records;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getRecordsPerSecond() {
+            return elapsedNanos == 0 ? 0 : records * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
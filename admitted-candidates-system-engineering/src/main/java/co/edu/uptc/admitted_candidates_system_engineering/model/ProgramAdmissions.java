@@ -0,0 +1,38 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una admisión con varios programas clasificados a la vez.
+ * Aplica principio KISS: objeto de solo datos.
+ */
+public class ProgramAdmissions {
+
+    private final List<ProgramRanking> rankings;
+    private final int parallelism;
+    private final long elapsedNanos;
+
+    /**
+     * @param rankings resultado de cada programa, en el orden de la configuración
+     * @param parallelism hilos usados para clasificar
+     * @param elapsedNanos tiempo de reloj de toda la clasificación
+     */
+    public ProgramAdmissions(List<ProgramRanking> rankings, int parallelism, long elapsedNanos) {
+        this.rankings = Collections.unmodifiableList(rankings);
+        this.parallelism = parallelism;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<ProgramRanking> getRankings() {
+        return rankings;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,80 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de clasificar un programa: sus admitidos en orden y cuánto tardó.
+ * Aplica principio KISS: objeto de solo datos.
+ */
+public class ProgramRanking {
+
+    private final String code;
+    private final String title;
+    private final int seats;
+    private final int totalApplicants;
+    private final List<Candidate> admittedCandidates;
+    private final long elapsedNanos;
+
+    /**
+     * Resultado de un programa que no se clasificó por separado (por ejemplo, en una
+     * asignación conjunta de cupos); su tiempo queda en -1.
+     */
+    public ProgramRanking(String code, String title, int seats, int totalApplicants,
+                          List<Candidate> admittedCandidates) {
+        this(code, title, seats, totalApplicants, admittedCandidates, -1);
+    }
+
+    /**
+     * @param code código del programa
+     * @param title título del programa
+     * @param seats cupos configurados; 0 o negativo admite a todos
+     * @param totalApplicants aspirantes que eligieron el programa
+     * @param admittedCandidates admitidos en orden de ranking
+     * @param elapsedNanos tiempo de reloj que tomó clasificar el programa
+     */
+    public ProgramRanking(String code, String title, int seats, int totalApplicants,
+                          List<Candidate> admittedCandidates, long elapsedNanos) {
+        this.code = code;
+        this.title = title;
+        this.seats = seats;
+        this.totalApplicants = totalApplicants;
+        this.admittedCandidates = Collections.unmodifiableList(admittedCandidates);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public int getTotalApplicants() {
+        return totalApplicants;
+    }
+
+    public List<Candidate> getAdmittedCandidates() {
+        return admittedCandidates;
+    }
+
+    /**
+     * @return tiempo de clasificación del programa, o -1 si no se midió por separado
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return puntaje global del último admitido, o -1 si no hay admitidos
+     */
+    public int getCutoffScore() {
+        return admittedCandidates.isEmpty() ? -1
+            : admittedCandidates.get(admittedCandidates.size() - 1).getGlobalIcfesScore();
+    }
+}
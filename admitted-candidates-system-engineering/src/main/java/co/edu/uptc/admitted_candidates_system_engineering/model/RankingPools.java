@@ -0,0 +1,67 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Clasificación separada en dos bolsas: comunidades minoritarias y general.
+ * Cada bolsa está ordenada de forma independiente y tiene su propia asignación de cupos.
+ * El listado combinado pone primero la bolsa minoritaria, igual que el ordenamiento único.
+ * Aplica principio KISS: objeto inmutable de solo datos.
+ */
+public class RankingPools {
+
+    private final List<Candidate> minorityPool;
+    private final List<Candidate> generalPool;
+    private final int minoritySeats;
+    private final int generalSeats;
+
+    /**
+     * @param minorityPool bolsa minoritaria ordenada
+     * @param generalPool bolsa general ordenada
+     * @param minoritySeats cupos asignados a la bolsa minoritaria
+     * @param generalSeats cupos asignados a la bolsa general
+     */
+    public RankingPools(List<Candidate> minorityPool, List<Candidate> generalPool,
+                        int minoritySeats, int generalSeats) {
+        this.minorityPool = Collections.unmodifiableList(minorityPool);
+        this.generalPool = Collections.unmodifiableList(generalPool);
+        this.minoritySeats = minoritySeats;
+        this.generalSeats = generalSeats;
+    }
+
+    public List<Candidate> getMinorityPool() {
+        return minorityPool;
+    }
+
+    public List<Candidate> getGeneralPool() {
+        return generalPool;
+    }
+
+    public int getMinoritySeats() {
+        return minoritySeats;
+    }
+
+    public int getGeneralSeats() {
+        return generalSeats;
+    }
+
+    public List<Candidate> getAdmittedMinority() {
+        return minorityPool.subList(0, minoritySeats);
+    }
+
+    public List<Candidate> getAdmittedGeneral() {
+        return generalPool.subList(0, generalSeats);
+    }
+
+    /**
+     * @return admitidos de ambas bolsas, primero los de la bolsa minoritaria
+     */
+    public List<Candidate> getAdmitted() {
+        List<Candidate> admitted = new ArrayList<>(minoritySeats + generalSeats);
+        admitted.addAll(getAdmittedMinority());
+        admitted.addAll(getAdmittedGeneral());
+        return admitted;
+    }
+}
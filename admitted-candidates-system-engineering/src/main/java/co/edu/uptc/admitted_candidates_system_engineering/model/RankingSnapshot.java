@@ -0,0 +1,174 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Ranking ya ordenado y de solo lectura, calculado una vez y compartido por todas las consultas.
+ * Las páginas son vistas sobre la misma lista, por lo que paginar o recorrer el ranking
+ * no crea otra copia completa de los candidatos.
+ * Aplica principio KISS: objeto inmutable; cuando los datos cambian se descarta y se calcula otro.
+ */
+public class RankingSnapshot {
+
+    private final List<Candidate> rankedCandidates;
+    private final Comparator<? super Candidate> comparator;
+    /** Índice nombre y apellido -> posiciones; se construye en la primera búsqueda por nombre. */
+    private volatile Map<String, int[]> positionsByName;
+
+    /**
+     * @param rankedCandidates candidatos ya ordenados con el comparador; la lista no debe modificarse después
+     * @param comparator comparador con el que se ordenó la lista
+     */
+    public RankingSnapshot(List<Candidate> rankedCandidates, Comparator<? super Candidate> comparator) {
+        this.rankedCandidates = Collections.unmodifiableList(rankedCandidates);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Calcula el ranking que resulta de retirar y agregar algunos candidatos sin reordenar
+     * todo: se filtra este ranking en un recorrido y se intercala con los agregados, ya
+     * ordenados, en otro. Cuesta O(n + k log k) para k cambios en lugar de O(n log n).
+     * Este ranking no cambia; el resultado es otro objeto.
+     *
+     * @param removed candidatos a retirar (se retiran todos los iguales a alguno de ellos)
+     * @param addedInOrder candidatos nuevos ya ordenados con el mismo comparador
+     * @return ranking nuevo
+     */
+    public RankingSnapshot withChanges(Collection<Candidate> removed, List<Candidate> addedInOrder) {
+        Set<Candidate> lookup = removed.isEmpty() ? Set.of() : new HashSet<>(removed);
+        List<Candidate> merged = new ArrayList<>(rankedCandidates.size() + addedInOrder.size());
+        int next = 0;
+        for (Candidate current : rankedCandidates) {
+            if (!lookup.isEmpty() && lookup.contains(current)) {
+                continue;
+            }
+            // En empate va primero el que ya estaba, igual que en un ordenamiento estable
+            while (next < addedInOrder.size() && comparator.compare(addedInOrder.get(next), current) < 0) {
+                merged.add(addedInOrder.get(next++));
+            }
+            merged.add(current);
+        }
+        merged.addAll(addedInOrder.subList(next, addedInOrder.size()));
+        return new RankingSnapshot(merged, comparator);
+    }
+
+    /**
+     * @return el ranking completo como vista de solo lectura
+     */
+    public List<Candidate> getRankedCandidates() {
+        return rankedCandidates;
+    }
+
+    public int size() {
+        return rankedCandidates.size();
+    }
+
+    /**
+     * @param offset posición inicial (0 es el primer lugar)
+     * @param limit número máximo de candidatos
+     * @return vista de solo lectura del tramo pedido; vacía si el offset supera el total
+     */
+    public List<Candidate> page(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset y limit no pueden ser negativos");
+        }
+        int from = Math.min(offset, rankedCandidates.size());
+        int to = (int) Math.min((long) from + limit, rankedCandidates.size());
+        return rankedCandidates.subList(from, to);
+    }
+
+    public Stream<Candidate> stream() {
+        return rankedCandidates.stream();
+    }
+
+    /**
+     * Busca la posición con búsqueda binaria y luego recorre el tramo de empates.
+     *
+     * @param candidate candidato a buscar
+     * @return posición empezando en 1, o -1 si no está en el ranking
+     */
+    public int rankOf(Candidate candidate) {
+        if (candidate == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = rankedCandidates.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(rankedCandidates.get(middle), candidate) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < rankedCandidates.size(); i++) {
+            Candidate current = rankedCandidates.get(i);
+            if (comparator.compare(current, candidate) != 0) {
+                break;
+            }
+            if (current == candidate || current.equals(candidate)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca las posiciones de todos los candidatos con ese nombre y apellido, sin distinguir
+     * mayúsculas. La primera llamada recorre el ranking una vez para armar el índice; las
+     * siguientes son búsquedas en un mapa.
+     *
+     * @param name nombre del candidato
+     * @param lastName apellido del candidato
+     * @return posiciones empezando en 1, en orden; vacío si no hay coincidencias
+     */
+    public int[] positionsOf(String name, String lastName) {
+        if (name == null || lastName == null) {
+            return new int[0];
+        }
+        int[] positions = nameIndex().get(nameKey(name, lastName));
+        return positions == null ? new int[0] : positions.clone();
+    }
+
+    private Map<String, int[]> nameIndex() {
+        Map<String, int[]> index = positionsByName;
+        if (index == null) {
+            synchronized (this) {
+                index = positionsByName;
+                if (index == null) {
+                    index = buildNameIndex();
+                    positionsByName = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private Map<String, int[]> buildNameIndex() {
+        Map<String, List<Integer>> grouped = new HashMap<>();
+        for (int i = 0; i < rankedCandidates.size(); i++) {
+            Candidate candidate = rankedCandidates.get(i);
+            grouped.computeIfAbsent(nameKey(candidate.getName(), candidate.getLastName()), key -> new ArrayList<>(1))
+                .add(i + 1);
+        }
+        Map<String, int[]> index = new HashMap<>(grouped.size() * 4 / 3 + 1);
+        grouped.forEach((key, positions) -> index.put(key, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return index;
+    }
+
+    private static String nameKey(String name, String lastName) {
+        String first = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        String last = lastName == null ? "" : lastName.trim().toLowerCase(Locale.ROOT);
+        return first + '\u0000' + last;
+    }
+}
@@ -0,0 +1,163 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Estadísticas de los puntajes de todos los aspirantes y el puntaje de corte para un número
+ * de cupos, calculados a partir de histogramas sin ordenar el ranking.
+ * El corte supone las reglas de ranking predeterminadas: primero la bolsa de comunidades
+ * minoritarias y luego la general, cada una de mayor a menor puntaje global. Con otras reglas
+ * los histogramas no ubican al último admitido y el corte no se calcula.
+ * Aplica principio KISS: objeto de solo datos.
+ */
+public class ScoreAnalytics {
+
+    private final ScoreHistogram globalScores;
+    private final ScoreHistogram mathScores;
+    private final ScoreHistogram englishScores;
+    private final ScoreHistogram minorityGlobalScores;
+    private final ScoreHistogram generalGlobalScores;
+    private final Map<String, Long> ethnicityCounts;
+    private final Cutoff cutoff;
+
+    /**
+     * @param mathScores histograma de matemáticas
+     * @param englishScores histograma de inglés
+     * @param minorityGlobalScores puntaje global de la bolsa minoritaria
+     * @param generalGlobalScores puntaje global de la bolsa general
+     * @param ethnicityCounts aspirantes por etnia, de mayor a menor
+     * @param seats cupos para calcular el corte; 0 o negativo admite a todos
+     * @param rankedByPoolAndGlobal true si el ranking ordena por bolsa y luego por puntaje global;
+     *                              si no, no hay corte
+     */
+    public ScoreAnalytics(ScoreHistogram mathScores, ScoreHistogram englishScores,
+                          ScoreHistogram minorityGlobalScores, ScoreHistogram generalGlobalScores,
+                          Map<String, Long> ethnicityCounts, int seats, boolean rankedByPoolAndGlobal) {
+        this.globalScores = new ScoreHistogram(minorityGlobalScores.getScaleMax());
+        this.globalScores.addAll(minorityGlobalScores);
+        this.globalScores.addAll(generalGlobalScores);
+        this.mathScores = mathScores;
+        this.englishScores = englishScores;
+        this.minorityGlobalScores = minorityGlobalScores;
+        this.generalGlobalScores = generalGlobalScores;
+        this.ethnicityCounts = Collections.unmodifiableMap(ethnicityCounts);
+        this.cutoff = rankedByPoolAndGlobal ? computeCutoff(seats) : null;
+    }
+
+    public long getTotalCandidates() {
+        return globalScores.getTotal();
+    }
+
+    public long getMinorityCandidates() {
+        return minorityGlobalScores.getTotal();
+    }
+
+    public ScoreHistogram getGlobalScores() {
+        return globalScores;
+    }
+
+    public ScoreHistogram getMathScores() {
+        return mathScores;
+    }
+
+    public ScoreHistogram getEnglishScores() {
+        return englishScores;
+    }
+
+    public ScoreHistogram getMinorityGlobalScores() {
+        return minorityGlobalScores;
+    }
+
+    public ScoreHistogram getGeneralGlobalScores() {
+        return generalGlobalScores;
+    }
+
+    /**
+     * @return aspirantes por etnia, de mayor a menor
+     */
+    public Map<String, Long> getEthnicityCounts() {
+        return ethnicityCounts;
+    }
+
+    /**
+     * @return corte, o null si las reglas de ranking configuradas no ordenan por bolsa y puntaje global
+     */
+    public Cutoff getCutoff() {
+        return cutoff;
+    }
+
+    private Cutoff computeCutoff(int seats) {
+        long total = getTotalCandidates();
+        long lastAdmitted = seats <= 0 ? total : Math.min(seats, total);
+        if (lastAdmitted == 0) {
+            return new Cutoff(seats, 0, false, -1, 0, 0);
+        }
+        long minority = getMinorityCandidates();
+        boolean inMinorityPool = lastAdmitted <= minority;
+        ScoreHistogram pool = inMinorityPool ? minorityGlobalScores : generalGlobalScores;
+        long position = inMinorityPool ? lastAdmitted : lastAdmitted - minority;
+        int score = pool.scoreAtPositionFromTop(position);
+        long ahead = pool.countAbove(score);
+        return new Cutoff(seats, lastAdmitted, inMinorityPool, score, pool.countInBin(score), position - ahead);
+    }
+
+    /**
+     * Puntaje de corte: el puntaje global del último aspirante que obtiene cupo.
+     */
+    public static class Cutoff {
+        private final int seats;
+        private final long admitted;
+        private final boolean minorityPool;
+        private final int score;
+        private final long tiedAtScore;
+        private final long admittedAtScore;
+
+        public Cutoff(int seats, long admitted, boolean minorityPool, int score,
+                      long tiedAtScore, long admittedAtScore) {
+            this.seats = seats;
+            this.admitted = admitted;
+            this.minorityPool = minorityPool;
+            this.score = score;
+            this.tiedAtScore = tiedAtScore;
+            this.admittedAtScore = admittedAtScore;
+        }
+
+        public int getSeats() {
+            return seats;
+        }
+
+        public long getAdmitted() {
+            return admitted;
+        }
+
+        /**
+         * @return true si el corte cae dentro de la bolsa minoritaria
+         */
+        public boolean isMinorityPool() {
+            return minorityPool;
+        }
+
+        /**
+         * @return puntaje global de corte, o -1 si nadie es admitido (ver {@link #getAdmitted()})
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * @return aspirantes de la bolsa del corte con exactamente el puntaje de corte; si el corte
+         *         cae fuera de la escala, todos los de ese extremo
+         */
+        public long getTiedAtScore() {
+            return tiedAtScore;
+        }
+
+        /**
+         * @return cuántos de los empatados en el corte obtienen cupo (se definen por matemáticas e inglés)
+         */
+        public long getAdmittedAtScore() {
+            return admittedAtScore;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+/**
+ * Histograma de un puntaje con una casilla por valor entre 0 y el máximo de la escala.
+ * Los valores fuera de la escala se cuentan aparte y se representan con el mínimo o el
+ * máximo observado, de modo que los percentiles siguen siendo correctos en los extremos.
+ * Aplica principio KISS: conteo con arreglos primitivos, sin ordenar.
+ */
+public class ScoreHistogram {
+
+    private final int[] counts;
+    private long total;
+    private long sum;
+    private long below;
+    private long above;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * @param scaleMax puntaje máximo de la escala (por ejemplo 500 para el global)
+     */
+    public ScoreHistogram(int scaleMax) {
+        this.counts = new int[scaleMax + 1];
+    }
+
+    public void add(int score) {
+        total++;
+        sum += score;
+        if (score < min) {
+            min = score;
+        }
+        if (score > max) {
+            max = score;
+        }
+        if (score < 0) {
+            below++;
+        } else if (score >= counts.length) {
+            above++;
+        } else {
+            counts[score]++;
+        }
+    }
+
+    /**
+     * Suma los conteos de otro histograma de la misma escala.
+     */
+    public void addAll(ScoreHistogram other) {
+        for (int score = 0; score < counts.length; score++) {
+            counts[score] += other.counts[score];
+        }
+        total += other.total;
+        sum += other.sum;
+        below += other.below;
+        above += other.above;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public int getScaleMax() {
+        return counts.length - 1;
+    }
+
+    /**
+     * @param score puntaje dentro de la escala
+     * @return candidatos con exactamente ese puntaje
+     */
+    public int getCount(int score) {
+        return score < 0 || score >= counts.length ? 0 : counts[score];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getOutOfScale() {
+        return below + above;
+    }
+
+    /**
+     * @return puntaje mínimo observado, o -1 si el histograma está vacío
+     */
+    public int getMin() {
+        return total == 0 ? -1 : min;
+    }
+
+    /**
+     * @return puntaje máximo observado, o -1 si el histograma está vacío
+     */
+    public int getMax() {
+        return total == 0 ? -1 : max;
+    }
+
+    public double getMean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * Percentil por rango más cercano: el menor puntaje que deja al menos p% de los
+     * candidatos en o por debajo de él.
+     *
+     * @param percentile valor entre 0 y 100
+     * @return puntaje del percentil, o -1 si el histograma está vacío
+     */
+    public int percentile(double percentile) {
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = below;
+        if (seen >= rank) {
+            return min;
+        }
+        for (int score = 0; score < counts.length; score++) {
+            seen += counts[score];
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Recorre la escala de mayor a menor hasta acumular {@code position} candidatos.
+     *
+     * @param position posición empezando en 1 contada desde el mejor puntaje
+     * @return puntaje del candidato en esa posición, o -1 si no hay tantos candidatos
+     */
+    public int scoreAtPositionFromTop(long position) {
+        if (position < 1 || position > total) {
+            return -1;
+        }
+        long seen = above;
+        if (seen >= position) {
+            return max;
+        }
+        for (int score = counts.length - 1; score >= 0; score--) {
+            seen += counts[score];
+            if (seen >= position) {
+                return score;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Candidatos en la casilla de un puntaje. Los que quedan fuera de la escala comparten la
+     * casilla de su extremo, la misma que representan el mínimo o el máximo observado.
+     *
+     * @param score puntaje, por ejemplo el que devuelve {@link #scoreAtPositionFromTop}
+     * @return candidatos de la casilla
+     */
+    public long countInBin(int score) {
+        if (score < 0) {
+            return below;
+        }
+        return score >= counts.length ? above : counts[score];
+    }
+
+    /**
+     * @param score puntaje, con las casillas fuera de escala de {@link #countInBin}
+     * @return candidatos en casillas estrictamente mayores
+     */
+    public long countAbove(int score) {
+        if (score >= counts.length) {
+            return 0;
+        }
+        long count = above;
+        for (int s = counts.length - 1; s > score && s >= 0; s--) {
+            count += counts[s];
+        }
+        return count;
+    }
+}
@@ -0,0 +1,54 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de asignar cupos entre todos los programas por aceptación diferida: cada
+ * aspirante queda como mucho en un programa, el mejor que su prioridad le permite.
+ * Aplica principio KISS: objeto de solo datos.
+ */
+public class SeatAssignment {
+
+    private final List<ProgramRanking> programs;
+    private final int applicants;
+    private final int unassigned;
+    private final long proposals;
+    private final long elapsedNanos;
+
+    /**
+     * @param programs admitidos de cada programa en orden de prioridad, en el orden de la configuración
+     * @param applicants aspirantes con al menos un programa válido
+     * @param unassigned aspirantes que no obtuvieron cupo en ninguna de sus opciones
+     * @param proposals postulaciones hechas durante la asignación
+     * @param elapsedNanos tiempo de reloj de toda la asignación
+     */
+    public SeatAssignment(List<ProgramRanking> programs, int applicants, int unassigned,
+                          long proposals, long elapsedNanos) {
+        this.programs = Collections.unmodifiableList(programs);
+        this.applicants = applicants;
+        this.unassigned = unassigned;
+        this.proposals = proposals;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<ProgramRanking> getPrograms() {
+        return programs;
+    }
+
+    public int getApplicants() {
+        return applicants;
+    }
+
+    public int getUnassigned() {
+        return unassigned;
+    }
+
+    public long getProposals() {
+        return proposals;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,80 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+/**
+ * Identifica una versión concreta de la fuente de candidatos, para decidir si lo guardado a
+ * partir de ella (el snapshot binario, el archivo fuera del heap) sigue vigente.
+ * Un archivo en disco se reconoce por tamaño y fecha de modificación; un recurso del classpath,
+ * que dentro de un JAR no tiene una fecha confiable, por tamaño y CRC32 de su contenido.
+ * Aplica principio KISS: objeto de solo datos.
+ */
+public final class SourceStamp {
+
+    /** Cómo se obtuvo la versión: fecha de modificación del archivo o CRC32 del contenido. */
+    public enum Kind {
+        FILE,
+        CONTENT
+    }
+
+    private final Kind kind;
+    private final long size;
+    private final long version;
+
+    private SourceStamp(Kind kind, long size, long version) {
+        this.kind = kind;
+        this.size = size;
+        this.version = version;
+    }
+
+    /**
+     * @param size tamaño del archivo en bytes
+     * @param modifiedMillis fecha de modificación en milisegundos desde la época
+     */
+    public static SourceStamp ofFile(long size, long modifiedMillis) {
+        return new SourceStamp(Kind.FILE, size, modifiedMillis);
+    }
+
+    /**
+     * @param size bytes leídos del recurso
+     * @param crc CRC32 de esos bytes
+     */
+    public static SourceStamp ofContent(long size, long crc) {
+        return new SourceStamp(Kind.CONTENT, size, crc);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return fecha de modificación para {@link Kind#FILE}, CRC32 para {@link Kind#CONTENT}
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SourceStamp)) {
+            return false;
+        }
+        SourceStamp stamp = (SourceStamp) other;
+        return kind == stamp.kind && size == stamp.size && version == stamp.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * kind.hashCode() + Long.hashCode(size)) + Long.hashCode(version);
+    }
+
+    @Override
+    public String toString() {
+        return kind + "[" + size + " bytes, " + version + "]";
+    }
+}
@@ -0,0 +1,73 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Cifras acumuladas de una etapa del proceso de admisión (carga, clasificación, impresión).
+ * Los valores "last" son de la ejecución más reciente; los totales suman todas las ejecuciones.
+ * Aplica principio KISS: objeto de solo datos, apto para publicarse por JMX.
+ */
+public class StageMetrics {
+
+    private final String name;
+    private final long executions;
+    private final long totalNanos;
+    private final long lastNanos;
+    private final long lastRecords;
+    private final long lastBytesRead;
+    private final long lastAllocatedBytes;
+
+    /**
+     * @param name nombre de la etapa
+     * @param executions veces que se ha ejecutado
+     * @param totalNanos tiempo de pared sumado de todas las ejecuciones
+     * @param lastNanos tiempo de pared de la última ejecución
+     * @param lastRecords registros procesados en la última ejecución
+     * @param lastBytesRead bytes leídos en la última ejecución
+     * @param lastAllocatedBytes bytes reservados en el heap durante la última ejecución, o -1 si la JVM no lo mide
+     */
+    @ConstructorProperties({"name", "executions", "totalNanos", "lastNanos", "lastRecords",
+        "lastBytesRead", "lastAllocatedBytes"})
+    public StageMetrics(String name, long executions, long totalNanos, long lastNanos,
+                        long lastRecords, long lastBytesRead, long lastAllocatedBytes) {
+        this.name = name;
+        this.executions = executions;
+        this.totalNanos = totalNanos;
+        this.lastNanos = lastNanos;
+        this.lastRecords = lastRecords;
+        this.lastBytesRead = lastBytesRead;
+        this.lastAllocatedBytes = lastAllocatedBytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    public long getLastRecords() {
+        return lastRecords;
+    }
+
+    public long getLastBytesRead() {
+        return lastBytesRead;
+    }
+
+    public long getLastAllocatedBytes() {
+        return lastAllocatedBytes;
+    }
+
+    public double getLastRecordsPerSecond() {
+        return lastNanos == 0 ? 0 : lastRecords * 1_000_000_000.0 / lastNanos;
+    }
+}
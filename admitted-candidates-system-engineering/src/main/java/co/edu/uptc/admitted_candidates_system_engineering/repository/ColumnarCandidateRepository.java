@@ -0,0 +1,396 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Repositorio columnar de candidatos basado en arreglos primitivos.
+ * Cada atributo se guarda en su propia columna: puntajes y fecha de inscripción
+ * (como día epoch) en arreglos int, la etnia codificada con diccionario en un
+ * arreglo short (con su clasificación minoritaria resuelta una vez por valor)
+ * y nombres/apellidos deduplicados con un conjunto acotado. Los programas elegidos se guardan codificados en una
+ * sola columna contigua, con el inicio de las elecciones de cada fila. Los objetos {@link Candidate}
+ * solo se construyen cuando se solicitan.
+ * Aplica principio Loose Coupling: implementa la misma interfaz que el repositorio en memoria.
+ */
+@Repository
+@ConditionalOnProperty(name = "admission.repository.type", havingValue = "columnar")
+public class ColumnarCandidateRepository implements ICandidateRepository {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_DATE = Candidate.NO_DATE;
+    private static final short NO_ETHNICITY = -1;
+    private static final short NO_PROGRAM = -1;
+    /** Tope del conjunto de nombres y apellidos compartidos. */
+    static final int MAX_POOLED_STRINGS = 1 << 16;
+
+    private int size;
+    private int[] globalScores;
+    private int[] mathScores;
+    private int[] englishScores;
+    private int[] registrationDays;
+    private short[] ethnicityCodes;
+    private String[] names;
+    private String[] lastNames;
+    /** Las elecciones de la fila r están en programChoices[choiceStart[r] .. choiceStart[r + 1]). */
+    private int[] choiceStart;
+    private short[] programChoices;
+
+    private final List<String> ethnicityDictionary;
+    private boolean[] minorityByEthnicity;
+    private final Map<String, Short> ethnicityIndex;
+    private final Map<String, String> stringPool;
+    private final List<String> programDictionary;
+    private final Map<String, Short> programIndex;
+
+    public ColumnarCandidateRepository() {
+        this.globalScores = new int[INITIAL_CAPACITY];
+        this.mathScores = new int[INITIAL_CAPACITY];
+        this.englishScores = new int[INITIAL_CAPACITY];
+        this.registrationDays = new int[INITIAL_CAPACITY];
+        this.ethnicityCodes = new short[INITIAL_CAPACITY];
+        this.names = new String[INITIAL_CAPACITY];
+        this.lastNames = new String[INITIAL_CAPACITY];
+        this.choiceStart = new int[INITIAL_CAPACITY + 1];
+        this.programChoices = new short[INITIAL_CAPACITY];
+        this.ethnicityDictionary = new ArrayList<>();
+        this.minorityByEthnicity = new boolean[16];
+        this.ethnicityIndex = new HashMap<>();
+        this.stringPool = new HashMap<>();
+        this.programDictionary = new ArrayList<>();
+        this.programIndex = new HashMap<>();
+    }
+
+    @Override
+    public void addCandidate(Candidate candidate) {
+        if (candidate == null) {
+            return;
+        }
+        ensureCapacity(size + 1);
+
+        globalScores[size] = candidate.getGlobalIcfesScore();
+        mathScores[size] = candidate.getMathScore();
+        englishScores[size] = candidate.getEnglishScore();
+        registrationDays[size] = candidate.getRegistrationEpochDay();
+        ethnicityCodes[size] = encodeEthnicity(candidate);
+        names[size] = pooled(candidate.getName());
+        lastNames[size] = pooled(candidate.getLastName());
+        appendProgramChoices(candidate.getProgramChoices());
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Compacta las columnas en un solo recorrido; las filas que quedan conservan su orden.
+     * Solo se reconstruye el candidato de las filas cuyo nombre coincide con alguno de los retirados.
+     */
+    @Override
+    public int removeCandidates(Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<Candidate> removed = new HashSet<>(candidates);
+        Set<String> removedNames = new HashSet<>();
+        for (Candidate candidate : removed) {
+            removedNames.add(candidate.getName());
+        }
+        int kept = 0;
+        int keptChoices = 0;
+        for (int row = 0; row < size; row++) {
+            int start = choiceStart[row];
+            int end = choiceStart[row + 1];
+            if (removedNames.contains(names[row]) && removed.contains(getCandidate(row))) {
+                continue;
+            }
+            globalScores[kept] = globalScores[row];
+            mathScores[kept] = mathScores[row];
+            englishScores[kept] = englishScores[row];
+            registrationDays[kept] = registrationDays[row];
+            ethnicityCodes[kept] = ethnicityCodes[row];
+            names[kept] = names[row];
+            lastNames[kept] = lastNames[row];
+            System.arraycopy(programChoices, start, programChoices, keptChoices, end - start);
+            choiceStart[kept] = keptChoices;
+            keptChoices += end - start;
+            choiceStart[kept + 1] = keptChoices;
+            kept++;
+        }
+        int count = size - kept;
+        Arrays.fill(names, kept, size, null);
+        Arrays.fill(lastNames, kept, size, null);
+        size = kept;
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los diccionarios de etnias y programas se conservan: sus códigos siguen siendo válidos.
+     * Los nombres compartidos se descartan con las filas.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(lastNames, 0, size, null);
+        stringPool.clear();
+        size = 0;
+        choiceStart[0] = 0;
+    }
+
+    @Override
+    public List<Candidate> getAllCandidates() {
+        List<Candidate> candidates = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            candidates.add(getCandidate(row));
+        }
+        return candidates;
+    }
+
+    @Override
+    public int getTotalCandidates() {
+        return size;
+    }
+
+    @Override
+    public void forEachCandidate(Consumer<Candidate> action) {
+        for (int row = 0; row < size; row++) {
+            action.accept(getCandidate(row));
+        }
+    }
+
+    /**
+     * Construye una vista {@link Candidate} de la fila indicada.
+     * El objeto es una copia: modificarlo no altera el repositorio.
+     *
+     * @param row índice de la fila (orden de inserción)
+     * @return candidato reconstruido a partir de las columnas
+     */
+    public Candidate getCandidate(int row) {
+        checkRow(row);
+        Candidate candidate = new Candidate(names[row], lastNames[row], getEthnicity(row), globalScores[row],
+                null, mathScores[row], englishScores[row]);
+        candidate.setRegistrationEpochDay(registrationDays[row]);
+        candidate.applyEthnicityClassification(isMinorityCommunity(row));
+        int choices = getProgramChoiceCount(row);
+        if (choices > 0) {
+            String[] codes = new String[choices];
+            for (int i = 0; i < choices; i++) {
+                codes[i] = programDictionary.get(programChoices[choiceStart[row] + i]);
+            }
+            candidate.setProgramChoices(Arrays.asList(codes));
+        }
+        return candidate;
+    }
+
+    // Acceso directo a las columnas, sin crear objetos Candidate
+
+    public int getGlobalIcfesScore(int row) {
+        checkRow(row);
+        return globalScores[row];
+    }
+
+    public int getMathScore(int row) {
+        checkRow(row);
+        return mathScores[row];
+    }
+
+    public int getEnglishScore(int row) {
+        checkRow(row);
+        return englishScores[row];
+    }
+
+    /**
+     * @return día epoch de la inscripción, o {@link Integer#MIN_VALUE} si no tiene fecha
+     */
+    public int getRegistrationEpochDay(int row) {
+        checkRow(row);
+        return registrationDays[row];
+    }
+
+    /**
+     * @return código de etnia en el diccionario, o -1 si la fila no tiene etnia
+     */
+    public short getEthnicityCode(int row) {
+        checkRow(row);
+        return ethnicityCodes[row];
+    }
+
+    /**
+     * @return clasificación minoritaria de la fila, resuelta una vez por valor de etnia
+     */
+    public boolean isMinorityCommunity(int row) {
+        short code = getEthnicityCode(row);
+        return code != NO_ETHNICITY && minorityByEthnicity[code];
+    }
+
+    public String getEthnicity(int row) {
+        short code = getEthnicityCode(row);
+        return code == NO_ETHNICITY ? null : ethnicityDictionary.get(code);
+    }
+
+    /**
+     * @return número de valores distintos de etnia registrados
+     */
+    public int getEthnicityCount() {
+        return ethnicityDictionary.size();
+    }
+
+    /**
+     * @param code código del diccionario
+     * @return valor de etnia asociado al código
+     */
+    public String getEthnicityValue(short code) {
+        return ethnicityDictionary.get(code);
+    }
+
+    public String getName(int row) {
+        checkRow(row);
+        return names[row];
+    }
+
+    public String getLastName(int row) {
+        checkRow(row);
+        return lastNames[row];
+    }
+
+    /**
+     * @return número de programas que eligió la fila
+     */
+    public int getProgramChoiceCount(int row) {
+        checkRow(row);
+        return choiceStart[row + 1] - choiceStart[row];
+    }
+
+    /**
+     * @param row fila del candidato
+     * @param choice posición de la elección (0 es la primera preferencia)
+     * @return código del programa en el diccionario de programas
+     */
+    public short getProgramChoiceCode(int row, int choice) {
+        if (choice < 0 || choice >= getProgramChoiceCount(row)) {
+            throw new IndexOutOfBoundsException("Elección " + choice + " fuera de rango en la fila " + row);
+        }
+        return programChoices[choiceStart[row] + choice];
+    }
+
+    /**
+     * @param program código del programa, por ejemplo {@code SIS}
+     * @return código en el diccionario, o -1 si ningún candidato eligió ese programa
+     */
+    public short getProgramCode(String program) {
+        Short code = programIndex.get(program);
+        return code == null ? NO_PROGRAM : code;
+    }
+
+    /**
+     * @return número de programas distintos elegidos
+     */
+    public int getProgramCount() {
+        return programDictionary.size();
+    }
+
+    private void appendProgramChoices(List<String> choices) {
+        int start = choiceStart[size];
+        if (start + choices.size() > programChoices.length) {
+            programChoices = Arrays.copyOf(programChoices,
+                Math.max(start + choices.size(), programChoices.length + (programChoices.length >> 1)));
+        }
+        for (String program : choices) {
+            Short code = programIndex.get(program);
+            if (code == null) {
+                if (programDictionary.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Se superó el máximo de programas distintos: " + Short.MAX_VALUE);
+                }
+                code = (short) programDictionary.size();
+                programDictionary.add(program);
+                programIndex.put(program, code);
+            }
+            programChoices[start++] = code;
+        }
+        choiceStart[size + 1] = start;
+    }
+
+    /**
+     * Codifica la etnia del candidato. La primera vez que aparece un valor se guarda
+     * también su clasificación, que es la misma para todos los candidatos con ese valor.
+     */
+    private short encodeEthnicity(Candidate candidate) {
+        String ethnicity = candidate.getEthnicity();
+        if (ethnicity == null) {
+            return NO_ETHNICITY;
+        }
+        Short code = ethnicityIndex.get(ethnicity);
+        if (code == null) {
+            if (ethnicityDictionary.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Se superó el máximo de etnias distintas: " + Short.MAX_VALUE);
+            }
+            code = (short) ethnicityDictionary.size();
+            if (code == minorityByEthnicity.length) {
+                minorityByEthnicity = Arrays.copyOf(minorityByEthnicity, code * 2);
+            }
+            minorityByEthnicity[code] = candidate.isMinorityCommunity();
+            ethnicityDictionary.add(ethnicity);
+            ethnicityIndex.put(ethnicity, code);
+        }
+        return code;
+    }
+
+    /**
+     * Devuelve la instancia canónica del texto para que los valores repetidos
+     * (nombres comunes, apellidos frecuentes) compartan la misma cadena.
+     * Con nombres casi únicos el conjunto costaría una entrada por fila sin ahorrar nada, así
+     * que tiene un tope, como {@link co.edu.uptc.admitted_candidates_system_engineering.model.CanonicalStrings}.
+     * Al llenarse vuelve a empezar en lugar de cerrarse: los valores frecuentes reaparecen
+     * enseguida y los que llegaron primero no ocupan el lugar para siempre. Las filas ya
+     * guardadas conservan su instancia.
+     */
+    private String pooled(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = stringPool.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (stringPool.size() >= MAX_POOLED_STRINGS) {
+            stringPool.clear();
+        }
+        stringPool.put(value, value);
+        return value;
+    }
+
+    int getPooledStringCount() {
+        return stringPool.size();
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= globalScores.length) {
+            return;
+        }
+        int capacity = Math.max(required, globalScores.length + (globalScores.length >> 1));
+        globalScores = Arrays.copyOf(globalScores, capacity);
+        mathScores = Arrays.copyOf(mathScores, capacity);
+        englishScores = Arrays.copyOf(englishScores, capacity);
+        registrationDays = Arrays.copyOf(registrationDays, capacity);
+        ethnicityCodes = Arrays.copyOf(ethnicityCodes, capacity);
+        names = Arrays.copyOf(names, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        choiceStart = Arrays.copyOf(choiceStart, capacity + 1);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Fila " + row + " fuera de rango (total " + size + ")");
+        }
+    }
+}
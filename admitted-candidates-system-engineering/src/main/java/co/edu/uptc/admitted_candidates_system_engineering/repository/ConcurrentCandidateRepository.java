@@ -0,0 +1,273 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Repositorio seguro para inserciones desde varios hilos de carga a la vez.
+ * Las escrituras se reparten en franjas según el hilo que inserta; cada franja es un búfer
+ * de solo agregar formado por bloques de tamaño fijo, con su propio candado, de modo que
+ * hilos distintos casi nunca compiten entre sí. Cada franja publica su tamaño en un campo
+ * volátil después de escribir el candidato, así que las lecturas toman una foto consistente
+ * sin bloquear a los escritores: ven todo lo publicado hasta ese momento y nada a medias.
+ * El orden de inserción se conserva dentro de cada hilo; entre hilos, las franjas se recorren
+ * en orden fijo. Retirar un candidato deja su casilla vacía en lugar de mover los demás, así
+ * que un lector que recorre una franja nunca ve un candidato dos veces ni se salta otro. Cuando
+ * las casillas vacías pasan de un cuarto de lo publicado, la franja copia sus candidatos a un
+ * búfer nuevo y lo reemplaza de una vez: los lectores que ya tomaron el anterior lo terminan de
+ * recorrer sin cambios, y los lotes de reemplazo no hacen crecer la franja sin límite.
+ * Aplica principio Open/Closed: se agrega como otra implementación sin tocar las existentes.
+ */
+@Repository
+@ConditionalOnProperty(name = "admission.repository.type", havingValue = "concurrent")
+public class ConcurrentCandidateRepository implements ICandidateRepository {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // Volátil para que clear() reemplace todas las franjas de una vez
+    private volatile Stripe[] stripes;
+    private final int stripeMask;
+    private final LongAdder size;
+
+    public ConcurrentCandidateRepository() {
+        this(0);
+    }
+
+    /**
+     * @param stripeCount número de franjas de escritura; 0 o negativo usa el doble de núcleos disponibles
+     */
+    @Autowired
+    public ConcurrentCandidateRepository(@Value("${admission.repository.stripes:0}") int stripeCount) {
+        int requested = stripeCount > 0 ? stripeCount : Runtime.getRuntime().availableProcessors() * 2;
+        // Potencia de dos para elegir la franja con una máscara
+        int count = Integer.highestOneBit(Math.max(1, requested - 1)) << 1;
+        this.stripes = newStripes(Math.min(count, 1 << 16));
+        this.stripeMask = stripes.length - 1;
+        this.size = new LongAdder();
+    }
+
+    @Override
+    public void addCandidate(Candidate candidate) {
+        if (candidate == null) {
+            return;
+        }
+        stripeForCurrentThread().append(candidate);
+        size.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Cada franja se recorre con su candado tomado, así que no compite con las inserciones de otras franjas.
+     */
+    @Override
+    public int removeCandidates(Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<Candidate> removed = new HashSet<>(candidates);
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.remove(removed);
+        }
+        size.add(-count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los lectores que ya tomaron las franjas anteriores terminan su recorrido sobre ellas.
+     * No debe llamarse mientras otros hilos siguen insertando.
+     */
+    @Override
+    public void clear() {
+        stripes = newStripes(stripes.length);
+        size.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Devuelve una copia con lo publicado en cada franja al momento de la llamada.
+     */
+    @Override
+    public List<Candidate> getAllCandidates() {
+        Buffer[] buffers = currentBuffers(stripes);
+        int[] counts = publishedCounts(buffers);
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        List<Candidate> snapshot = new ArrayList<>(total);
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].forEach(counts[i], snapshot::add);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public int getTotalCandidates() {
+        return size.intValue();
+    }
+
+    @Override
+    public void forEachCandidate(Consumer<Candidate> action) {
+        Buffer[] buffers = currentBuffers(stripes);
+        int[] counts = publishedCounts(buffers);
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].forEach(counts[i], action);
+        }
+    }
+
+    /**
+     * @return casillas publicadas en todas las franjas, contando las vacías que aún no se compactan
+     */
+    int getSlotCount() {
+        int slots = 0;
+        for (int count : publishedCounts(currentBuffers(stripes))) {
+            slots += count;
+        }
+        return slots;
+    }
+
+    /**
+     * Toma el búfer vigente de cada franja; una compactación posterior no altera los tomados.
+     */
+    private static Buffer[] currentBuffers(Stripe[] stripes) {
+        Buffer[] buffers = new Buffer[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            buffers[i] = stripes[i].buffer;
+        }
+        return buffers;
+    }
+
+    /**
+     * Lee primero todos los tamaños publicados para que la foto no incluya
+     * candidatos insertados mientras se recorre.
+     */
+    private static int[] publishedCounts(Buffer[] buffers) {
+        int[] counts = new int[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            counts[i] = buffers[i].published;
+        }
+        return counts;
+    }
+
+    private static Stripe[] newStripes(int count) {
+        Stripe[] created = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            created[i] = new Stripe();
+        }
+        return created;
+    }
+
+    private Stripe stripeForCurrentThread() {
+        long id = Thread.currentThread().getId();
+        // Mezcla los bits del identificador para repartir hilos con ids consecutivos
+        int hash = (int) (id * 0x9E3779B97F4A7C15L >>> 32);
+        return stripes[hash & stripeMask];
+    }
+
+    /**
+     * Franja de escritura: su candado ordena las inserciones y retiros sobre el búfer vigente.
+     */
+    private static final class Stripe {
+
+        // Volátil para que una compactación reemplace el búfer de una vez
+        private volatile Buffer buffer = new Buffer();
+        private int emptySlots;
+
+        synchronized void append(Candidate candidate) {
+            buffer.append(candidate);
+        }
+
+        /**
+         * Vacía las casillas de los candidatos retirados; las demás no se mueven. Si las casillas
+         * vacías pasan de un cuarto de las publicadas, compacta la franja en un búfer nuevo.
+         *
+         * @return número de casillas vaciadas
+         */
+        synchronized int remove(Set<Candidate> removed) {
+            Buffer current = buffer;
+            Candidate[][] directory = current.chunks;
+            int published = current.published;
+            int count = 0;
+            for (int index = 0; index < published; index++) {
+                Candidate[] chunk = directory[index >>> CHUNK_SHIFT];
+                Candidate candidate = chunk[index & CHUNK_MASK];
+                if (candidate != null && removed.contains(candidate)) {
+                    chunk[index & CHUNK_MASK] = null;
+                    count++;
+                }
+            }
+            emptySlots += count;
+            if (emptySlots > published >>> 2) {
+                Buffer compacted = new Buffer();
+                current.forEach(published, compacted::append);
+                buffer = compacted;
+                emptySlots = 0;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Búfer de solo agregar formado por bloques. Los bloques ya escritos nunca se mueven;
+     * al crecer solo se copia el directorio de bloques.
+     */
+    private static final class Buffer {
+
+        // Volátil para que un lector nunca vea un directorio nuevo sin su contenido
+        private volatile Candidate[][] chunks = new Candidate[4][];
+        private volatile int published;
+
+        /**
+         * Solo se llama con el candado de la franja tomado.
+         */
+        void append(Candidate candidate) {
+            int index = published;
+            int chunk = index >>> CHUNK_SHIFT;
+            Candidate[][] directory = chunks;
+            if (chunk == directory.length) {
+                directory = Arrays.copyOf(directory, directory.length * 2);
+                chunks = directory;
+            }
+            if (directory[chunk] == null) {
+                directory[chunk] = new Candidate[CHUNK_SIZE];
+            }
+            directory[chunk][index & CHUNK_MASK] = candidate;
+            // La escritura volátil publica el candidato y el directorio a los lectores
+            published = index + 1;
+        }
+
+        /**
+         * Recorre los primeros {@code count} candidatos, sin las casillas vacías;
+         * count debe venir de una lectura de {@link #published}.
+         */
+        void forEach(int count, Consumer<Candidate> action) {
+            Candidate[][] directory = chunks;
+            for (int start = 0; start < count; start += CHUNK_SIZE) {
+                Candidate[] chunk = directory[start >>> CHUNK_SHIFT];
+                int end = Math.min(CHUNK_SIZE, count - start);
+                for (int i = 0; i < end; i++) {
+                    Candidate candidate = chunk[i];
+                    if (candidate != null) {
+                        action.accept(candidate);
+                    }
+                }
+            }
+        }
+    }
+}
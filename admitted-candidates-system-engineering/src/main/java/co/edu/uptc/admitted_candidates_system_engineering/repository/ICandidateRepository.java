@@ -1,7 +1,9 @@
 package co.edu.uptc.admitted_candidates_system_engineering.repository;
 
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interfaz para el repositorio de candidatos.
@@ -18,6 +20,19 @@ public interface ICandidateRepository {
      */
     void addCandidate(Candidate candidate);
     
+    /**
+     * Retira del repositorio todos los candidatos iguales a alguno de los indicados.
+     * 
+     * @param candidates candidatos a retirar
+     * @return número de candidatos retirados
+     */
+    int removeCandidates(Collection<Candidate> candidates);
+    
+    /**
+     * Retira todos los candidatos del repositorio.
+     */
+    void clear();
+    
     /**
      * Obtiene todos los candidatos del repositorio.
      * 
@@ -31,4 +46,13 @@ public interface ICandidateRepository {
      * @return número total de candidatos en el repositorio
      */
     int getTotalCandidates();
+    
+    /**
+     * Recorre los candidatos en orden de inserción sin crear una copia de la colección.
+     * 
+     * @param action acción a ejecutar con cada candidato
+     */
+    default void forEachCandidate(Consumer<Candidate> action) {
+        getAllCandidates().forEach(action);
+    }
 }
@@ -0,0 +1,46 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import java.util.List;
+
+/**
+ * Repositorio que mantiene a los candidatos ordenados según las reglas de admisión
+ * mientras se insertan, de modo que consultar el ranking no requiere ordenar.
+ * Aplica principio Interface Segregation: extiende el contrato básico solo con consultas de ranking.
+ */
+public interface IRankedCandidateRepository extends ICandidateRepository {
+
+    /**
+     * Obtiene todos los candidatos en orden de ranking.
+     *
+     * @return lista ordenada de candidatos
+     */
+    List<Candidate> getRankedCandidates();
+
+    /**
+     * Obtiene un tramo del ranking.
+     *
+     * @param offset posición inicial (0 es el primer lugar)
+     * @param limit número máximo de candidatos
+     * @return candidatos del tramo en orden de ranking
+     */
+    List<Candidate> getRankedRange(int offset, int limit);
+
+    /**
+     * Obtiene los primeros candidatos del ranking.
+     *
+     * @param count número de candidatos
+     * @return los mejores candidatos en orden
+     */
+    default List<Candidate> getTopCandidates(int count) {
+        return getRankedRange(0, count);
+    }
+
+    /**
+     * Obtiene la posición de un candidato en el ranking.
+     *
+     * @param candidate candidato a buscar
+     * @return posición empezando en 1, o -1 si no está en el repositorio
+     */
+    int rankOf(Candidate candidate);
+}
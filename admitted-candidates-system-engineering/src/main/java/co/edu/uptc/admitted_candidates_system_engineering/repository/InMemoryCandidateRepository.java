@@ -1,9 +1,14 @@
 package co.edu.uptc.admitted_candidates_system_engineering.repository;
 
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Implementación en memoria del repositorio de candidatos.
@@ -12,6 +17,7 @@ import java.util.List;
  * Aplica principio Loose Coupling: Implementa la interfaz sin depender de clases específicas.
  */
 @Repository
+@ConditionalOnProperty(name = "admission.repository.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryCandidateRepository implements ICandidateRepository {
     
     private final List<Candidate> candidates;
@@ -27,6 +33,23 @@ public class InMemoryCandidateRepository implements ICandidateRepository {
         }
     }
     
+    @Override
+    public int removeCandidates(Collection<Candidate> removed) {
+        if (removed.isEmpty()) {
+            return 0;
+        }
+        // Un solo recorrido de la lista, sin importar cuántos se retiran
+        Set<Candidate> lookup = new HashSet<>(removed);
+        int before = candidates.size();
+        candidates.removeIf(lookup::contains);
+        return before - candidates.size();
+    }
+    
+    @Override
+    public void clear() {
+        candidates.clear();
+    }
+    
     @Override
     public List<Candidate> getAllCandidates() {
         // Retorna una nueva lista para evitar modificaciones externas
@@ -37,4 +60,9 @@ public class InMemoryCandidateRepository implements ICandidateRepository {
     public int getTotalCandidates() {
         return candidates.size();
     }
+    
+    @Override
+    public void forEachCandidate(Consumer<Candidate> action) {
+        candidates.forEach(action);
+    }
 }
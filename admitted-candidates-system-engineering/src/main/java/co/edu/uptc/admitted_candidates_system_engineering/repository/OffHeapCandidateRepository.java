@@ -0,0 +1,875 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import co.edu.uptc.admitted_candidates_system_engineering.service.ISorter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Repositorio de candidatos fuera del heap, para ciclos de decenas de millones de aspirantes
+ * sin que el recolector tenga que recorrerlos.
+ * <p>
+ * Cada candidato es un registro de ancho fijo ({@value #RECORD_SIZE} bytes) en memoria directa
+ * o en un archivo mapeado: referencias al nombre, apellido y programas elegidos, el día de
+ * inscripción, los tres puntajes, el código de etnia y la clave primitiva de ranking de la
+ * estrategia activa. Los textos y las listas de programas van en un área aparte (UTF-8 con su
+ * longitud); en el heap solo quedan los diccionarios de etnias y programas, que no crecen con
+ * el número de aspirantes. Los objetos {@link Candidate} se crean al pedirlos.
+ * <p>
+ * El ranking se calcula sobre los registros: un radix sort estable de la clave con 16 bits por
+ * pasada, en memoria directa, y solo los tramos con la misma clave se ordenan con el comparador.
+ * {@link #scan(Consumer)} y {@link #scanRanked(Consumer)} recorren los registros sin crear objetos.
+ * <p>
+ * Con {@code admission.repository.offheap.file} los registros quedan en ese archivo (y los textos
+ * en uno hermano terminado en {@code .strings}); un arranque posterior los reutiliza si
+ * {@link #holdsSource} confirma que vienen de la misma fuente y configuración. Los textos de
+ * los candidatos retirados ocupan espacio hasta el siguiente {@link #clear()}.
+ * Aplica principio Loose Coupling: la aplicación lo ve como cualquier otro repositorio ordenado.
+ */
+@Repository
+@ConditionalOnProperty(name = "admission.repository.type", havingValue = "offheap")
+public class OffHeapCandidateRepository implements IRankedCandidateRepository {
+
+    /** Bloques de 64 MB: un archivo mapeado crece de a un bloque. */
+    static final int DEFAULT_CHUNK_BITS = 26;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 32;
+
+    private static final int MAGIC = 0x41444D4F; // "ADMO"
+    private static final int VERSION = 2;
+    private static final String STRINGS_SUFFIX = ".strings";
+
+    // Encabezado del archivo de registros
+    private static final int HEADER_ROWS = 8;
+    private static final int HEADER_STRINGS = 16;
+    private static final int HEADER_DICTIONARY = 24;
+    private static final int HEADER_STATE = 28;
+    private static final int HEADER_SOURCE_SIZE = 32;
+    private static final int HEADER_SOURCE_VERSION = 40;
+    private static final int HEADER_FINGERPRINT = 48;
+    private static final int HEADER_SOURCE_KIND = 56;
+    /** Encabezado y contadores coinciden con lo escrito; se pierde con cualquier cambio. */
+    private static final int STATE_CONSISTENT = 1;
+    /** Los registros son la carga completa de la fuente sellada en el encabezado. */
+    private static final int STATE_STAMPED = 2;
+
+    // Campos de cada registro
+    private static final int NAME = 0;
+    private static final int LAST_NAME = 4;
+    private static final int CHOICES = 8;
+    private static final int REGISTRATION_DAY = 12;
+    private static final int GLOBAL = 16;
+    private static final int MATH = 18;
+    private static final int ENGLISH = 20;
+    private static final int ETHNICITY = 22;
+    private static final int SORT_KEY = 24;
+
+    private static final int NO_REF = -1;
+    private static final short NO_ETHNICITY = -1;
+    /** Las entradas del área de textos se alinean a 8 bytes: una referencia int cubre 32 GB. */
+    private static final int ALIGNMENT_BITS = 3;
+    private static final long MAX_STRINGS_BYTES = 0xFFFFFFFFL << ALIGNMENT_BITS;
+    private static final int DIGIT_BITS = 16;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    /** Textos recientes y su referencia: los nombres comunes se guardan una sola vez por tramo. */
+    private static final int RECENT_STRINGS = 1024;
+
+    private final Comparator<Candidate> comparator;
+    private final ToLongFunction<Candidate> rankingKey;
+    private final Path file;
+    private final int chunkBits;
+    private final OffHeapSegment records;
+    private final OffHeapSegment strings;
+
+    private int size;
+    private long stringsUsed;
+    private int state;
+
+    private final List<String> ethnicityDictionary = new ArrayList<>();
+    private final Map<String, Short> ethnicityIndex = new HashMap<>();
+    private boolean[] minorityByEthnicity = new boolean[16];
+    private int[] ethnicityRefs = new int[16];
+    private final List<String> programDictionary = new ArrayList<>();
+    private final Map<String, Short> programIndex = new HashMap<>();
+    private int[] programRefs = new int[16];
+
+    private final String[] recentStrings = new String[RECENT_STRINGS];
+    private final int[] recentRefs = new int[RECENT_STRINGS];
+
+    /** Claves y filas en orden de ranking, válidas mientras {@code sorted} sea true. */
+    private OffHeapSegment sortedKeys;
+    private OffHeapSegment sortedRows;
+    private OffHeapSegment keyBuffer;
+    private OffHeapSegment rowBuffer;
+    private boolean sorted;
+
+    /**
+     * @param candidateSorter estrategia cuyo comparador y clave primitiva definen el ranking
+     * @param file archivo de registros; vacío guarda todo en memoria directa, sin persistir
+     */
+    @Autowired
+    public OffHeapCandidateRepository(ISorter<Candidate> candidateSorter,
+                                      @Value("${admission.repository.offheap.file:}") String file) {
+        this(candidateSorter.getComparator(), candidateSorter.getRankingKey(),
+            file == null || file.isBlank() ? null : Path.of(file.trim()), DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Repositorio en memoria directa, sin archivo.
+     */
+    public OffHeapCandidateRepository(ISorter<Candidate> candidateSorter) {
+        this(candidateSorter.getComparator(), candidateSorter.getRankingKey(), null, DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * @param comparator orden de ranking
+     * @param rankingKey clave monótona respecto al comparador, o null para ordenar solo con él
+     * @param file archivo de registros, o null para no persistir
+     * @param chunkBits log2 del tamaño de los bloques de memoria
+     */
+    OffHeapCandidateRepository(Comparator<Candidate> comparator, ToLongFunction<Candidate> rankingKey,
+                               Path file, int chunkBits) {
+        this.comparator = comparator;
+        this.rankingKey = rankingKey != null ? rankingKey : candidate -> 0L;
+        this.file = file;
+        this.chunkBits = chunkBits;
+        Arrays.fill(recentRefs, NO_REF);
+        OffHeapSegment openedRecords = null;
+        try {
+            openedRecords = file == null ? OffHeapSegment.direct(chunkBits) : OffHeapSegment.mapped(file, chunkBits);
+            this.records = openedRecords;
+            this.strings = file == null
+                ? OffHeapSegment.direct(chunkBits)
+                : OffHeapSegment.mapped(stringsFile(file), chunkBits);
+            records.ensureCapacity(HEADER_SIZE);
+        } catch (IOException e) {
+            if (openedRecords != null) {
+                try {
+                    openedRecords.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException("No se pudo abrir el almacenamiento de candidatos: " + file, e);
+        }
+        if (!restore()) {
+            records.putInt(0, MAGIC);
+            records.putInt(4, VERSION);
+            writeState(0);
+        }
+    }
+
+    /**
+     * @return archivo donde se guardan los textos de un archivo de registros
+     */
+    public static Path stringsFile(Path file) {
+        return file.resolveSibling(file.getFileName() + STRINGS_SUFFIX);
+    }
+
+    @Override
+    public synchronized void addCandidate(Candidate candidate) {
+        if (candidate == null) {
+            return;
+        }
+        long base = recordPosition(size);
+        records.grow(base + RECORD_SIZE);
+        records.putInt(base + NAME, stringRef(candidate.getName()));
+        records.putInt(base + LAST_NAME, stringRef(candidate.getLastName()));
+        records.putInt(base + CHOICES, writeChoices(candidate.getProgramChoices()));
+        records.putInt(base + REGISTRATION_DAY, candidate.getRegistrationEpochDay());
+        records.putShort(base + GLOBAL, (short) candidate.getGlobalIcfesScore());
+        records.putShort(base + MATH, (short) candidate.getMathScore());
+        records.putShort(base + ENGLISH, (short) candidate.getEnglishScore());
+        records.putShort(base + ETHNICITY, encodeEthnicity(candidate));
+        // Con el bit de signo invertido, el orden sin signo de la clave es el orden con signo original
+        records.putLong(base + SORT_KEY, rankingKey.applyAsLong(candidate) ^ Long.MIN_VALUE);
+        size++;
+        modified();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Compacta los registros en un solo recorrido; los que quedan conservan su orden. Solo se
+     * reconstruye el candidato de los registros cuya clave coincide con la de algún retirado.
+     */
+    @Override
+    public synchronized int removeCandidates(Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<Candidate> removed = new HashSet<>(candidates);
+        Set<Long> removedKeys = new HashSet<>();
+        for (Candidate candidate : removed) {
+            removedKeys.add(rankingKey.applyAsLong(candidate) ^ Long.MIN_VALUE);
+        }
+        return compact(row -> removedKeys.contains(records.getLong(recordPosition(row) + SORT_KEY))
+            && removed.contains(getCandidate(row)));
+    }
+
+    /**
+     * Retira los registros de las filas indicadas, sin reconstruir ningún candidato. Las filas
+     * siguientes se corren hacia atrás tantas posiciones como filas retiradas tengan antes.
+     *
+     * @param rows filas a retirar, en orden creciente y sin repetidos
+     * @return número de registros retirados
+     */
+    public synchronized int removeRows(int[] rows) {
+        if (rows.length == 0) {
+            return 0;
+        }
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] < 0 || rows[i] >= size || (i > 0 && rows[i] <= rows[i - 1])) {
+                throw new IllegalArgumentException("Las filas deben ser crecientes y menores que " + size);
+            }
+        }
+        return compact(row -> Arrays.binarySearch(rows, row) >= 0);
+    }
+
+    /**
+     * Compacta los registros en un solo recorrido, saltando las filas retiradas; los que quedan
+     * conservan su orden.
+     */
+    private int compact(IntPredicate removedRow) {
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            long base = recordPosition(row);
+            if (removedRow.test(row)) {
+                continue;
+            }
+            if (kept != row) {
+                long target = recordPosition(kept);
+                for (int offset = 0; offset < RECORD_SIZE; offset += Long.BYTES) {
+                    records.putLong(target + offset, records.getLong(base + offset));
+                }
+            }
+            kept++;
+        }
+        int count = size - kept;
+        if (count > 0) {
+            size = kept;
+            modified();
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * También libera el área de textos. Los diccionarios de etnias y programas se conservan
+     * (sus códigos siguen siendo válidos) y sus textos se vuelven a escribir al inicio del área.
+     */
+    @Override
+    public synchronized void clear() {
+        size = 0;
+        stringsUsed = 0;
+        Arrays.fill(recentStrings, null);
+        Arrays.fill(recentRefs, NO_REF);
+        for (int code = 0; code < ethnicityDictionary.size(); code++) {
+            ethnicityRefs[code] = writeString(ethnicityDictionary.get(code));
+        }
+        for (int code = 0; code < programDictionary.size(); code++) {
+            programRefs[code] = writeString(programDictionary.get(code));
+        }
+        modified();
+    }
+
+    /**
+     * {@inheritDoc}
+     * La lista se entrega en orden de inserción.
+     */
+    @Override
+    public synchronized List<Candidate> getAllCandidates() {
+        List<Candidate> candidates = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            candidates.add(getCandidate(row));
+        }
+        return candidates;
+    }
+
+    @Override
+    public synchronized int getTotalCandidates() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Cada candidato se crea justo antes de entregarlo, así que no queda ninguno retenido.
+     */
+    @Override
+    public synchronized void forEachCandidate(Consumer<Candidate> action) {
+        for (int row = 0; row < size; row++) {
+            action.accept(getCandidate(row));
+        }
+    }
+
+    @Override
+    public List<Candidate> getRankedCandidates() {
+        return getRankedRange(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized List<Candidate> getRankedRange(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset y limit no pueden ser negativos");
+        }
+        int count = (int) Math.min(limit, (long) size - offset);
+        List<Candidate> range = new ArrayList<>(Math.max(count, 0));
+        if (count <= 0) {
+            return range;
+        }
+        ensureSorted();
+        for (int position = offset; position < offset + count; position++) {
+            range.add(getCandidate(sortedRows.getInt((long) position * Integer.BYTES)));
+        }
+        return range;
+    }
+
+    @Override
+    public synchronized int rankOf(Candidate candidate) {
+        if (candidate == null || size == 0) {
+            return -1;
+        }
+        ensureSorted();
+        long key = rankingKey.applyAsLong(candidate) ^ Long.MIN_VALUE;
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Long.compareUnsigned(sortedKeys.getLong((long) middle * Long.BYTES), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int position = low; position < size && sortedKeys.getLong((long) position * Long.BYTES) == key; position++) {
+            if (getCandidate(sortedRows.getInt((long) position * Integer.BYTES)).equals(candidate)) {
+                return position + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Recorre los registros en orden de inserción con un único cursor reutilizado.
+     *
+     * @param action acción con cada registro; el cursor solo es válido durante la llamada
+     */
+    public synchronized void scan(Consumer<RecordCursor> action) {
+        RecordCursor cursor = new RecordCursor();
+        for (int row = 0; row < size; row++) {
+            cursor.row = row;
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * Recorre los registros en orden de ranking con un único cursor reutilizado.
+     *
+     * @param action acción con cada registro; el cursor solo es válido durante la llamada
+     */
+    public synchronized void scanRanked(Consumer<RecordCursor> action) {
+        ensureSorted();
+        RecordCursor cursor = new RecordCursor();
+        for (int position = 0; position < size; position++) {
+            cursor.row = sortedRows.getInt((long) position * Integer.BYTES);
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * Construye una vista {@link Candidate} del registro indicado.
+     * El objeto es una copia: modificarlo no altera el repositorio.
+     *
+     * @param row índice del registro (orden de inserción)
+     * @return candidato reconstruido
+     */
+    public synchronized Candidate getCandidate(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Fila " + row + " fuera de rango (total " + size + ")");
+        }
+        long base = recordPosition(row);
+        short ethnicity = records.getShort(base + ETHNICITY);
+        Candidate candidate = new Candidate(readString(records.getInt(base + NAME)),
+            readString(records.getInt(base + LAST_NAME)),
+            ethnicity == NO_ETHNICITY ? null : ethnicityDictionary.get(ethnicity),
+            records.getShort(base + GLOBAL), null, records.getShort(base + MATH), records.getShort(base + ENGLISH));
+        candidate.setRegistrationEpochDay(records.getInt(base + REGISTRATION_DAY));
+        candidate.applyEthnicityClassification(ethnicity != NO_ETHNICITY && minorityByEthnicity[ethnicity]);
+        int choices = records.getInt(base + CHOICES);
+        if (choices != NO_REF) {
+            long position = position(choices);
+            String[] codes = new String[strings.getInt(position)];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = programDictionary.get(strings.getShort(position + Integer.BYTES + (long) i * Short.BYTES));
+            }
+            candidate.setProgramChoices(Arrays.asList(codes));
+        }
+        return candidate;
+    }
+
+    /**
+     * @return número de valores distintos de etnia registrados
+     */
+    public synchronized int getEthnicityCount() {
+        return ethnicityDictionary.size();
+    }
+
+    /**
+     * @param code código del diccionario
+     * @return valor de etnia asociado al código
+     */
+    public synchronized String getEthnicityValue(short code) {
+        return ethnicityDictionary.get(code);
+    }
+
+    /**
+     * @return true si los registros se guardan en un archivo
+     */
+    public boolean isPersistent() {
+        return file != null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Indica si los registros guardados son la carga completa de una fuente, sin cambios
+     * posteriores, hecha con la misma configuración.
+     *
+     * @param source sello de la versión actual de la fuente
+     * @param fingerprint huella de la configuración de ranking, etnias y duplicados
+     */
+    public synchronized boolean holdsSource(SourceStamp source, long fingerprint) {
+        return (state & STATE_STAMPED) != 0
+            && records.getInt(HEADER_SOURCE_KIND) == source.getKind().ordinal()
+            && records.getLong(HEADER_SOURCE_SIZE) == source.getSize()
+            && records.getLong(HEADER_SOURCE_VERSION) == source.getVersion()
+            && records.getLong(HEADER_FINGERPRINT) == fingerprint;
+    }
+
+    /**
+     * Sella los registros actuales como la carga completa de la fuente y los baja a disco.
+     * Cualquier cambio posterior quita el sello.
+     */
+    public synchronized void markSource(SourceStamp source, long fingerprint) {
+        records.putInt(HEADER_SOURCE_KIND, source.getKind().ordinal());
+        records.putLong(HEADER_SOURCE_SIZE, source.getSize());
+        records.putLong(HEADER_SOURCE_VERSION, source.getVersion());
+        records.putLong(HEADER_FINGERPRINT, fingerprint);
+        flush(STATE_STAMPED);
+    }
+
+    /**
+     * Escribe el encabezado y los diccionarios y baja todo a disco; sin archivo no hace nada.
+     */
+    public synchronized void flush() {
+        flush(state & STATE_STAMPED);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        flush();
+        records.close();
+        strings.close();
+        sortedKeys = sortedRows = keyBuffer = rowBuffer = null;
+        sorted = false;
+    }
+
+    private void flush(int stamp) {
+        if (file == null) {
+            return;
+        }
+        int dictionary = writeDictionary();
+        strings.force();
+        records.putLong(HEADER_ROWS, size);
+        records.putLong(HEADER_STRINGS, stringsUsed);
+        records.putInt(HEADER_DICTIONARY, dictionary);
+        writeState(STATE_CONSISTENT | stamp);
+        records.force();
+    }
+
+    /**
+     * Recupera los registros de un archivo escrito por {@link #flush()}.
+     *
+     * @return false si no hay un archivo válido y completo
+     */
+    private boolean restore() {
+        if (file == null || records.getInt(0) != MAGIC || records.getInt(4) != VERSION
+                || (records.getInt(HEADER_STATE) & STATE_CONSISTENT) == 0) {
+            return false;
+        }
+        long rows = records.getLong(HEADER_ROWS);
+        long used = records.getLong(HEADER_STRINGS);
+        if (rows < 0 || rows > Integer.MAX_VALUE || recordPosition((int) rows) > records.capacity()
+                || used < 0 || used > strings.capacity()) {
+            return false;
+        }
+        size = (int) rows;
+        stringsUsed = used;
+        readDictionary(records.getInt(HEADER_DICTIONARY));
+        state = records.getInt(HEADER_STATE);
+        return true;
+    }
+
+    /**
+     * Diccionarios al final del área de textos: número de etnias, y por cada una la referencia
+     * a su texto y su clasificación; luego número de programas y la referencia de cada uno.
+     */
+    private int writeDictionary() {
+        int ethnicities = ethnicityDictionary.size();
+        int programs = programDictionary.size();
+        long position = allocate(Integer.BYTES * (2 + 2 * ethnicities + programs));
+        long cursor = position;
+        strings.putInt(cursor, ethnicities);
+        cursor += Integer.BYTES;
+        for (int code = 0; code < ethnicities; code++) {
+            strings.putInt(cursor, ethnicityRefs[code]);
+            strings.putInt(cursor + Integer.BYTES, minorityByEthnicity[code] ? 1 : 0);
+            cursor += 2 * Integer.BYTES;
+        }
+        strings.putInt(cursor, programs);
+        cursor += Integer.BYTES;
+        for (int code = 0; code < programs; code++) {
+            strings.putInt(cursor, programRefs[code]);
+            cursor += Integer.BYTES;
+        }
+        return ref(position);
+    }
+
+    private void readDictionary(int ref) {
+        long cursor = position(ref);
+        int ethnicities = strings.getInt(cursor);
+        cursor += Integer.BYTES;
+        for (int code = 0; code < ethnicities; code++) {
+            int stringRef = strings.getInt(cursor);
+            addEthnicity(readString(stringRef), stringRef, strings.getInt(cursor + Integer.BYTES) != 0);
+            cursor += 2 * Integer.BYTES;
+        }
+        int programs = strings.getInt(cursor);
+        cursor += Integer.BYTES;
+        for (int code = 0; code < programs; code++) {
+            int stringRef = strings.getInt(cursor);
+            addProgram(readString(stringRef), stringRef);
+            cursor += Integer.BYTES;
+        }
+    }
+
+    /**
+     * Ordena las filas por la clave de ranking con un radix sort LSD estable sobre memoria
+     * directa, saltando los dígitos en los que todas las claves coinciden, y luego ordena con el
+     * comparador cada tramo de claves iguales.
+     */
+    private void ensureSorted() {
+        if (sorted) {
+            return;
+        }
+        long n = size;
+        sortedKeys = sortBuffer(sortedKeys, n * Long.BYTES);
+        sortedRows = sortBuffer(sortedRows, n * Integer.BYTES);
+        keyBuffer = sortBuffer(keyBuffer, n * Long.BYTES);
+        rowBuffer = sortBuffer(rowBuffer, n * Integer.BYTES);
+
+        long allOr = 0;
+        long allAnd = -1;
+        for (int row = 0; row < size; row++) {
+            long key = records.getLong(recordPosition(row) + SORT_KEY);
+            sortedKeys.putLong((long) row * Long.BYTES, key);
+            sortedRows.putInt((long) row * Integer.BYTES, row);
+            allOr |= key;
+            allAnd &= key;
+        }
+        long varying = allOr & ~allAnd;
+
+        int[] counts = new int[BUCKETS];
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            if ((varying >>> shift & (BUCKETS - 1)) == 0) {
+                continue;
+            }
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (sortedKeys.getLong((long) i * Long.BYTES) >>> shift) & (BUCKETS - 1)]++;
+            }
+            int total = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                long key = sortedKeys.getLong((long) i * Long.BYTES);
+                int target = counts[(int) (key >>> shift) & (BUCKETS - 1)]++;
+                keyBuffer.putLong((long) target * Long.BYTES, key);
+                rowBuffer.putInt((long) target * Integer.BYTES, sortedRows.getInt((long) i * Integer.BYTES));
+            }
+            OffHeapSegment keys = sortedKeys;
+            sortedKeys = keyBuffer;
+            keyBuffer = keys;
+            OffHeapSegment rows = sortedRows;
+            sortedRows = rowBuffer;
+            rowBuffer = rows;
+        }
+
+        int runStart = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == size || sortedKeys.getLong((long) i * Long.BYTES) != sortedKeys.getLong((long) runStart * Long.BYTES)) {
+                if (i - runStart > 1) {
+                    sortTiedRun(runStart, i);
+                }
+                runStart = i;
+            }
+        }
+        sorted = true;
+    }
+
+    /**
+     * Ordena con el comparador un tramo de claves iguales. Arrays.sort sobre objetos es estable,
+     * así los empates completos conservan el orden de inserción.
+     */
+    private void sortTiedRun(int start, int end) {
+        Candidate[] candidates = new Candidate[end - start];
+        Integer[] order = new Integer[end - start];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = sortedRows.getInt((long) (start + i) * Integer.BYTES);
+            candidates[i] = getCandidate(order[i]);
+        }
+        Integer[] positions = new Integer[order.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> comparator.compare(candidates[a], candidates[b]));
+        for (int i = 0; i < positions.length; i++) {
+            sortedRows.putInt((long) (start + i) * Integer.BYTES, order[positions[i]]);
+        }
+    }
+
+    private OffHeapSegment sortBuffer(OffHeapSegment segment, long bytes) {
+        OffHeapSegment buffer = segment != null ? segment : OffHeapSegment.direct(chunkBits);
+        buffer.grow(bytes);
+        return buffer;
+    }
+
+    private void modified() {
+        sorted = false;
+        if (state != 0) {
+            writeState(0);
+        }
+    }
+
+    private void writeState(int newState) {
+        state = newState;
+        records.putInt(HEADER_STATE, newState);
+    }
+
+    private static long recordPosition(int row) {
+        return HEADER_SIZE + (long) row * RECORD_SIZE;
+    }
+
+    /**
+     * Texto ya guardado si coincide con uno reciente; si no, lo escribe en el área de textos.
+     */
+    private int stringRef(String value) {
+        if (value == null) {
+            return NO_REF;
+        }
+        int slot = (value.hashCode() & 0x7fffffff) % RECENT_STRINGS;
+        if (value.equals(recentStrings[slot])) {
+            return recentRefs[slot];
+        }
+        int ref = writeString(value);
+        recentStrings[slot] = value;
+        recentRefs[slot] = ref;
+        return ref;
+    }
+
+    private int writeString(String value) {
+        if (value == null) {
+            return NO_REF;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long position = allocate(Integer.BYTES + bytes.length);
+        strings.putInt(position, bytes.length);
+        strings.putBytes(position + Integer.BYTES, bytes, bytes.length);
+        return ref(position);
+    }
+
+    private String readString(int ref) {
+        if (ref == NO_REF) {
+            return null;
+        }
+        long position = position(ref);
+        byte[] bytes = new byte[strings.getInt(position)];
+        strings.getBytes(position + Integer.BYTES, bytes, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int writeChoices(List<String> choices) {
+        if (choices.isEmpty()) {
+            return NO_REF;
+        }
+        long position = allocate(Integer.BYTES + choices.size() * Short.BYTES);
+        strings.putInt(position, choices.size());
+        for (int i = 0; i < choices.size(); i++) {
+            strings.putShort(position + Integer.BYTES + (long) i * Short.BYTES, encodeProgram(choices.get(i)));
+        }
+        return ref(position);
+    }
+
+    /**
+     * Reserva espacio en el área de textos sin cruzar de un bloque a otro.
+     */
+    private long allocate(int length) {
+        if (length > strings.chunkSize()) {
+            throw new IllegalArgumentException("Texto demasiado largo para el almacenamiento fuera del heap: "
+                + length + " bytes");
+        }
+        long position = strings.fitInChunk(stringsUsed, length);
+        if (position + length > MAX_STRINGS_BYTES) {
+            throw new IllegalStateException("Se superó el tamaño máximo del área de textos: " + MAX_STRINGS_BYTES + " bytes");
+        }
+        strings.grow(position + length);
+        long alignment = (1L << ALIGNMENT_BITS) - 1;
+        stringsUsed = (position + length + alignment) & ~alignment;
+        return position;
+    }
+
+    private static int ref(long position) {
+        return (int) (position >>> ALIGNMENT_BITS);
+    }
+
+    private static long position(int ref) {
+        return (ref & 0xFFFFFFFFL) << ALIGNMENT_BITS;
+    }
+
+    /**
+     * Codifica la etnia del candidato. La primera vez que aparece un valor se guarda
+     * también su clasificación, que es la misma para todos los candidatos con ese valor.
+     */
+    private short encodeEthnicity(Candidate candidate) {
+        String ethnicity = candidate.getEthnicity();
+        if (ethnicity == null) {
+            return NO_ETHNICITY;
+        }
+        Short code = ethnicityIndex.get(ethnicity);
+        if (code == null) {
+            code = addEthnicity(ethnicity, writeString(ethnicity), candidate.isMinorityCommunity());
+        }
+        return code;
+    }
+
+    private short addEthnicity(String ethnicity, int ref, boolean minority) {
+        if (ethnicityDictionary.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Se superó el máximo de etnias distintas: " + Short.MAX_VALUE);
+        }
+        short code = (short) ethnicityDictionary.size();
+        if (code == minorityByEthnicity.length) {
+            minorityByEthnicity = Arrays.copyOf(minorityByEthnicity, code * 2);
+            ethnicityRefs = Arrays.copyOf(ethnicityRefs, code * 2);
+        }
+        minorityByEthnicity[code] = minority;
+        ethnicityRefs[code] = ref;
+        ethnicityDictionary.add(ethnicity);
+        ethnicityIndex.put(ethnicity, code);
+        return code;
+    }
+
+    private short encodeProgram(String program) {
+        Short code = programIndex.get(program);
+        return code != null ? code : addProgram(program, writeString(program));
+    }
+
+    private short addProgram(String program, int ref) {
+        if (programDictionary.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Se superó el máximo de programas distintos: " + Short.MAX_VALUE);
+        }
+        short code = (short) programDictionary.size();
+        if (code == programRefs.length) {
+            programRefs = Arrays.copyOf(programRefs, code * 2);
+        }
+        programRefs[code] = ref;
+        programDictionary.add(program);
+        programIndex.put(program, code);
+        return code;
+    }
+
+    /**
+     * Vista de un registro sin crear un {@link Candidate}; el mismo cursor avanza por todas las filas.
+     */
+    public final class RecordCursor {
+        private int row;
+
+        private RecordCursor() {
+        }
+
+        /**
+         * @return índice del registro en orden de inserción
+         */
+        public int getRow() {
+            return row;
+        }
+
+        public int getGlobalIcfesScore() {
+            return records.getShort(recordPosition(row) + GLOBAL);
+        }
+
+        public int getMathScore() {
+            return records.getShort(recordPosition(row) + MATH);
+        }
+
+        public int getEnglishScore() {
+            return records.getShort(recordPosition(row) + ENGLISH);
+        }
+
+        /**
+         * @return día epoch de la inscripción, o {@link Candidate#NO_DATE} si no tiene fecha
+         */
+        public int getRegistrationEpochDay() {
+            return records.getInt(recordPosition(row) + REGISTRATION_DAY);
+        }
+
+        /**
+         * @return código de etnia en el diccionario, o -1 si el registro no tiene etnia
+         */
+        public short getEthnicityCode() {
+            return records.getShort(recordPosition(row) + ETHNICITY);
+        }
+
+        public String getEthnicity() {
+            short code = getEthnicityCode();
+            return code == NO_ETHNICITY ? null : ethnicityDictionary.get(code);
+        }
+
+        public boolean isMinorityCommunity() {
+            short code = getEthnicityCode();
+            return code != NO_ETHNICITY && minorityByEthnicity[code];
+        }
+
+        /**
+         * @return candidato completo de este registro
+         */
+        public Candidate toCandidate() {
+            return getCandidate(row);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Memoria fuera del heap direccionada con posiciones {@code long}, repartida en bloques de
+ * tamaño fijo para superar el límite de 2 GB de un {@link ByteBuffer}. Los bloques son
+ * buffers directos o regiones de un archivo mapeado, y se reservan a medida que se necesitan.
+ * Un valor nunca cruza de un bloque a otro: quien escribe alinea sus datos al bloque.
+ * El orden de bytes es little-endian en los dos casos, así un archivo se puede reabrir en
+ * cualquier máquina.
+ */
+final class OffHeapSegment {
+
+    private final int chunkBits;
+    private final int chunkSize;
+    private final long chunkMask;
+    private final FileChannel channel;
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+
+    private OffHeapSegment(int chunkBits, FileChannel channel) {
+        this.chunkBits = chunkBits;
+        this.chunkSize = 1 << chunkBits;
+        this.chunkMask = chunkSize - 1L;
+        this.channel = channel;
+    }
+
+    /**
+     * @param chunkBits log2 del tamaño de cada bloque
+     * @return segmento sobre buffers directos, sin archivo
+     */
+    static OffHeapSegment direct(int chunkBits) {
+        return new OffHeapSegment(chunkBits, null);
+    }
+
+    /**
+     * Mapea el archivo completo (si existe) y lo extiende por bloques al crecer.
+     *
+     * @param file archivo de respaldo; se crea si no existe
+     * @param chunkBits log2 del tamaño de cada bloque
+     * @throws IOException si el archivo no se puede abrir o mapear
+     */
+    static OffHeapSegment mapped(Path file, int chunkBits) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        OffHeapSegment segment = new OffHeapSegment(chunkBits, channel);
+        try {
+            segment.ensureCapacity(channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return segment;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    long capacity() {
+        return (long) chunks.length << chunkBits;
+    }
+
+    /**
+     * Reserva bloques hasta cubrir {@code bytes}. Los bloques nuevos de un buffer directo
+     * empiezan en cero, igual que las regiones nuevas de un archivo.
+     */
+    void ensureCapacity(long bytes) throws IOException {
+        if (bytes <= capacity()) {
+            return;
+        }
+        int count = (int) ((bytes + chunkMask) >>> chunkBits);
+        ByteBuffer[] grown = Arrays.copyOf(chunks, count);
+        for (int i = chunks.length; i < count; i++) {
+            ByteBuffer chunk = channel == null
+                ? ByteBuffer.allocateDirect(chunkSize)
+                : channel.map(FileChannel.MapMode.READ_WRITE, (long) i << chunkBits, chunkSize);
+            grown[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        chunks = grown;
+    }
+
+    /**
+     * Variante sin excepciones comprobadas para los segmentos que crecen durante un ordenamiento.
+     */
+    void grow(long bytes) {
+        try {
+            ensureCapacity(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo ampliar el almacenamiento fuera del heap", e);
+        }
+    }
+
+    /**
+     * @return posición de inicio del bloque siguiente si {@code length} bytes no caben desde
+     *         {@code position} en el bloque actual; si caben, la misma posición
+     */
+    long fitInChunk(long position, int length) {
+        long remaining = chunkSize - (position & chunkMask);
+        return length <= remaining ? position : position + remaining;
+    }
+
+    byte getByte(long position) {
+        return chunks[(int) (position >>> chunkBits)].get((int) (position & chunkMask));
+    }
+
+    void putByte(long position, byte value) {
+        chunks[(int) (position >>> chunkBits)].put((int) (position & chunkMask), value);
+    }
+
+    short getShort(long position) {
+        return chunks[(int) (position >>> chunkBits)].getShort((int) (position & chunkMask));
+    }
+
+    void putShort(long position, short value) {
+        chunks[(int) (position >>> chunkBits)].putShort((int) (position & chunkMask), value);
+    }
+
+    int getInt(long position) {
+        return chunks[(int) (position >>> chunkBits)].getInt((int) (position & chunkMask));
+    }
+
+    void putInt(long position, int value) {
+        chunks[(int) (position >>> chunkBits)].putInt((int) (position & chunkMask), value);
+    }
+
+    long getLong(long position) {
+        return chunks[(int) (position >>> chunkBits)].getLong((int) (position & chunkMask));
+    }
+
+    void putLong(long position, long value) {
+        chunks[(int) (position >>> chunkBits)].putLong((int) (position & chunkMask), value);
+    }
+
+    /** Copia {@code length} bytes que están dentro de un mismo bloque. */
+    void getBytes(long position, byte[] target, int length) {
+        chunks[(int) (position >>> chunkBits)].get((int) (position & chunkMask), target, 0, length);
+    }
+
+    /** Escribe {@code length} bytes que caben dentro de un mismo bloque. */
+    void putBytes(long position, byte[] source, int length) {
+        chunks[(int) (position >>> chunkBits)].put((int) (position & chunkMask), source, 0, length);
+    }
+
+    /**
+     * Baja a disco lo escrito en un segmento mapeado; en uno directo no hace nada.
+     */
+    void force() {
+        if (channel != null) {
+            for (ByteBuffer chunk : chunks) {
+                ((MappedByteBuffer) chunk).force();
+            }
+        }
+    }
+
+    /**
+     * Suelta los bloques. La memoria de un buffer directo o de una región mapeada se libera
+     * cuando el recolector descarta el buffer; el archivo queda cerrado de inmediato.
+     */
+    void close() throws IOException {
+        force();
+        chunks = new ByteBuffer[0];
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.ISorter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Repositorio que mantiene el ranking al día en cada inserción.
+ * Usa un treap (árbol binario aleatorizado) con tamaño de subárbol en cada nodo, ordenado por
+ * la clave primitiva de ranking, el comparador de admisión y el orden de llegada. Insertar,
+ * retirar, ubicar la posición de un candidato y saltar a una posición cuestan O(log n); leer un tramo
+ * del ranking cuesta O(log n + k). Así las inscripciones tardías no obligan a reordenar todo.
+ * Las lecturas concurrentes se permiten mientras no haya una inserción en curso.
+ * Aplica principio Loose Coupling: el orden se toma de la estrategia {@link ISorter} activa.
+ */
+@Repository
+@ConditionalOnProperty(name = "admission.repository.type", havingValue = "ranked")
+public class RankedCandidateRepository implements IRankedCandidateRepository {
+
+    private final Comparator<Candidate> comparator;
+    private final ToLongFunction<Candidate> rankingKey;
+    private final ReadWriteLock lock;
+    private final SplittableRandom random;
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * @param candidateSorter estrategia cuyo comparador (y clave primitiva, si la ofrece) define el orden
+     */
+    @Autowired
+    public RankedCandidateRepository(ISorter<Candidate> candidateSorter) {
+        this(candidateSorter.getComparator(), candidateSorter.getRankingKey());
+    }
+
+    /**
+     * @param comparator orden de ranking
+     * @param rankingKey clave monótona respecto al comparador, o null para comparar solo con él
+     */
+    public RankedCandidateRepository(Comparator<Candidate> comparator, ToLongFunction<Candidate> rankingKey) {
+        this.comparator = comparator;
+        this.rankingKey = rankingKey != null ? rankingKey : candidate -> 0L;
+        this.lock = new ReentrantReadWriteLock();
+        this.random = new SplittableRandom();
+    }
+
+    @Override
+    public void addCandidate(Candidate candidate) {
+        if (candidate == null) {
+            return;
+        }
+        long key = rankingKey.applyAsLong(candidate);
+        lock.writeLock().lock();
+        try {
+            Node node = new Node(candidate, key, nextSequence++, random.nextInt());
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int removeCandidates(Collection<Candidate> candidates) {
+        int count = 0;
+        lock.writeLock().lock();
+        try {
+            for (Candidate candidate : new HashSet<>(candidates)) {
+                long key = rankingKey.applyAsLong(candidate);
+                for (int index = indexOf(candidate, key); index >= 0; index = indexOf(candidate, key)) {
+                    root = removeAt(root, index);
+                    count++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * En este repositorio la lista se entrega en orden de ranking.
+     */
+    @Override
+    public List<Candidate> getAllCandidates() {
+        return getRankedCandidates();
+    }
+
+    @Override
+    public int getTotalCandidates() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachCandidate(Consumer<Candidate> action) {
+        getRankedCandidates().forEach(action);
+    }
+
+    @Override
+    public List<Candidate> getRankedCandidates() {
+        return getRankedRange(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Candidate> getRankedRange(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset y limit no pueden ser negativos");
+        }
+        lock.readLock().lock();
+        try {
+            int count = (int) Math.min(limit, (long) size(root) - offset);
+            List<Candidate> range = new ArrayList<>(Math.max(count, 0));
+            if (count <= 0) {
+                return range;
+            }
+            Deque<Node> path = pathTo(offset);
+            while (range.size() < count) {
+                Node node = path.pop();
+                range.add(node.candidate);
+                pushLeftSpine(path, node.right);
+            }
+            return range;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int rankOf(Candidate candidate) {
+        if (candidate == null) {
+            return -1;
+        }
+        long key = rankingKey.applyAsLong(candidate);
+        lock.readLock().lock();
+        try {
+            int index = indexOf(candidate, key);
+            return index < 0 ? -1 : index + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ubica el primer candidato equivalente y recorre el tramo de empates buscando este mismo registro.
+     * Debe llamarse con el candado tomado.
+     *
+     * @return posición empezando en 0, o -1 si no está en el repositorio
+     */
+    private int indexOf(Candidate candidate, long key) {
+        int firstEqual = countLessThan(candidate, key);
+        if (firstEqual == size(root)) {
+            return -1;
+        }
+        Deque<Node> path = pathTo(firstEqual);
+        int position = firstEqual;
+        while (!path.isEmpty()) {
+            Node node = path.pop();
+            if (compare(candidate, key, node) != 0) {
+                return -1;
+            }
+            if (node.candidate == candidate || node.candidate.equals(candidate)) {
+                return position;
+            }
+            position++;
+            pushLeftSpine(path, node.right);
+        }
+        return -1;
+    }
+
+    private Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (compare(node, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        update(subtree);
+        return subtree;
+    }
+
+    private Node removeAt(Node subtree, int index) {
+        int leftSize = size(subtree.left);
+        if (index < leftSize) {
+            subtree.left = removeAt(subtree.left, index);
+        } else if (index > leftSize) {
+            subtree.right = removeAt(subtree.right, index - leftSize - 1);
+        } else {
+            return merge(subtree.left, subtree.right);
+        }
+        update(subtree);
+        return subtree;
+    }
+
+    /**
+     * Une dos subárboles donde todo {@code left} va antes que todo {@code right}, respetando las prioridades.
+     */
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    /**
+     * @return número de nodos estrictamente por delante del candidato (sin contar el orden de llegada)
+     */
+    private int countLessThan(Candidate candidate, long key) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(candidate, key, node) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Construye la pila de recorrido en orden cuya cima es el nodo en la posición indicada.
+     */
+    private Deque<Node> pathTo(int index) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                path.push(node);
+                node = node.left;
+            } else if (index == leftSize) {
+                path.push(node);
+                break;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return path;
+    }
+
+    private void pushLeftSpine(Deque<Node> path, Node node) {
+        while (node != null) {
+            path.push(node);
+            node = node.left;
+        }
+    }
+
+    private int compare(Node a, Node b) {
+        int cmp = compare(a.candidate, a.key, b);
+        return cmp != 0 ? cmp : Long.compare(a.sequence, b.sequence);
+    }
+
+    private int compare(Candidate candidate, long key, Node node) {
+        int cmp = Long.compare(key, node.key);
+        return cmp != 0 ? cmp : comparator.compare(candidate, node.candidate);
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final Candidate candidate;
+        private final long key;
+        private final long sequence;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(Candidate candidate, long key, long sequence, int priority) {
+            this.candidate = candidate;
+            this.key = key;
+            this.sequence = sequence;
+            this.priority = priority;
+        }
+    }
+}
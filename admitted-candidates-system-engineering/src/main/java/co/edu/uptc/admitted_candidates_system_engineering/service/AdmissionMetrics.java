@@ -0,0 +1,288 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.StageMetrics;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mide cada etapa del proceso de admisión (tiempo, registros por segundo, bytes leídos y
+ * memoria reservada) y la publica por JMX y como evento de Flight Recorder.
+ * Con admission.metrics.enabled=false las etapas no miden nada y no se registra el MBean,
+ * así que el costo es una llamada a un método vacío por etapa.
+ * Aplica principio Single Responsibility: solo mide y publica; no imprime ni decide el flujo.
+ */
+@Component
+public class AdmissionMetrics implements IAdmissionMetrics, AdmissionMetricsMXBean {
+
+    static final String OBJECT_NAME = "co.edu.uptc.admission:type=AdmissionMetrics";
+
+    private static final Stage DISABLED_STAGE = new Stage() {
+        @Override
+        public void setRecords(long records) {
+        }
+
+        @Override
+        public void setBytesRead(long bytesRead) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /** La memoria reservada por hilo es una extensión de HotSpot; en otra JVM se informa -1. */
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter(ManagementFactory.getThreadMXBean());
+    /**
+     * Total reservado por los hilos de {@link #workerThreads} que terminaron mientras había
+     * etapas abiertas, por identificador de hilo. Se vacía cuando se cierra la última etapa.
+     */
+    private static final Map<Long, Long> RETIRED = new HashMap<>();
+    private static int openStages;
+
+    private final ICandidateRepository candidateRepository;
+    private final boolean enabled;
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+    private long bytesRead;
+    private ObjectName registeredName;
+
+    @Autowired
+    public AdmissionMetrics(ICandidateRepository candidateRepository,
+                            @Value("${admission.metrics.enabled:false}") boolean enabled) {
+        this.candidateRepository = candidateRepository;
+        this.enabled = enabled;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter(ThreadMXBean bean) {
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    @PostConstruct
+    public void register() throws JMException {
+        if (!enabled) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            // Otro contexto de Spring en la misma JVM (por ejemplo en pruebas) ya lo publicó
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+        registeredName = name;
+    }
+
+    @PreDestroy
+    public void unregister() throws JMException {
+        if (registeredName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            registeredName = null;
+        }
+    }
+
+    @Override
+    public Stage startStage(String name) {
+        return enabled ? new RunningStage(name) : DISABLED_STAGE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized List<StageMetrics> getStages() {
+        List<StageMetrics> stages = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            stages.add(counter.toMetrics());
+        }
+        return stages;
+    }
+
+    @Override
+    public int getRepositorySize() {
+        return candidateRepository.getTotalCandidates();
+    }
+
+    @Override
+    public synchronized long getBytesRead() {
+        return bytesRead;
+    }
+
+    @Override
+    public synchronized void reset() {
+        counters.clear();
+        bytesRead = 0;
+    }
+
+    private synchronized void record(String name, long nanos, long records, long stageBytes, long allocated) {
+        counters.computeIfAbsent(name, Counter::new).add(nanos, records, stageBytes, allocated);
+        if (stageBytes > 0) {
+            bytesRead = stageBytes;
+        }
+    }
+
+    /**
+     * Fábrica de hilos para los ForkJoinPool del proceso: cada hilo informa al terminar lo que
+     * reservó, así las etapas cuentan también el trabajo de un pool que se apaga o de un hilo
+     * que el pool retira por inactividad antes de que la etapa se cierre.
+     *
+     * @param prefix prefijo del nombre de los hilos, seguido de un número
+     */
+    static ForkJoinPool.ForkJoinWorkerThreadFactory workerThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return pool -> {
+            ForkJoinWorkerThread thread = new MeasuredWorkerThread(pool);
+            thread.setName(prefix + count.incrementAndGet());
+            return thread;
+        };
+    }
+
+    /**
+     * Bytes reservados hasta ahora por cada hilo vivo y por los hilos medidos que ya terminaron,
+     * por identificador de hilo. Abre o cierra una etapa en la cuenta que decide cuándo se
+     * pueden olvidar los hilos terminados.
+     */
+    private static Map<Long, Long> allocatedByThread(int stageDelta) {
+        synchronized (RETIRED) {
+            long[] ids = THREADS.getAllThreadIds();
+            long[] allocated = THREADS.getThreadAllocatedBytes(ids);
+            Map<Long, Long> byThread = new HashMap<>((ids.length + RETIRED.size()) * 2);
+            byThread.putAll(RETIRED);
+            for (int i = 0; i < ids.length; i++) {
+                if (allocated[i] >= 0) {
+                    byThread.merge(ids[i], allocated[i], Math::max);
+                }
+            }
+            openStages += stageDelta;
+            if (openStages == 0) {
+                RETIRED.clear();
+            }
+            return byThread;
+        }
+    }
+
+    private static final class MeasuredWorkerThread extends ForkJoinWorkerThread {
+
+        MeasuredWorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            if (THREADS != null) {
+                long allocated = THREADS.getCurrentThreadAllocatedBytes();
+                synchronized (RETIRED) {
+                    // Sin etapas abiertas nadie va a restar este hilo; no hace falta guardarlo
+                    if (openStages > 0 && allocated >= 0) {
+                        RETIRED.put(getId(), allocated);
+                    }
+                }
+            }
+            super.onTermination(exception);
+        }
+    }
+
+    /**
+     * Etapa medida. La memoria es la diferencia, hilo por hilo, entre el inicio y el cierre;
+     * un hilo medido que termina dentro de la etapa aporta lo que informó al terminar.
+     */
+    private final class RunningStage implements Stage {
+
+        private final String name;
+        private final AdmissionStageEvent event = new AdmissionStageEvent();
+        private final Map<Long, Long> allocatedAtStart;
+        private final long start;
+        private long records;
+        private long stageBytes;
+
+        RunningStage(String name) {
+            this.name = name;
+            this.allocatedAtStart = THREADS != null ? allocatedByThread(1) : null;
+            event.begin();
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void setRecords(long records) {
+            this.records = records;
+        }
+
+        @Override
+        public void setBytesRead(long bytesRead) {
+            this.stageBytes = bytesRead;
+        }
+
+        @Override
+        public void close() {
+            long nanos = System.nanoTime() - start;
+            event.end();
+            long allocated = -1;
+            if (allocatedAtStart != null) {
+                allocated = 0;
+                for (Map.Entry<Long, Long> thread : allocatedByThread(-1).entrySet()) {
+                    allocated += thread.getValue() - allocatedAtStart.getOrDefault(thread.getKey(), 0L);
+                }
+            }
+            record(name, nanos, records, stageBytes, allocated);
+            if (event.shouldCommit()) {
+                event.stage = name;
+                event.records = records;
+                event.bytesRead = stageBytes;
+                event.allocatedBytes = allocated;
+                event.commit();
+            }
+        }
+    }
+
+    private static final class Counter {
+        private final String name;
+        private long executions;
+        private long totalNanos;
+        private long lastNanos;
+        private long lastRecords;
+        private long lastBytesRead;
+        private long lastAllocatedBytes;
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        void add(long nanos, long records, long bytesRead, long allocated) {
+            executions++;
+            totalNanos += nanos;
+            lastNanos = nanos;
+            lastRecords = records;
+            lastBytesRead = bytesRead;
+            lastAllocatedBytes = allocated;
+        }
+
+        StageMetrics toMetrics() {
+            return new StageMetrics(name, executions, totalNanos, lastNanos, lastRecords,
+                lastBytesRead, lastAllocatedBytes);
+        }
+    }
+}
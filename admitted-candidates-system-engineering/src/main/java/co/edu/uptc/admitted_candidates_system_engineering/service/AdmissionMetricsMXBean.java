@@ -0,0 +1,32 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.StageMetrics;
+
+import java.util.List;
+
+/**
+ * Vista JMX de las métricas de admisión (jconsole, VisualVM o cualquier agente JMX).
+ * El nombre termina en MXBean porque así lo exige JMX para publicar tipos abiertos.
+ */
+public interface AdmissionMetricsMXBean {
+
+    /**
+     * @return candidatos guardados en el repositorio en este momento
+     */
+    int getRepositorySize();
+
+    /**
+     * @return bytes leídos de la fuente en la última carga
+     */
+    long getBytesRead();
+
+    /**
+     * @return cifras de cada etapa
+     */
+    List<StageMetrics> getStages();
+
+    /**
+     * Borra las cifras acumuladas de todas las etapas.
+     */
+    void reset();
+}
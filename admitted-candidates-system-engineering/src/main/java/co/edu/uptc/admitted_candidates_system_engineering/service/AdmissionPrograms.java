@@ -0,0 +1,90 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Programas académicos configurados en {@code admission.programs[i].*}.
+ * Cada programa tiene su código (el que los aspirantes usan en sus elecciones), un título,
+ * sus cupos y sus propias reglas de ranking. El primer programa es el principal: recibe
+ * también a los aspirantes que no indicaron ningún programa.
+ * Aplica principio Single Responsibility: solo describe la oferta, no la clasifica.
+ */
+@Component
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionPrograms {
+
+    private List<Program> programs = new ArrayList<>();
+
+    public List<Program> getPrograms() {
+        return programs;
+    }
+
+    public void setPrograms(List<Program> programs) {
+        this.programs = programs == null ? new ArrayList<>() : programs;
+    }
+
+    /**
+     * Definición de un programa.
+     */
+    public static class Program {
+        private String code;
+        private String title;
+        private int seats;
+        private String rules;
+
+        public Program() {
+        }
+
+        public Program(String code, String title, int seats, String rules) {
+            this.code = code;
+            this.title = title;
+            this.seats = seats;
+            this.rules = rules;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        /**
+         * @return título del programa; si no se configuró, el código
+         */
+        public String getTitle() {
+            return title == null || title.isBlank() ? code : title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        /**
+         * @return cupos del programa; 0 admite a todos sus aspirantes
+         */
+        public int getSeats() {
+            return seats;
+        }
+
+        public void setSeats(int seats) {
+            this.seats = seats;
+        }
+
+        /**
+         * @return reglas de ranking en el formato de {@link RankingRules}; vacío usa las predeterminadas
+         */
+        public String getRules() {
+            return rules;
+        }
+
+        public void setRules(String rules) {
+            this.rules = rules;
+        }
+    }
+}
@@ -1,11 +1,40 @@
 package co.edu.uptc.admitted_candidates_system_engineering.service;
 
+import co.edu.uptc.admitted_candidates_system_engineering.model.AdmissionResult;
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.EthnicityClassifier;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingPools;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingSnapshot;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
 import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.IRankedCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Servicio principal para gestionar el proceso de admisión de candidatos.
@@ -16,41 +45,527 @@ import java.util.List;
 @Service
 public class AdmissionService implements IAdmissionService {
     
+    /** Candidatos pedidos al repositorio ordenado en cada tramo de un recorrido perezoso. */
+    private static final int STREAM_CHUNK_SIZE = 1024;
+    /** Los lotes cuyo nombre lo contiene (por ejemplo lote-3.delete.csv) retiran aspirantes. */
+    static final String DELETE_MARKER = ".delete.";
+    
     private final ICandidateRepository candidateRepository;
     private final ISorter<Candidate> candidateSorter;
     private final CandidateDataLoader dataLoader;
+    private final ParallelCandidateLoader parallelLoader;
+    private final PooledRankingService pooledRankingService;
+    private final ScoreAnalyticsService scoreAnalyticsService;
+    private final MultiProgramAdmissionService multiProgramService;
+    private final EthnicityClassifier ethnicityClassifier;
+    private final CandidateSnapshotStore snapshotStore;
+    private final CandidateDeduplicator deduplicator;
+    private final boolean parallelLoading;
+    private IngestionReport lastIngestionReport;
+    /** Fuente con que se selló el repositorio persistente, o null si no hay uno. */
+    private SourceStamp sealedSource;
+    /** Los datos se recuperaron sellados del repositorio persistente, con sus lotes aplicados. */
+    private boolean restored;
+    /** Identidad del aspirante -> candidatos guardados; se arma con el primer lote incremental. */
+    private Map<String, List<Candidate>> applicants;
+    /** En el repositorio fuera del heap el índice guarda claves por fila en lugar de candidatos. */
+    private ApplicantRows applicantRows;
+    private final AtomicReference<RankingSnapshot> rankingSnapshot = new AtomicReference<>();
     
     @Autowired
     public AdmissionService(ICandidateRepository candidateRepository,
                            ISorter<Candidate> candidateSorter,
-                           CandidateDataLoader dataLoader) {
+                           CandidateDataLoader dataLoader,
+                           ParallelCandidateLoader parallelLoader,
+                           PooledRankingService pooledRankingService,
+                           ScoreAnalyticsService scoreAnalyticsService,
+                           MultiProgramAdmissionService multiProgramService,
+                           EthnicityClassifier ethnicityClassifier,
+                           CandidateSnapshotStore snapshotStore,
+                           CandidateDeduplicator deduplicator,
+                           @Value("${admission.loader.mode:streaming}") String loaderMode) {
         this.candidateRepository = candidateRepository;
         this.candidateSorter = candidateSorter;
         this.dataLoader = dataLoader;
+        this.parallelLoader = parallelLoader;
+        this.pooledRankingService = pooledRankingService;
+        this.scoreAnalyticsService = scoreAnalyticsService;
+        this.multiProgramService = multiProgramService;
+        this.ethnicityClassifier = ethnicityClassifier;
+        this.snapshotStore = snapshotStore;
+        this.deduplicator = deduplicator;
+        this.parallelLoading = "parallel".equalsIgnoreCase(loaderMode.trim());
     }
     
+    /**
+     * {@inheritDoc}
+     * Una segunda llamada reemplaza los datos cargados en lugar de agregarlos otra vez.
+     */
     @Override
-    public void initializeSystem() throws Exception {
+    public synchronized void initializeSystem() throws Exception {
         try {
-            List<Candidate> candidates = dataLoader.loadDefaultCandidates();
-            
-            for (Candidate candidate : candidates) {
-                candidateRepository.addCandidate(candidate);
-            }
-            
+            applicants = null;
+            applicantRows = null;
+            sealedSource = null;
+            restored = false;
+            lastIngestionReport = loadCandidates();
         } catch (Exception e) {
             throw new Exception("Error al inicializar el sistema: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Carga la fuente configurada en el repositorio y deja publicado el ranking.
+     * Si el repositorio fuera del heap ya guarda en su archivo la carga de esta misma fuente
+     * (con los lotes que se le aplicaron después), se reutiliza tal cual. Si hay un snapshot binario vigente se usa en lugar del JSON: trae
+     * la clasificación étnica y el orden ya calculados, así que no se interpreta JSON ni se ordena.
+     * El sello de la fuente solo se calcula si el snapshot o el repositorio persistente lo guardan:
+     * para un recurso del classpath exige leerlo completo.
+     */
+    private IngestionReport loadCandidates() throws IOException {
+        Path file = dataLoader.resolveConfiguredFile();
+        OffHeapCandidateRepository stored = persistentStore();
+        SourceStamp source = snapshotStore.isEnabled() || stored != null ? dataLoader.stampConfiguredSource() : null;
+        if (stored != null && stored.holdsSource(source, snapshotStore.getFingerprint())) {
+            sealedSource = source;
+            restored = true;
+            IngestionReport report = new IngestionReport("offheap", 0);
+            report.addStage("reuse", stored.getTotalCandidates(), 0);
+            return report;
+        }
+        
+        candidateRepository.clear();
+        IngestionReport report;
+        if (snapshotStore.isFresh(source)) {
+            report = loadSnapshot();
+        } else {
+            report = loadSource(file);
+            refreshRanking();
+            if (snapshotStore.isEnabled()) {
+                // Se guarda el ranking para que el próximo arranque no repita la carga ni el orden
+                long start = System.nanoTime();
+                List<Candidate> ranked = getRankingSnapshot().getRankedCandidates();
+                long written = snapshotStore.write(ranked, source);
+                report.addStage("snapshot", written < 0 ? 0 : ranked.size(), System.nanoTime() - start);
+            }
+        }
+        if (stored != null) {
+            // Se sellan los registros con la fuente para reutilizarlos en el próximo arranque
+            long start = System.nanoTime();
+            stored.markSource(source, snapshotStore.getFingerprint());
+            sealedSource = source;
+            report.addStage("persist", stored.getTotalCandidates(), System.nanoTime() - start);
+        }
+        return report;
+    }
+    
+    /**
+     * El modo paralelo necesita un archivo JSON en disco para mapearlo en memoria;
+     * si la fuente solo existe como recurso se usa la carga en streaming. CSV y NDJSON
+     * siempre se leen con su lector de bytes, que ya trabaja sobre el archivo mapeado.
+     * Todo candidato pasa por la etapa de duplicados antes de llegar al repositorio; el
+     * repositorio fuera del heap recibe cada uno al llegar y retira por fila los reemplazados.
+     */
+    private IngestionReport loadSource(Path file) throws IOException {
+        CandidateDeduplicator.Session dedup = candidateRepository instanceof OffHeapCandidateRepository
+            ? deduplicator.open(new StoredRows((OffHeapCandidateRepository) candidateRepository))
+            : deduplicator.open(this::storeCandidate);
+        IngestionReport report;
+        CandidateDataLoader.Format format = dataLoader.formatOf(file);
+        if (parallelLoading && file != null && format == CandidateDataLoader.Format.JSON) {
+            report = parallelLoader.load(file, dedup);
+        } else {
+            long start = System.nanoTime();
+            // Cada candidato pasa directo del parser al repositorio, sin lista intermedia
+            long loaded = dataLoader.streamConfiguredCandidates(dedup);
+            String mode = format == CandidateDataLoader.Format.JSON ? "streaming" : format.name().toLowerCase(Locale.ROOT);
+            report = new IngestionReport(mode, file != null ? Files.size(file) : 0);
+            report.addStage(format == CandidateDataLoader.Format.JSON ? "stream" : "parse", loaded, System.nanoTime() - start);
+        }
+        
+        long start = System.nanoTime();
+        long removed = dedup.finish();
+        if (deduplicator.getPolicy() != CandidateDeduplicator.Policy.NONE) {
+            report.addStage("dedup", report.getTotalRecords() - removed, System.nanoTime() - start);
+            report.setDuplicatesRemoved(removed);
+        }
+        return report;
+    }
+    
+    /**
+     * @return el repositorio fuera del heap si guarda sus registros en un archivo; si no, null
+     */
+    private OffHeapCandidateRepository persistentStore() {
+        if (candidateRepository instanceof OffHeapCandidateRepository
+                && ((OffHeapCandidateRepository) candidateRepository).isPersistent()) {
+            return (OffHeapCandidateRepository) candidateRepository;
+        }
+        return null;
+    }
+    
+    /**
+     * Carga el snapshot binario; los candidatos llegan en orden de ranking, por lo que
+     * el ranking se publica directamente con ese orden.
+     */
+    private IngestionReport loadSnapshot() throws IOException {
+        long start = System.nanoTime();
+        List<Candidate> ranked = new ArrayList<>();
+        long loaded = snapshotStore.load(candidate -> {
+            candidateRepository.addCandidate(candidate);
+            ranked.add(candidate);
+        });
+        rankingSnapshot.set(new RankingSnapshot(ranked, candidateSorter.getComparator()));
+        IngestionReport report = new IngestionReport("snapshot", Files.size(snapshotStore.getSnapshotFile()));
+        report.addStage("snapshot", loaded, System.nanoTime() - start);
+        return report;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * Dentro del lote, el último registro de cada aspirante reemplaza a los anteriores. Solo se
+     * interpreta el lote: los candidatos reemplazados se ubican con un índice por identidad y
+     * el ranking publicado se actualiza intercalando los cambios, sin reordenar a los demás.
+     * Un repositorio persistente se vuelve a sellar, así que conserva el lote tras un reinicio.
+     */
+    @Override
+    public synchronized IngestionReport applyDelta(Path file) throws IOException {
+        boolean deletes = file.getFileName().toString().toLowerCase(Locale.ROOT).contains(DELETE_MARKER);
+        long start = System.nanoTime();
+        Map<String, Candidate> batch = new LinkedHashMap<>();
+        long read = dataLoader.streamCandidatesFromFile(file,
+            candidate -> batch.put(CandidateDeduplicator.identityOf(candidate), candidate));
+        IngestionReport report = new IngestionReport(deletes ? "delete" : "delta", Files.size(file));
+        report.addStage("parse", read, System.nanoTime() - start);
+        
+        start = System.nanoTime();
+        OffHeapCandidateRepository offHeap = candidateRepository instanceof OffHeapCandidateRepository
+            ? (OffHeapCandidateRepository) candidateRepository : null;
+        List<Candidate> removed = offHeap != null ? removeStoredRows(offHeap, batch) : removeIndexed(batch);
+        List<Candidate> added = new ArrayList<>();
+        if (!deletes) {
+            for (Map.Entry<String, Candidate> entry : batch.entrySet()) {
+                Candidate candidate = entry.getValue();
+                ethnicityClassifier.classify(candidate);
+                candidateRepository.addCandidate(candidate);
+                if (offHeap != null) {
+                    applicantRows.append(CandidateDeduplicator.identityKeyOf(candidate));
+                } else {
+                    applicants.put(entry.getKey(), List.of(candidate));
+                }
+                added.add(candidate);
+            }
+        }
+        report.addStage("apply", removed.size() + added.size(), System.nanoTime() - start);
+        
+        start = System.nanoTime();
+        refreshRanking(removed, added);
+        report.addStage("rank", added.size(), System.nanoTime() - start);
+        report.setCandidatesRemoved(removed.size());
+        OffHeapCandidateRepository stored = persistentStore();
+        if (stored != null && sealedSource != null) {
+            // El sello pasa a cubrir la fuente más los lotes aplicados: un reinicio los conserva
+            stored.markSource(sealedSource, snapshotStore.getFingerprint());
+        }
+        return report;
+    }
+    
+    /**
+     * Retira del repositorio los candidatos guardados con alguna identidad del lote, ubicándolos
+     * con el índice de aspirantes por identidad. Los candidatos de un repositorio en el heap ya
+     * están en memoria, así que el índice solo agrega las referencias. Se arma en un recorrido
+     * del repositorio la primera vez que llega un lote, así que una carga sin lotes no lo paga.
+     */
+    private List<Candidate> removeIndexed(Map<String, Candidate> batch) {
+        if (applicants == null) {
+            Map<String, List<Candidate>> index = new HashMap<>(candidateRepository.getTotalCandidates() * 4 / 3 + 1);
+            candidateRepository.forEachCandidate(candidate -> index
+                .computeIfAbsent(CandidateDeduplicator.identityOf(candidate), key -> new ArrayList<>(1))
+                .add(candidate));
+            applicants = index;
+        }
+        List<Candidate> removed = new ArrayList<>();
+        for (String identity : batch.keySet()) {
+            List<Candidate> previous = applicants.remove(identity);
+            if (previous != null) {
+                removed.addAll(previous);
+            }
+        }
+        candidateRepository.removeCandidates(removed);
+        return removed;
+    }
+
+    /**
+     * Igual que {@link #removeIndexed} para el repositorio fuera del heap, con un índice de claves
+     * por fila que no guarda candidatos: solo se reconstruyen las filas cuya clave coincide con la
+     * de alguna identidad del lote, para confirmarla y para actualizar el ranking publicado.
+     */
+    private List<Candidate> removeStoredRows(OffHeapCandidateRepository store, Map<String, Candidate> batch) {
+        if (applicantRows == null) {
+            applicantRows = new ApplicantRows(store);
+        }
+        long[] keys = new long[batch.size()];
+        int next = 0;
+        for (Candidate candidate : batch.values()) {
+            keys[next++] = CandidateDeduplicator.identityKeyOf(candidate);
+        }
+        Arrays.sort(keys);
+        
+        int[] rows = applicantRows.rowsWithKeys(keys);
+        List<Candidate> removed = new ArrayList<>();
+        int confirmed = 0;
+        for (int row : rows) {
+            Candidate stored = store.getCandidate(row);
+            if (batch.containsKey(CandidateDeduplicator.identityOf(stored))) {
+                rows[confirmed++] = row;
+                removed.add(stored);
+            }
+        }
+        rows = Arrays.copyOf(rows, confirmed);
+        store.removeRows(rows);
+        applicantRows.removeRows(rows);
+        return removed;
+    }
+    
+    /**
+     * Clasifica la etnia una sola vez al ingresar y guarda el candidato en el repositorio.
+     */
+    private void storeCandidate(Candidate candidate) {
+        ethnicityClassifier.classify(candidate);
+        candidateRepository.addCandidate(candidate);
+    }
+    
     @Override
     public List<Candidate> processAdmittedCandidates() {
-        List<Candidate> allCandidates = candidateRepository.getAllCandidates();
-        return candidateSorter.sort(allCandidates);
+        if (candidateRepository instanceof IRankedCandidateRepository) {
+            // El índice ya mantiene el orden: no hace falta copiar y reordenar
+            return ((IRankedCandidateRepository) candidateRepository).getRankedCandidates();
+        }
+        return getRankingSnapshot().getRankedCandidates();
+    }
+    
+    @Override
+    public List<Candidate> page(int offset, int limit) {
+        if (candidateRepository instanceof IRankedCandidateRepository) {
+            return ((IRankedCandidateRepository) candidateRepository).getRankedRange(offset, limit);
+        }
+        return getRankingSnapshot().page(offset, limit);
+    }
+    
+    @Override
+    public Stream<Candidate> streamRanked() {
+        if (candidateRepository instanceof IRankedCandidateRepository) {
+            // Se piden tramos al índice a medida que se consumen, sin materializar el ranking
+            IRankedCandidateRepository ranked = (IRankedCandidateRepository) candidateRepository;
+            Iterator<Candidate> iterator = new RankedRangeIterator(ranked);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+        return getRankingSnapshot().stream();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * El candidato buscado pasa por el clasificador configurado, igual que los que se cargan:
+     * su bolsa decide la posición y puede llegar sin clasificar, por ejemplo desde una consulta.
+     */
+    @Override
+    public int rankOf(Candidate candidate) {
+        if (candidate == null) {
+            return -1;
+        }
+        ethnicityClassifier.classify(candidate);
+        if (candidateRepository instanceof IRankedCandidateRepository) {
+            return ((IRankedCandidateRepository) candidateRepository).rankOf(candidate);
+        }
+        return getRankingSnapshot().rankOf(candidate);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * Se calcula la primera vez que se pide; después solo se reemplaza cuando cambian los datos.
+     */
+    @Override
+    public RankingSnapshot getRankingSnapshot() {
+        RankingSnapshot snapshot = rankingSnapshot.get();
+        if (snapshot == null) {
+            synchronized (rankingSnapshot) {
+                snapshot = rankingSnapshot.get();
+                if (snapshot == null) {
+                    snapshot = buildRankingSnapshot();
+                    rankingSnapshot.set(snapshot);
+                }
+            }
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Recalcula el ranking tras un cambio en los datos y lo publica de una sola vez.
+     * Mientras se calcula, los lectores siguen viendo el ranking anterior completo.
+     * Si nadie ha pedido el ranking todavía, no se calcula hasta que se necesite.
+     */
+    private void refreshRanking() {
+        synchronized (rankingSnapshot) {
+            if (rankingSnapshot.get() != null) {
+                rankingSnapshot.set(buildRankingSnapshot());
+            }
+        }
+    }
+    
+    /**
+     * Publica el ranking con los cambios de un lote. El repositorio ordenado ya tiene el orden
+     * al día; con los demás se intercalan los agregados en el ranking vigente.
+     */
+    private void refreshRanking(List<Candidate> removed, List<Candidate> added) {
+        synchronized (rankingSnapshot) {
+            RankingSnapshot current = rankingSnapshot.get();
+            if (current == null) {
+                return;
+            }
+            rankingSnapshot.set(candidateRepository instanceof IRankedCandidateRepository
+                ? buildRankingSnapshot()
+                : current.withChanges(removed, candidateSorter.sort(added)));
+        }
+    }
+    
+    private RankingSnapshot buildRankingSnapshot() {
+        List<Candidate> ranked = candidateRepository instanceof IRankedCandidateRepository
+            ? ((IRankedCandidateRepository) candidateRepository).getRankedCandidates()
+            : candidateSorter.sort(candidateRepository.getAllCandidates());
+        return new RankingSnapshot(ranked, candidateSorter.getComparator());
+    }
+    
+    @Override
+    public AdmissionResult processAdmittedCandidates(int seats) {
+        if (candidateRepository instanceof IRankedCandidateRepository) {
+            IRankedCandidateRepository ranked = (IRankedCandidateRepository) candidateRepository;
+            return new AdmissionResult(ranked.getTopCandidates(seats), seats, ranked.getTotalCandidates());
+        }
+        // Selección parcial: O(n log k) sin copiar ni ordenar todo el repositorio
+        TopKSelector<Candidate> selector = new TopKSelector<>(seats, candidateSorter.getComparator());
+        candidateRepository.forEachCandidate(selector);
+        return new AdmissionResult(selector.getSelected(), seats, (int) selector.getSeen());
+    }
+    
+    @Override
+    public RankingPools processRankingPools(int seats) {
+        return pooledRankingService.rank(candidateRepository, seats);
+    }
+    
+    @Override
+    public ScoreAnalytics analyzeScores(int seats) {
+        return scoreAnalyticsService.analyze(candidateRepository, candidateSorter, seats);
+    }
+    
+    @Override
+    public ProgramAdmissions processPrograms() {
+        return multiProgramService.rank(columnarStore());
+    }
+    
+    @Override
+    public SeatAssignment assignSeats() {
+        return multiProgramService.assignSeats(columnarStore());
+    }
+    
+    /**
+     * Con el repositorio columnar todos los programas leen sus columnas directamente; con
+     * otro repositorio se arma una sola copia columnar que comparten todos los programas.
+     */
+    private ColumnarCandidateRepository columnarStore() {
+        if (candidateRepository instanceof ColumnarCandidateRepository) {
+            return (ColumnarCandidateRepository) candidateRepository;
+        }
+        ColumnarCandidateRepository store = new ColumnarCandidateRepository();
+        candidateRepository.forEachCandidate(store::addCandidate);
+        return store;
+    }
+    
+    @Override
+    public synchronized boolean retainsAppliedBatches() {
+        return restored;
+    }
+    
+    @Override
+    public IngestionReport getLastIngestionReport() {
+        return lastIngestionReport;
     }
     
     @Override
     public int getTotalCandidates() {
         return candidateRepository.getTotalCandidates();
     }
+    
+    /**
+     * Filas de una carga en el repositorio fuera del heap: cada candidato se guarda al llegar, la
+     * deduplicación solo reconstruye las filas cuya clave coincide y los reemplazados se retiran
+     * juntos al cerrar, en un solo recorrido.
+     */
+    private final class StoredRows implements CandidateDeduplicator.RowStore {
+        
+        private final OffHeapCandidateRepository store;
+        private final int firstRow;
+        
+        StoredRows(OffHeapCandidateRepository store) {
+            this.store = store;
+            this.firstRow = store.getTotalCandidates();
+        }
+        
+        @Override
+        public void accept(Candidate candidate) {
+            storeCandidate(candidate);
+        }
+        
+        @Override
+        public Candidate get(int row) {
+            return store.getCandidate(firstRow + row);
+        }
+        
+        @Override
+        public void finish(int[] replacedRows) {
+            for (int i = 0; i < replacedRows.length; i++) {
+                replacedRows[i] += firstRow;
+            }
+            store.removeRows(replacedRows);
+        }
+    }
+    
+    /**
+     * Recorre un repositorio ordenado por tramos de tamaño fijo.
+     * Cada tramo se pide cuando se agota el anterior, así que solo uno vive en memoria a la vez.
+     */
+    private static final class RankedRangeIterator implements Iterator<Candidate> {
+        
+        private final IRankedCandidateRepository repository;
+        private List<Candidate> chunk = List.of();
+        private int offset;
+        private int index;
+        private boolean exhausted;
+        
+        RankedRangeIterator(IRankedCandidateRepository repository) {
+            this.repository = repository;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (index < chunk.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            chunk = repository.getRankedRange(offset, STREAM_CHUNK_SIZE);
+            offset += chunk.size();
+            index = 0;
+            exhausted = chunk.size() < STREAM_CHUNK_SIZE;
+            return !chunk.isEmpty();
+        }
+        
+        @Override
+        public Candidate next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.get(index++);
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Flight Recorder para una etapa del proceso de admisión. Con
+ * {@code -XX:StartFlightRecording} o {@code jcmd <pid> JFR.start} las etapas aparecen en la
+ * grabación junto a las pausas de GC y los muestreos de CPU; sin grabación activa no cuesta nada.
+ */
+@Name(AdmissionStageEvent.NAME)
+@Label("Admission Stage")
+@Category({"Admission"})
+@Description("Etapa del proceso de admisión: carga, clasificación o impresión")
+class AdmissionStageEvent extends Event {
+
+    static final String NAME = "co.edu.uptc.admission.Stage";
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Records")
+    long records;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,76 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+
+import java.util.Arrays;
+
+/**
+ * Índice de aspirantes del repositorio fuera del heap: la clave de identidad de 64 bits de cada
+ * registro, por fila. Ocupa 8 bytes por aspirante y ningún objeto, así que no devuelve al heap
+ * lo que el repositorio sacó de él. Sigue al repositorio mientras solo se modifique con
+ * {@link #append} y {@link #removeRows}, en el mismo orden que los registros.
+ */
+final class ApplicantRows {
+
+    private long[] keys;
+    private int size;
+
+    /**
+     * Recorre el repositorio una vez; cada candidato se reconstruye solo para calcular su clave.
+     */
+    ApplicantRows(OffHeapCandidateRepository repository) {
+        this.keys = new long[Math.max(16, repository.getTotalCandidates())];
+        repository.scan(cursor -> keys[cursor.getRow()] = CandidateDeduplicator.identityKeyOf(cursor.toCandidate()));
+        this.size = repository.getTotalCandidates();
+    }
+
+    /**
+     * @param sortedKeys claves buscadas, en orden creciente
+     * @return filas cuya clave está entre las buscadas, en orden creciente; pueden incluir
+     *         colisiones que el llamador confirma con la identidad completa
+     */
+    int[] rowsWithKeys(long[] sortedKeys) {
+        int[] rows = new int[Math.min(size, 16)];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (Arrays.binarySearch(sortedKeys, keys[row]) >= 0) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, Math.min(size, rows.length * 2));
+                }
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Refleja {@link OffHeapCandidateRepository#removeRows}: retira las filas y corre las siguientes.
+     *
+     * @param sortedRows filas retiradas, en orden creciente y sin repetidos
+     */
+    void removeRows(int[] sortedRows) {
+        if (sortedRows.length == 0) {
+            return;
+        }
+        int kept = sortedRows[0];
+        int next = 0;
+        for (int row = sortedRows[0]; row < size; row++) {
+            if (next < sortedRows.length && sortedRows[next] == row) {
+                next++;
+            } else {
+                keys[kept++] = keys[row];
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Registra la clave del candidato que se acaba de agregar al final del repositorio.
+     */
+    void append(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[size++] = key;
+    }
+}
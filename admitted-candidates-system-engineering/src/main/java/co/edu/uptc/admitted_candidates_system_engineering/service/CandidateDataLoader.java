@@ -1,57 +1,273 @@
 package co.edu.uptc.admitted_candidates_system_engineering.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
 
 /**
- * Servicio para cargar datos de candidatos desde archivo JSON.
+ * Servicio para cargar datos de candidatos desde archivo JSON, CSV o NDJSON.
  * Aplica principio KISS: Lógica simple y directa para carga de datos.
  * Aplica principio DRY: Centraliza la lógica de deserialización JSON.
  * Aplica principio YAGNI: Solo funcionalidad de carga necesaria.
  */
 @Service
 public class CandidateDataLoader {
-    
+
+    private static final String DEFAULT_FILENAME = "candidates.json";
+
     private final ObjectMapper objectMapper;
-    
+    private final ObjectReader candidateReader;
+    private final String dataFile;
+    private final Format format;
+
+    /**
+     * Formato del archivo de candidatos.
+     */
+    public enum Format {
+        /** Arreglo JSON de objetos candidato, leído con Jackson. */
+        JSON,
+        /** CSV con encabezado, leído con {@link CsvCandidateParser}. */
+        CSV,
+        /** Un objeto JSON por línea, leído con {@link NdjsonCandidateParser}. */
+        NDJSON
+    }
+
     public CandidateDataLoader() {
+        this("");
+    }
+
+    public CandidateDataLoader(String dataFile) {
+        this(dataFile, "auto");
+    }
+
+    /**
+     * @param dataFile ruta en el sistema de archivos del archivo de candidatos;
+     *                 si está vacía se usa candidates.json del classpath
+     * @param format json, csv, ndjson o auto (según la extensión: .csv, .ndjson o .jsonl; si no, JSON)
+     */
+    @Autowired
+    public CandidateDataLoader(@Value("${admission.data.file:}") String dataFile,
+                               @Value("${admission.data.format:auto}") String format) {
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
+        this.candidateReader = objectMapper.readerFor(Candidate.class);
+        this.dataFile = dataFile == null ? "" : dataFile.trim();
+        String normalized = format == null ? "" : format.trim().toUpperCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.equals("AUTO")) {
+            this.format = null;
+        } else {
+            try {
+                this.format = Format.valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato de datos desconocido: " + format
+                    + " (se esperaba json, csv, ndjson o auto)", e);
+            }
+        }
+    }
+
+    /**
+     * Formato con el que se lee un archivo: el configurado o, en modo auto, el de su extensión.
+     *
+     * @param file archivo de candidatos; null para el recurso del classpath
+     * @return formato del archivo
+     */
+    public Format formatOf(Path file) {
+        if (format != null) {
+            return format;
+        }
+        if (file == null) {
+            return Format.JSON;
+        }
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return Format.NDJSON;
+        }
+        return Format.JSON;
     }
-    
+
     /**
      * Carga candidatos desde archivo JSON en el classpath.
      * Aplica principio KISS: Método directo para carga de datos.
-     * 
+     *
      * @param filename nombre del archivo JSON
      * @return lista de candidatos cargados
      * @throws IOException si hay error al leer el archivo
      */
     public List<Candidate> loadCandidatesFromJson(String filename) throws IOException {
         ClassPathResource resource = new ClassPathResource(filename);
-        
+
         try (InputStream inputStream = resource.getInputStream()) {
             TypeReference<List<Candidate>> typeReference = new TypeReference<List<Candidate>>() {};
             return objectMapper.readValue(inputStream, typeReference);
         }
     }
-    
+
     /**
      * Carga candidatos desde el archivo predeterminado.
      * Aplica principio DRY: Evita repetir el nombre del archivo.
-     * 
+     *
      * @return lista de candidatos desde candidates.json
      * @throws IOException si hay error al leer el archivo
      */
     public List<Candidate> loadDefaultCandidates() throws IOException {
-        return loadCandidatesFromJson("candidates.json");
+        return loadCandidatesFromJson(DEFAULT_FILENAME);
+    }
+
+    /**
+     * Recorre el arreglo JSON elemento por elemento y entrega cada candidato al consumidor.
+     * Nunca se construye la lista completa, por lo que la memoria usada no depende
+     * del tamaño del archivo.
+     *
+     * @param inputStream flujo con un arreglo JSON de candidatos
+     * @param sink consumidor que recibe cada candidato deserializado
+     * @return número de candidatos entregados
+     * @throws IOException si el contenido no es un arreglo JSON válido
+     */
+    public long streamCandidates(InputStream inputStream, Consumer<Candidate> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Se esperaba un arreglo JSON de candidatos");
+            }
+
+            long count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                sink.accept(candidateReader.readValue(parser));
+                count++;
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IOException("Elemento inesperado en el arreglo de candidatos: " + parser.currentToken());
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Carga en streaming un archivo JSON del classpath.
+     *
+     * @param filename nombre del archivo JSON
+     * @param sink consumidor que recibe cada candidato
+     * @return número de candidatos entregados
+     * @throws IOException si hay error al leer el archivo
+     */
+    public long streamCandidatesFromJson(String filename, Consumer<Candidate> sink) throws IOException {
+        try (InputStream inputStream = new ClassPathResource(filename).getInputStream()) {
+            return streamCandidates(inputStream, sink);
+        }
+    }
+
+    /**
+     * Carga en streaming un archivo del sistema de archivos. Los CSV y NDJSON se leen con
+     * los lectores de bytes sobre el archivo mapeado en memoria; el JSON, con Jackson.
+     *
+     * @param file ruta del archivo
+     * @param sink consumidor que recibe cada candidato
+     * @return número de candidatos entregados
+     * @throws IOException si hay error al leer el archivo
+     */
+    public long streamCandidatesFromFile(Path file, Consumer<Candidate> sink) throws IOException {
+        switch (formatOf(file)) {
+            case CSV:
+                return new CsvCandidateParser().parse(file, sink);
+            case NDJSON:
+                return new NdjsonCandidateParser().parse(file, sink);
+            default:
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    return streamCandidates(inputStream, sink);
+                }
+        }
+    }
+
+    /**
+     * Deserializa un único objeto JSON de candidato contenido en un rango de bytes.
+     * El lector es inmutable, por lo que puede usarse desde varios hilos a la vez.
+     *
+     * @param data bytes que contienen el objeto
+     * @param offset posición inicial del objeto
+     * @param length longitud del objeto en bytes
+     * @return candidato deserializado
+     * @throws IOException si el objeto no es válido
+     */
+    public Candidate readCandidate(byte[] data, int offset, int length) throws IOException {
+        return candidateReader.readValue(data, offset, length);
+    }
+
+    /**
+     * Resuelve la fuente configurada como archivo en disco, si es posible.
+     *
+     * @return ruta del archivo configurado, o del candidates.json del classpath cuando
+     *         este existe como archivo; null si solo es accesible como recurso (p. ej. dentro de un JAR)
+     */
+    public Path resolveConfiguredFile() {
+        if (!dataFile.isEmpty()) {
+            return Path.of(dataFile);
+        }
+        try {
+            ClassPathResource resource = new ClassPathResource(DEFAULT_FILENAME);
+            return resource.isFile() ? resource.getFile().toPath() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Identifica la versión de la fuente configurada. Un archivo en disco se reconoce por tamaño
+     * y fecha sin leerlo; un recurso que solo existe en el classpath se lee completo una vez para
+     * calcular su CRC32, que sigue siendo mucho menos que interpretarlo y ordenarlo.
+     *
+     * @return sello de la fuente configurada
+     * @throws IOException si la fuente no puede leerse
+     */
+    public SourceStamp stampConfiguredSource() throws IOException {
+        Path file = resolveConfiguredFile();
+        if (file != null) {
+            return SourceStamp.ofFile(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        }
+        CRC32 crc = new CRC32();
+        long size = 0;
+        try (InputStream inputStream = new ClassPathResource(DEFAULT_FILENAME).getInputStream()) {
+            byte[] buffer = new byte[64 * 1024];
+            for (int read; (read = inputStream.read(buffer)) >= 0; ) {
+                crc.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return SourceStamp.ofContent(size, crc.getValue());
+    }
+
+    /**
+     * Carga en streaming la fuente configurada: el archivo indicado en
+     * {@code admission.data.file} o, si no se configuró, candidates.json del classpath.
+     *
+     * @param sink consumidor que recibe cada candidato
+     * @return número de candidatos entregados
+     * @throws IOException si hay error al leer el archivo
+     */
+    public long streamConfiguredCandidates(Consumer<Candidate> sink) throws IOException {
+        if (dataFile.isEmpty()) {
+            return streamCandidatesFromJson(DEFAULT_FILENAME, sink);
+        }
+        return streamCandidatesFromFile(Path.of(dataFile), sink);
     }
 }
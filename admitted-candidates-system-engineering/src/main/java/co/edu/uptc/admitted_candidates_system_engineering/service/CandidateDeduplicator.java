@@ -0,0 +1,414 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Etapa de carga que descarta aspirantes repetidos entre lotes de inscripción.
+ * La identidad de un aspirante es su nombre y apellido normalizados (sin tildes, sin
+ * mayúsculas y con espacios simples) más la fecha de inscripción. Los candidatos pasan al
+ * destino apenas llegan y el índice solo guarda, por aspirante único, una clave de 64 bits y la
+ * fila donde quedó su registro, en una tabla hash de direccionamiento abierto sobre arreglos
+ * primitivos. El índice crece con los aspirantes únicos, pero no retiene ningún candidato: una
+ * coincidencia de clave se confirma leyendo la fila guardada, así que una colisión nunca une a
+ * dos personas.
+ * Aplica principio Open/Closed: cada política decide qué registro conservar sin cambiar la carga.
+ */
+@Service
+public class CandidateDeduplicator {
+
+    /** Qué registro conservar cuando un aspirante aparece varias veces. */
+    public enum Policy {
+        /** No se descarta nada. */
+        NONE,
+        /** Se conserva el primer registro recibido. */
+        KEEP_FIRST,
+        /** Se conserva el último registro recibido (el del lote más reciente). */
+        KEEP_LATEST,
+        /** Se conserva el de mayor puntaje global; en empate, matemáticas, inglés y luego el primero. */
+        KEEP_HIGHEST_SCORE;
+
+        /**
+         * @param value nombre de la política, por ejemplo {@code keep-latest}
+         * @return política correspondiente
+         */
+        public static Policy parse(String value) {
+            if (value == null || value.isBlank()) {
+                return NONE;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Política de duplicados desconocida: " + value
+                    + " (use none, keep-first, keep-latest o keep-highest-score)", e);
+            }
+        }
+    }
+
+    private static final char NAME_SEPARATOR = '\u0001';
+    /** Carácter plegado (minúscula y sin tilde) de cada carácter latino. */
+    private static final char[] FOLDED = buildFoldTable();
+
+    private final Policy policy;
+
+    public CandidateDeduplicator() {
+        this(Policy.NONE.name());
+    }
+
+    /**
+     * @param policy política de duplicados: none, keep-first, keep-latest o keep-highest-score
+     */
+    @Autowired
+    public CandidateDeduplicator(@Value("${admission.dedup.policy:none}") String policy) {
+        this.policy = Policy.parse(policy);
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Abre una sesión para una carga hacia un destino sin acceso por fila. Con las políticas NONE
+     * y KEEP_FIRST los candidatos pasan directo al destino; con las demás un registro puede ser
+     * reemplazado, así que se guardan sus referencias y se entregan al cerrar la sesión, sin los
+     * reemplazados. Los candidatos viven en el heap de todos modos: solo se agrega la lista de referencias.
+     *
+     * @param sink destino de los candidatos que sobreviven
+     * @return sesión que recibe los candidatos de la carga
+     */
+    public Session open(Consumer<Candidate> sink) {
+        return new Session(policy, new BufferedRows(sink, policy));
+    }
+
+    /**
+     * Abre una sesión que guarda cada candidato en el destino apenas llega. Un registro
+     * reemplazado se retira por su fila al cerrar la sesión, así que cada sobreviviente queda
+     * en la posición en que llegó su registro.
+     *
+     * @param store destino de la carga con acceso por fila
+     * @return sesión que recibe los candidatos de la carga
+     */
+    public Session open(RowStore store) {
+        return new Session(policy, store);
+    }
+
+    /**
+     * Destino de una carga que guarda cada candidato recibido en la fila siguiente y permite
+     * leer y retirar esas filas. Las filas se cuentan desde la apertura de la sesión.
+     */
+    public interface RowStore extends Consumer<Candidate> {
+
+        /**
+         * @param row fila guardada durante la sesión
+         * @return candidato guardado en esa fila
+         */
+        Candidate get(int row);
+
+        /**
+         * Cierra la carga retirando los registros reemplazados por otro del mismo aspirante.
+         *
+         * @param replacedRows filas a retirar, en orden creciente y sin repetidos
+         */
+        void finish(int[] replacedRows);
+    }
+
+    /**
+     * Sesión de deduplicación de una carga. No es segura para varios hilos: los cargadores
+     * entregan los candidatos desde un solo hilo.
+     */
+    public static final class Session implements Consumer<Candidate> {
+
+        private static final int EMPTY = -1;
+        private static final float MAX_LOAD = 0.75f;
+
+        private final StringBuilder identity = new StringBuilder(64);
+        private final StringBuilder storedIdentity = new StringBuilder(64);
+
+        private final Policy policy;
+        private final RowStore store;
+        private int[] table;
+        private long[] entryKeys;
+        private int[] entryRows;
+        private int[] replacedRows;
+        private int replaced;
+        private int size;
+        private int rows;
+        private long received;
+
+        Session(Policy policy, RowStore store) {
+            this.policy = policy;
+            this.store = store;
+            if (policy != Policy.NONE) {
+                this.table = new int[1 << 12];
+                Arrays.fill(table, EMPTY);
+                this.entryKeys = new long[1 << 11];
+                this.entryRows = new int[1 << 11];
+                this.replacedRows = new int[16];
+            }
+        }
+
+        @Override
+        public void accept(Candidate candidate) {
+            received++;
+            if (policy == Policy.NONE) {
+                store(candidate);
+                return;
+            }
+            long key = identityKey(candidate, identity);
+            int mask = table.length - 1;
+            for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+                int entry = table[slot];
+                if (entry == EMPTY) {
+                    table[slot] = append(key, store(candidate));
+                    if (size > table.length * MAX_LOAD) {
+                        rehash();
+                    }
+                    return;
+                }
+                if (entryKeys[entry] == key) {
+                    Candidate stored = store.get(entryRows[entry]);
+                    if (sameApplicant(stored, candidate)) {
+                        // Misma clave y mismos campos normalizados: es el mismo aspirante
+                        if (replaces(stored, candidate)) {
+                            markReplaced(entryRows[entry]);
+                            entryRows[entry] = store(candidate);
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Retira del destino los registros reemplazados y libera el índice.
+         *
+         * @return número de registros descartados por duplicados
+         */
+        public long finish() {
+            int[] removed = new int[0];
+            if (policy != Policy.NONE) {
+                removed = Arrays.copyOf(replacedRows, replaced);
+                Arrays.sort(removed);
+                table = null;
+                entryKeys = null;
+                entryRows = null;
+                replacedRows = null;
+            }
+            store.finish(removed);
+            return getDuplicates();
+        }
+
+        public long getDuplicates() {
+            return policy == Policy.NONE ? 0 : received - size;
+        }
+
+        private int store(Candidate candidate) {
+            store.accept(candidate);
+            return rows++;
+        }
+
+        private int append(long key, int row) {
+            if (size == entryKeys.length) {
+                int capacity = entryKeys.length + (entryKeys.length >> 1);
+                entryKeys = Arrays.copyOf(entryKeys, capacity);
+                entryRows = Arrays.copyOf(entryRows, capacity);
+            }
+            entryKeys[size] = key;
+            entryRows[size] = row;
+            return size++;
+        }
+
+        private void markReplaced(int row) {
+            if (replaced == replacedRows.length) {
+                replacedRows = Arrays.copyOf(replacedRows, replaced << 1);
+            }
+            replacedRows[replaced++] = row;
+        }
+
+        private void rehash() {
+            int[] resized = new int[table.length << 1];
+            Arrays.fill(resized, EMPTY);
+            int mask = resized.length - 1;
+            for (int entry = 0; entry < size; entry++) {
+                int slot = spread(entryKeys[entry]) & mask;
+                while (resized[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                resized[slot] = entry;
+            }
+            table = resized;
+        }
+
+        /**
+         * Confirma una coincidencia de clave; {@link #identity} ya tiene la identidad del candidato entrante.
+         */
+        private boolean sameApplicant(Candidate stored, Candidate incoming) {
+            if (stored.getRegistrationEpochDay() != incoming.getRegistrationEpochDay()) {
+                return false;
+            }
+            identityKey(stored, storedIdentity);
+            return storedIdentity.length() == identity.length() && storedIdentity.compareTo(identity) == 0;
+        }
+
+        private boolean replaces(Candidate current, Candidate incoming) {
+            switch (policy) {
+                case KEEP_LATEST:
+                    return true;
+                case KEEP_HIGHEST_SCORE:
+                    int cmp = Integer.compare(incoming.getGlobalIcfesScore(), current.getGlobalIcfesScore());
+                    if (cmp == 0) {
+                        cmp = Integer.compare(incoming.getMathScore(), current.getMathScore());
+                    }
+                    if (cmp == 0) {
+                        cmp = Integer.compare(incoming.getEnglishScore(), current.getEnglishScore());
+                    }
+                    return cmp > 0;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Filas de una carga hacia un destino que solo recibe candidatos. Con NONE no guarda nada;
+     * con KEEP_FIRST ningún registro se reemplaza, así que entrega cada uno al llegar y solo
+     * conserva la referencia para confirmar coincidencias.
+     */
+    private static final class BufferedRows implements RowStore {
+
+        private final Consumer<Candidate> sink;
+        private final boolean indexed;
+        private final boolean forwarding;
+        private final List<Candidate> rows = new ArrayList<>();
+
+        BufferedRows(Consumer<Candidate> sink, Policy policy) {
+            this.sink = sink;
+            this.indexed = policy != Policy.NONE;
+            this.forwarding = policy == Policy.NONE || policy == Policy.KEEP_FIRST;
+        }
+
+        @Override
+        public void accept(Candidate candidate) {
+            if (indexed) {
+                rows.add(candidate);
+            }
+            if (forwarding) {
+                sink.accept(candidate);
+            }
+        }
+
+        @Override
+        public Candidate get(int row) {
+            return rows.get(row);
+        }
+
+        @Override
+        public void finish(int[] replacedRows) {
+            if (!forwarding) {
+                int next = 0;
+                for (int row = 0; row < rows.size(); row++) {
+                    if (next < replacedRows.length && replacedRows[next] == row) {
+                        next++;
+                    } else {
+                        sink.accept(rows.get(row));
+                    }
+                }
+            }
+            rows.clear();
+        }
+    }
+
+    /**
+     * Identidad del aspirante con la misma normalización que usa la deduplicación: dos
+     * registros con la misma identidad son la misma persona en lotes distintos.
+     *
+     * @param candidate candidato
+     * @return nombre y apellido normalizados más el día de inscripción
+     */
+    public static String identityOf(Candidate candidate) {
+        StringBuilder identity = new StringBuilder(64);
+        identityKey(candidate, identity);
+        return identity.append(NAME_SEPARATOR).append(candidate.getRegistrationEpochDay()).toString();
+    }
+
+    /**
+     * Clave de 64 bits de {@link #identityOf}: la misma identidad da siempre la misma clave, y dos
+     * identidades distintas casi nunca coinciden, así que una coincidencia se confirma con la identidad.
+     *
+     * @param candidate candidato
+     * @return clave de identidad
+     */
+    public static long identityKeyOf(Candidate candidate) {
+        return identityKey(candidate, new StringBuilder(64));
+    }
+
+    /**
+     * Escribe en {@code out} la identidad normalizada (nombre, separador, apellido) y devuelve
+     * su clave de 64 bits: FNV-1a sobre esos caracteres combinado con el día de inscripción.
+     */
+    private static long identityKey(Candidate candidate, StringBuilder out) {
+        out.setLength(0);
+        normalizeInto(out, candidate.getName());
+        out.append(NAME_SEPARATOR);
+        normalizeInto(out, candidate.getLastName());
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < out.length(); i++) {
+            hash = (hash ^ out.charAt(i)) * 0x100000001b3L;
+        }
+        int registrationDay = candidate.getRegistrationEpochDay();
+        long day = registrationDay == Candidate.NO_DATE ? Long.MIN_VALUE : registrationDay;
+        return (hash ^ day) * 0x100000001b3L;
+    }
+
+    /**
+     * Agrega el texto en minúsculas, sin tildes y con un solo espacio entre palabras.
+     * Los caracteres latinos se pliegan con una tabla precalculada; solo los demás
+     * pasan por {@link Normalizer}.
+     */
+    private static void normalizeInto(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        int start = out.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > start;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(c < FOLDED.length ? FOLDED[c] : fold(c));
+        }
+    }
+
+    private static char fold(char c) {
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        return Character.toLowerCase(decomposed.charAt(0));
+    }
+
+    private static char[] buildFoldTable() {
+        char[] table = new char[0x250];
+        for (char c = 0; c < table.length; c++) {
+            table[c] = c < 0x80 ? Character.toLowerCase(c) : fold(c);
+        }
+        return table;
+    }
+
+    private static int spread(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,326 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.EthnicityClassifier;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Guarda y lee una copia binaria del conjunto de candidatos ya clasificado y ordenado,
+ * para que los reinicios no tengan que volver a interpretar el JSON ni a ordenar.
+ * <p>
+ * Formato (big-endian):
+ * <ul>
+ *   <li>Encabezado de {@value #HEADER_SIZE} bytes: firma, versión, número de registros,
+ *       número de textos, posición de la tabla de textos, el {@link SourceStamp} de la fuente
+ *       (tamaño, versión y tipo de versión) y una huella de la configuración de ranking.</li>
+ *   <li>Registros de ancho fijo ({@value #RECORD_SIZE} bytes) en orden de ranking: referencias
+ *       al nombre, apellido y etnia, los tres puntajes, el día de inscripción, la bandera de minoría
+ *       y los programas elegidos (un solo texto con los códigos separados).</li>
+ *   <li>Tabla de textos sin repetidos: longitud y bytes UTF-8 de cada uno.</li>
+ * </ul>
+ * La lectura se hace sobre un {@link MappedByteBuffer}, sin copiar el archivo al heap; por eso
+ * el archivo no puede pasar de 2 GB (unos 59 millones de aspirantes). Un ranking más grande no
+ * se guarda y el arranque vuelve a la fuente.
+ */
+@Service
+public class CandidateSnapshotStore {
+
+    private static final int MAGIC = 0x41444D53; // "ADMS"
+    private static final int VERSION = 3;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 36;
+    private static final int NO_STRING = -1;
+    private static final int FLAG_MINORITY = 1;
+    // Encabezado
+    private static final int HEADER_SOURCE_SIZE = 24;
+    private static final int HEADER_SOURCE_VERSION = 32;
+    private static final int HEADER_FINGERPRINT = 40;
+    private static final int HEADER_SOURCE_KIND = 48;
+    private static final String CHOICE_SEPARATOR = "\u001F";
+    /** Tamaño máximo del archivo: se lee con un solo {@link MappedByteBuffer}. */
+    static final long MAX_SNAPSHOT_BYTES = Integer.MAX_VALUE;
+
+    private final Path snapshotFile;
+    private final long fingerprint;
+    private final long maxBytes;
+
+    /**
+     * @param snapshotFile ruta del archivo de snapshot; vacía para desactivarlo
+     * @param candidateSorter estrategia de ordenamiento con la que se guarda el ranking
+     * @param ethnicityClassifier clasificador con el que se guardan las banderas de minoría
+     * @param deduplicator etapa de duplicados con la que se filtraron los candidatos guardados
+     */
+    @Autowired
+    public CandidateSnapshotStore(@Value("${admission.snapshot.file:}") String snapshotFile,
+                                  ISorter<Candidate> candidateSorter,
+                                  EthnicityClassifier ethnicityClassifier,
+                                  CandidateDeduplicator deduplicator) {
+        this(snapshotFile, candidateSorter, ethnicityClassifier, deduplicator, MAX_SNAPSHOT_BYTES);
+    }
+
+    /**
+     * @param maxBytes tamaño máximo del archivo; las pruebas usan uno pequeño
+     */
+    CandidateSnapshotStore(String snapshotFile, ISorter<Candidate> candidateSorter,
+                           EthnicityClassifier ethnicityClassifier, CandidateDeduplicator deduplicator,
+                           long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.snapshotFile = snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile.trim());
+        // Un snapshot guardado con otras reglas de orden, de etnia o de duplicados no sirve: cambia la huella
+        this.fingerprint = fingerprint(candidateSorter.getDefinition() + '|' + ethnicityClassifier.getKeywords()
+            + '|' + deduplicator.getPolicy());
+    }
+
+    public boolean isEnabled() {
+        return snapshotFile != null;
+    }
+
+    public Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * @return huella de las reglas de orden, de etnia y de duplicados con que se guardan los datos
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Indica si existe un snapshot utilizable para la fuente dada: generado a partir de esa misma
+     * versión de la fuente y con la misma configuración de ranking. Si la fuente es un archivo,
+     * el snapshot además tiene que ser más reciente que él. Un archivo por encima del tamaño
+     * máximo nunca está vigente, aunque lo haya dejado una versión anterior.
+     *
+     * @param source sello de la fuente actual
+     * @return true si se puede cargar el snapshot en lugar de la fuente
+     */
+    public boolean isFresh(SourceStamp source) {
+        if (snapshotFile == null || !Files.isRegularFile(snapshotFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > maxBytes) {
+                return false;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // leer el encabezado completo
+            }
+            header.flip();
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || header.getLong(HEADER_FINGERPRINT) != fingerprint
+                    || header.getInt(HEADER_SOURCE_KIND) != source.getKind().ordinal()
+                    || header.getLong(HEADER_SOURCE_SIZE) != source.getSize()
+                    || header.getLong(HEADER_SOURCE_VERSION) != source.getVersion()) {
+                return false;
+            }
+            return source.getKind() != SourceStamp.Kind.FILE
+                || Files.getLastModifiedTime(snapshotFile).toMillis() >= source.getVersion();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Lee el snapshot y entrega los candidatos en orden de ranking, con la clasificación
+     * étnica ya aplicada.
+     *
+     * @param sink consumidor que recibe cada candidato
+     * @return número de candidatos entregados
+     * @throws IOException si el archivo no es un snapshot válido
+     */
+    public long load(Consumer<Candidate> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            if (channel.size() > maxBytes) {
+                throw new IOException("El snapshot supera el tamaño máximo de " + maxBytes + " bytes: " + snapshotFile);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Archivo de snapshot no reconocido: " + snapshotFile);
+            }
+            int recordCount = buffer.getInt(8);
+            String[] strings = readStrings(buffer, buffer.getInt(12), (int) buffer.getLong(16));
+
+            for (int i = 0; i < recordCount; i++) {
+                int position = HEADER_SIZE + i * RECORD_SIZE;
+                Candidate candidate = new Candidate(
+                    string(strings, buffer.getInt(position)),
+                    string(strings, buffer.getInt(position + 4)),
+                    string(strings, buffer.getInt(position + 8)),
+                    buffer.getInt(position + 12),
+                    null,
+                    buffer.getInt(position + 16),
+                    buffer.getInt(position + 20));
+                candidate.setRegistrationEpochDay(buffer.getInt(position + 24));
+                candidate.applyEthnicityClassification((buffer.getInt(position + 28) & FLAG_MINORITY) != 0);
+                String choices = string(strings, buffer.getInt(position + 32));
+                if (choices != null) {
+                    candidate.setProgramChoices(List.of(choices.split(CHOICE_SEPARATOR, -1)));
+                }
+                sink.accept(candidate);
+            }
+            return recordCount;
+        }
+    }
+
+    /**
+     * Escribe el snapshot del ranking. Se escribe primero en un archivo temporal y luego
+     * se reemplaza el anterior, así que un corte a mitad de escritura no deja un snapshot dañado.
+     * Si el archivo superaría el tamaño máximo no se guarda y se borra el anterior, que ya no
+     * corresponde a los datos cargados.
+     *
+     * @param rankedCandidates candidatos en orden de ranking
+     * @param source sello de la fuente de la que salieron los candidatos
+     * @return bytes escritos, o -1 si el ranking no cabe en un snapshot
+     * @throws IOException si no se puede escribir el archivo
+     */
+    public long write(List<Candidate> rankedCandidates, SourceStamp source) throws IOException {
+        long stringTableOffset = HEADER_SIZE + (long) rankedCandidates.size() * RECORD_SIZE;
+        if (stringTableOffset > maxBytes) {
+            Files.deleteIfExists(snapshotFile);
+            return -1;
+        }
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+
+        long size;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+            channel.position(HEADER_SIZE);
+            for (Candidate candidate : rankedCandidates) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    drain(buffer, channel);
+                }
+                buffer.putInt(stringId(candidate.getName(), stringIds, strings));
+                buffer.putInt(stringId(candidate.getLastName(), stringIds, strings));
+                buffer.putInt(stringId(candidate.getEthnicity(), stringIds, strings));
+                buffer.putInt(candidate.getGlobalIcfesScore());
+                buffer.putInt(candidate.getMathScore());
+                buffer.putInt(candidate.getEnglishScore());
+                buffer.putInt(candidate.getRegistrationEpochDay());
+                buffer.putInt(candidate.isMinorityCommunity() ? FLAG_MINORITY : 0);
+                List<String> choices = candidate.getProgramChoices();
+                buffer.putInt(choices.isEmpty() ? NO_STRING
+                    : stringId(String.join(CHOICE_SEPARATOR, choices), stringIds, strings));
+            }
+
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < Integer.BYTES) {
+                    drain(buffer, channel);
+                }
+                buffer.putInt(bytes.length);
+                for (int written = 0; written < bytes.length; ) {
+                    if (!buffer.hasRemaining()) {
+                        drain(buffer, channel);
+                    }
+                    int chunk = Math.min(buffer.remaining(), bytes.length - written);
+                    buffer.put(bytes, written, chunk);
+                    written += chunk;
+                }
+            }
+            drain(buffer, channel);
+            size = channel.position();
+        }
+        if (size > maxBytes) {
+            // Los registros cabían pero la tabla de textos no
+            Files.delete(temporary);
+            Files.deleteIfExists(snapshotFile);
+            return -1;
+        }
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(rankedCandidates.size()).putInt(strings.size());
+            buffer.putLong(stringTableOffset);
+            buffer.putLong(source.getSize());
+            buffer.putLong(source.getVersion());
+            buffer.putLong(fingerprint);
+            buffer.putInt(source.getKind().ordinal());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    private static String[] readStrings(MappedByteBuffer buffer, int count, int offset) {
+        String[] strings = new String[count];
+        byte[] scratch = new byte[256];
+        int position = offset;
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt(position);
+            position += Integer.BYTES;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(position, scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+        return strings;
+    }
+
+    private static String string(String[] strings, int id) {
+        return id == NO_STRING ? null : strings[id];
+    }
+
+    private static int stringId(String value, Map<String, Integer> ids, List<String> strings) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = strings.size();
+            ids.put(value, id);
+            strings.add(value);
+        }
+        return id;
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** FNV-1a de 64 bits sobre los bytes UTF-8 del texto. */
+    private static long fingerprint(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
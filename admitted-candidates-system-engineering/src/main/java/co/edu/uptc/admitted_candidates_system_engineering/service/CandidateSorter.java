@@ -1,10 +1,12 @@
 package co.edu.uptc.admitted_candidates_system_engineering.service;
 
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 /**
  * Implementación del ordenamiento de candidatos según reglas de admisión.
@@ -13,8 +15,11 @@ import java.util.List;
  * Aplica principio YAGNI: Solo implementa las reglas especificadas.
  */
 @Service
+@ConditionalOnProperty(name = "admission.sorter.type", havingValue = "comparator", matchIfMissing = true)
 public class CandidateSorter implements ISorter<Candidate> {
     
+    private final Comparator<Candidate> candidateComparator = createCandidateComparator();
+    
     @Override
     public List<Candidate> sort(List<Candidate> candidates) {
         if (candidates == null || candidates.isEmpty()) {
@@ -24,13 +29,21 @@ public class CandidateSorter implements ISorter<Candidate> {
         List<Candidate> sortedCandidates = new ArrayList<>(candidates);
         
         // Comparador que implementa las reglas de ordenamiento
-        Comparator<Candidate> candidateComparator = createCandidateComparator();
-        
         sortedCandidates.sort(candidateComparator);
         
         return sortedCandidates;
     }
     
+    @Override
+    public ToLongFunction<Candidate> getRankingKey() {
+        return RankingKey::pack;
+    }
+    
+    @Override
+    public Comparator<Candidate> getComparator() {
+        return candidateComparator;
+    }
+    
     /**
      * Crea el comparador con las reglas de ordenamiento especificadas.
      * Aplica principio DRY: Centraliza la lógica de comparación.
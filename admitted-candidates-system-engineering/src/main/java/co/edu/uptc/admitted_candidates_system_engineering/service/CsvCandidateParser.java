@@ -0,0 +1,207 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lector de candidatos en CSV (RFC 4180). La primera línea es el encabezado con los nombres de
+ * los campos del JSON (name, lastName, ethnicity, globalIcfesScore, registrationDate, mathScore,
+ * englishScore, programChoices) en cualquier orden; las columnas desconocidas se ignoran y las
+ * que faltan quedan con su valor por defecto. Los programas elegidos van en una sola columna
+ * separados por punto y coma. Los campos entre comillas admiten comas, saltos de línea y
+ * comillas dobladas.
+ */
+public final class CsvCandidateParser extends MappedRecordParser {
+
+    private static final String[] COLUMNS = {
+        "name", "lastName", "ethnicity", "globalIcfesScore", "registrationDate", "mathScore",
+        "englishScore", "programChoices"
+    };
+    private static final int NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int ETHNICITY = 2;
+    private static final int GLOBAL_SCORE = 3;
+    private static final int REGISTRATION_DATE = 4;
+    private static final int MATH_SCORE = 5;
+    private static final int ENGLISH_SCORE = 6;
+    private static final int PROGRAM_CHOICES = 7;
+    private static final int IGNORED = -1;
+    private static final byte CHOICE_SEPARATOR = ';';
+
+    /** Campo de cada columna del archivo; null hasta leer el encabezado. */
+    private int[] columns;
+    private final List<String> header = new ArrayList<>();
+
+    // Rango del último campo leído: en el buffer mapeado o, si venía entre comillas, en scratch
+    private ByteBuffer fieldSource;
+    private int fieldStart;
+    private int fieldLength;
+
+    public CsvCandidateParser() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    CsvCandidateParser(int windowSize) {
+        super(windowSize);
+    }
+
+    @Override
+    protected Candidate parseRecord(int position) throws IOException {
+        if (columns == null) {
+            return parseHeader(position);
+        }
+        Candidate candidate = new Candidate();
+        int column = 0;
+        while (true) {
+            position = readField(position);
+            int field = column < columns.length ? columns[column] : IGNORED;
+            if (field != IGNORED) {
+                setField(candidate, field, position);
+            }
+            column++;
+            if (peek(position) != ',') {
+                break;
+            }
+            position++;
+        }
+        nextRecord = endOfLine(position);
+        return candidate;
+    }
+
+    private Candidate parseHeader(int position) throws IOException {
+        header.clear();
+        while (true) {
+            position = readField(position);
+            header.add(decodeString(fieldSource, fieldStart, fieldLength, false).trim());
+            if (peek(position) != ',') {
+                break;
+            }
+            position++;
+        }
+        nextRecord = endOfLine(position);
+
+        int[] mapping = new int[header.size()];
+        Arrays.fill(mapping, IGNORED);
+        boolean known = false;
+        for (int i = 0; i < mapping.length; i++) {
+            for (int field = 0; field < COLUMNS.length; field++) {
+                if (COLUMNS[field].equalsIgnoreCase(header.get(i))) {
+                    mapping[i] = field;
+                    known = true;
+                }
+            }
+        }
+        if (!known) {
+            throw error(position, "el encabezado no tiene ninguna columna conocida " + Arrays.toString(COLUMNS));
+        }
+        columns = mapping;
+        return null;
+    }
+
+    /**
+     * Un campo vacío deja el texto vacío; en números, fecha y programas deja el valor por defecto.
+     */
+    private void setField(Candidate candidate, int field, int position) throws IOException {
+        if (fieldLength == 0 && field != NAME && field != LAST_NAME && field != ETHNICITY) {
+            return;
+        }
+        switch (field) {
+            case NAME -> candidate.setName(decodeString(fieldSource, fieldStart, fieldLength, false));
+            case LAST_NAME -> candidate.setLastName(decodeString(fieldSource, fieldStart, fieldLength, false));
+            case ETHNICITY -> candidate.setEthnicity(decodeString(fieldSource, fieldStart, fieldLength, true));
+            case GLOBAL_SCORE -> candidate.setGlobalIcfesScore(decodeInt(fieldSource, fieldStart, fieldLength));
+            case REGISTRATION_DATE -> candidate.setRegistrationEpochDay(decodeDate(fieldSource, fieldStart, fieldLength));
+            case MATH_SCORE -> candidate.setMathScore(decodeInt(fieldSource, fieldStart, fieldLength));
+            case ENGLISH_SCORE -> candidate.setEnglishScore(decodeInt(fieldSource, fieldStart, fieldLength));
+            case PROGRAM_CHOICES -> candidate.setProgramChoices(decodeChoices());
+            default -> throw error(position, "columna desconocida");
+        }
+    }
+
+    private List<String> decodeChoices() {
+        List<String> choices = new ArrayList<>(4);
+        int end = fieldStart + fieldLength;
+        int start = fieldStart;
+        for (int i = fieldStart; i <= end; i++) {
+            if (i == end || fieldSource.get(i) == CHOICE_SEPARATOR) {
+                int from = start;
+                int to = i;
+                while (from < to && fieldSource.get(from) == ' ') {
+                    from++;
+                }
+                while (to > from && fieldSource.get(to - 1) == ' ') {
+                    to--;
+                }
+                if (to > from) {
+                    choices.add(decodeString(fieldSource, from, to - from, true));
+                }
+                start = i + 1;
+            }
+        }
+        return choices;
+    }
+
+    /**
+     * Lee un campo y deja su rango en fieldSource/fieldStart/fieldLength. Un campo sin comillas
+     * se deja en el buffer mapeado, sin copiarlo; uno entre comillas se copia a scratch sin
+     * las comillas dobladas.
+     *
+     * @return posición del separador o fin de línea que sigue al campo
+     */
+    private int readField(int position) throws IOException {
+        if (peek(position) != '"') {
+            int start = position;
+            // De 8 en 8 bytes hasta el separador, fin de línea o comilla; el resto, byte a byte
+            while (position + Long.BYTES <= limit) {
+                long word = buffer.getLong(position);
+                long marks = markBytes(word, ',') | markBytes(word, '\n') | markBytes(word, '\r') | markBytes(word, '"');
+                if (marks != 0) {
+                    position += firstMarked(marks);
+                    break;
+                }
+                position += Long.BYTES;
+            }
+            int b = peek(position);
+            while (b != ',' && b != '\n' && b != '\r' && b != EOF) {
+                if (b == '"') {
+                    throw error(position, "comilla dentro de un campo sin comillas");
+                }
+                b = peek(++position);
+            }
+            fieldSource = buffer;
+            fieldStart = start;
+            fieldLength = position - start;
+            return position;
+        }
+
+        int length = 0;
+        position++;
+        while (true) {
+            int b = peek(position++);
+            if (b == EOF) {
+                throw error(position, "campo entre comillas sin cerrar");
+            }
+            if (b == '"') {
+                if (peek(position) != '"') {
+                    break;
+                }
+                position++;
+            }
+            ensureScratch(length + 1);
+            scratch[length++] = (byte) b;
+        }
+        int next = peek(position);
+        if (next != ',' && next != '\n' && next != '\r' && next != EOF) {
+            throw error(position, "se esperaba una coma después del campo entre comillas");
+        }
+        fieldSource = scratchView;
+        fieldStart = 0;
+        fieldLength = length;
+        return position;
+    }
+}
@@ -0,0 +1,165 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import java.util.Arrays;
+
+/**
+ * Asignación de cupos por aceptación diferida (Gale–Shapley) con propuestas de los aspirantes.
+ * <p>
+ * Cada aspirante libre se postula al siguiente programa de su lista de preferencias. El
+ * programa retiene provisionalmente a sus mejores aspirantes hasta llenar sus cupos; si ya
+ * está lleno y el nuevo aspirante tiene mejor prioridad que el peor retenido, lo reemplaza y
+ * el desplazado vuelve a postularse a su siguiente opción. Al terminar nadie puede mejorar:
+ * la asignación es estable y es la mejor asignación estable para cada aspirante.
+ * <p>
+ * Todo el estado son arreglos primitivos: las preferencias en formato comprimido por filas,
+ * la prioridad de cada programa como posición entera del aspirante y, por programa, un
+ * montículo acotado de máximo con el peor retenido en la raíz. Cada postulación cuesta
+ * O(log cupos) y cada aspirante se postula como mucho una vez por opción.
+ */
+public final class DeferredAcceptance {
+
+    /** Valor de la asignación para un aspirante sin cupo. */
+    public static final int UNASSIGNED = -1;
+
+    private final int applicants;
+    private final int[] choiceStart;
+    private final short[] choices;
+    private final int[] capacities;
+    private final int[][] priority;
+    private long proposals;
+
+    /**
+     * @param applicants número de aspirantes; se identifican de 0 a applicants - 1
+     * @param choiceStart las opciones del aspirante a están en {@code choices[choiceStart[a] .. choiceStart[a + 1])};
+     *                    longitud applicants + 1
+     * @param choices índices de programa en orden de preferencia
+     * @param capacities cupos de cada programa
+     * @param priority {@code priority[p][a]}: posición del aspirante a en la prioridad del programa p
+     *                 (menor es mejor, sin empates); programas con las mismas reglas pueden compartir arreglo
+     */
+    public DeferredAcceptance(int applicants, int[] choiceStart, short[] choices, int[] capacities, int[][] priority) {
+        if (choiceStart.length != applicants + 1) {
+            throw new IllegalArgumentException("choiceStart debe tener " + (applicants + 1) + " posiciones");
+        }
+        if (priority.length != capacities.length) {
+            throw new IllegalArgumentException("Se necesita una prioridad por programa");
+        }
+        this.applicants = applicants;
+        this.choiceStart = choiceStart;
+        this.choices = choices;
+        this.capacities = capacities;
+        this.priority = priority;
+    }
+
+    /**
+     * Ejecuta la aceptación diferida.
+     *
+     * @return programa asignado a cada aspirante, o {@link #UNASSIGNED}
+     */
+    public int[] run() {
+        int programs = capacities.length;
+        int[][] heaps = new int[programs][];
+        int[] heapSize = new int[programs];
+        allocateHeaps(heaps);
+
+        int[] nextChoice = new int[applicants];
+        int[] free = new int[applicants];
+        int freeCount = 0;
+        for (int a = applicants - 1; a >= 0; a--) {
+            nextChoice[a] = choiceStart[a];
+            if (choiceStart[a + 1] > choiceStart[a]) {
+                free[freeCount++] = a;
+            }
+        }
+
+        long proposalCount = 0;
+        while (freeCount > 0) {
+            int applicant = free[--freeCount];
+            int end = choiceStart[applicant + 1];
+            while (nextChoice[applicant] < end) {
+                int program = choices[nextChoice[applicant]++];
+                proposalCount++;
+                int[] heap = heaps[program];
+                int[] rank = priority[program];
+                if (heapSize[program] < heap.length) {
+                    siftUp(heap, heapSize[program]++, applicant, rank);
+                    break;
+                }
+                if (heap.length > 0 && rank[applicant] < rank[heap[0]]) {
+                    // Desplaza al peor retenido, que vuelve a postularse
+                    int displaced = heap[0];
+                    siftDown(heap, heapSize[program], applicant, rank);
+                    applicant = displaced;
+                    end = choiceStart[applicant + 1];
+                }
+            }
+            // Quien agota sus opciones queda sin cupo
+        }
+        proposals = proposalCount;
+
+        int[] assignment = new int[applicants];
+        Arrays.fill(assignment, UNASSIGNED);
+        for (int program = 0; program < programs; program++) {
+            int[] heap = heaps[program];
+            for (int i = 0; i < heapSize[program]; i++) {
+                assignment[heap[i]] = program;
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * @return postulaciones hechas en la última ejecución
+     */
+    public long getProposals() {
+        return proposals;
+    }
+
+    /**
+     * El montículo de cada programa no necesita más espacio que sus cupos ni que el número
+     * de aspirantes que lo eligieron.
+     */
+    private void allocateHeaps(int[][] heaps) {
+        int[] demand = new int[capacities.length];
+        for (int i = choiceStart[0]; i < choiceStart[applicants]; i++) {
+            demand[choices[i]]++;
+        }
+        for (int program = 0; program < heaps.length; program++) {
+            heaps[program] = new int[Math.max(0, Math.min(capacities[program], demand[program]))];
+        }
+    }
+
+    /** Inserta en la posición {@code index} y sube mientras tenga peor prioridad que su padre. */
+    private static void siftUp(int[] heap, int index, int applicant, int[] rank) {
+        int key = rank[applicant];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (rank[heap[parent]] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = applicant;
+    }
+
+    /** Reemplaza la raíz y baja mientras algún hijo tenga peor prioridad. */
+    private static void siftDown(int[] heap, int size, int applicant, int[] rank) {
+        int key = rank[applicant];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && rank[heap[right]] > rank[heap[child]]) {
+                child = right;
+            }
+            if (key >= rank[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = applicant;
+    }
+}
@@ -0,0 +1,65 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.StageMetrics;
+
+import java.util.List;
+
+/**
+ * Medición de las etapas del proceso de admisión.
+ * Aplica principio Interface Segregation: quien mide una etapa solo necesita abrirla y cerrarla.
+ */
+public interface IAdmissionMetrics {
+
+    /**
+     * Abre la medición de una etapa; se cierra con try-with-resources.
+     * Con las métricas desactivadas devuelve una etapa que no mide nada.
+     *
+     * @param name nombre de la etapa
+     * @return etapa en curso
+     */
+    Stage startStage(String name);
+
+    /**
+     * Mide una etapa que no tiene registros ni bytes que informar.
+     *
+     * @param name nombre de la etapa
+     * @param action trabajo de la etapa
+     */
+    default void time(String name, Runnable action) {
+        Stage stage = startStage(name);
+        try {
+            action.run();
+        } finally {
+            stage.close();
+        }
+    }
+
+    /**
+     * @return true si las etapas se miden y publican
+     */
+    boolean isEnabled();
+
+    /**
+     * @return cifras de cada etapa medida, en el orden en que se ejecutaron por primera vez
+     */
+    List<StageMetrics> getStages();
+
+    /**
+     * Etapa en curso. Los registros y bytes se informan antes de cerrarla.
+     */
+    interface Stage extends AutoCloseable {
+
+        /**
+         * @param records registros procesados en la etapa
+         */
+        void setRecords(long records);
+
+        /**
+         * @param bytesRead bytes leídos de la fuente en la etapa
+         */
+        void setBytesRead(long bytesRead);
+
+        @Override
+        void close();
+    }
+}
@@ -1,7 +1,17 @@
 package co.edu.uptc.admitted_candidates_system_engineering.service;
 
+import co.edu.uptc.admitted_candidates_system_engineering.model.AdmissionResult;
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingPools;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingSnapshot;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interfaz para el servicio de gestión del proceso de admisión.
@@ -17,6 +27,18 @@ public interface IAdmissionService {
      */
     void initializeSystem() throws Exception;
     
+    /**
+     * Aplica un lote incremental de inscripciones sobre los datos ya cargados: cada aspirante
+     * del lote (mismo nombre, apellido y fecha de inscripción) reemplaza al registrado o se
+     * agrega si es nuevo. Si el nombre del archivo contiene {@code .delete.}, los aspirantes
+     * del lote se retiran. El ranking publicado queda actualizado al terminar.
+     * 
+     * @param file lote en cualquiera de los formatos de carga
+     * @return reporte del lote
+     * @throws IOException si el lote no se puede leer
+     */
+    IngestionReport applyDelta(Path file) throws IOException;
+    
     /**
      * Procesa el listado de candidatos admitidos aplicando las reglas de ordenamiento.
      * 
@@ -24,6 +46,98 @@ public interface IAdmissionService {
      */
     List<Candidate> processAdmittedCandidates();
     
+    /**
+     * Obtiene un tramo del ranking sin copiar el resto.
+     * 
+     * @param offset posición inicial (0 es el primer lugar)
+     * @param limit número máximo de candidatos
+     * @return candidatos del tramo en orden de ranking; vacío si el offset supera el total
+     */
+    List<Candidate> page(int offset, int limit);
+    
+    /**
+     * Recorre el ranking completo de forma perezosa, en orden.
+     * Sirve para exportar o mostrar las primeras posiciones sin crear otra lista completa.
+     * 
+     * @return flujo ordenado de candidatos
+     */
+    Stream<Candidate> streamRanked();
+    
+    /**
+     * Obtiene la posición de un candidato en el ranking.
+     * 
+     * @param candidate candidato a buscar
+     * @return posición empezando en 1, o -1 si no está registrado
+     */
+    int rankOf(Candidate candidate);
+    
+    /**
+     * Obtiene el ranking precalculado e inmutable. Las consultas sobre él nunca ordenan;
+     * cuando los datos cambian, el servicio publica un ranking nuevo en lugar de modificar este.
+     * 
+     * @return ranking vigente
+     */
+    RankingSnapshot getRankingSnapshot();
+    
+    /**
+     * Selecciona solo los candidatos que obtienen cupo, con las mismas reglas de ordenamiento,
+     * sin ordenar la lista completa de aspirantes.
+     * 
+     * @param seats número de cupos disponibles
+     * @return admitidos en orden y puntaje de corte
+     */
+    AdmissionResult processAdmittedCandidates(int seats);
+    
+    /**
+     * Clasifica por separado la bolsa de comunidades minoritarias y la bolsa general,
+     * repartiendo los cupos según el porcentaje reservado configurado.
+     * 
+     * @param seats cupos totales; 0 o negativo admite a todos
+     * @return bolsas ordenadas con sus cupos asignados
+     */
+    RankingPools processRankingPools(int seats);
+    
+    /**
+     * Calcula la distribución de puntajes, los aspirantes por etnia y el puntaje de corte
+     * sin ordenar el ranking. El corte solo se calcula si las reglas de ranking ordenan por
+     * bolsa y luego por puntaje global.
+     * 
+     * @param seats cupos para calcular el corte; 0 o negativo admite a todos
+     * @return estadísticas de los aspirantes cargados
+     */
+    ScoreAnalytics analyzeScores(int seats);
+    
+    /**
+     * Clasifica en paralelo cada programa configurado con sus propios cupos y reglas.
+     * Cada aspirante participa en los programas que eligió.
+     * 
+     * @return admitidos y tiempo de cada programa
+     */
+    ProgramAdmissions processPrograms();
+    
+    /**
+     * Asigna cupos entre todos los programas por aceptación diferida: cada aspirante obtiene
+     * como mucho un cupo, el de la opción más preferida que su prioridad le permite.
+     * 
+     * @return admitidos de cada programa y aspirantes sin cupo
+     */
+    SeatAssignment assignSeats();
+    
+    /**
+     * Indica si los datos cargados ya incluyen los lotes incrementales aplicados antes del
+     * reinicio, porque se recuperaron de un almacenamiento persistente que los conserva.
+     * Si no, la carga partió de la fuente y esos lotes hay que volver a aplicarlos.
+     * 
+     * @return true si los lotes aplicados antes del reinicio siguen en los datos
+     */
+    boolean retainsAppliedBatches();
+    
+    /**
+     * Obtiene el reporte de la última carga de datos.
+     * 
+     * @return reporte de la carga, o null si el sistema no se ha inicializado
+     */
+    IngestionReport getLastIngestionReport();
     
     /**
      * Obtiene el total de candidatos cargados en el sistema.
@@ -1,6 +1,8 @@
 package co.edu.uptc.admitted_candidates_system_engineering.service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 /**
  * Interfaz para ordenamiento de candidatos.
@@ -17,4 +19,33 @@ public interface ISorter<T> {
      * @return lista ordenada de elementos
      */
     List<T> sort(List<T> items);
+    
+    /**
+     * Obtiene el comparador equivalente al orden que produce {@link #sort(List)}.
+     * Permite seleccionar o ubicar elementos sin ordenar la lista completa.
+     * 
+     * @return comparador con los mismos criterios de ordenamiento
+     */
+    Comparator<T> getComparator();
+    
+    /**
+     * Obtiene una clave primitiva monótona respecto a {@link #getComparator()}: si la clave
+     * de a es menor que la de b, a va antes que b. Claves iguales se resuelven con el comparador.
+     * Permite a índices y almacenamientos comparar enteros en lugar de objetos.
+     * 
+     * @return función de clave, o null si la estrategia no ofrece una
+     */
+    default ToLongFunction<T> getRankingKey() {
+        return null;
+    }
+    
+    /**
+     * Identifica el orden que produce la estrategia. Dos estrategias con la misma definición
+     * ordenan igual, así que sirve para saber si un ranking guardado sigue siendo válido.
+     * 
+     * @return definición del orden; por defecto el nombre de la clase
+     */
+    default String getDefinition() {
+        return getClass().getName();
+    }
 }
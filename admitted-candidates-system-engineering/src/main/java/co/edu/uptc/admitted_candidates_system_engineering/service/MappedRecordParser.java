@@ -0,0 +1,417 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Base de los lectores de archivos de candidatos por registros (CSV y NDJSON).
+ * El archivo se mapea en memoria por ventanas y se interpreta byte a byte: enteros y fechas
+ * se decodifican directamente desde el buffer mapeado, y solo los textos que terminan en el
+ * candidato se convierten en String. Las etnias y los códigos de programa se repiten mucho,
+ * así que se internan en una tabla indexada por sus bytes y se reutiliza la misma instancia.
+ * Cada instancia guarda estado del archivo en curso: se usa una por archivo y desde un solo hilo.
+ * Aplica principio Template Method: la base recorre el archivo y cada formato interpreta un registro.
+ */
+public abstract class MappedRecordParser {
+
+    /** Tamaño máximo de cada ventana mapeada (MappedByteBuffer se indexa con int). */
+    static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+    /** Marca de fin de archivo que devuelve {@link #peek(int)} en la última ventana. */
+    protected static final int EOF = -1;
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    /**
+     * Señal de que el registro en curso continúa en la siguiente ventana. Se lanza como mucho
+     * una vez por ventana, así que no necesita traza.
+     */
+    private static final IncompleteRecord INCOMPLETE = new IncompleteRecord();
+
+    private final int windowSize;
+    private final InternTable internTable = new InternTable();
+    private final DateCache dateCache = new DateCache();
+
+    protected ByteBuffer buffer;
+    protected int limit;
+    private boolean lastWindow;
+    private long windowStart;
+    /** Posición donde empieza el registro siguiente; la fija {@link #parseRecord(int)}. */
+    protected int nextRecord;
+
+    protected byte[] scratch = new byte[256];
+    protected ByteBuffer scratchView = ByteBuffer.wrap(scratch);
+
+    protected MappedRecordParser(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de ventana debe ser positivo");
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Recorre el archivo y entrega cada candidato al consumidor en el orden del archivo.
+     *
+     * @param file archivo a leer
+     * @param sink consumidor que recibe cada candidato
+     * @return número de candidatos entregados
+     * @throws IOException si el archivo no puede leerse o tiene un registro mal formado
+     */
+    public long parse(Path file, Consumer<Candidate> sink) throws IOException {
+        long records = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long base = 0;
+            while (base < size) {
+                int length = (int) Math.min(windowSize, size - base);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+                // Little-endian para que en las búsquedas de 8 bytes el primer byte sea el menos significativo
+                buffer = window.order(ByteOrder.LITTLE_ENDIAN);
+                limit = length;
+                lastWindow = base + length == size;
+                windowStart = base;
+
+                int position = base == 0 ? skipBom() : 0;
+                int consumed = position;
+                try {
+                    while ((position = skipBlankLines(position)) < limit) {
+                        Candidate candidate = parseRecord(position);
+                        position = nextRecord;
+                        consumed = position;
+                        if (candidate != null) {
+                            sink.accept(candidate);
+                            records++;
+                        }
+                    }
+                    consumed = limit;
+                } catch (IncompleteRecord e) {
+                    if (consumed == 0) {
+                        throw new IOException("Registro de más de " + windowSize + " bytes en la posición " + base);
+                    }
+                }
+                base += consumed;
+            }
+        } finally {
+            buffer = null;
+        }
+        return records;
+    }
+
+    /**
+     * Interpreta el registro que empieza en la posición dada y deja en {@link #nextRecord} la
+     * posición del siguiente. Si el registro continúa en la siguiente ventana, {@link #peek(int)}
+     * interrumpe la lectura y el registro se vuelve a leer completo desde su inicio.
+     *
+     * @param position primer byte del registro
+     * @return candidato leído, o null si el registro no es un candidato (por ejemplo el encabezado)
+     * @throws IOException si el registro está mal formado
+     */
+    protected abstract Candidate parseRecord(int position) throws IOException;
+
+    /**
+     * Byte en la posición dada de la ventana, sin signo; {@link #EOF} al final del archivo.
+     */
+    protected final int peek(int position) {
+        if (position < limit) {
+            return buffer.get(position) & 0xFF;
+        }
+        if (lastWindow) {
+            return EOF;
+        }
+        throw INCOMPLETE;
+    }
+
+    /**
+     * Marca con su bit alto cada byte de {@code word} igual a {@code value} (técnica SWAR: compara
+     * 8 bytes con unas pocas operaciones de 64 bits). Solo la marca de menor orden es exacta;
+     * {@link #firstMarked(long)} la convierte en el desplazamiento del byte.
+     */
+    protected static long markBytes(long word, int value) {
+        long x = word ^ (0x0101010101010101L * value);
+        return (x - 0x0101010101010101L) & ~x & 0x8080808080808080L;
+    }
+
+    /**
+     * @return desplazamiento (0 a 7) del primer byte marcado por {@link #markBytes(long, int)}
+     */
+    protected static int firstMarked(long marks) {
+        return Long.numberOfTrailingZeros(marks) >>> 3;
+    }
+
+    /**
+     * Salta un fin de línea (LF o CRLF) o el fin de archivo.
+     *
+     * @return posición después del fin de línea
+     */
+    protected final int endOfLine(int position) throws IOException {
+        int b = peek(position);
+        if (b == '\r') {
+            b = peek(++position);
+        }
+        if (b == '\n') {
+            return position + 1;
+        }
+        if (b == EOF) {
+            return position;
+        }
+        throw error(position, "se esperaba fin de línea");
+    }
+
+    private int skipBlankLines(int position) {
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b != '\n' && b != '\r' && b != ' ' && b != '\t') {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private int skipBom() {
+        if (limit >= UTF8_BOM.length) {
+            for (int i = 0; i < UTF8_BOM.length; i++) {
+                if (buffer.get(i) != UTF8_BOM[i]) {
+                    return 0;
+                }
+            }
+            return UTF8_BOM.length;
+        }
+        return 0;
+    }
+
+    /**
+     * Entero decimal con signo opcional. Una parte decimal se trunca, como hace Jackson al
+     * leer un número con decimales en un campo int.
+     */
+    protected static int decodeInt(ByteBuffer source, int start, int length) throws IOException {
+        int end = start + length;
+        int i = start;
+        boolean negative = false;
+        if (i < end && (source.get(i) == '-' || source.get(i) == '+')) {
+            negative = source.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw new IOException("Número vacío");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = source.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                if (source.get(i) == '.' && i > start && allDigits(source, i + 1, end)) {
+                    break;
+                }
+                throw new IOException("Número no válido");
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw new IOException("Número fuera de rango");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Número fuera de rango");
+        }
+        return (int) value;
+    }
+
+    private static boolean allDigits(ByteBuffer source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (source.get(i) < '0' || source.get(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fecha ISO (aaaa-mm-dd) como día epoch. Las fechas de inscripción se repiten mucho, así
+     * que cada fecha distinta se valida y convierte una sola vez.
+     */
+    protected final int decodeDate(ByteBuffer source, int start, int length) throws IOException {
+        if (length != 10 || source.get(start + 4) != '-' || source.get(start + 7) != '-') {
+            throw new IOException("Fecha no válida, se esperaba aaaa-mm-dd");
+        }
+        int year = digits(source, start, 4);
+        int month = digits(source, start + 5, 2);
+        int day = digits(source, start + 8, 2);
+        return dateCache.get(year, month, day);
+    }
+
+    private static int digits(ByteBuffer source, int start, int count) throws IOException {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = source.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IOException("Fecha no válida, se esperaba aaaa-mm-dd");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Texto UTF-8 de un rango de bytes; si {@code intern} es true devuelve siempre la misma
+     * instancia para los mismos bytes.
+     */
+    protected final String decodeString(ByteBuffer source, int start, int length, boolean intern) {
+        int offset = start;
+        if (source != scratchView) {
+            ensureScratch(length);
+            source.get(start, scratch, 0, length);
+            offset = 0;
+        }
+        return intern ? internTable.intern(scratch, offset, length)
+            : new String(scratch, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Garantiza espacio en el búfer de trabajo para {@code length} bytes.
+     */
+    protected final void ensureScratch(int length) {
+        if (length > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(length, scratch.length * 2));
+            scratchView = ByteBuffer.wrap(scratch);
+        }
+    }
+
+    protected final IOException error(int position, String message) {
+        return new IOException("Registro mal formado en la posición " + (windowStart + position) + ": " + message);
+    }
+
+    private static final class IncompleteRecord extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        IncompleteRecord() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Tabla de textos por contenido en bytes, con direccionamiento abierto. Se limita a
+     * {@link #MAX_ENTRIES} textos: si un campo resulta tener muchos valores distintos,
+     * los que no caben se crean normalmente en lugar de hacer crecer la tabla sin fin.
+     */
+    private static final class InternTable {
+        private static final int MAX_ENTRIES = 4096;
+
+        private byte[][] keys = new byte[64][];
+        private String[] values = new String[64];
+        private int size;
+
+        String intern(byte[] bytes, int offset, int length) {
+            int hash = hash(bytes, offset, length);
+            int mask = keys.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                byte[] key = keys[slot];
+                if (key == null) {
+                    String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+                    if (size < MAX_ENTRIES) {
+                        keys[slot] = Arrays.copyOfRange(bytes, offset, offset + length);
+                        values[slot] = value;
+                        if (++size * 2 > keys.length) {
+                            grow();
+                        }
+                    }
+                    return value;
+                }
+                if (key.length == length && Arrays.equals(key, 0, length, bytes, offset, offset + length)) {
+                    return values[slot];
+                }
+            }
+        }
+
+        private void grow() {
+            byte[][] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new String[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = hash(oldKeys[i], 0, oldKeys[i].length) & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int hash(byte[] bytes, int offset, int length) {
+            int hash = 1;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Días epoch ya calculados, por su valor aaaammdd (nunca 0 para una fecha válida).
+     */
+    private static final class DateCache {
+        private int[] keys = new int[256];
+        private int[] days = new int[256];
+        private int size;
+
+        int get(int year, int month, int day) throws IOException {
+            int key = year * 10_000 + month * 100 + day;
+            int mask = keys.length - 1;
+            int slot = slot(key) & mask;
+            while (keys[slot] != 0) {
+                if (keys[slot] == key) {
+                    return days[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            int epochDay;
+            try {
+                epochDay = (int) LocalDate.of(year, month, day).toEpochDay();
+            } catch (DateTimeException e) {
+                throw new IOException("Fecha no válida: " + e.getMessage(), e);
+            }
+            keys[slot] = key;
+            days[slot] = epochDay;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+            return epochDay;
+        }
+
+        private static int slot(int key) {
+            int hash = key * 0x9E3779B9;
+            return hash ^ hash >>> 16;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldDays = days;
+            keys = new int[oldKeys.length * 2];
+            days = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = slot(oldKeys[i]) & mask;
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    days[slot] = oldDays[i];
+                }
+            }
+        }
+    }
+}
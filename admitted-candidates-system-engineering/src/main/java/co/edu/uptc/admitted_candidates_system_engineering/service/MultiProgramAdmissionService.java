@@ -0,0 +1,404 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramRanking;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admisión de varios programas a la vez sobre un único almacenamiento columnar compartido.
+ * Cada programa es una tarea en un pool de hilos común: reúne las filas de sus aspirantes,
+ * arma la matriz de claves de sus propias reglas ({@link RankingRules}, compiladas al iniciar)
+ * y ordena solo índices de filas. Las columnas se leen sin copiarlas y los objetos
+ * {@link Candidate} se crean únicamente para los admitidos. Las posiciones alfabéticas de
+ * nombres y apellidos se calculan una vez y las comparten todos los programas.
+ * Cuando los aspirantes compiten con varias opciones por orden de preferencia, la asignación
+ * conjunta de cupos se hace por aceptación diferida ({@link DeferredAcceptance}).
+ * Aplica principio Single Responsibility: solo clasifica; cargar y mostrar es de otros servicios.
+ */
+@Service
+public class MultiProgramAdmissionService {
+
+    private final List<CompiledProgram> programs;
+    private final int parallelism;
+    private final boolean usesTextRules;
+    private ExecutorService executor;
+
+    /**
+     * @param admissionPrograms programas configurados
+     * @param parallelism hilos para clasificar programas; 0 o negativo usa todos los núcleos
+     */
+    @Autowired
+    public MultiProgramAdmissionService(AdmissionPrograms admissionPrograms,
+                                        @Value("${admission.program-parallelism:0}") int parallelism) {
+        this.programs = compile(admissionPrograms.getPrograms());
+        this.parallelism = Math.max(1, Math.min(Math.max(1, programs.size()),
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors()));
+        boolean text = false;
+        for (CompiledProgram program : programs) {
+            for (int rule = 0; rule < program.rules.size(); rule++) {
+                text |= program.rules.isText(rule);
+            }
+        }
+        this.usesTextRules = text;
+    }
+
+    private static List<CompiledProgram> compile(List<AdmissionPrograms.Program> definitions) {
+        List<CompiledProgram> compiled = new ArrayList<>();
+        Set<String> codes = new HashSet<>();
+        for (AdmissionPrograms.Program definition : definitions) {
+            String code = definition.getCode();
+            if (code == null || code.isBlank()) {
+                throw new IllegalArgumentException("Todo programa necesita un código (admission.programs[i].code)");
+            }
+            if (!codes.add(code)) {
+                throw new IllegalArgumentException("Código de programa repetido: " + code);
+            }
+            if (definition.getSeats() < 0) {
+                throw new IllegalArgumentException("Los cupos del programa " + code + " no pueden ser negativos");
+            }
+            String rules = definition.getRules();
+            try {
+                compiled.add(new CompiledProgram(code, definition.getTitle(), definition.getSeats(),
+                    rules == null || rules.isBlank() ? RankingRules.defaults() : RankingRules.parse(rules)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Programa " + code + ": " + e.getMessage(), e);
+            }
+        }
+        return compiled;
+    }
+
+    public int getProgramCount() {
+        return programs.size();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Clasifica todos los programas en paralelo. El almacenamiento no debe recibir
+     * inserciones mientras se clasifica.
+     *
+     * @param store candidatos con sus elecciones de programa
+     * @return admitidos y tiempo de cada programa, en el orden de la configuración
+     */
+    public ProgramAdmissions rank(ColumnarCandidateRepository store) {
+        if (programs.isEmpty()) {
+            throw new IllegalStateException("No hay programas configurados (admission.programs[i].code)");
+        }
+        long start = System.nanoTime();
+        int rows = store.getTotalCandidates();
+        SharedColumns shared = new SharedColumns(store, rows, usesTextRules);
+
+        List<CompletableFuture<ProgramRanking>> tasks = new ArrayList<>(programs.size());
+        for (int i = 0; i < programs.size(); i++) {
+            CompiledProgram program = programs.get(i);
+            boolean principal = i == 0;
+            tasks.add(CompletableFuture.supplyAsync(() -> rankProgram(program, principal, shared), executor()));
+        }
+        List<ProgramRanking> rankings = new ArrayList<>(tasks.size());
+        for (CompletableFuture<ProgramRanking> task : tasks) {
+            rankings.add(task.join());
+        }
+        return new ProgramAdmissions(rankings, parallelism, System.nanoTime() - start);
+    }
+
+    /**
+     * Asigna a cada aspirante como mucho un cupo entre todos los programas por aceptación
+     * diferida: la prioridad de cada programa es el orden de sus reglas y cada aspirante
+     * termina en la mejor de sus opciones que le permite una asignación estable.
+     * Programas con las mismas reglas comparten la misma prioridad, calculada una sola vez.
+     *
+     * @param store candidatos con sus elecciones de programa
+     * @return admitidos de cada programa en orden de prioridad
+     */
+    public SeatAssignment assignSeats(ColumnarCandidateRepository store) {
+        if (programs.isEmpty()) {
+            throw new IllegalStateException("No hay programas configurados (admission.programs[i].code)");
+        }
+        long start = System.nanoTime();
+        int rows = store.getTotalCandidates();
+        SharedColumns shared = new SharedColumns(store, rows, usesTextRules);
+
+        // Una prioridad por conjunto de reglas distinto, calculadas en paralelo
+        Map<String, CompletableFuture<Priority>> byDefinition = new HashMap<>();
+        List<CompletableFuture<Priority>> programPriority = new ArrayList<>(programs.size());
+        for (CompiledProgram program : programs) {
+            programPriority.add(byDefinition.computeIfAbsent(program.rules.getDefinition(),
+                definition -> CompletableFuture.supplyAsync(() -> priority(program.rules, shared), executor())));
+        }
+
+        int[] programByCode = new int[store.getProgramCount()];
+        Arrays.fill(programByCode, -1);
+        for (int i = 0; i < programs.size(); i++) {
+            short code = store.getProgramCode(programs.get(i).code);
+            if (code >= 0) {
+                programByCode[code] = i;
+            }
+        }
+        int[] choiceStart = new int[rows + 1];
+        short[] choices = new short[Math.max(16, rows)];
+        int total = 0;
+        for (int row = 0; row < rows; row++) {
+            int count = store.getProgramChoiceCount(row);
+            if (total + Math.max(count, 1) > choices.length) {
+                choices = Arrays.copyOf(choices, Math.max(total + count, choices.length + (choices.length >> 1)));
+            }
+            if (count == 0) {
+                choices[total++] = 0; // sin elecciones: solo el programa principal
+            }
+            for (int choice = 0; choice < count; choice++) {
+                int program = programByCode[store.getProgramChoiceCode(row, choice)];
+                if (program >= 0) {
+                    choices[total++] = (short) program;
+                }
+            }
+            choiceStart[row + 1] = total;
+        }
+
+        int[] capacities = new int[programs.size()];
+        int[][] ranks = new int[programs.size()][];
+        Priority[] priorities = new Priority[programs.size()];
+        for (int i = 0; i < programs.size(); i++) {
+            int seats = programs.get(i).seats;
+            capacities[i] = seats > 0 ? seats : Integer.MAX_VALUE;
+            priorities[i] = programPriority.get(i).join();
+            ranks[i] = priorities[i].rank;
+        }
+        DeferredAcceptance engine = new DeferredAcceptance(rows, choiceStart, choices, capacities, ranks);
+        int[] assignment = engine.run();
+
+        int[] applicantsPerProgram = new int[programs.size()];
+        int[] admittedPerProgram = new int[programs.size()];
+        int applicants = 0;
+        int unassigned = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int i = choiceStart[row]; i < choiceStart[row + 1]; i++) {
+                applicantsPerProgram[choices[i]]++;
+            }
+            if (choiceStart[row + 1] > choiceStart[row]) {
+                applicants++;
+                if (assignment[row] == DeferredAcceptance.UNASSIGNED) {
+                    unassigned++;
+                } else {
+                    admittedPerProgram[assignment[row]]++;
+                }
+            }
+        }
+
+        // Admitidos de cada programa en orden de prioridad: se ordenan sus posiciones
+        int[][] admittedRanks = new int[programs.size()][];
+        for (int i = 0; i < programs.size(); i++) {
+            admittedRanks[i] = new int[admittedPerProgram[i]];
+            admittedPerProgram[i] = 0;
+        }
+        for (int row = 0; row < rows; row++) {
+            int program = assignment[row];
+            if (program != DeferredAcceptance.UNASSIGNED) {
+                admittedRanks[program][admittedPerProgram[program]++] = ranks[program][row];
+            }
+        }
+        List<ProgramRanking> results = new ArrayList<>(programs.size());
+        for (int i = 0; i < programs.size(); i++) {
+            CompiledProgram program = programs.get(i);
+            int[] programRanks = admittedRanks[i];
+            Arrays.sort(programRanks);
+            List<Candidate> admitted = new ArrayList<>(programRanks.length);
+            for (int rank : programRanks) {
+                admitted.add(store.getCandidate(priorities[i].order[rank]));
+            }
+            results.add(new ProgramRanking(program.code, program.title, program.seats, applicantsPerProgram[i], admitted));
+        }
+        return new SeatAssignment(results, applicants, unassigned, engine.getProposals(), System.nanoTime() - start);
+    }
+
+    /**
+     * Posición de cada fila del almacenamiento según las reglas. Se ordena por la última regla
+     * y se avanza hacia la primera con un ordenamiento estable, así que solo se necesita una
+     * columna de claves a la vez en lugar de la matriz completa.
+     */
+    private static Priority priority(RankingRules rules, SharedColumns shared) {
+        ColumnarCandidateRepository store = shared.store;
+        int rows = shared.rows;
+        int[] order = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            order[row] = row;
+        }
+        long[] column = new long[rows];
+        for (int rule = rules.size() - 1; rule >= 0; rule--) {
+            if (rules.isText(rule)) {
+                int[] ranks = rules.isLastNameRule(rule) ? shared.lastNameRanks : shared.nameRanks;
+                for (int row = 0; row < rows; row++) {
+                    column[row] = rules.orient(rule, ranks[row]);
+                }
+            } else {
+                for (int row = 0; row < rows; row++) {
+                    column[row] = rules.value(rule, store.isMinorityCommunity(row), store.getGlobalIcfesScore(row),
+                        store.getMathScore(row), store.getEnglishScore(row), store.getRegistrationEpochDay(row));
+                }
+            }
+            RuleBasedCandidateSorter.sortRows(order, column, 1);
+        }
+        int[] rank = new int[rows];
+        for (int position = 0; position < rows; position++) {
+            rank[order[position]] = position;
+        }
+        return new Priority(order, rank);
+    }
+
+    private ProgramRanking rankProgram(CompiledProgram program, boolean principal, SharedColumns shared) {
+        long start = System.nanoTime();
+        ColumnarCandidateRepository store = shared.store;
+        int[] applicants = applicantRows(store, shared.rows, store.getProgramCode(program.code), principal);
+        int count = applicants.length;
+
+        RankingRules rules = program.rules;
+        int width = rules.size();
+        long[] keys = new long[count * width];
+        for (int rule = 0; rule < width; rule++) {
+            if (rules.isText(rule)) {
+                int[] ranks = rules.isLastNameRule(rule) ? shared.lastNameRanks : shared.nameRanks;
+                for (int i = 0, position = rule; i < count; i++, position += width) {
+                    keys[position] = rules.orient(rule, ranks[applicants[i]]);
+                }
+            } else {
+                for (int i = 0, position = rule; i < count; i++, position += width) {
+                    int row = applicants[i];
+                    keys[position] = rules.value(rule, store.isMinorityCommunity(row),
+                        store.getGlobalIcfesScore(row), store.getMathScore(row), store.getEnglishScore(row),
+                        store.getRegistrationEpochDay(row));
+                }
+            }
+        }
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        RuleBasedCandidateSorter.sortRows(order, keys, width);
+
+        int admittedCount = program.seats > 0 ? Math.min(program.seats, count) : count;
+        List<Candidate> admitted = new ArrayList<>(admittedCount);
+        for (int i = 0; i < admittedCount; i++) {
+            admitted.add(store.getCandidate(applicants[order[i]]));
+        }
+        return new ProgramRanking(program.code, program.title, program.seats, count, admitted,
+            System.nanoTime() - start);
+    }
+
+    /**
+     * Filas de los aspirantes al programa, en orden de inserción. Quien no eligió ningún
+     * programa aspira solo al principal.
+     */
+    private static int[] applicantRows(ColumnarCandidateRepository store, int rows, short code, boolean principal) {
+        int[] applicants = new int[Math.min(rows, 1024)];
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            int choices = store.getProgramChoiceCount(row);
+            boolean applies = choices == 0 && principal;
+            for (int choice = 0; choice < choices && !applies && code >= 0; choice++) {
+                applies = store.getProgramChoiceCode(row, choice) == code;
+            }
+            if (applies) {
+                if (count == applicants.length) {
+                    applicants = Arrays.copyOf(applicants, Math.min(rows, applicants.length * 2));
+                }
+                applicants[count++] = row;
+            }
+        }
+        return Arrays.copyOf(applicants, count);
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            AtomicInteger threads = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(parallelism, task -> {
+                Thread thread = new Thread(task, "program-ranking-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Datos de solo lectura que comparten todas las tareas de una clasificación.
+     */
+    private static final class SharedColumns {
+        private final ColumnarCandidateRepository store;
+        private final int rows;
+        private final int[] nameRanks;
+        private final int[] lastNameRanks;
+
+        SharedColumns(ColumnarCandidateRepository store, int rows, boolean withTextRanks) {
+            this.store = store;
+            this.rows = rows;
+            if (withTextRanks) {
+                String[] names = new String[rows];
+                String[] lastNames = new String[rows];
+                for (int row = 0; row < rows; row++) {
+                    names[row] = store.getName(row);
+                    lastNames[row] = store.getLastName(row);
+                }
+                this.nameRanks = RankingRules.denseRanks(names);
+                this.lastNameRanks = RankingRules.denseRanks(lastNames);
+            } else {
+                this.nameRanks = null;
+                this.lastNameRanks = null;
+            }
+        }
+    }
+
+    /**
+     * Prioridad de un conjunto de reglas: {@code order[posición] = fila} y {@code rank[fila] = posición}.
+     */
+    private static final class Priority {
+        private final int[] order;
+        private final int[] rank;
+
+        Priority(int[] order, int[] rank) {
+            this.order = order;
+            this.rank = rank;
+        }
+    }
+
+    private static final class CompiledProgram {
+        private final String code;
+        private final String title;
+        private final int seats;
+        private final RankingRules rules;
+
+        CompiledProgram(String code, String title, int seats, RankingRules rules) {
+            this.code = code;
+            this.title = title;
+            this.seats = seats;
+            this.rules = rules;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lector de candidatos en JSON delimitado por líneas (NDJSON): un objeto candidato por línea,
+ * con los mismos campos que candidates.json. Los campos desconocidos se saltan. Los números se
+ * leen directamente del buffer mapeado; los textos solo se copian cuando se convierten en String.
+ */
+public final class NdjsonCandidateParser extends MappedRecordParser {
+
+    private static final byte[][] FIELDS = {
+        ascii("name"), ascii("lastName"), ascii("ethnicity"), ascii("globalIcfesScore"),
+        ascii("registrationDate"), ascii("mathScore"), ascii("englishScore"), ascii("programChoices")
+    };
+    private static final int NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int ETHNICITY = 2;
+    private static final int GLOBAL_SCORE = 3;
+    private static final int REGISTRATION_DATE = 4;
+    private static final int MATH_SCORE = 5;
+    private static final int ENGLISH_SCORE = 6;
+    private static final int PROGRAM_CHOICES = 7;
+    private static final int UNKNOWN = -1;
+    /** Nombre de cada campo seguido de su comilla de cierre, en palabras de 8 bytes little-endian. */
+    private static final long[][] FIELD_WORDS = new long[FIELDS.length][];
+    /** Bytes que cuentan de cada palabra de FIELD_WORDS (la última puede ser parcial). */
+    private static final long[][] FIELD_MASKS = new long[FIELDS.length][];
+
+    static {
+        for (int field = 0; field < FIELDS.length; field++) {
+            byte[] quoted = Arrays.copyOf(FIELDS[field], FIELDS[field].length + 1);
+            quoted[quoted.length - 1] = '"';
+            int words = (quoted.length + Long.BYTES - 1) / Long.BYTES;
+            FIELD_WORDS[field] = new long[words];
+            FIELD_MASKS[field] = new long[words];
+            for (int i = 0; i < quoted.length; i++) {
+                FIELD_WORDS[field][i / Long.BYTES] |= (quoted[i] & 0xFFL) << (8 * (i % Long.BYTES));
+                FIELD_MASKS[field][i / Long.BYTES] |= 0xFFL << (8 * (i % Long.BYTES));
+            }
+        }
+    }
+
+    /** Longitud en scratch del último texto leído con {@link #readString(int)}. */
+    private int stringLength;
+    /** Campo del último nombre leído con {@link #readKey(int)}. */
+    private int key;
+    /** Campo que se prueba primero: los registros suelen traer los campos siempre en el mismo orden. */
+    private int expectedField;
+
+    public NdjsonCandidateParser() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    NdjsonCandidateParser(int windowSize) {
+        super(windowSize);
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    protected Candidate parseRecord(int position) throws IOException {
+        if (peek(position) != '{') {
+            throw error(position, "se esperaba un objeto JSON");
+        }
+        Candidate candidate = new Candidate();
+        expectedField = 0;
+        position = skipSpaces(position + 1);
+        if (peek(position) == '}') {
+            nextRecord = endOfLine(skipSpaces(position + 1));
+            return candidate;
+        }
+        while (true) {
+            if (peek(position) != '"') {
+                throw error(position, "se esperaba el nombre de un campo");
+            }
+            position = readKey(position);
+            int field = key;
+            position = skipSpaces(position);
+            if (peek(position) != ':') {
+                throw error(position, "se esperaban dos puntos");
+            }
+            position = readValue(candidate, field, skipSpaces(position + 1));
+            position = skipSpaces(position);
+            int b = peek(position);
+            if (b == '}') {
+                break;
+            }
+            if (b != ',') {
+                throw error(position, "se esperaba una coma o el cierre del objeto");
+            }
+            position = skipSpaces(position + 1);
+        }
+        nextRecord = endOfLine(skipSpaces(position + 1));
+        return candidate;
+    }
+
+    /**
+     * Lee el nombre de un campo comparándolo directamente contra el buffer, sin copiarlo,
+     * empezando por el campo esperado. Un nombre desconocido o con escapes se lee completo.
+     *
+     * @return posición después de la comilla de cierre
+     */
+    private int readKey(int position) throws IOException {
+        for (int attempt = 0; attempt < FIELDS.length; attempt++) {
+            int field = (expectedField + attempt) % FIELDS.length;
+            int end = matchKey(position + 1, field);
+            if (end >= 0) {
+                key = field;
+                expectedField = field + 1;
+                return end;
+            }
+        }
+        position = readString(position);
+        key = field();
+        return position;
+    }
+
+    /**
+     * @return posición después de la comilla de cierre si el nombre en {@code start} es el del
+     *         campo, o -1 si no lo es
+     */
+    private int matchKey(int start, int field) {
+        long[] words = FIELD_WORDS[field];
+        if (start + words.length * Long.BYTES <= limit) {
+            long[] masks = FIELD_MASKS[field];
+            for (int w = 0; w < words.length; w++) {
+                if (((buffer.getLong(start + w * Long.BYTES) ^ words[w]) & masks[w]) != 0) {
+                    return -1;
+                }
+            }
+            return start + FIELDS[field].length + 1;
+        }
+        byte[] name = FIELDS[field];
+        for (int i = 0; i < name.length; i++) {
+            if (peek(start + i) != name[i]) {
+                return -1;
+            }
+        }
+        return peek(start + name.length) == '"' ? start + name.length + 1 : -1;
+    }
+
+    private int field() {
+        for (int field = 0; field < FIELDS.length; field++) {
+            byte[] name = FIELDS[field];
+            if (name.length == stringLength && Arrays.equals(name, 0, name.length, scratch, 0, stringLength)) {
+                return field;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private int readValue(Candidate candidate, int field, int position) throws IOException {
+        if (field == UNKNOWN) {
+            return skipValue(position);
+        }
+        if (peek(position) == 'n') {
+            // null deja el valor por defecto del campo, como Jackson
+            return literal(position, "null");
+        }
+        switch (field) {
+            case NAME -> {
+                position = expectString(position);
+                candidate.setName(decodeString(scratchView, 0, stringLength, false));
+            }
+            case LAST_NAME -> {
+                position = expectString(position);
+                candidate.setLastName(decodeString(scratchView, 0, stringLength, false));
+            }
+            case ETHNICITY -> {
+                position = expectString(position);
+                candidate.setEthnicity(decodeString(scratchView, 0, stringLength, true));
+            }
+            case REGISTRATION_DATE -> {
+                position = expectString(position);
+                candidate.setRegistrationEpochDay(decodeDate(scratchView, 0, stringLength));
+            }
+            case PROGRAM_CHOICES -> position = readChoices(candidate, position);
+            default -> {
+                int end = numberEnd(position);
+                int value = decodeInt(buffer, position, end - position);
+                if (field == GLOBAL_SCORE) {
+                    candidate.setGlobalIcfesScore(value);
+                } else if (field == MATH_SCORE) {
+                    candidate.setMathScore(value);
+                } else {
+                    candidate.setEnglishScore(value);
+                }
+                position = end;
+            }
+        }
+        return position;
+    }
+
+    private int readChoices(Candidate candidate, int position) throws IOException {
+        if (peek(position) != '[') {
+            throw error(position, "programChoices debe ser un arreglo");
+        }
+        List<String> choices = new ArrayList<>(4);
+        position = skipSpaces(position + 1);
+        if (peek(position) == ']') {
+            candidate.setProgramChoices(choices);
+            return position + 1;
+        }
+        while (true) {
+            position = expectString(position);
+            choices.add(decodeString(scratchView, 0, stringLength, true));
+            position = skipSpaces(position);
+            int b = peek(position);
+            if (b == ']') {
+                candidate.setProgramChoices(choices);
+                return position + 1;
+            }
+            if (b != ',') {
+                throw error(position, "se esperaba una coma o el cierre del arreglo");
+            }
+            position = skipSpaces(position + 1);
+        }
+    }
+
+    private int expectString(int position) throws IOException {
+        if (peek(position) != '"') {
+            throw error(position, "se esperaba un texto");
+        }
+        return readString(position);
+    }
+
+    /**
+     * Copia a scratch el texto que empieza en la comilla dada, resolviendo los escapes, y deja
+     * su longitud en {@link #stringLength}. Sin escapes, el texto se copia de una sola vez.
+     *
+     * @return posición después de la comilla de cierre
+     */
+    private int readString(int position) throws IOException {
+        int start = position + 1;
+        int i = start;
+        // De 8 en 8 bytes hasta la comilla, barra invertida o salto de línea; el resto, byte a byte
+        while (i + Long.BYTES <= limit) {
+            long word = buffer.getLong(i);
+            long marks = markBytes(word, '"') | markBytes(word, '\\') | markBytes(word, '\n');
+            if (marks != 0) {
+                i += firstMarked(marks);
+                break;
+            }
+            i += Long.BYTES;
+        }
+        int b;
+        while ((b = peek(i)) != '"' && b != '\\') {
+            if (b == EOF || b == '\n') {
+                throw error(i, "texto sin cerrar");
+            }
+            i++;
+        }
+        int length = i - start;
+        ensureScratch(length);
+        buffer.get(start, scratch, 0, length);
+        if (b == '"') {
+            stringLength = length;
+            return i + 1;
+        }
+
+        while (true) {
+            b = peek(i++);
+            if (b == '"') {
+                stringLength = length;
+                return i;
+            }
+            if (b == EOF || b == '\n') {
+                throw error(i, "texto sin cerrar");
+            }
+            if (b != '\\') {
+                ensureScratch(length + 1);
+                scratch[length++] = (byte) b;
+                continue;
+            }
+            int escape = peek(i++);
+            switch (escape) {
+                case '"', '\\', '/' -> b = escape;
+                case 'b' -> b = '\b';
+                case 'f' -> b = '\f';
+                case 'n' -> b = '\n';
+                case 'r' -> b = '\r';
+                case 't' -> b = '\t';
+                case 'u' -> {
+                    int codePoint = hex(i);
+                    i += 4;
+                    if (Character.isHighSurrogate((char) codePoint) && peek(i) == '\\' && peek(i + 1) == 'u') {
+                        int low = hex(i + 2);
+                        if (Character.isLowSurrogate((char) low)) {
+                            codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                            i += 6;
+                        }
+                    }
+                    length = appendUtf8(codePoint, length);
+                    continue;
+                }
+                default -> throw error(i - 1, "escape no válido");
+            }
+            ensureScratch(length + 1);
+            scratch[length++] = (byte) b;
+        }
+    }
+
+    private int hex(int position) throws IOException {
+        int value = 0;
+        for (int i = position; i < position + 4; i++) {
+            int digit = Character.digit(peek(i), 16);
+            if (digit < 0) {
+                throw error(i, "escape \\u no válido");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private int appendUtf8(int codePoint, int length) {
+        ensureScratch(length + 4);
+        if (codePoint < 0x80) {
+            scratch[length++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            scratch[length++] = (byte) (0xC0 | codePoint >> 6);
+            scratch[length++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            scratch[length++] = (byte) (0xE0 | codePoint >> 12);
+            scratch[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            scratch[length++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            scratch[length++] = (byte) (0xF0 | codePoint >> 18);
+            scratch[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            scratch[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            scratch[length++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+        return length;
+    }
+
+    private int numberEnd(int position) throws IOException {
+        int i = position;
+        int b = peek(i);
+        while (b == '-' || b == '+' || b == '.' || (b >= '0' && b <= '9')) {
+            b = peek(++i);
+        }
+        if (i == position) {
+            throw error(position, "se esperaba un número");
+        }
+        return i;
+    }
+
+    private int literal(int position, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            if (peek(position + i) != text.charAt(i)) {
+                throw error(position, "valor no válido");
+            }
+        }
+        return position + text.length();
+    }
+
+    /**
+     * Salta el valor de un campo desconocido, con objetos y arreglos anidados.
+     */
+    private int skipValue(int position) throws IOException {
+        int b = peek(position);
+        switch (b) {
+            case '"' -> {
+                return readString(position);
+            }
+            case '{', '[' -> {
+                int close = b == '{' ? '}' : ']';
+                position = skipSpaces(position + 1);
+                if (peek(position) == close) {
+                    return position + 1;
+                }
+                while (true) {
+                    if (b == '{') {
+                        position = skipSpaces(expectString(position));
+                        if (peek(position) != ':') {
+                            throw error(position, "se esperaban dos puntos");
+                        }
+                        position = skipSpaces(position + 1);
+                    }
+                    position = skipSpaces(skipValue(position));
+                    int next = peek(position);
+                    if (next == close) {
+                        return position + 1;
+                    }
+                    if (next != ',') {
+                        throw error(position, "se esperaba una coma");
+                    }
+                    position = skipSpaces(position + 1);
+                }
+            }
+            case 't' -> {
+                return literal(position, "true");
+            }
+            case 'f' -> {
+                return literal(position, "false");
+            }
+            case 'n' -> {
+                return literal(position, "null");
+            }
+            default -> {
+                int end = position;
+                while ((b = peek(end)) == '-' || b == '+' || b == '.' || b == 'e' || b == 'E' || (b >= '0' && b <= '9')) {
+                    end++;
+                }
+                if (end == position) {
+                    throw error(position, "valor no válido");
+                }
+                return end;
+            }
+        }
+    }
+
+    private int skipSpaces(int position) {
+        int b = peek(position);
+        while (b == ' ' || b == '\t') {
+            b = peek(++position);
+        }
+        return position;
+    }
+}
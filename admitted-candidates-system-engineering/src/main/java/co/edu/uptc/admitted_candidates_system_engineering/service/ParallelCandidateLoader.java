@@ -0,0 +1,307 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Carga paralela de archivos JSON grandes de candidatos.
+ * El archivo se mapea en memoria con NIO, se recorre una vez para ubicar los límites
+ * de cada objeto del arreglo principal y los objetos se deserializan por bloques en
+ * un ForkJoinPool. Los bloques se insertan en el orden original del archivo.
+ * Aplica principio Single Responsibility: solo se ocupa de la carga paralela.
+ */
+@Service
+public class ParallelCandidateLoader {
+
+    /** Tamaño máximo de cada región mapeada (MappedByteBuffer se indexa con int). */
+    private static final long SEGMENT_SIZE = 1L << 30;
+    /** Bytes de JSON aproximados por bloque de deserialización. */
+    private static final int CHUNK_BYTES = 4 << 20;
+    /** Bloques en vuelo por hilo; acota la memoria usada entre parseo e inserción. */
+    private static final int CHUNKS_PER_WAVE_PER_THREAD = 4;
+
+    private final CandidateDataLoader dataLoader;
+    private final int parallelism;
+    private final long segmentSize;
+    private final int chunkBytes;
+
+    /**
+     * @param dataLoader cargador que aporta el deserializador de candidatos
+     * @param parallelism hilos de deserialización; 0 o negativo usa todos los núcleos
+     */
+    @Autowired
+    public ParallelCandidateLoader(CandidateDataLoader dataLoader,
+                                   @Value("${admission.loader.parallelism:0}") int parallelism) {
+        this(dataLoader, parallelism, SEGMENT_SIZE, CHUNK_BYTES);
+    }
+
+    /**
+     * Permite regiones y bloques más pequeños, para que sus límites caigan dentro de los objetos.
+     */
+    ParallelCandidateLoader(CandidateDataLoader dataLoader, int parallelism, long segmentSize, int chunkBytes) {
+        this.dataLoader = dataLoader;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.segmentSize = segmentSize;
+        this.chunkBytes = chunkBytes;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Carga el archivo en paralelo entregando los candidatos al consumidor en el orden del archivo.
+     *
+     * @param file archivo JSON con un arreglo de objetos candidato
+     * @param sink consumidor que recibe cada candidato (se invoca desde un solo hilo)
+     * @return reporte con el rendimiento de las etapas scan, parse e insert
+     * @throws IOException si el archivo no puede leerse o no es un arreglo de objetos
+     */
+    public IngestionReport load(Path file, Consumer<Candidate> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedFile mapped = new MappedFile(channel, segmentSize);
+            IngestionReport report = new IngestionReport("parallel x" + parallelism, mapped.size);
+
+            long scanStart = System.nanoTime();
+            ObjectBoundaries boundaries = scan(mapped);
+            report.addStage("scan", boundaries.count, System.nanoTime() - scanStart);
+
+            parseAndInsert(mapped, boundaries, sink, report);
+            return report;
+        }
+    }
+
+    /**
+     * Recorre los bytes una sola vez y registra inicio y fin de cada objeto del arreglo principal.
+     * Lleva la cuenta de profundidad y de cadenas (con escapes) para ignorar llaves dentro de textos.
+     */
+    private ObjectBoundaries scan(MappedFile mapped) throws IOException {
+        ObjectBoundaries boundaries = new ObjectBoundaries();
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean arrayClosed = false;
+        long objectStart = -1;
+
+        long position = 0;
+        for (MappedByteBuffer segment : mapped.segments) {
+            int limit = segment.limit();
+            for (int i = 0; i < limit; i++, position++) {
+                byte b = segment.get(i);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                if (arrayClosed) {
+                    throw new IOException("Contenido inesperado después del arreglo en la posición " + position);
+                }
+                if (depth == 0) {
+                    if (b != '[') {
+                        throw new IOException("Se esperaba un arreglo JSON de candidatos");
+                    }
+                    depth = 1;
+                } else if (depth == 1) {
+                    if (b == '{') {
+                        objectStart = position;
+                        depth = 2;
+                    } else if (b == ']') {
+                        depth = 0;
+                        arrayClosed = true;
+                    } else if (b != ',') {
+                        throw new IOException("Elemento inesperado en el arreglo de candidatos en la posición " + position);
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                    if (depth == 1) {
+                        boundaries.add(objectStart, position + 1);
+                    }
+                }
+            }
+        }
+        if (!arrayClosed) {
+            throw new IOException("El arreglo de candidatos no está cerrado");
+        }
+        return boundaries;
+    }
+
+    /**
+     * Deserializa los objetos por oleadas de bloques en el ForkJoinPool e inserta cada
+     * oleada en orden antes de lanzar la siguiente, de modo que la memoria ocupada
+     * depende del tamaño de la oleada y no del archivo.
+     */
+    private void parseAndInsert(MappedFile mapped, ObjectBoundaries boundaries,
+                                Consumer<Candidate> sink, IngestionReport report) throws IOException {
+        List<int[]> chunks = splitIntoChunks(boundaries);
+        int wave = parallelism * CHUNKS_PER_WAVE_PER_THREAD;
+        long parseNanos = 0;
+        long insertNanos = 0;
+        long inserted = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism, AdmissionMetrics.workerThreads("candidate-load-"), null, false);
+        try {
+            for (int first = 0; first < chunks.size(); first += wave) {
+                List<Callable<Candidate[]>> tasks = new ArrayList<>();
+                for (int c = first; c < Math.min(first + wave, chunks.size()); c++) {
+                    int[] range = chunks.get(c);
+                    tasks.add(() -> parseChunk(mapped, boundaries, range[0], range[1]));
+                }
+
+                long parseStart = System.nanoTime();
+                List<Future<Candidate[]>> results = pool.invokeAll(tasks);
+                List<Candidate[]> parsed = new ArrayList<>(results.size());
+                for (Future<Candidate[]> result : results) {
+                    parsed.add(getChunk(result));
+                }
+                parseNanos += System.nanoTime() - parseStart;
+
+                long insertStart = System.nanoTime();
+                for (Candidate[] chunk : parsed) {
+                    for (Candidate candidate : chunk) {
+                        sink.accept(candidate);
+                    }
+                    inserted += chunk.length;
+                }
+                insertNanos += System.nanoTime() - insertStart;
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        report.addStage("parse", boundaries.count, parseNanos);
+        report.addStage("insert", inserted, insertNanos);
+    }
+
+    private Candidate[] getChunk(Future<Candidate[]> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Carga paralela interrumpida", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Error al deserializar un bloque de candidatos: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Agrupa objetos consecutivos en bloques de aproximadamente {@link #chunkBytes} bytes.
+     *
+     * @return rangos [primer objeto, último objeto exclusivo]
+     */
+    private List<int[]> splitIntoChunks(ObjectBoundaries boundaries) {
+        List<int[]> chunks = new ArrayList<>();
+        int first = 0;
+        for (int i = 0; i < boundaries.count; i++) {
+            if (boundaries.ends[i] - boundaries.starts[first] >= chunkBytes) {
+                chunks.add(new int[] {first, i + 1});
+                first = i + 1;
+            }
+        }
+        if (first < boundaries.count) {
+            chunks.add(new int[] {first, boundaries.count});
+        }
+        return chunks;
+    }
+
+    /**
+     * Copia el tramo contiguo del bloque a un arreglo propio y deserializa cada objeto.
+     */
+    private Candidate[] parseChunk(MappedFile mapped, ObjectBoundaries boundaries,
+                                   int firstObject, int endObject) throws IOException {
+        long base = boundaries.starts[firstObject];
+        byte[] bytes = mapped.copy(base, (int) (boundaries.ends[endObject - 1] - base));
+
+        Candidate[] candidates = new Candidate[endObject - firstObject];
+        for (int i = firstObject; i < endObject; i++) {
+            int offset = (int) (boundaries.starts[i] - base);
+            int length = (int) (boundaries.ends[i] - boundaries.starts[i]);
+            candidates[i - firstObject] = dataLoader.readCandidate(bytes, offset, length);
+        }
+        return candidates;
+    }
+
+    /**
+     * Archivo mapeado en regiones de hasta {@link #SEGMENT_SIZE} bytes,
+     * lo que permite archivos de más de 2 GB.
+     */
+    private static final class MappedFile {
+        private final long size;
+        private final long segmentSize;
+        private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+        MappedFile(FileChannel channel, long segmentSize) throws IOException {
+            this.size = channel.size();
+            this.segmentSize = segmentSize;
+            for (long offset = 0; offset < size; offset += segmentSize) {
+                long length = Math.min(segmentSize, size - offset);
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+            }
+        }
+
+        byte[] copy(long position, int length) {
+            byte[] target = new byte[length];
+            int copied = 0;
+            while (copied < length) {
+                long absolute = position + copied;
+                MappedByteBuffer segment = segments.get((int) (absolute / segmentSize));
+                int index = (int) (absolute % segmentSize);
+                int count = Math.min(length - copied, segment.limit() - index);
+                segment.get(index, target, copied, count);
+                copied += count;
+            }
+            return target;
+        }
+    }
+
+    /**
+     * Posiciones absolutas [inicio, fin) de cada objeto en arreglos primitivos crecientes.
+     */
+    private static final class ObjectBoundaries {
+        private long[] starts = new long[1024];
+        private long[] ends = new long[1024];
+        private int count;
+
+        void add(long start, long end) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+    }
+}
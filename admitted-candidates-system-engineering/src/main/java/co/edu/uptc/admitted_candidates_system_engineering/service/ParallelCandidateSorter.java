@@ -0,0 +1,350 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordenamiento de candidatos en varios hilos con un merge sort sobre ForkJoinPool.
+ * Cada candidato se reduce a una clave {@code long} exacta (bandera de minoría y los tres
+ * puntajes de 16 bits), así que casi todas las comparaciones son entre enteros; solo las
+ * claves iguales se desempatan por apellido y nombre. Cada hoja ordena su tramo con
+ * {@link Arrays#sort(long[])} sobre la clave y la posición, y los tramos se mezclan en paralelo
+ * partiendo cada mezcla por búsqueda binaria. El resultado es estable y coincide con
+ * {@link CandidateSorter}.
+ * Por debajo de {@code admission.sorter.parallel-threshold} candidatos no compensa repartir el
+ * trabajo y se usa el ordenamiento secuencial.
+ * Aplica principio Loose Coupling: es otra estrategia de {@link ISorter}.
+ */
+@Service
+@ConditionalOnProperty(name = "admission.sorter.type", havingValue = "parallel")
+public class ParallelCandidateSorter implements ISorter<Candidate> {
+
+    /** Bits de la posición dentro de una hoja; la clave ocupa los otros 49. */
+    private static final int POSITION_BITS = 15;
+    private static final int MAX_LEAF = 1 << POSITION_BITS;
+    private static final int MIN_LEAF = 4_096;
+    /** Hojas por hilo, para repartir mejor cuando unos hilos terminan antes que otros. */
+    private static final int LEAVES_PER_THREAD = 4;
+    /** Mezclas de este tamaño o menores se hacen en un solo hilo. */
+    private static final int SEQUENTIAL_MERGE = 8_192;
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private static final Comparator<Candidate> NAME_TIEBREAK = Comparator
+        .comparing(Candidate::getLastName)
+        .thenComparing(Candidate::getName);
+
+    private final CandidateSorter sequentialSorter = new CandidateSorter();
+    private final int threshold;
+    private final int parallelism;
+    private ForkJoinPool pool;
+
+    /**
+     * @param threshold candidatos a partir de los cuales se ordena en paralelo
+     * @param parallelism hilos de ordenamiento; 0 o negativo usa todos los núcleos
+     */
+    public ParallelCandidateSorter(@Value("${admission.sorter.parallel-threshold:100000}") int threshold,
+                                   @Value("${admission.sorter.parallelism:0}") int parallelism) {
+        this.threshold = Math.max(2, threshold);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public List<Candidate> sort(List<Candidate> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (candidates.size() < threshold) {
+            return sequentialSorter.sort(candidates);
+        }
+
+        Candidate[] items = candidates.toArray(new Candidate[0]);
+        int n = items.length;
+        long[] keys = new long[n];
+        int[] order = new int[n];
+        long[] keyBuffer = new long[n];
+        int[] orderBuffer = new int[n];
+        int leaf = Math.min(MAX_LEAF, Math.max(MIN_LEAF, n / (parallelism * LEAVES_PER_THREAD) + 1));
+
+        pool().invoke(new SortTask(items, keys, order, keyBuffer, orderBuffer, 0, n, leaf, false));
+
+        Candidate[] sorted = new Candidate[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = items[order[i]];
+        }
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+
+    @Override
+    public ToLongFunction<Candidate> getRankingKey() {
+        return RankingKey::pack;
+    }
+
+    @Override
+    public Comparator<Candidate> getComparator() {
+        return sequentialSorter.getComparator();
+    }
+
+    private synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism, AdmissionMetrics.workerThreads("candidate-sort-"), null, false);
+        }
+        return pool;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    /**
+     * Ordena {@code [from, to)} dejando el resultado en los arreglos principales
+     * ({@code intoBuffer} false) o en los auxiliares. Los hijos ordenan en el otro par de
+     * arreglos y este paso los mezcla, así que nunca se copia un tramo ya mezclado.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Candidate[] items;
+        private final long[] keys;
+        private final int[] order;
+        private final long[] keyBuffer;
+        private final int[] orderBuffer;
+        private final int from;
+        private final int to;
+        private final int leaf;
+        private final boolean intoBuffer;
+
+        SortTask(Candidate[] items, long[] keys, int[] order, long[] keyBuffer, int[] orderBuffer,
+                 int from, int to, int leaf, boolean intoBuffer) {
+            this.items = items;
+            this.keys = keys;
+            this.order = order;
+            this.keyBuffer = keyBuffer;
+            this.orderBuffer = orderBuffer;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.intoBuffer = intoBuffer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leaf) {
+                sortLeaf();
+                if (intoBuffer) {
+                    System.arraycopy(keys, from, keyBuffer, from, to - from);
+                    System.arraycopy(order, from, orderBuffer, from, to - from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new SortTask(items, keys, order, keyBuffer, orderBuffer, from, middle, leaf, !intoBuffer),
+                new SortTask(items, keys, order, keyBuffer, orderBuffer, middle, to, leaf, !intoBuffer));
+            Merge merge = intoBuffer
+                ? new Merge(items, keys, order, keyBuffer, orderBuffer)
+                : new Merge(items, keyBuffer, orderBuffer, keys, order);
+            merge.merge(from, middle, middle, to, from);
+        }
+
+        /**
+         * Ordena el tramo en los arreglos principales: clave y posición en un solo {@code long}
+         * (la posición desempata, así el orden es estable) y luego los tramos de clave igual
+         * por apellido y nombre.
+         */
+        private void sortLeaf() {
+            int length = to - from;
+            long[] packed = new long[length];
+            for (int i = 0; i < length; i++) {
+                // El bit de minoría queda en el bit de signo: se invierte para ordenar sin signo
+                packed[i] = (RankingKey.pack(items[from + i]) << POSITION_BITS | i) ^ Long.MIN_VALUE;
+            }
+            Arrays.sort(packed);
+            for (int i = 0; i < length; i++) {
+                long value = packed[i] ^ Long.MIN_VALUE;
+                keys[from + i] = value >>> POSITION_BITS;
+                order[from + i] = from + (int) (value & (MAX_LEAF - 1));
+            }
+
+            int runStart = from;
+            for (int i = from + 1; i <= to; i++) {
+                if (i == to || keys[i] != keys[runStart]) {
+                    if (i - runStart > 1) {
+                        sortByName(runStart, i);
+                    }
+                    runStart = i;
+                }
+            }
+        }
+
+        /** Tramo con la misma clave: ordenamiento estable por apellido y nombre. */
+        private void sortByName(int start, int end) {
+            if (end - start <= INSERTION_THRESHOLD) {
+                for (int i = start + 1; i < end; i++) {
+                    int current = order[i];
+                    int j = i - 1;
+                    while (j >= start && NAME_TIEBREAK.compare(items[order[j]], items[current]) > 0) {
+                        order[j + 1] = order[j];
+                        j--;
+                    }
+                    order[j + 1] = current;
+                }
+                return;
+            }
+            Integer[] run = new Integer[end - start];
+            for (int i = 0; i < run.length; i++) {
+                run[i] = order[start + i];
+            }
+            // Arrays.sort sobre objetos es estable
+            Arrays.sort(run, (a, b) -> NAME_TIEBREAK.compare(items[a], items[b]));
+            for (int i = 0; i < run.length; i++) {
+                order[start + i] = run[i];
+            }
+        }
+    }
+
+    /**
+     * Mezcla estable de dos tramos ordenados de {@code (sourceKeys, sourceOrder)} en
+     * {@code (targetKeys, targetOrder)}. Las mezclas grandes se parten en dos: se toma el centro
+     * del tramo más largo y se busca en el otro dónde cae, y cada mitad se mezcla en su hilo.
+     */
+    private static final class Merge {
+        private final Candidate[] items;
+        private final long[] sourceKeys;
+        private final int[] sourceOrder;
+        private final long[] targetKeys;
+        private final int[] targetOrder;
+
+        Merge(Candidate[] items, long[] sourceKeys, int[] sourceOrder, long[] targetKeys, int[] targetOrder) {
+            this.items = items;
+            this.sourceKeys = sourceKeys;
+            this.sourceOrder = sourceOrder;
+            this.targetKeys = targetKeys;
+            this.targetOrder = targetOrder;
+        }
+
+        private void merge(int leftFrom, int leftTo, int rightFrom, int rightTo, int target) {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= SEQUENTIAL_MERGE) {
+                mergeSequential(leftFrom, leftTo, rightFrom, rightTo, target);
+                return;
+            }
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                // Los iguales de la derecha van después de los de la izquierda
+                rightSplit = lowerBound(rightFrom, rightTo, leftSplit);
+            } else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = upperBound(leftFrom, leftTo, rightSplit);
+            }
+            int middleTarget = target + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            RecursiveAction.invokeAll(
+                new MergeTask(this, leftFrom, leftSplit, rightFrom, rightSplit, target),
+                new MergeTask(this, leftSplit, leftTo, rightSplit, rightTo, middleTarget));
+        }
+
+        private void mergeSequential(int left, int leftTo, int right, int rightTo, int target) {
+            while (left < leftTo && right < rightTo) {
+                if (compare(right, left) < 0) {
+                    move(right++, target++);
+                } else {
+                    move(left++, target++);
+                }
+            }
+            while (left < leftTo) {
+                move(left++, target++);
+            }
+            while (right < rightTo) {
+                move(right++, target++);
+            }
+        }
+
+        private void move(int from, int to) {
+            targetKeys[to] = sourceKeys[from];
+            targetOrder[to] = sourceOrder[from];
+        }
+
+        /** Primera posición de {@code [from, to)} que no va antes de la posición {@code pivot}. */
+        private int lowerBound(int from, int to, int pivot) {
+            while (from < to) {
+                int middle = (from + to) >>> 1;
+                if (compare(middle, pivot) < 0) {
+                    from = middle + 1;
+                } else {
+                    to = middle;
+                }
+            }
+            return from;
+        }
+
+        /** Primera posición de {@code [from, to)} que va después de la posición {@code pivot}. */
+        private int upperBound(int from, int to, int pivot) {
+            while (from < to) {
+                int middle = (from + to) >>> 1;
+                if (compare(middle, pivot) <= 0) {
+                    from = middle + 1;
+                } else {
+                    to = middle;
+                }
+            }
+            return from;
+        }
+
+        private int compare(int a, int b) {
+            int cmp = Long.compare(sourceKeys[a], sourceKeys[b]);
+            return cmp != 0 ? cmp : NAME_TIEBREAK.compare(items[sourceOrder[a]], items[sourceOrder[b]]);
+        }
+    }
+
+    /** Una de las dos mitades en que {@link Merge} parte una mezcla grande, como tarea del pool. */
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Merge merge;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int target;
+
+        MergeTask(Merge merge, int leftFrom, int leftTo, int rightFrom, int rightTo, int target) {
+            this.merge = merge;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute() {
+            merge.merge(leftFrom, leftTo, rightFrom, rightTo, target);
+        }
+    }
+}
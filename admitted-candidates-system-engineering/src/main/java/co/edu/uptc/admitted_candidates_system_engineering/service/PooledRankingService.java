@@ -0,0 +1,83 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingPools;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Clasificación por bolsas: separa minorías y bolsa general en una sola pasada,
+ * ordena cada bolsa en un hilo distinto y reparte los cupos según el porcentaje
+ * reservado para comunidades minoritarias.
+ * Aplica principio Single Responsibility: solo arma y asigna las bolsas.
+ */
+@Service
+public class PooledRankingService {
+
+    private final ISorter<Candidate> candidateSorter;
+    private final int minorityReservedPercent;
+    private final boolean releaseUnusedSeats;
+
+    /**
+     * @param candidateSorter estrategia de ordenamiento usada dentro de cada bolsa
+     * @param minorityReservedPercent porcentaje de cupos reservado a minorías (0-100)
+     * @param releaseUnusedSeats si los cupos que una bolsa no llena pasan a la otra
+     */
+    @Autowired
+    public PooledRankingService(ISorter<Candidate> candidateSorter,
+                                @Value("${admission.pools.minority-reserved-percent:10}") int minorityReservedPercent,
+                                @Value("${admission.pools.release-unused-seats:true}") boolean releaseUnusedSeats) {
+        if (minorityReservedPercent < 0 || minorityReservedPercent > 100) {
+            throw new IllegalArgumentException(
+                "El porcentaje reservado a minorías debe estar entre 0 y 100: " + minorityReservedPercent);
+        }
+        this.candidateSorter = candidateSorter;
+        this.minorityReservedPercent = minorityReservedPercent;
+        this.releaseUnusedSeats = releaseUnusedSeats;
+    }
+
+    /**
+     * Arma y ordena las dos bolsas. La bolsa minoritaria se ordena en el pool común de
+     * ForkJoin mientras el hilo llamador ordena la bolsa general.
+     *
+     * @param repository repositorio con los candidatos
+     * @param seats cupos totales; 0 o negativo admite a todos
+     * @return bolsas ordenadas con sus cupos asignados
+     */
+    public RankingPools rank(ICandidateRepository repository, int seats) {
+        List<Candidate> minority = new ArrayList<>();
+        List<Candidate> general = new ArrayList<>();
+        repository.forEachCandidate(candidate -> {
+            if (candidate.isMinorityCommunity()) {
+                minority.add(candidate);
+            } else {
+                general.add(candidate);
+            }
+        });
+
+        CompletableFuture<List<Candidate>> minorityRanking =
+            CompletableFuture.supplyAsync(() -> candidateSorter.sort(minority));
+        List<Candidate> generalRanking = candidateSorter.sort(general);
+        List<Candidate> minorityRanked = minorityRanking.join();
+
+        if (seats <= 0) {
+            return new RankingPools(minorityRanked, generalRanking, minorityRanked.size(), generalRanking.size());
+        }
+
+        int reserved = (int) Math.round(seats * minorityReservedPercent / 100.0);
+        int minoritySeats = Math.min(reserved, minorityRanked.size());
+        int generalLimit = releaseUnusedSeats ? seats - minoritySeats : seats - reserved;
+        int generalSeats = Math.min(generalLimit, generalRanking.size());
+        if (releaseUnusedSeats) {
+            // Cupos generales sin aspirantes vuelven a la bolsa minoritaria
+            minoritySeats = Math.min(minorityRanked.size(), seats - generalSeats);
+        }
+        return new RankingPools(minorityRanked, generalRanking, minoritySeats, generalSeats);
+    }
+}
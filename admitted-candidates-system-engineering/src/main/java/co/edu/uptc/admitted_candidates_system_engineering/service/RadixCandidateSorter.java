@@ -0,0 +1,193 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordenamiento de candidatos por radix sort sobre una clave primitiva.
+ * La prioridad de minorías y los tres puntajes se empaquetan en un único {@code long}
+ * por candidato, de modo que el orden ascendente de la clave coincide con las reglas
+ * de admisión. Solo los candidatos con la misma clave se comparan por apellido y nombre.
+ * Produce exactamente el mismo orden que {@link CandidateSorter}.
+ * Aplica principio Loose Coupling: es otra estrategia de {@link ISorter}.
+ */
+@Service
+@ConditionalOnProperty(name = "admission.sorter.type", havingValue = "radix")
+public class RadixCandidateSorter implements ISorter<Candidate> {
+
+    private static final int DIGIT_BITS = 11;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int MAX_KEY_BITS = 63;
+
+    /** Desempate final, igual al de las reglas de admisión. */
+    private static final Comparator<Candidate> NAME_TIEBREAK = Comparator
+        .comparing(Candidate::getLastName)
+        .thenComparing(Candidate::getName);
+
+    private final CandidateSorter fallbackSorter = new CandidateSorter();
+
+    @Override
+    public List<Candidate> sort(List<Candidate> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Candidate[] items = candidates.toArray(new Candidate[0]);
+        KeyLayout layout = KeyLayout.of(items);
+        if (layout == null) {
+            // Rangos de puntaje demasiado amplios para una sola clave de 63 bits
+            return fallbackSorter.sort(candidates);
+        }
+
+        int n = items.length;
+        long[] keys = new long[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = layout.pack(items[i]);
+            order[i] = i;
+        }
+
+        radixSort(keys, order, layout.bits);
+
+        Candidate[] sorted = new Candidate[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = items[order[i]];
+        }
+        sortTiedRuns(sorted, keys);
+
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+
+    @Override
+    public ToLongFunction<Candidate> getRankingKey() {
+        return RankingKey::pack;
+    }
+
+    @Override
+    public Comparator<Candidate> getComparator() {
+        return fallbackSorter.getComparator();
+    }
+
+    /**
+     * LSD radix sort estable de las claves, moviendo en paralelo la permutación.
+     * Solo recorre los dígitos que cubren los bits usados por la clave.
+     */
+    private void radixSort(long[] keys, int[] order, int bits) {
+        int n = keys.length;
+        long[] keyBuffer = new long[n];
+        int[] orderBuffer = new int[n];
+        int[] counts = new int[BUCKETS];
+
+        for (int shift = 0; shift < bits; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(int) (keys[i] >>> shift) & (BUCKETS - 1)]++;
+            }
+            if (counts[(int) (keys[0] >>> shift) & (BUCKETS - 1)] == n) {
+                continue; // todas las claves comparten este dígito
+            }
+
+            int total = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                int count = counts[b];
+                counts[b] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int bucket = (int) (keys[i] >>> shift) & (BUCKETS - 1);
+                int target = counts[bucket]++;
+                keyBuffer[target] = keys[i];
+                orderBuffer[target] = order[i];
+            }
+
+            System.arraycopy(keyBuffer, 0, keys, 0, n);
+            System.arraycopy(orderBuffer, 0, order, 0, n);
+        }
+    }
+
+    /**
+     * Ordena por apellido y nombre cada tramo de candidatos con la misma clave.
+     * Arrays.sort sobre objetos es estable, igual que List.sort en el ordenamiento original.
+     */
+    private void sortTiedRuns(Candidate[] sorted, long[] keys) {
+        int runStart = 0;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i == sorted.length || keys[i] != keys[runStart]) {
+                if (i - runStart > 1) {
+                    Arrays.sort(sorted, runStart, i, NAME_TIEBREAK);
+                }
+                runStart = i;
+            }
+        }
+    }
+
+    /**
+     * Distribución de bits de la clave calculada a partir de los rangos observados.
+     * De mayor a menor peso: bandera de minoría (0 = minoría) y la distancia de cada
+     * puntaje al máximo (global, matemáticas, inglés), para que mayor puntaje dé menor clave.
+     */
+    private static final class KeyLayout {
+        private final int maxGlobal;
+        private final int maxMath;
+        private final int maxEnglish;
+        private final int globalShift;
+        private final int mathShift;
+        private final int minorityShift;
+        private final int bits;
+
+        private KeyLayout(int maxGlobal, int maxMath, int maxEnglish,
+                          int globalBits, int mathBits, int englishBits) {
+            this.maxGlobal = maxGlobal;
+            this.maxMath = maxMath;
+            this.maxEnglish = maxEnglish;
+            this.mathShift = englishBits;
+            this.globalShift = englishBits + mathBits;
+            this.minorityShift = globalShift + globalBits;
+            this.bits = minorityShift + 1;
+        }
+
+        /**
+         * @return distribución para los candidatos dados, o null si no cabe en 63 bits
+         */
+        static KeyLayout of(Candidate[] items) {
+            int minGlobal = Integer.MAX_VALUE, maxGlobal = Integer.MIN_VALUE;
+            int minMath = Integer.MAX_VALUE, maxMath = Integer.MIN_VALUE;
+            int minEnglish = Integer.MAX_VALUE, maxEnglish = Integer.MIN_VALUE;
+            for (Candidate candidate : items) {
+                minGlobal = Math.min(minGlobal, candidate.getGlobalIcfesScore());
+                maxGlobal = Math.max(maxGlobal, candidate.getGlobalIcfesScore());
+                minMath = Math.min(minMath, candidate.getMathScore());
+                maxMath = Math.max(maxMath, candidate.getMathScore());
+                minEnglish = Math.min(minEnglish, candidate.getEnglishScore());
+                maxEnglish = Math.max(maxEnglish, candidate.getEnglishScore());
+            }
+
+            int globalBits = bitsFor((long) maxGlobal - minGlobal);
+            int mathBits = bitsFor((long) maxMath - minMath);
+            int englishBits = bitsFor((long) maxEnglish - minEnglish);
+            if (globalBits + mathBits + englishBits + 1 > MAX_KEY_BITS) {
+                return null;
+            }
+            return new KeyLayout(maxGlobal, maxMath, maxEnglish, globalBits, mathBits, englishBits);
+        }
+
+        long pack(Candidate candidate) {
+            long minority = candidate.isMinorityCommunity() ? 0L : 1L;
+            return minority << minorityShift
+                | ((long) maxGlobal - candidate.getGlobalIcfesScore()) << globalShift
+                | ((long) maxMath - candidate.getMathScore()) << mathShift
+                | ((long) maxEnglish - candidate.getEnglishScore());
+        }
+
+        private static int bitsFor(long range) {
+            return 64 - Long.numberOfLeadingZeros(range);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+
+/**
+ * Clave primitiva de ranking con las reglas de admisión predeterminadas.
+ * Empaqueta en un {@code long} la bandera de minoría y los tres puntajes (16 bits cada uno),
+ * de forma que un valor menor corresponde a una mejor posición. A diferencia de la clave de
+ * {@link RadixCandidateSorter}, el ancho de los campos es fijo: la clave de un candidato no
+ * cambia cuando llegan otros, por lo que sirve para índices incrementales y archivos.
+ * Los puntajes son {@code short} (ver {@link Candidate}), así que cada campo guarda el
+ * puntaje desplazado en {@code Short.MIN_VALUE} sin perder información: saturarlos rompía la
+ * monotonía cuando dos puntajes negativos distintos compartían campo y decidía una materia.
+ * Los empates se resuelven con el comparador completo.
+ */
+public final class RankingKey {
+
+    private static final int FIELD_BITS = 16;
+    private static final int FIELD_MAX = (1 << FIELD_BITS) - 1;
+
+    private RankingKey() {
+    }
+
+    /**
+     * @param candidate candidato a codificar
+     * @return clave ascendente según las reglas de admisión
+     */
+    public static long pack(Candidate candidate) {
+        return pack(candidate.isMinorityCommunity(), candidate.getGlobalIcfesScore(),
+            candidate.getMathScore(), candidate.getEnglishScore());
+    }
+
+    /**
+     * Versión sin objetos para almacenamientos columnares.
+     */
+    public static long pack(boolean minority, int globalScore, int mathScore, int englishScore) {
+        return (minority ? 0L : 1L) << (3 * FIELD_BITS)
+            | (long) (FIELD_MAX - field(globalScore)) << (2 * FIELD_BITS)
+            | (long) (FIELD_MAX - field(mathScore)) << FIELD_BITS
+            | (FIELD_MAX - field(englishScore));
+    }
+
+    private static int field(int score) {
+        return (score - Short.MIN_VALUE) & FIELD_MAX;
+    }
+}
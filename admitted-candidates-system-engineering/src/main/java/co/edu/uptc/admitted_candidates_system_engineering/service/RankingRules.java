@@ -0,0 +1,410 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reglas de ranking definidas como texto y compiladas una sola vez en arreglos primitivos.
+ * <p>
+ * Cada regla es un criterio seguido de {@code asc} o {@code desc} (por defecto {@code asc});
+ * las reglas se separan por comas o saltos de línea y se aplican en orden. Un criterio es:
+ * <ul>
+ *   <li>un campo numérico: {@code minority} (1 si pertenece a una comunidad minoritaria),
+ *       {@code global}, {@code math}, {@code english} o {@code registrationDate};</li>
+ *   <li>un campo de texto: {@code lastName} o {@code name};</li>
+ *   <li>un puntaje compuesto: suma de campos numéricos con peso, por ejemplo
+ *       {@code 0.6*global + 2*math + 2*english desc}.</li>
+ * </ul>
+ * Los pesos decimales se escalan a enteros con la misma potencia de diez, así que el puntaje
+ * compuesto se calcula exacto en un {@code long}. Cada regla numérica queda como una fila de
+ * pesos y un signo: evaluarla es una suma de productos, sin reflexión ni cadenas de lambdas.
+ * Una fecha de inscripción ausente cuenta como la más tardía posible.
+ */
+public final class RankingRules {
+
+    /** Reglas de admisión predeterminadas, las mismas de {@link CandidateSorter}. */
+    public static final String DEFAULT_DEFINITION =
+        "minority desc, global desc, math desc, english desc, lastName asc, name asc";
+
+    static final int MINORITY = 0;
+    static final int GLOBAL = 1;
+    static final int MATH = 2;
+    static final int ENGLISH = 3;
+    static final int REGISTRATION_DATE = 4;
+    static final int NUMERIC_FIELDS = 5;
+    static final int LAST_NAME = 5;
+    static final int NAME = 6;
+
+    private static final String[] FIELD_NAMES = {
+        "minority", "global", "math", "english", "registrationDate", "lastName", "name"
+    };
+    private static final int MAX_WEIGHT_DECIMALS = 6;
+    private static final long NO_DATE = Integer.MAX_VALUE;
+    /** Día de inscripción que indica que el candidato no tiene fecha. */
+    public static final int MISSING_DATE = Integer.MIN_VALUE;
+    /** Rango de cada campo numérico: bandera, puntajes {@code short} y día epoch (o {@link #NO_DATE}). */
+    private static final long[] FIELD_MIN = {0, Short.MIN_VALUE, Short.MIN_VALUE, Short.MIN_VALUE, Integer.MIN_VALUE};
+    private static final long[] FIELD_MAX = {1, Short.MAX_VALUE, Short.MAX_VALUE, Short.MAX_VALUE, NO_DATE};
+
+    private final String definition;
+    /** Pesos enteros de cada campo numérico, por regla; null en las reglas de texto. */
+    private final long[][] weights;
+    /** Campo de texto de cada regla, o -1 si la regla es numérica. */
+    private final int[] textFields;
+    /** 1 para ascendente, -1 para descendente. */
+    private final int[] signs;
+
+    private RankingRules(String definition, long[][] weights, int[] textFields, int[] signs) {
+        this.definition = definition;
+        this.weights = weights;
+        this.textFields = textFields;
+        this.signs = signs;
+    }
+
+    public static RankingRules defaults() {
+        return parse(DEFAULT_DEFINITION);
+    }
+
+    /**
+     * @param text reglas separadas por comas o saltos de línea; las líneas que empiezan
+     *             por {@code #} se ignoran
+     * @return reglas compiladas
+     * @throws IllegalArgumentException si alguna regla no es válida
+     */
+    public static RankingRules parse(String text) {
+        List<String> rules = new ArrayList<>();
+        for (String line : text.split("\\R")) {
+            String content = line.trim();
+            if (content.isEmpty() || content.startsWith("#")) {
+                continue;
+            }
+            for (String rule : content.split(",")) {
+                if (!rule.isBlank()) {
+                    rules.add(rule.trim().replaceAll("\\s+", " "));
+                }
+            }
+        }
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("No hay reglas de ranking definidas");
+        }
+
+        int count = rules.size();
+        long[][] weights = new long[count][];
+        int[] textFields = new int[count];
+        int[] signs = new int[count];
+        for (int i = 0; i < count; i++) {
+            compileRule(rules.get(i), i, weights, textFields, signs);
+        }
+        return new RankingRules(String.join(", ", rules), weights, textFields, signs);
+    }
+
+    private static void compileRule(String rule, int index, long[][] weights, int[] textFields, int[] signs) {
+        String expression = rule;
+        signs[index] = 1;
+        String lower = rule.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(" desc")) {
+            signs[index] = -1;
+            expression = rule.substring(0, rule.length() - 5).trim();
+        } else if (lower.endsWith(" asc")) {
+            expression = rule.substring(0, rule.length() - 4).trim();
+        }
+
+        String[] terms = expression.split("\\+");
+        if (terms.length == 1 && !expression.contains("*")) {
+            int field = field(expression.trim(), rule);
+            if (field >= NUMERIC_FIELDS) {
+                textFields[index] = field;
+                return;
+            }
+            textFields[index] = -1;
+            weights[index] = new long[NUMERIC_FIELDS];
+            weights[index][field] = 1;
+            return;
+        }
+
+        // Puntaje compuesto: se llevan todos los pesos a la misma escala entera
+        BigDecimal[] decimals = new BigDecimal[NUMERIC_FIELDS];
+        int scale = 0;
+        for (String term : terms) {
+            String[] parts = term.split("\\*");
+            if (parts.length > 2 || term.isBlank()) {
+                throw invalid(rule, "término mal formado: '" + term.trim() + "'");
+            }
+            BigDecimal weight = BigDecimal.ONE;
+            String fieldName = parts[parts.length - 1].trim();
+            if (parts.length == 2) {
+                try {
+                    weight = new BigDecimal(parts[0].trim());
+                } catch (NumberFormatException e) {
+                    throw invalid(rule, "peso no numérico: '" + parts[0].trim() + "'");
+                }
+            }
+            int field = field(fieldName, rule);
+            if (field >= NUMERIC_FIELDS) {
+                throw invalid(rule, "el campo " + fieldName + " no es numérico");
+            }
+            decimals[field] = decimals[field] == null ? weight : decimals[field].add(weight);
+            scale = Math.max(scale, decimals[field].stripTrailingZeros().scale());
+        }
+        if (scale > MAX_WEIGHT_DECIMALS) {
+            throw invalid(rule, "los pesos admiten hasta " + MAX_WEIGHT_DECIMALS + " decimales");
+        }
+        textFields[index] = -1;
+        weights[index] = new long[NUMERIC_FIELDS];
+        for (int field = 0; field < NUMERIC_FIELDS; field++) {
+            if (decimals[field] != null) {
+                weights[index][field] = decimals[field].movePointRight(Math.max(scale, 0)).longValueExact();
+            }
+        }
+    }
+
+    private static int field(String name, String rule) {
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            if (FIELD_NAMES[field].equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw invalid(rule, "campo desconocido '" + name + "' (use minority, global, math, english, "
+            + "registrationDate, lastName o name)");
+    }
+
+    private static IllegalArgumentException invalid(String rule, String reason) {
+        return new IllegalArgumentException("Regla de ranking inválida '" + rule + "': " + reason);
+    }
+
+    /**
+     * @return reglas en forma normalizada, una tras otra separadas por comas
+     */
+    public String getDefinition() {
+        return definition;
+    }
+
+    public int size() {
+        return signs.length;
+    }
+
+    /**
+     * @param rule índice de la regla
+     * @return true si la regla compara un campo de texto
+     */
+    public boolean isText(int rule) {
+        return textFields[rule] >= 0;
+    }
+
+    /**
+     * Valor de una regla numérica ya orientado: un valor menor va antes en el ranking.
+     */
+    public long value(int rule, Candidate candidate) {
+        int day = candidate.getRegistrationEpochDay();
+        return value(rule, candidate.isMinorityCommunity(), candidate.getGlobalIcfesScore(),
+            candidate.getMathScore(), candidate.getEnglishScore(), day == Candidate.NO_DATE ? MISSING_DATE : day);
+    }
+
+    /**
+     * Versión sin objetos para almacenamientos columnares.
+     *
+     * @param registrationDay día epoch de la inscripción, o {@link #MISSING_DATE} si no tiene fecha
+     */
+    public long value(int rule, boolean minority, int globalScore, int mathScore, int englishScore,
+                      int registrationDay) {
+        long[] w = weights[rule];
+        long value = w[MINORITY] * (minority ? 1 : 0)
+            + w[GLOBAL] * globalScore
+            + w[MATH] * mathScore
+            + w[ENGLISH] * englishScore;
+        if (w[REGISTRATION_DATE] != 0) {
+            value += w[REGISTRATION_DATE] * (registrationDay == MISSING_DATE ? NO_DATE : registrationDay);
+        }
+        return signs[rule] * value;
+    }
+
+    /**
+     * Empaqueta en un {@code long} las reglas numéricas iniciales, como {@link RankingKey}: cada
+     * regla ocupa los bits que necesita su rango de valores orientados, medido desde el mínimo,
+     * y se agregan reglas mientras quepan en 63 bits. Con las reglas predeterminadas son la
+     * bandera de minoría y los tres puntajes (49 bits). Una clave menor va antes en el ranking;
+     * los empates, incluidas las reglas que no cupieron, se resuelven con {@link #compare}.
+     *
+     * @return clave de ranking, o null si la primera regla es de texto o su rango no cabe en un long
+     */
+    public ToLongFunction<Candidate> packedKey() {
+        long[] minimums = new long[signs.length];
+        int[] widths = new int[signs.length];
+        int packed = 0;
+        int totalBits = 0;
+        while (packed < signs.length && !isText(packed)) {
+            long[] range = range(packed);
+            if (range == null) {
+                break;
+            }
+            int width = Long.SIZE - Long.numberOfLeadingZeros(range[1] - range[0]);
+            if (totalBits + width > Long.SIZE - 1) {
+                break;
+            }
+            minimums[packed] = range[0];
+            widths[packed] = width;
+            totalBits += width;
+            packed++;
+        }
+        if (packed == 0) {
+            return null;
+        }
+
+        int count = packed;
+        int[] shifts = new int[count];
+        for (int rule = count - 1, shift = 0; rule >= 0; rule--) {
+            shifts[rule] = shift;
+            shift += widths[rule];
+        }
+        return candidate -> {
+            long key = 0;
+            for (int rule = 0; rule < count; rule++) {
+                key |= (value(rule, candidate) - minimums[rule]) << shifts[rule];
+            }
+            return key;
+        };
+    }
+
+    /**
+     * @return mínimo y máximo del valor orientado de una regla numérica, o null si se desborda
+     */
+    private long[] range(int rule) {
+        long[] w = weights[rule];
+        try {
+            long low = 0;
+            long high = 0;
+            for (int field = 0; field < NUMERIC_FIELDS; field++) {
+                long atMin = Math.multiplyExact(w[field], FIELD_MIN[field]);
+                long atMax = Math.multiplyExact(w[field], FIELD_MAX[field]);
+                low = Math.addExact(low, Math.min(atMin, atMax));
+                high = Math.addExact(high, Math.max(atMin, atMax));
+            }
+            if (signs[rule] < 0) {
+                long negatedLow = Math.negateExact(high);
+                high = Math.negateExact(low);
+                low = negatedLow;
+            }
+            Math.subtractExact(high, low);
+            return new long[] {low, high};
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true si las dos primeras reglas son {@code minority desc} y {@code global desc}: la
+     *         bolsa minoritaria va primero y dentro de cada bolsa decide el puntaje global
+     */
+    public boolean ranksByPoolAndGlobal() {
+        return size() >= 2 && descendingBy(0, MINORITY) && descendingBy(1, GLOBAL);
+    }
+
+    private boolean descendingBy(int rule, int field) {
+        if (isText(rule) || signs[rule] > 0 || weights[rule][field] <= 0) {
+            return false;
+        }
+        for (int other = 0; other < NUMERIC_FIELDS; other++) {
+            if (other != field && weights[rule][other] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true si la regla ordena por apellido; false si ordena por nombre
+     */
+    public boolean isLastNameRule(int rule) {
+        return textFields[rule] == LAST_NAME;
+    }
+
+    /**
+     * Texto de una regla de texto, o null si el candidato no lo tiene.
+     */
+    public String text(int rule, Candidate candidate) {
+        return textFields[rule] == LAST_NAME ? candidate.getLastName() : candidate.getName();
+    }
+
+    /**
+     * Orienta el resultado de comparar dos textos según la dirección de la regla.
+     */
+    public int orient(int rule, int comparison) {
+        return signs[rule] * comparison;
+    }
+
+    /**
+     * Compara dos candidatos aplicando las reglas en orden.
+     */
+    public int compare(Candidate a, Candidate b) {
+        for (int rule = 0; rule < signs.length; rule++) {
+            int cmp;
+            if (textFields[rule] < 0) {
+                cmp = Long.compare(value(rule, a), value(rule, b));
+            } else {
+                cmp = orient(rule, compareText(text(rule, a), text(rule, b)));
+            }
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reemplaza cada texto por su posición entre los textos distintos en orden natural,
+     * así comparar dos textos es comparar dos enteros.
+     *
+     * @param texts texto de cada fila (puede contener null)
+     * @return posición ascendente del texto de cada fila; textos iguales tienen la misma posición
+     */
+    static int[] denseRanks(String[] texts) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> distinct = new ArrayList<>();
+        int[] ranks = new int[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            Integer id = ids.get(texts[i]);
+            if (id == null) {
+                id = distinct.size();
+                ids.put(texts[i], id);
+                distinct.add(texts[i]);
+            }
+            ranks[i] = id;
+        }
+
+        Integer[] byText = new Integer[distinct.size()];
+        for (int id = 0; id < byText.length; id++) {
+            byText[id] = id;
+        }
+        Arrays.sort(byText, (a, b) -> compareText(distinct.get(a), distinct.get(b)));
+        int[] rankById = new int[byText.length];
+        for (int rank = 0; rank < byText.length; rank++) {
+            rankById[byText[rank]] = rank;
+        }
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = rankById[ranks[i]];
+        }
+        return ranks;
+    }
+
+    /** Orden natural de {@link String}, con los valores ausentes primero. */
+    static int compareText(String a, String b) {
+        if (a == null || b == null) {
+            return a == b ? 0 : (a == null ? -1 : 1);
+        }
+        return a.compareTo(b);
+    }
+
+    @Override
+    public String toString() {
+        return definition;
+    }
+}
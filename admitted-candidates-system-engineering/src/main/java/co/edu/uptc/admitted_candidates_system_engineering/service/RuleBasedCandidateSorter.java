@@ -0,0 +1,210 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordenamiento de candidatos con reglas configurables ({@link RankingRules}).
+ * Las reglas se leen de {@code admission.ranking.rules} o de un archivo y se compilan al
+ * iniciar. Al ordenar, cada candidato se convierte en una fila de claves {@code long}, una
+ * por regla: las numéricas ya orientadas y las de texto como la posición del texto entre los
+ * valores distintos. Luego se ordenan los índices con un merge sort estable que solo compara
+ * esas filas.
+ * Aplica principio Open/Closed: cambiar pesos o desempates no requiere tocar código.
+ */
+@Service
+@ConditionalOnProperty(name = "admission.sorter.type", havingValue = "rules")
+public class RuleBasedCandidateSorter implements ISorter<Candidate> {
+
+    /** Tramos de este tamaño o menores se ordenan por inserción. */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private final RankingRules rules;
+    private final Comparator<Candidate> comparator;
+    private final ToLongFunction<Candidate> rankingKey;
+
+    public RuleBasedCandidateSorter(RankingRules rules) {
+        this.rules = rules;
+        this.comparator = rules::compare;
+        this.rankingKey = rules.packedKey();
+    }
+
+    /**
+     * @param definition reglas separadas por comas; vacío usa las reglas predeterminadas
+     * @param rulesFile archivo con una regla por línea; si se indica, reemplaza a {@code definition}
+     */
+    @Autowired
+    public RuleBasedCandidateSorter(@Value("${admission.ranking.rules:}") String definition,
+                                    @Value("${admission.ranking.rules-file:}") String rulesFile) {
+        this(compile(definition, rulesFile));
+    }
+
+    private static RankingRules compile(String definition, String rulesFile) {
+        if (rulesFile != null && !rulesFile.isBlank()) {
+            try {
+                return RankingRules.parse(Files.readString(Path.of(rulesFile.trim()), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo leer el archivo de reglas: " + rulesFile, e);
+            }
+        }
+        return definition == null || definition.isBlank() ? RankingRules.defaults() : RankingRules.parse(definition);
+    }
+
+    public RankingRules getRules() {
+        return rules;
+    }
+
+    @Override
+    public List<Candidate> sort(List<Candidate> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Candidate[] items = candidates.toArray(new Candidate[0]);
+        int n = items.length;
+        int width = rules.size();
+        long[] keys = extractKeys(items, width);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        sortRows(order, keys, width);
+
+        List<Candidate> sorted = new ArrayList<>(n);
+        for (int index : order) {
+            sorted.add(items[index]);
+        }
+        return sorted;
+    }
+
+    @Override
+    public Comparator<Candidate> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Solo existe si la primera regla es numérica: empaqueta las reglas numéricas iniciales
+     * ({@link RankingRules#packedKey()}).
+     */
+    @Override
+    public ToLongFunction<Candidate> getRankingKey() {
+        return rankingKey;
+    }
+
+    @Override
+    public String getDefinition() {
+        return getClass().getName() + '[' + rules.getDefinition() + ']';
+    }
+
+    /**
+     * Claves de todos los candidatos en una sola matriz por filas: la fila i ocupa
+     * {@code keys[i * width .. i * width + width)}.
+     */
+    private long[] extractKeys(Candidate[] items, int width) {
+        int n = items.length;
+        long[] keys = new long[n * width];
+        for (int rule = 0; rule < width; rule++) {
+            if (rules.isText(rule)) {
+                extractTextRanks(items, rule, keys, width);
+            } else {
+                for (int i = 0, position = rule; i < n; i++, position += width) {
+                    keys[position] = rules.value(rule, items[i]);
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Las reglas de texto se guardan como la posición del texto entre los valores distintos,
+     * así comparar dos candidatos por apellido o nombre es comparar dos enteros.
+     */
+    private void extractTextRanks(Candidate[] items, int rule, long[] keys, int width) {
+        String[] texts = new String[items.length];
+        for (int i = 0; i < items.length; i++) {
+            texts[i] = rules.text(rule, items[i]);
+        }
+        int[] ranks = RankingRules.denseRanks(texts);
+        for (int i = 0, position = rule; i < items.length; i++, position += width) {
+            keys[position] = rules.orient(rule, ranks[i]);
+        }
+    }
+
+    /**
+     * Ordena de forma estable los índices de filas de una matriz de claves.
+     *
+     * @param order índices a ordenar; se reordenan en el mismo arreglo
+     * @param keys matriz por filas con {@code width} claves por fila
+     * @param width claves por fila
+     */
+    static void sortRows(int[] order, long[] keys, int width) {
+        mergeSort(order, new int[order.length], 0, order.length, keys, width);
+    }
+
+    /**
+     * Merge sort estable de índices en {@code [from, to)}; los empates conservan el orden de entrada.
+     */
+    private static void mergeSort(int[] order, int[] buffer, int from, int to, long[] keys, int width) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(order, from, to, keys, width);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, from, middle, keys, width);
+        mergeSort(order, buffer, middle, to, keys, width);
+        if (compareRows(keys, width, order[middle - 1], order[middle]) <= 0) {
+            return; // las dos mitades ya están en orden
+        }
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int target = from; target < to; target++) {
+            if (right >= to || (left < middle && compareRows(keys, width, buffer[left], buffer[right]) <= 0)) {
+                order[target] = buffer[left++];
+            } else {
+                order[target] = buffer[right++];
+            }
+        }
+    }
+
+    private static void insertionSort(int[] order, int from, int to, long[] keys, int width) {
+        for (int i = from + 1; i < to; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= from && compareRows(keys, width, order[j], current) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    private static int compareRows(long[] keys, int width, int a, int b) {
+        int rowA = a * width;
+        int rowB = b * width;
+        for (int i = 0; i < width; i++) {
+            long x = keys[rowA + i];
+            long y = keys[rowB + i];
+            if (x != y) {
+                return x < y ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,144 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreHistogram;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Calcula la distribución de puntajes, los aspirantes por etnia y el puntaje de corte en
+ * una sola pasada sobre el repositorio, contando en histogramas en lugar de ordenar.
+ * Con el repositorio columnar lee directamente las columnas primitivas.
+ * Aplica principio Single Responsibility: solo produce cifras; mostrarlas es tarea de la vista.
+ */
+@Service
+public class ScoreAnalyticsService {
+
+    static final int GLOBAL_SCALE_MAX = 500;
+    static final int SUBJECT_SCALE_MAX = 100;
+    private static final String NO_ETHNICITY = "Sin etnia";
+
+    /**
+     * @param repository candidatos a analizar
+     * @param sorter ordenamiento configurado; decide si el corte se puede leer de los histogramas
+     * @param seats cupos para calcular el corte; 0 o negativo admite a todos
+     * @return estadísticas y corte
+     */
+    public ScoreAnalytics analyze(ICandidateRepository repository, ISorter<Candidate> sorter, int seats) {
+        ScoreHistogram math = new ScoreHistogram(SUBJECT_SCALE_MAX);
+        ScoreHistogram english = new ScoreHistogram(SUBJECT_SCALE_MAX);
+        ScoreHistogram minorityGlobal = new ScoreHistogram(GLOBAL_SCALE_MAX);
+        ScoreHistogram generalGlobal = new ScoreHistogram(GLOBAL_SCALE_MAX);
+        Map<String, long[]> ethnicities;
+
+        if (repository instanceof ColumnarCandidateRepository) {
+            ethnicities = analyzeColumns((ColumnarCandidateRepository) repository,
+                math, english, minorityGlobal, generalGlobal);
+        } else if (repository instanceof OffHeapCandidateRepository) {
+            ethnicities = analyzeRecords((OffHeapCandidateRepository) repository,
+                math, english, minorityGlobal, generalGlobal);
+        } else {
+            Map<String, long[]> counts = new HashMap<>();
+            repository.forEachCandidate(candidate -> {
+                (candidate.isMinorityCommunity() ? minorityGlobal : generalGlobal).add(candidate.getGlobalIcfesScore());
+                math.add(candidate.getMathScore());
+                english.add(candidate.getEnglishScore());
+                counts.computeIfAbsent(ethnicityLabel(candidate.getEthnicity()), key -> new long[1])[0]++;
+            });
+            ethnicities = counts;
+        }
+        return new ScoreAnalytics(math, english, minorityGlobal, generalGlobal, sortByCount(ethnicities), seats,
+            ranksByPoolAndGlobal(sorter));
+    }
+
+    /**
+     * Los ordenamientos fijos aplican las reglas predeterminadas; el de reglas configurables
+     * solo ordena como los histogramas si sus dos primeras reglas son {@code minority desc, global desc}.
+     */
+    static boolean ranksByPoolAndGlobal(ISorter<Candidate> sorter) {
+        return !(sorter instanceof RuleBasedCandidateSorter)
+            || ((RuleBasedCandidateSorter) sorter).getRules().ranksByPoolAndGlobal();
+    }
+
+    /**
+     * Recorre las columnas sin crear vistas de candidato; las etnias se cuentan por código.
+     */
+    private Map<String, long[]> analyzeColumns(ColumnarCandidateRepository repository, ScoreHistogram math,
+                                               ScoreHistogram english, ScoreHistogram minorityGlobal,
+                                               ScoreHistogram generalGlobal) {
+        int rows = repository.getTotalCandidates();
+        long[] countsByCode = new long[repository.getEthnicityCount()];
+        long withoutEthnicity = 0;
+        for (int row = 0; row < rows; row++) {
+            (repository.isMinorityCommunity(row) ? minorityGlobal : generalGlobal).add(repository.getGlobalIcfesScore(row));
+            math.add(repository.getMathScore(row));
+            english.add(repository.getEnglishScore(row));
+            short code = repository.getEthnicityCode(row);
+            if (code < 0) {
+                withoutEthnicity++;
+            } else {
+                countsByCode[code]++;
+            }
+        }
+
+        Map<String, long[]> counts = new HashMap<>();
+        for (short code = 0; code < countsByCode.length; code++) {
+            counts.computeIfAbsent(ethnicityLabel(repository.getEthnicityValue(code)), key -> new long[1])[0]
+                += countsByCode[code];
+        }
+        if (withoutEthnicity > 0) {
+            counts.computeIfAbsent(NO_ETHNICITY, key -> new long[1])[0] += withoutEthnicity;
+        }
+        return counts;
+    }
+
+    /**
+     * Recorre los registros fuera del heap con un cursor, sin reconstruir candidatos.
+     */
+    private Map<String, long[]> analyzeRecords(OffHeapCandidateRepository repository, ScoreHistogram math,
+                                               ScoreHistogram english, ScoreHistogram minorityGlobal,
+                                               ScoreHistogram generalGlobal) {
+        long[] countsByCode = new long[repository.getEthnicityCount()];
+        long[] withoutEthnicity = new long[1];
+        repository.scan(record -> {
+            (record.isMinorityCommunity() ? minorityGlobal : generalGlobal).add(record.getGlobalIcfesScore());
+            math.add(record.getMathScore());
+            english.add(record.getEnglishScore());
+            short code = record.getEthnicityCode();
+            if (code < 0) {
+                withoutEthnicity[0]++;
+            } else {
+                countsByCode[code]++;
+            }
+        });
+
+        Map<String, long[]> counts = new HashMap<>();
+        for (short code = 0; code < countsByCode.length; code++) {
+            counts.computeIfAbsent(ethnicityLabel(repository.getEthnicityValue(code)), key -> new long[1])[0]
+                += countsByCode[code];
+        }
+        if (withoutEthnicity[0] > 0) {
+            counts.computeIfAbsent(NO_ETHNICITY, key -> new long[1])[0] += withoutEthnicity[0];
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> sortByCount(Map<String, long[]> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+            .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()[0]));
+        return sorted;
+    }
+
+    private static String ethnicityLabel(String ethnicity) {
+        return ethnicity == null || ethnicity.isBlank() ? NO_ETHNICITY : ethnicity;
+    }
+}
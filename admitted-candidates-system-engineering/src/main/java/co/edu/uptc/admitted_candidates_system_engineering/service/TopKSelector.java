@@ -0,0 +1,92 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Selecciona los K mejores elementos de un recorrido sin ordenar todos los elementos.
+ * Mantiene un montículo acotado cuya cabeza es el peor de los seleccionados, por lo que
+ * cada elemento cuesta O(log k) y la memoria es O(k).
+ * Ante empates completos gana el elemento que llegó primero, igual que un ordenamiento estable.
+ * Aplica principio Single Responsibility: solo resuelve la selección parcial.
+ *
+ * @param <T> tipo de los elementos
+ */
+public class TopKSelector<T> implements Consumer<T> {
+
+    private final int limit;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<Entry<T>> worstFirst;
+    private long sequence;
+
+    /**
+     * @param limit número de elementos a conservar
+     * @param comparator orden de ranking: menor significa mejor posición
+     */
+    public TopKSelector(int limit, Comparator<? super T> comparator) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("El número de cupos no puede ser negativo: " + limit);
+        }
+        this.limit = limit;
+        this.comparator = comparator;
+        this.worstFirst = new PriorityQueue<>(Math.max(1, Math.min(limit, 1 << 16)),
+            (a, b) -> compare(b, a));
+    }
+
+    @Override
+    public void accept(T item) {
+        long position = sequence++;
+        if (limit == 0) {
+            return;
+        }
+        if (worstFirst.size() < limit) {
+            worstFirst.add(new Entry<>(item, position));
+            return;
+        }
+        Entry<T> worst = worstFirst.peek();
+        int cmp = comparator.compare(item, worst.item);
+        // Un empate no desplaza al que ya estaba: llegó después, queda detrás
+        if (cmp < 0) {
+            worstFirst.poll();
+            worstFirst.add(new Entry<>(item, position));
+        }
+    }
+
+    /**
+     * @return número de elementos recibidos hasta el momento
+     */
+    public long getSeen() {
+        return sequence;
+    }
+
+    /**
+     * @return los elementos seleccionados, del mejor al peor
+     */
+    public List<T> getSelected() {
+        List<Entry<T>> entries = new ArrayList<>(worstFirst);
+        entries.sort(this::compare);
+        List<T> selected = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            selected.add(entry.item);
+        }
+        return selected;
+    }
+
+    private int compare(Entry<T> a, Entry<T> b) {
+        int cmp = comparator.compare(a.item, b.item);
+        return cmp != 0 ? cmp : Long.compare(a.position, b.position);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long position;
+
+        Entry(T item, long position) {
+            this.item = item;
+            this.position = position;
+        }
+    }
+}
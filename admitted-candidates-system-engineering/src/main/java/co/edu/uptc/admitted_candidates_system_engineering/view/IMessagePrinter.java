@@ -1,5 +1,16 @@
 package co.edu.uptc.admitted_candidates_system_engineering.view;
 
+import co.edu.uptc.admitted_candidates_system_engineering.model.AdmissionResult;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingPools;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import co.edu.uptc.admitted_candidates_system_engineering.model.StageMetrics;
+
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * Interfaz para manejar todos los mensajes del sistema.
  * Aplica principio Single Responsibility: solo se encarga de mostrar mensajes.
@@ -17,6 +28,49 @@ public interface IMessagePrinter {
      */
     void printDataLoading();
     
+    /**
+     * Muestra el rendimiento de la carga de datos por etapa.
+     * 
+     * @param report reporte de la carga
+     */
+    void printIngestionReport(IngestionReport report);
+    
+    /**
+     * Muestra el resumen de cupos asignados y el puntaje de corte.
+     * 
+     * @param result resultado del proceso de admisión con cupos
+     */
+    void printAdmissionSummary(AdmissionResult result);
+    
+    /**
+     * Muestra el reparto de cupos entre la bolsa minoritaria y la general.
+     * 
+     * @param pools bolsas clasificadas
+     */
+    void printPoolSummary(RankingPools pools);
+    
+    /**
+     * Muestra por programa los aspirantes, admitidos, puntaje de corte y tiempo de clasificación.
+     * 
+     * @param admissions resultado de la admisión por programas
+     */
+    void printProgramSummary(ProgramAdmissions admissions);
+    
+    /**
+     * Muestra por programa los aspirantes que lo eligieron y los admitidos tras la asignación
+     * conjunta, junto con los aspirantes sin cupo y el tiempo total.
+     * 
+     * @param assignment resultado de la asignación de cupos
+     */
+    void printSeatAssignment(SeatAssignment assignment);
+    
+    /**
+     * Muestra el tiempo, registros por segundo, bytes leídos y memoria reservada de cada etapa.
+     * 
+     * @param stages cifras de las etapas medidas
+     */
+    void printStageMetrics(List<StageMetrics> stages);
+    
     /**
      * Muestra mensaje de éxito del sistema.
      */
@@ -28,4 +82,41 @@ public interface IMessagePrinter {
      * @param error excepción ocurrida
      */
     void printSystemError(Exception error);
+    
+    /**
+     * Muestra que el servidor HTTP del ranking está atendiendo peticiones.
+     * 
+     * @param port puerto en el que escucha
+     */
+    void printHttpServerStarted(int port);
+    
+    /**
+     * Muestra la carpeta en la que se esperan lotes incrementales de inscripción.
+     * 
+     * @param directory carpeta vigilada
+     */
+    void printDeltaWatcherStarted(Path directory);
+    
+    /**
+     * Muestra el resultado de aplicar un lote incremental.
+     * 
+     * @param file nombre del lote
+     * @param report reporte del lote
+     */
+    void printDeltaApplied(String file, IngestionReport report);
+    
+    /**
+     * Muestra que un lote incremental no se pudo aplicar; los datos quedan como estaban.
+     * 
+     * @param file nombre del lote
+     * @param error causa
+     */
+    void printDeltaRejected(String file, Exception error);
+    
+    /**
+     * Muestra la distribución de puntajes, los aspirantes por etnia y el puntaje de corte.
+     * 
+     * @param analytics estadísticas calculadas
+     */
+    void printScoreAnalytics(ScoreAnalytics analytics);
 }
@@ -1,7 +1,9 @@
 package co.edu.uptc.admitted_candidates_system_engineering.view;
 
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import java.io.IOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interfaz para imprimir tablas de candidatos.
@@ -16,4 +18,30 @@ public interface ITablePrinter {
      * @param candidates lista de candidatos a mostrar
      */
     void printTable(List<Candidate> candidates);
+    
+    /**
+     * Imprime una tabla con los candidatos proporcionados bajo un título propio.
+     * 
+     * @param candidates lista de candidatos a mostrar
+     * @param title título de la tabla
+     */
+    void printTable(List<Candidate> candidates, String title);
+    
+    /**
+     * Imprime una tabla consumiendo los candidatos a medida que llegan, sin necesidad
+     * de tener el ranking completo en una lista.
+     * 
+     * @param candidates candidatos en orden de ranking
+     */
+    void printTable(Stream<Candidate> candidates);
+    
+    /**
+     * Escribe la tabla en el destino indicado en lugar de la salida estándar.
+     * 
+     * @param candidates lista de candidatos a mostrar
+     * @param title título de la tabla
+     * @param output destino de la tabla (consola, archivo, búfer en memoria)
+     * @throws IOException si el destino falla al escribir
+     */
+    void printTable(List<Candidate> candidates, String title, Appendable output) throws IOException;
 }
@@ -1,7 +1,19 @@
 package co.edu.uptc.admitted_candidates_system_engineering.view;
 
+import co.edu.uptc.admitted_candidates_system_engineering.model.AdmissionResult;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramRanking;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingPools;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreHistogram;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import co.edu.uptc.admitted_candidates_system_engineering.model.StageMetrics;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * Implementación para manejar todos los mensajes del sistema.
  * Aplica principio Single Responsibility: solo se encarga de mostrar mensajes.
@@ -20,6 +32,139 @@ public class MessagePrinter implements IMessagePrinter {
         System.out.println(" Cargando datos de candidatos...");
     }
     
+    @Override
+    public void printIngestionReport(IngestionReport report) {
+        System.out.printf("| Carga %s: %d candidatos, %d bytes, %.1f ms%n",
+            report.getMode(), report.getTotalRecords(), report.getBytesRead(),
+            report.getTotalNanos() / 1_000_000.0);
+        for (IngestionReport.Stage stage : report.getStages()) {
+            System.out.printf("|   %-8s %10d registros  %10.1f ms  %14.0f reg/s%n",
+                stage.getName(), stage.getRecords(),
+                stage.getElapsedNanos() / 1_000_000.0, stage.getRecordsPerSecond());
+        }
+        if (report.getDuplicatesRemoved() > 0) {
+            System.out.printf("| Aspirantes repetidos descartados: %d%n", report.getDuplicatesRemoved());
+        }
+        if (report.getCandidatesRemoved() > 0) {
+            System.out.printf("| Registros anteriores retirados o reemplazados: %d%n", report.getCandidatesRemoved());
+        }
+    }
+    
+    @Override
+    public void printAdmissionSummary(AdmissionResult result) {
+        System.out.printf("| Cupos: %d | Aspirantes: %d | Admitidos: %d | Puntaje de corte: %s%n",
+            result.getSeats(), result.getTotalApplicants(), result.getAdmittedCandidates().size(),
+            result.getCutoffScore() < 0 ? "-" : String.valueOf(result.getCutoffScore()));
+    }
+    
+    @Override
+    public void printPoolSummary(RankingPools pools) {
+        System.out.printf("| Bolsa minoritaria: %d aspirantes, %d cupos | Bolsa general: %d aspirantes, %d cupos%n",
+            pools.getMinorityPool().size(), pools.getMinoritySeats(),
+            pools.getGeneralPool().size(), pools.getGeneralSeats());
+    }
+    
+    @Override
+    public void printProgramSummary(ProgramAdmissions admissions) {
+        System.out.printf("%n| PROGRAMAS - %d clasificados con %d hilos en %.1f ms%n",
+            admissions.getRankings().size(), admissions.getParallelism(), admissions.getElapsedNanos() / 1_000_000.0);
+        System.out.println("|   Programa     Cupos   Aspirantes   Admitidos   Corte     Tiempo (ms)");
+        for (ProgramRanking ranking : admissions.getRankings()) {
+            System.out.printf("|   %-10s %7s %12d %11d %7s %15.1f%n",
+                ranking.getCode(), ranking.getSeats() > 0 ? String.valueOf(ranking.getSeats()) : "todos",
+                ranking.getTotalApplicants(), ranking.getAdmittedCandidates().size(),
+                ranking.getCutoffScore() < 0 ? "-" : String.valueOf(ranking.getCutoffScore()),
+                ranking.getElapsedNanos() / 1_000_000.0);
+        }
+    }
+    
+    @Override
+    public void printSeatAssignment(SeatAssignment assignment) {
+        System.out.printf("%n| ASIGNACIÓN DE CUPOS (aceptación diferida) - %d aspirantes, %d sin cupo, "
+                + "%d postulaciones, %.1f ms%n",
+            assignment.getApplicants(), assignment.getUnassigned(), assignment.getProposals(),
+            assignment.getElapsedNanos() / 1_000_000.0);
+        System.out.println("|   Programa     Cupos   Aspirantes   Admitidos   Corte");
+        for (ProgramRanking ranking : assignment.getPrograms()) {
+            System.out.printf("|   %-10s %7s %12d %11d %7s%n",
+                ranking.getCode(), ranking.getSeats() > 0 ? String.valueOf(ranking.getSeats()) : "todos",
+                ranking.getTotalApplicants(), ranking.getAdmittedCandidates().size(),
+                ranking.getCutoffScore() < 0 ? "-" : String.valueOf(ranking.getCutoffScore()));
+        }
+    }
+    
+    @Override
+    public void printScoreAnalytics(ScoreAnalytics analytics) {
+        System.out.printf("%n| ESTADÍSTICAS DE PUNTAJES - %d aspirantes (%d de comunidades minoritarias)%n",
+            analytics.getTotalCandidates(), analytics.getMinorityCandidates());
+        System.out.println("|   Puntaje       mín    p10    p25    p50    p75    p90    máx    media");
+        printHistogramRow("ICFES total", analytics.getGlobalScores());
+        printHistogramRow("Matemáticas", analytics.getMathScores());
+        printHistogramRow("Inglés", analytics.getEnglishScores());
+        
+        System.out.println("| Aspirantes por etnia:");
+        analytics.getEthnicityCounts().forEach((ethnicity, count) ->
+            System.out.printf("|   %-20s %10d%n", ethnicity, count));
+        
+        ScoreAnalytics.Cutoff cutoff = analytics.getCutoff();
+        if (cutoff == null) {
+            System.out.println("| Puntaje de corte: - (las reglas de ranking no ordenan por bolsa y puntaje global)");
+            return;
+        }
+        if (cutoff.getAdmitted() == 0) {
+            System.out.println("| Puntaje de corte: -");
+            return;
+        }
+        System.out.printf("| Cupos: %s | Admitidos: %d | Puntaje de corte: %d (bolsa %s)%n",
+            cutoff.getSeats() > 0 ? String.valueOf(cutoff.getSeats()) : "todos", cutoff.getAdmitted(),
+            cutoff.getScore(), cutoff.isMinorityPool() ? "minoritaria" : "general");
+        System.out.printf("|   Con el puntaje de corte: %d aspirantes, %d obtienen cupo%n",
+            cutoff.getTiedAtScore(), cutoff.getAdmittedAtScore());
+    }
+    
+    private void printHistogramRow(String label, ScoreHistogram histogram) {
+        System.out.printf("|   %-12s %5d  %5d  %5d  %5d  %5d  %5d  %5d  %7.1f%n", label,
+            histogram.getMin(), histogram.percentile(10), histogram.percentile(25), histogram.percentile(50),
+            histogram.percentile(75), histogram.percentile(90), histogram.getMax(), histogram.getMean());
+        if (histogram.getOutOfScale() > 0) {
+            System.out.printf("|     %d puntajes fuera de la escala 0-%d%n",
+                histogram.getOutOfScale(), histogram.getScaleMax());
+        }
+    }
+    
+    @Override
+    public void printStageMetrics(List<StageMetrics> stages) {
+        System.out.println("|   Etapa        Tiempo (ms)       Registros          reg/s     Bytes leídos    Memoria (MB)");
+        for (StageMetrics stage : stages) {
+            System.out.printf("|   %-10s %13.1f %15d %14.0f %16d %15s%n",
+                stage.getName(), stage.getLastNanos() / 1_000_000.0, stage.getLastRecords(),
+                stage.getLastRecordsPerSecond(), stage.getLastBytesRead(),
+                stage.getLastAllocatedBytes() < 0 ? "-"
+                    : String.format("%.1f", stage.getLastAllocatedBytes() / (1024.0 * 1024.0)));
+        }
+    }
+    
+    @Override
+    public void printHttpServerStarted(int port) {
+        System.out.printf("| Ranking disponible en http://localhost:%d/api/ranking%n", port);
+    }
+    
+    @Override
+    public void printDeltaWatcherStarted(Path directory) {
+        System.out.printf("| Esperando lotes incrementales en %s%n", directory);
+    }
+    
+    @Override
+    public void printDeltaApplied(String file, IngestionReport report) {
+        System.out.printf("| Lote %s aplicado%n", file);
+        printIngestionReport(report);
+    }
+    
+    @Override
+    public void printDeltaRejected(String file, Exception error) {
+        System.err.printf("| Lote %s rechazado: %s%n", file, error.getMessage());
+    }
+    
     @Override
     public void printSystemSuccess() {
         System.out.println("| Sistema ejecutado exitosamente.");
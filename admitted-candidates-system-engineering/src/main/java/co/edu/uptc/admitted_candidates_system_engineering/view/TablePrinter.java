@@ -1,106 +1,242 @@
 package co.edu.uptc.admitted_candidates_system_engineering.view;
 
 import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Componente para imprimir tablas de candidatos en consola.
  * Aplica principio KISS: Formato simple y claro para la salida.
  * Aplica principio DRY: Métodos reutilizables para formateo.
  * Aplica principio YAGNI: Solo funcionalidad de impresión requerida.
+ * Las filas se arman con relleno de ancho fijo en un StringBuilder reutilizado y se
+ * escriben por lotes grandes, en lugar de una llamada a printf por celda y fila.
  */
 @Component
 public class TablePrinter implements ITablePrinter {
-    
+
     private static final String SEPARATOR = "+" + "-".repeat(100) + "+";
-    private static final String HEADER_FORMAT = "| %-4s | %-20s | %-20s | %-12s | %-8s | %-8s | %-15s |";
-    private static final String ROW_FORMAT = "| %-4s | %-20s | %-20s | %-12d | %-8d | %-8d | %-15s |";
-    
+    private static final String ROW_SEPARATOR = "|" + "-".repeat(100) + "|";
+    private static final String DEFAULT_TITLE = "CANDIDATOS ADMITIDOS - INGENIERÍA DE SISTEMAS 2025-1";
+    private static final String NEW_LINE = System.lineSeparator();
+    /** Caracteres acumulados antes de escribir un lote en la salida. */
+    private static final int BATCH_SIZE = 64 * 1024;
+
+    // Anchos de columna: POS, NOMBRE, APELLIDO, ICFES TOTAL, MATEMÁT., INGLÉS, ETNIA
+    private static final int POSITION_WIDTH = 4;
+    private static final int NAME_WIDTH = 20;
+    private static final int SCORE_WIDTH = 12;
+    private static final int SUBJECT_WIDTH = 8;
+    private static final int ETHNICITY_WIDTH = 15;
+
+    private final Path outputFile;
+    private boolean outputFileStarted;
+
+    public TablePrinter() {
+        this("");
+    }
+
+    /**
+     * @param outputFile archivo donde escribir las tablas; vacío para la salida estándar
+     */
+    @Autowired
+    public TablePrinter(@Value("${admission.output.file:}") String outputFile) {
+        this.outputFile = outputFile == null || outputFile.isBlank() ? null : Path.of(outputFile.trim());
+    }
+
     /**
      * Imprime la tabla de candidatos ordenados.
      * Aplica principio KISS: Formato claro y directo.
-     * 
+     *
      * @param candidates lista de candidatos a mostrar
      */
     public void printTable(List<Candidate> candidates) {
-        if (candidates == null || candidates.isEmpty()) {
-            System.out.println("\n| No hay candidatos para mostrar.");
+        printTable(candidates, DEFAULT_TITLE);
+    }
+
+    @Override
+    public void printTable(List<Candidate> candidates, String title) {
+        print(candidates == null ? null : candidates.iterator(), title);
+    }
+
+    @Override
+    public void printTable(Stream<Candidate> candidates) {
+        // Las filas se generan a medida que el flujo las entrega; no se arma una lista intermedia
+        print(candidates == null ? null : candidates.iterator(), DEFAULT_TITLE);
+    }
+
+    @Override
+    public void printTable(List<Candidate> candidates, String title, Appendable output) throws IOException {
+        print(candidates == null ? null : candidates.iterator(), title, output);
+    }
+
+    private void print(Iterator<Candidate> candidates, String title) {
+        try {
+            if (outputFile == null) {
+                print(candidates, title, System.out);
+                return;
+            }
+            // La primera tabla de la ejecución reemplaza el archivo; las siguientes se agregan
+            StandardOpenOption mode = outputFileStarted ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+            try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+                outputFileStarted = true;
+                print(candidates, title, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al escribir la tabla de candidatos: " + e.getMessage(), e);
+        }
+    }
+
+    private void print(Iterator<Candidate> candidates, String title, Appendable output) throws IOException {
+        StringBuilder buffer = new StringBuilder(BATCH_SIZE + 512);
+        if (candidates == null || !candidates.hasNext()) {
+            buffer.append("\n| No hay candidatos para mostrar.").append(NEW_LINE);
+            write(buffer, output);
+            flush(output);
             return;
         }
-        
-        printHeader();
-        printCandidates(candidates);
-        printFooter(candidates);
+
+        printHeader(buffer, title);
+        printCandidates(buffer, candidates, output);
+        printFooter(buffer);
+        write(buffer, output);
+        flush(output);
     }
-    
+
     /**
      * Imprime el encabezado de la tabla.
      * Aplica principio DRY: Evita repetir el formato del encabezado.
+     *
+     * @param buffer búfer de salida
+     * @param title título mostrado sobre la tabla
      */
-    private void printHeader() {
-        System.out.println("\n" + "=".repeat(110));
-        System.out.println("                     CANDIDATOS ADMITIDOS - INGENIERÍA DE SISTEMAS 2025-1");
-        System.out.println("=".repeat(110));
-        System.out.println(SEPARATOR);
-        System.out.printf(HEADER_FORMAT, 
-            "POS", "NOMBRE", "APELLIDO", "ICFES TOTAL", "MATEMÁT.", "INGLÉS", "ETNIA");
-        System.out.println();
-        System.out.println(SEPARATOR);
-    }
-    
+    private void printHeader(StringBuilder buffer, String title) {
+        buffer.append('\n').append("=".repeat(110)).append(NEW_LINE);
+        buffer.append("                     ").append(title).append(NEW_LINE);
+        buffer.append("=".repeat(110)).append(NEW_LINE);
+        buffer.append(SEPARATOR).append(NEW_LINE);
+        appendRow(buffer, "POS", "NOMBRE", "APELLIDO", "ICFES TOTAL", "MATEMÁT.", "INGLÉS", "ETNIA");
+        buffer.append(SEPARATOR).append(NEW_LINE);
+    }
+
     /**
      * Imprime la lista de candidatos.
      * Aplica principio DRY: Reutiliza formato para cada fila.
-     * 
-     * @param candidates lista de candidatos
+     *
+     * @param buffer búfer de salida, que se vacía en la salida al llenarse
+     * @param candidates candidatos en orden de ranking
+     * @param output destino de los lotes
      */
-    private void printCandidates(List<Candidate> candidates) {
-        for (int i = 0; i < candidates.size(); i++) {
-            Candidate candidate = candidates.get(i);
-            String ethnicity = formatEthnicity(candidate.getEthnicity());
-            
+    private void printCandidates(StringBuilder buffer, Iterator<Candidate> candidates, Appendable output) throws IOException {
+        for (int i = 0; candidates.hasNext(); i++) {
+            Candidate candidate = candidates.next();
+
+            buffer.append("| ");
+            int start = buffer.length();
+            buffer.append(i + 1);
             // Añadir indicador para comunidades minoritarias
-            String positionIndicator = String.valueOf(i + 1);
             if (candidate.isMinorityCommunity()) {
-                positionIndicator += "*";
+                buffer.append('*');
             }
-            
-            System.out.printf(ROW_FORMAT,
-                positionIndicator,
-                truncateString(candidate.getName(), 20),
-                truncateString(candidate.getLastName(), 20),
-                candidate.getGlobalIcfesScore(),
-                candidate.getMathScore(),
-                candidate.getEnglishScore(),
-                ethnicity);
-            System.out.println();
-            
+            pad(buffer, start, POSITION_WIDTH);
+            appendCell(buffer, truncateString(candidate.getName(), NAME_WIDTH), NAME_WIDTH);
+            appendCell(buffer, truncateString(candidate.getLastName(), NAME_WIDTH), NAME_WIDTH);
+            appendCell(buffer, candidate.getGlobalIcfesScore(), SCORE_WIDTH);
+            appendCell(buffer, candidate.getMathScore(), SUBJECT_WIDTH);
+            appendCell(buffer, candidate.getEnglishScore(), SUBJECT_WIDTH);
+            appendCell(buffer, formatEthnicity(candidate.getEthnicity()), ETHNICITY_WIDTH);
+            buffer.append(" |").append(NEW_LINE);
+
             // Línea separadora cada 5 candidatos para mejor legibilidad
-            if ((i + 1) % 5 == 0 && i < candidates.size() - 1) {
-                System.out.println("|" + "-".repeat(100) + "|");
+            if ((i + 1) % 5 == 0 && candidates.hasNext()) {
+                buffer.append(ROW_SEPARATOR).append(NEW_LINE);
+            }
+            if (buffer.length() >= BATCH_SIZE) {
+                write(buffer, output);
             }
         }
     }
-    
+
+    /**
+     * Imprime el pie de la tabla.
+     *
+     * @param buffer búfer de salida
+     */
+    private void printFooter(StringBuilder buffer) {
+        buffer.append(SEPARATOR).append(NEW_LINE);
+        buffer.append("| Tabla generada exitosamente\n").append(NEW_LINE);
+    }
+
+    /**
+     * Agrega una fila de textos con el ancho de cada columna.
+     */
+    private void appendRow(StringBuilder buffer, String position, String name, String lastName,
+                           String score, String math, String english, String ethnicity) {
+        buffer.append("| ");
+        int start = buffer.length();
+        buffer.append(position);
+        pad(buffer, start, POSITION_WIDTH);
+        appendCell(buffer, name, NAME_WIDTH);
+        appendCell(buffer, lastName, NAME_WIDTH);
+        appendCell(buffer, score, SCORE_WIDTH);
+        appendCell(buffer, math, SUBJECT_WIDTH);
+        appendCell(buffer, english, SUBJECT_WIDTH);
+        appendCell(buffer, ethnicity, ETHNICITY_WIDTH);
+        buffer.append(" |").append(NEW_LINE);
+    }
+
+    private void appendCell(StringBuilder buffer, String value, int width) {
+        buffer.append(" | ");
+        int start = buffer.length();
+        buffer.append(value);
+        pad(buffer, start, width);
+    }
+
+    private void appendCell(StringBuilder buffer, int value, int width) {
+        buffer.append(" | ");
+        int start = buffer.length();
+        buffer.append(value);
+        pad(buffer, start, width);
+    }
+
     /**
-     * Imprime el pie de la tabla con estadísticas.
-     * 
-     * @param candidates lista de candidatos para calcular estadísticas
+     * Rellena con espacios a la derecha, como %-Ns: nunca recorta un valor más largo.
      */
-    private void printFooter(List<Candidate> candidates) {
-        long minorityCandidates = candidates.stream()
-            .mapToLong(candidate -> candidate.isMinorityCommunity() ? 1 : 0)
-            .sum();
-            
-        System.out.println(SEPARATOR);
-        System.out.println("| Tabla generada exitosamente\n");
-    }
-    
+    private void pad(StringBuilder buffer, int start, int width) {
+        for (int written = buffer.length() - start; written < width; written++) {
+            buffer.append(' ');
+        }
+    }
+
+    private void write(StringBuilder buffer, Appendable output) throws IOException {
+        output.append(buffer);
+        buffer.setLength(0);
+    }
+
+    private void flush(Appendable output) throws IOException {
+        if (output instanceof Flushable) {
+            ((Flushable) output).flush();
+        }
+    }
+
     /**
      * Formatea la etnia para mostrar en la tabla.
      * Aplica principio KISS: Lógica simple de formateo.
-     * 
+     *
      * @param ethnicity etnia original
      * @return etnia formateada
      */
@@ -108,13 +244,13 @@ public class TablePrinter implements ITablePrinter {
         if (ethnicity == null || ethnicity.trim().isEmpty()) {
             return "General";
         }
-        return truncateString(ethnicity, 15);
+        return truncateString(ethnicity, ETHNICITY_WIDTH);
     }
-    
+
     /**
      * Trunca un string si excede la longitud máxima.
      * Aplica principio DRY: Reutiliza lógica de truncado.
-     * 
+     *
      * @param str string a truncar
      * @param maxLength longitud máxima
      * @return string truncado
@@ -0,0 +1,173 @@
+package co.edu.uptc.admitted_candidates_system_engineering;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.EthnicityClassifier;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Aspirantes de prueba reproducibles y aserciones de orden que comparten las pruebas.
+ * Los nombres, apellidos y etnias salen de listas cortas para que haya muchos empates.
+ * Todo aspirante sale clasificado con {@link #CLASSIFIER}, como lo haría el servicio al cargarlo.
+ */
+public final class CandidateFixtures {
+
+	public static final String[] NAMES = {"Ana", "Carlos", "Diego", "Laura", "Sofía", "Álvaro"};
+	public static final String[] LAST_NAMES = {"Gómez", "López", "Pérez", "Núñez", "Zuluaga"};
+	public static final String[] ETHNICITIES = {"General", "Indígena Wayuu", "Afrocolombiano", "Raizal", "Mestizo"};
+	public static final String[] PROGRAMS = {"SIS", "MED", "DER"};
+	public static final EthnicityClassifier CLASSIFIER = new EthnicityClassifier(EthnicityClassifier.DEFAULT_KEYWORDS);
+
+	private CandidateFixtures() {
+	}
+
+	/**
+	 * Mismos parámetros que el constructor completo de {@link Candidate}, con la etnia ya clasificada.
+	 */
+	public static Candidate candidate(String name, String lastName, String ethnicity, int globalIcfesScore,
+			LocalDate registrationDate, int mathScore, int englishScore) {
+		Candidate candidate = new Candidate(name, lastName, ethnicity, globalIcfesScore, registrationDate,
+			mathScore, englishScore);
+		CLASSIFIER.classify(candidate);
+		return candidate;
+	}
+
+	/**
+	 * @param seed semilla del generador; la misma semilla produce los mismos aspirantes
+	 * @return generador con puntajes globales de 0 a 500 y de materias de 0 a 100
+	 */
+	public static Generator random(long seed) {
+		return new Generator(seed);
+	}
+
+	/**
+	 * Compara por identidad: dos ordenamientos deben devolver las mismas instancias en el mismo orden.
+	 */
+	public static void assertSameOrder(List<Candidate> expected, List<Candidate> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), actual.get(i), "posición " + i);
+		}
+	}
+
+	public static final class Generator {
+
+		private final Random random;
+		private int minGlobal = 0;
+		private int maxGlobal = 500;
+		private int minSubject = 0;
+		private int maxSubject = 100;
+		private int outlierOneIn;
+		private int gapOneIn;
+		private int nameVariants;
+		private int firstNumber = -1;
+		private boolean programs;
+
+		private Generator(long seed) {
+			this.random = new Random(seed);
+		}
+
+		public Generator global(int min, int max) {
+			this.minGlobal = min;
+			this.maxGlobal = max;
+			return this;
+		}
+
+		public Generator subjects(int min, int max) {
+			this.minSubject = min;
+			this.maxSubject = max;
+			return this;
+		}
+
+		/**
+		 * Uno de cada {@code oneIn} aspirantes recibe un puntaje global en todo el rango de short.
+		 */
+		public Generator outliers(int oneIn) {
+			this.outlierOneIn = oneIn;
+			return this;
+		}
+
+		/**
+		 * Uno de cada {@code oneIn} aspirantes queda sin etnia y, por separado, sin fecha.
+		 */
+		public Generator gaps(int oneIn) {
+			this.gapOneIn = oneIn;
+			return this;
+		}
+
+		/**
+		 * Agrega al nombre un número entre 0 y {@code count - 1}: se repiten nombres, con menos empates.
+		 */
+		public Generator nameVariants(int count) {
+			this.nameVariants = count;
+			return this;
+		}
+
+		/**
+		 * Numera los nombres desde {@code first}, así cada aspirante tiene su propia identidad.
+		 */
+		public Generator numberedFrom(int first) {
+			this.firstNumber = first;
+			return this;
+		}
+
+		/**
+		 * Cada aspirante elige cada programa de {@link #PROGRAMS} con probabilidad de un tercio.
+		 */
+		public Generator withPrograms() {
+			this.programs = true;
+			return this;
+		}
+
+		public List<Candidate> list(int count) {
+			List<Candidate> candidates = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				candidates.add(next());
+			}
+			return candidates;
+		}
+
+		private Candidate next() {
+			String name = NAMES[random.nextInt(NAMES.length)];
+			if (firstNumber >= 0) {
+				name += " " + firstNumber++;
+			} else if (nameVariants > 0) {
+				name += " " + random.nextInt(nameVariants);
+			}
+			String ethnicity = ETHNICITIES[random.nextInt(ETHNICITIES.length)];
+			int global = between(minGlobal, maxGlobal);
+			if (outlierOneIn > 0 && random.nextInt(outlierOneIn) == 0) {
+				global = between(Short.MIN_VALUE, Short.MAX_VALUE);
+			}
+			LocalDate date = LocalDate.of(2024, 1 + random.nextInt(12), 1 + random.nextInt(28));
+			if (gapOneIn > 0 && random.nextInt(gapOneIn) == 0) {
+				ethnicity = null;
+			}
+			if (gapOneIn > 0 && random.nextInt(gapOneIn) == 0) {
+				date = null;
+			}
+			Candidate candidate = candidate(name, LAST_NAMES[random.nextInt(LAST_NAMES.length)], ethnicity,
+				global, date, between(minSubject, maxSubject), between(minSubject, maxSubject));
+			if (programs) {
+				List<String> choices = new ArrayList<>();
+				for (String program : PROGRAMS) {
+					if (random.nextInt(3) == 0) {
+						choices.add(program);
+					}
+				}
+				candidate.setProgramChoices(choices);
+			}
+			return candidate;
+		}
+
+		private int between(int min, int max) {
+			return min + random.nextInt(max - min + 1);
+		}
+	}
+}
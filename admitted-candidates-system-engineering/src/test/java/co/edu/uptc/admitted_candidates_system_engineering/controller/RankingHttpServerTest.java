@@ -0,0 +1,143 @@
+package co.edu.uptc.admitted_candidates_system_engineering.controller;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.RankingSnapshot;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateSorter;
+import co.edu.uptc.admitted_candidates_system_engineering.service.IAdmissionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankingHttpServerTest {
+
+	private static final int MAX_PAGE_SIZE = 25;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final HttpClient client = HttpClient.newHttpClient();
+	private RankingSnapshot snapshot;
+	private RankingHttpServer server;
+	private int port;
+
+	@BeforeEach
+	void start() throws IOException {
+		CandidateSorter sorter = new CandidateSorter();
+		List<Candidate> candidates = random(8).list(100);
+		candidates.add(candidate("Único", "Aspirante", "General", 500, null, 100, 100));
+		candidates.add(candidate("Repetido", "Dos Veces", "General", 300, null, 50, 50));
+		candidates.add(candidate("repetido", "DOS VECES", "Raizal", 200, null, 50, 50));
+		snapshot = new RankingSnapshot(sorter.sort(candidates), sorter.getComparator());
+		server = new RankingHttpServer(snapshotService(snapshot), 0, MAX_PAGE_SIZE);
+		port = server.start();
+	}
+
+	@AfterEach
+	void stop() {
+		server.stop();
+	}
+
+	@Test
+	void returnsTheRequestedPageWithItsPositions() throws Exception {
+		JsonNode page = getJson("/api/ranking?offset=10&limit=5", 200);
+
+		assertEquals(snapshot.size(), page.get("total").asInt());
+		assertEquals(10, page.get("offset").asInt());
+		assertPage(page, 10, 5);
+		assertPage(getJson("/api/ranking/", 200), 0, MAX_PAGE_SIZE);
+	}
+
+	@Test
+	void pagesAreBoundedByTheRankingAndTheMaximumSize() throws Exception {
+		int size = snapshot.size();
+
+		assertPage(getJson("/api/ranking?offset=" + (size - 2) + "&limit=10", 200), size - 2, 2);
+		assertPage(getJson("/api/ranking?offset=" + size, 200), size, 0);
+		assertPage(getJson("/api/ranking?offset=" + Integer.MAX_VALUE + "&limit=" + Integer.MAX_VALUE, 200),
+			Integer.MAX_VALUE, 0);
+		assertPage(getJson("/api/ranking?limit=0", 200), 0, 0);
+		assertPage(getJson("/api/ranking?limit=1000", 200), 0, MAX_PAGE_SIZE);
+		assertPage(getJson("/api/ranking/top?k=3", 200), 0, 3);
+		assertPage(getJson("/api/ranking/top?k=1000", 200), 0, MAX_PAGE_SIZE);
+	}
+
+	@Test
+	void findsEveryPositionOfANameIgnoringCase() throws Exception {
+		JsonNode repeated = getJson("/api/ranking/position?name=REPETIDO&lastName=dos%20veces", 200);
+		JsonNode unique = getJson("/api/ranking/position?name=%C3%9Anico&lastName=Aspirante", 200);
+
+		assertEquals(2, repeated.get("candidates").size());
+		for (JsonNode candidate : repeated.get("candidates")) {
+			int position = candidate.get("position").asInt();
+			assertEquals(snapshot.getRankedCandidates().get(position - 1).getName(), candidate.get("name").asText());
+		}
+		assertEquals(1, unique.get("candidates").size());
+		int position = unique.get("candidates").get(0).get("position").asInt();
+		assertEquals("Único", snapshot.getRankedCandidates().get(position - 1).getName());
+		assertTrue(getJson("/api/ranking/position?name=Nadie&lastName=Aspirante", 404).has("error"));
+	}
+
+	@Test
+	void rejectsInvalidRequests() throws Exception {
+		assertTrue(getJson("/api/ranking?offset=-1", 400).get("error").asText().contains("negativos"));
+		assertTrue(getJson("/api/ranking?limit=-5", 400).has("error"));
+		assertTrue(getJson("/api/ranking?limit=diez", 400).get("error").asText().contains("limit"));
+		assertTrue(getJson("/api/ranking/top?k=99999999999", 400).get("error").asText().contains("k"));
+		assertTrue(getJson("/api/ranking/position?name=Ana", 400).get("error").asText().contains("lastName"));
+		assertTrue(getJson("/api/ranking/otra", 404).has("error"));
+
+		HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri("/api/ranking"))
+			.POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+		assertEquals(405, post.statusCode());
+	}
+
+	private void assertPage(JsonNode page, int offset, int expectedSize) {
+		JsonNode candidates = page.get("candidates");
+		assertEquals(expectedSize, candidates.size(), "offset " + offset);
+		for (int i = 0; i < candidates.size(); i++) {
+			JsonNode candidate = candidates.get(i);
+			Candidate expected = snapshot.getRankedCandidates().get(offset + i);
+			assertEquals(offset + i + 1, candidate.get("position").asInt());
+			assertEquals(expected.getName(), candidate.get("name").asText());
+			assertEquals(expected.getGlobalIcfesScore(), candidate.get("globalIcfesScore").asInt());
+		}
+	}
+
+	private JsonNode getJson(String path, int expectedStatus) throws Exception {
+		HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+			HttpResponse.BodyHandlers.ofString());
+		assertEquals(expectedStatus, response.statusCode(), path + ": " + response.body());
+		assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").orElse(""));
+		return mapper.readTree(response.body());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	/**
+	 * El servidor solo consulta el ranking vigente; cualquier otra llamada al servicio es un error de la prueba.
+	 */
+	private static IAdmissionService snapshotService(RankingSnapshot snapshot) {
+		return (IAdmissionService) Proxy.newProxyInstance(IAdmissionService.class.getClassLoader(),
+			new Class<?>[] {IAdmissionService.class}, (proxy, method, args) -> {
+				if (method.getName().equals("getRankingSnapshot")) {
+					return snapshot;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+}
@@ -0,0 +1,126 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateLayoutTest {
+
+	private static final String[] ETHNICITIES = {"General", "Indígena Wayuu", "Raizal", "Afrocolombiano"};
+	private static final String[] PROGRAMS = {"SIS", "MED", "DER"};
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	void compactCandidateUsesFewerBytesPerApplicant() throws Exception {
+		int count = 5_000;
+		String json = randomJson(count, 3);
+
+		LegacyCandidate[] legacy = mapper.readValue(json, LegacyCandidate[].class);
+		Candidate[] compact = mapper.readValue(json, Candidate[].class);
+
+		long legacyBytes = GraphLayout.parseInstance((Object) legacy).totalSize() / count;
+		long compactBytes = GraphLayout.parseInstance((Object) compact).totalSize() / count;
+		long legacyShallow = ClassLayout.parseClass(LegacyCandidate.class).instanceSize();
+		long compactShallow = ClassLayout.parseClass(Candidate.class).instanceSize();
+		assertTrue(compactShallow < legacyShallow, legacyShallow + " -> " + compactShallow);
+		// Sin LocalDate ni un texto de etnia por fila: al menos 24 + 40 bytes menos por candidato
+		assertTrue(compactBytes + 64 <= legacyBytes, legacyBytes + " -> " + compactBytes);
+	}
+
+	@Test
+	void readsTheSameValuesAsTheBeanMapping() throws Exception {
+		String json = randomJson(500, 7);
+
+		LegacyCandidate[] legacy = mapper.readValue(json, LegacyCandidate[].class);
+		Candidate[] compact = mapper.readValue(json, Candidate[].class);
+
+		assertEquals(legacy.length, compact.length);
+		for (int i = 0; i < legacy.length; i++) {
+			assertEquals(legacy[i].name, compact[i].getName());
+			assertEquals(legacy[i].lastName, compact[i].getLastName());
+			assertEquals(legacy[i].ethnicity, compact[i].getEthnicity());
+			assertEquals(legacy[i].globalIcfesScore, compact[i].getGlobalIcfesScore());
+			assertEquals(legacy[i].registrationDate, compact[i].getRegistrationDate());
+			assertEquals(legacy[i].mathScore, compact[i].getMathScore());
+			assertEquals(legacy[i].englishScore, compact[i].getEnglishScore());
+			assertEquals(legacy[i].programChoices, compact[i].getProgramChoices());
+			assertSame(compact[0].getEthnicity(), CanonicalStrings.canonical(new String(compact[0].getEthnicity())));
+		}
+	}
+
+	@Test
+	void acceptsJacksonDateFormsAndRejectsBadInput() throws Exception {
+		Candidate fromArray = mapper.readValue("{\"registrationDate\": [2024, 2, 29], \"mathScore\": \"80\"}", Candidate.class);
+		assertEquals(LocalDate.of(2024, 2, 29), fromArray.getRegistrationDate());
+		assertEquals(80, fromArray.getMathScore());
+
+		Candidate coerced = mapper.readValue("{\"name\": 123, \"lastName\": true, \"programChoices\": [\"SIS\", 7]}", Candidate.class);
+		assertEquals("123", coerced.getName());
+		assertEquals("true", coerced.getLastName());
+		assertEquals(List.of("SIS", "7"), coerced.getProgramChoices());
+
+		Candidate empty = mapper.readValue("{\"name\": null, \"registrationDate\": \"\", \"programChoices\": null}", Candidate.class);
+		assertNull(empty.getName());
+		assertNull(empty.getRegistrationDate());
+		assertEquals(Candidate.NO_DATE, empty.getRegistrationEpochDay());
+		assertEquals(List.of(), empty.getProgramChoices());
+
+		assertThrows(InvalidFormatException.class,
+			() -> mapper.readValue("{\"registrationDate\": \"2024-02-30\"}", Candidate.class));
+		assertThrows(UnrecognizedPropertyException.class,
+			() -> mapper.readValue("{\"nickname\": \"Ana\"}", Candidate.class));
+		assertThrows(IllegalArgumentException.class, () -> new Candidate().setGlobalIcfesScore(40_000));
+	}
+
+	private String randomJson(int count, long seed) throws Exception {
+		Random random = new Random(seed);
+		ArrayNode array = mapper.createArrayNode();
+		for (int i = 0; i < count; i++) {
+			ObjectNode node = array.addObject();
+			node.put("name", "Aspirante " + i);
+			node.put("lastName", "Apellido " + random.nextInt(1_000));
+			node.put("ethnicity", ETHNICITIES[random.nextInt(ETHNICITIES.length)]);
+			node.put("globalIcfesScore", random.nextInt(501));
+			node.put("registrationDate", LocalDate.of(2024, 1 + random.nextInt(12), 1 + random.nextInt(28)).toString());
+			node.put("mathScore", random.nextInt(101));
+			node.put("englishScore", random.nextInt(101));
+			ArrayNode choices = node.putArray("programChoices");
+			choices.add(PROGRAMS[random.nextInt(PROGRAMS.length)]);
+		}
+		return mapper.writeValueAsString(array);
+	}
+
+	/**
+	 * Forma en que se guardaba el candidato antes: fecha como objeto y puntajes int,
+	 * leído con el mapeo de propiedades de Jackson.
+	 */
+	static class LegacyCandidate {
+		public String name;
+		public String lastName;
+		public String ethnicity;
+		public int globalIcfesScore;
+		public LocalDate registrationDate;
+		public int mathScore;
+		public int englishScore;
+		public List<String> programChoices = List.of();
+		@SuppressWarnings("unused")
+		private byte ethnicityClass;
+	}
+}
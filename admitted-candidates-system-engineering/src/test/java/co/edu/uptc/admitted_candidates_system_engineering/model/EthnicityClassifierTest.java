@@ -0,0 +1,37 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EthnicityClassifierTest {
+
+	@Test
+	void classifiesWithTheConfiguredKeywordsOnly() {
+		EthnicityClassifier classifier = new EthnicityClassifier(" Mestizo ,, ROM");
+		Candidate mestizo = new Candidate("Ana", "Gómez", "mestizo", 400, null, 90, 90);
+		Candidate raizal = new Candidate("Luis", "Pérez", "Raizal", 400, null, 90, 90);
+
+		classifier.classify(mestizo);
+		classifier.classify(raizal);
+
+		assertTrue(mestizo.isMinorityCommunity());
+		assertFalse(raizal.isMinorityCommunity());
+		assertFalse(classifier.isMinority(null));
+	}
+
+	@Test
+	void unclassifiedCandidatesFailInsteadOfUsingDefaultKeywords() {
+		Candidate candidate = new Candidate("Ana", "Gómez", "Raizal", 400, null, 90, 90);
+		assertThrows(IllegalStateException.class, candidate::isMinorityCommunity);
+
+		new EthnicityClassifier(EthnicityClassifier.DEFAULT_KEYWORDS).classify(candidate);
+		assertTrue(candidate.isMinorityCommunity());
+
+		// Cambiar la etnia invalida la clasificación anterior
+		candidate.setEthnicity("General");
+		assertThrows(IllegalStateException.class, candidate::isMinorityCommunity);
+	}
+}
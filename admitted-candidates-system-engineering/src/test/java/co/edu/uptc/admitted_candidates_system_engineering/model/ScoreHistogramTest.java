@@ -0,0 +1,116 @@
+package co.edu.uptc.admitted_candidates_system_engineering.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreHistogramTest {
+
+	private static final int SCALE = 100;
+
+	@Test
+	void percentileIsTheNearestRank() {
+		ScoreHistogram histogram = new ScoreHistogram(SCALE);
+		for (int score = 1; score <= 100; score++) {
+			histogram.add(score);
+		}
+
+		assertEquals(1, histogram.percentile(0));
+		assertEquals(10, histogram.percentile(10));
+		assertEquals(50, histogram.percentile(50));
+		assertEquals(51, histogram.percentile(50.5));
+		assertEquals(100, histogram.percentile(100));
+		assertEquals(50.5, histogram.getMean(), 1e-9);
+	}
+
+	/**
+	 * Los valores fuera de la escala se cuentan aparte y los representa el extremo observado.
+	 */
+	@Test
+	void percentilesAndPositionsMatchASortedReference() {
+		Random random = new Random(21);
+		int[] scores = new int[5_000];
+		ScoreHistogram histogram = new ScoreHistogram(SCALE);
+		int outOfScale = 0;
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = random.nextInt(20) == 0 ? random.nextInt(2_000) - 1_000 : random.nextInt(SCALE + 1);
+			if (scores[i] < 0 || scores[i] > SCALE) {
+				outOfScale++;
+			}
+			histogram.add(scores[i]);
+		}
+		int[] sorted = scores.clone();
+		Arrays.sort(sorted);
+		int min = sorted[0];
+		int max = sorted[sorted.length - 1];
+
+		assertEquals(scores.length, histogram.getTotal());
+		assertEquals(outOfScale, histogram.getOutOfScale());
+		assertEquals(min, histogram.getMin());
+		assertEquals(max, histogram.getMax());
+		assertEquals(Arrays.stream(scores).average().orElseThrow(), histogram.getMean(), 1e-9);
+
+		for (double percentile = 0; percentile <= 100; percentile += 2.5) {
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * sorted.length));
+			assertEquals(representative(sorted[(int) rank - 1], min, max), histogram.percentile(percentile),
+				"percentil " + percentile);
+		}
+		for (int position = 1; position <= sorted.length; position++) {
+			int expected = representative(sorted[sorted.length - position], min, max);
+			int score = histogram.scoreAtPositionFromTop(position);
+			assertEquals(expected, score, "posición " + position);
+			// La posición cae dentro de la casilla del puntaje, contando las de fuera de escala
+			assertTrue(histogram.countAbove(score) < position, "posición " + position);
+			assertTrue(position <= histogram.countAbove(score) + histogram.countInBin(score), "posición " + position);
+		}
+	}
+
+	@Test
+	void positionsOutsideTheHistogramHaveNoScore() {
+		ScoreHistogram histogram = new ScoreHistogram(SCALE);
+		assertEquals(-1, histogram.percentile(50));
+		assertEquals(-1, histogram.getMin());
+		assertEquals(-1, histogram.scoreAtPositionFromTop(1));
+
+		histogram.add(40);
+		histogram.add(140);
+		assertEquals(-1, histogram.scoreAtPositionFromTop(0));
+		assertEquals(-1, histogram.scoreAtPositionFromTop(3));
+		assertEquals(140, histogram.scoreAtPositionFromTop(1));
+		assertEquals(40, histogram.scoreAtPositionFromTop(2));
+	}
+
+	@Test
+	void addAllMergesCountsAndOutliers() {
+		ScoreHistogram minority = new ScoreHistogram(SCALE);
+		ScoreHistogram general = new ScoreHistogram(SCALE);
+		minority.add(-5);
+		minority.add(70);
+		general.add(70);
+		general.add(300);
+
+		ScoreHistogram all = new ScoreHistogram(SCALE);
+		all.addAll(minority);
+		all.addAll(general);
+
+		assertEquals(4, all.getTotal());
+		assertEquals(2, all.getOutOfScale());
+		assertEquals(2, all.getCount(70));
+		assertEquals(-5, all.getMin());
+		assertEquals(300, all.getMax());
+		assertEquals(1, all.countInBin(-5));
+		assertEquals(0, all.countAbove(300));
+		assertEquals(3, all.countAbove(-5));
+	}
+
+	private static int representative(int score, int min, int max) {
+		if (score < 0) {
+			return min;
+		}
+		return score > SCALE ? max : score;
+	}
+}
@@ -0,0 +1,46 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarCandidateRepositoryTest {
+
+	@Test
+	void repeatedNamesShareOneInstance() {
+		ColumnarCandidateRepository repository = new ColumnarCandidateRepository();
+		repository.addCandidate(candidate(new String("Ana"), new String("Gómez"), "General", 400, null, 90, 90));
+		repository.addCandidate(candidate(new String("Ana"), new String("Gómez"), "Raizal", 300, null, 80, 80));
+
+		assertSame(repository.getName(0), repository.getName(1));
+		assertSame(repository.getLastName(0), repository.getLastName(1));
+		assertEquals(2, repository.getPooledStringCount());
+	}
+
+	/**
+	 * Con un nombre distinto por aspirante el conjunto no crece con las filas, y los datos no cambian.
+	 */
+	@Test
+	void pooledNamesAreBoundedAndReleasedOnClear() {
+		ColumnarCandidateRepository repository = new ColumnarCandidateRepository();
+		List<Candidate> candidates = new ArrayList<>();
+		for (int i = 0; i < ColumnarCandidateRepository.MAX_POOLED_STRINGS; i++) {
+			candidates.add(candidate("Aspirante " + i, i % 2 == 0 ? "Gómez" : "Pérez", "General", i % 500, null, 50, 50));
+		}
+		candidates.forEach(repository::addCandidate);
+
+		assertTrue(repository.getPooledStringCount() <= ColumnarCandidateRepository.MAX_POOLED_STRINGS);
+		assertEquals(candidates, repository.getAllCandidates());
+
+		repository.clear();
+		assertEquals(0, repository.getPooledStringCount());
+		assertEquals(0, repository.getTotalCandidates());
+	}
+}
@@ -0,0 +1,148 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentCandidateRepositoryTest {
+
+	private static final int WRITERS = 8;
+	private static final int PER_WRITER = 50_000;
+
+	@Test
+	void keepsEveryCandidateWhenManyThreadsInsertAtOnce() throws Exception {
+		ConcurrentCandidateRepository repository = new ConcurrentCandidateRepository(4);
+		ExecutorService pool = Executors.newFixedThreadPool(WRITERS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		try {
+			List<Future<?>> writers = new ArrayList<>();
+			for (int w = 0; w < WRITERS; w++) {
+				int writer = w;
+				writers.add(pool.submit(() -> {
+					start.await();
+					for (int i = 0; i < PER_WRITER; i++) {
+						repository.addCandidate(candidate(writer, i));
+					}
+					return null;
+				}));
+			}
+			// Un lector que toma fotos mientras se escribe: nunca debe ver huecos ni retrocesos
+			Future<Integer> reader = pool.submit(() -> {
+				start.await();
+				int snapshots = 0;
+				int previous = 0;
+				while (writing.get()) {
+					List<Candidate> snapshot = repository.getAllCandidates();
+					assertTrue(snapshot.size() >= previous);
+					snapshot.forEach(candidate -> assertNotNull(candidate));
+					previous = snapshot.size();
+					snapshots++;
+				}
+				return snapshots;
+			});
+
+			start.countDown();
+			for (Future<?> future : writers) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+			writing.set(false);
+			assertTrue(reader.get(60, TimeUnit.SECONDS) > 0);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals(WRITERS * PER_WRITER, repository.getTotalCandidates());
+		List<Candidate> all = repository.getAllCandidates();
+		assertEquals(WRITERS * PER_WRITER, all.size());
+		assertContentsAndPerThreadOrder(all);
+
+		List<Candidate> visited = new ArrayList<>();
+		repository.forEachCandidate(visited::add);
+		assertEquals(all, visited);
+	}
+
+	@Test
+	void preservesInsertionOrderForSingleWriter() {
+		ConcurrentCandidateRepository repository = new ConcurrentCandidateRepository();
+		List<Candidate> expected = new ArrayList<>();
+		for (int i = 0; i < 5_000; i++) {
+			Candidate candidate = candidate(0, i);
+			expected.add(candidate);
+			repository.addCandidate(candidate);
+		}
+		repository.addCandidate(null);
+
+		assertEquals(expected, repository.getAllCandidates());
+		assertEquals(expected.size(), repository.getTotalCandidates());
+	}
+
+	/**
+	 * Cada lote retira candidatos y agrega sus reemplazos: las casillas vacías se recuperan,
+	 * así que las franjas no crecen con el número de lotes.
+	 */
+	@Test
+	void repeatedReplaceBatchesKeepTheFootprintBounded() {
+		ConcurrentCandidateRepository repository = new ConcurrentCandidateRepository(2);
+		List<Candidate> expected = new ArrayList<>();
+		for (int i = 0; i < 4_000; i++) {
+			Candidate candidate = candidate(0, i);
+			expected.add(candidate);
+			repository.addCandidate(candidate);
+		}
+
+		int next = expected.size();
+		for (int batch = 0; batch < 200; batch++) {
+			List<Candidate> removed = new ArrayList<>(expected.subList(0, 150));
+			expected.subList(0, 150).clear();
+			assertEquals(150, repository.removeCandidates(removed));
+			for (int i = 0; i < 150; i++) {
+				Candidate candidate = candidate(0, next++);
+				expected.add(candidate);
+				repository.addCandidate(candidate);
+			}
+
+			assertEquals(expected.size(), repository.getTotalCandidates());
+			assertTrue(repository.getSlotCount() <= expected.size() * 4 / 3 + 1, "lote " + batch);
+		}
+		assertEquals(expected, repository.getAllCandidates());
+		List<Candidate> visited = new ArrayList<>();
+		repository.forEachCandidate(visited::add);
+		assertEquals(expected, visited);
+	}
+
+	/**
+	 * Cada escritor inserta sus candidatos numerados en orden; deben aparecer todos una vez
+	 * y en ese mismo orden relativo.
+	 */
+	private static void assertContentsAndPerThreadOrder(List<Candidate> candidates) {
+		Map<String, Integer> lastSeen = new HashMap<>();
+		for (Candidate candidate : candidates) {
+			int sequence = Integer.parseInt(candidate.getLastName());
+			Integer previous = lastSeen.put(candidate.getName(), sequence);
+			assertEquals(previous == null ? 0 : previous + 1, sequence, "orden del escritor " + candidate.getName());
+		}
+		assertEquals(WRITERS, lastSeen.size());
+		lastSeen.values().forEach(last -> assertEquals(PER_WRITER - 1, last));
+	}
+
+	private static Candidate candidate(int writer, int sequence) {
+		return new Candidate("Escritor" + writer, String.valueOf(sequence), "General", 400,
+			LocalDate.of(2024, 10, 1), 50, 50);
+	}
+}
@@ -0,0 +1,160 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures;
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateSorter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapCandidateRepositoryTest {
+
+	/** Bloques de 4 KB para que registros y textos ocupen varios bloques. */
+	private static final int SMALL_CHUNK_BITS = 12;
+
+	private final CandidateSorter sorter = new CandidateSorter();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void storesEveryFieldAcrossChunks() throws Exception {
+		List<Candidate> candidates = candidates(3).list(5_000);
+		candidates.add(candidate(null, null, null, 0, null, 0, 0));
+		OffHeapCandidateRepository repository = repository(null);
+		candidates.forEach(repository::addCandidate);
+
+		assertSameCandidates(candidates, repository.getAllCandidates());
+		repository.close();
+	}
+
+	@Test
+	void ranksInPlaceLikeTheComparatorSorter() throws Exception {
+		List<Candidate> candidates = candidates(7).list(20_000);
+		OffHeapCandidateRepository repository = repository(null);
+		candidates.forEach(repository::addCandidate);
+
+		List<Candidate> expected = sorter.sort(candidates);
+		assertEquals(expected, repository.getRankedCandidates());
+		assertEquals(expected.subList(100, 150), repository.getRankedRange(100, 50));
+		assertEquals(1, repository.rankOf(expected.get(0)));
+		assertEquals(12_345, repository.rankOf(expected.get(12_344)));
+
+		List<Candidate> withdrawn = List.of(expected.get(0), expected.get(500), expected.get(19_999));
+		assertEquals(3, repository.removeCandidates(withdrawn));
+		List<Candidate> late = candidates(11).list(300);
+		late.forEach(repository::addCandidate);
+		List<Candidate> remaining = new ArrayList<>(candidates);
+		remaining.removeAll(withdrawn);
+		remaining.addAll(late);
+
+		List<Candidate> ranked = new ArrayList<>();
+		repository.scanRanked(record -> ranked.add(record.toCandidate()));
+		assertEquals(sorter.sort(remaining), ranked);
+		assertEquals(-1, repository.rankOf(withdrawn.get(0)));
+		repository.close();
+	}
+
+	@Test
+	void removesRowsAndShiftsTheFollowingOnes() throws Exception {
+		List<Candidate> candidates = candidates(13).list(2_000);
+		OffHeapCandidateRepository repository = repository(null);
+		candidates.forEach(repository::addCandidate);
+		repository.getRankedCandidates();
+
+		int[] rows = {0, 1, 777, 1_999};
+		assertEquals(rows.length, repository.removeRows(rows));
+		List<Candidate> remaining = new ArrayList<>(candidates);
+		for (int i = rows.length - 1; i >= 0; i--) {
+			remaining.remove(rows[i]);
+		}
+
+		assertSameCandidates(remaining, repository.getAllCandidates());
+		assertEquals(sorter.sort(remaining), repository.getRankedCandidates());
+		assertEquals(0, repository.removeRows(new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> repository.removeRows(new int[] {5, 5}));
+		assertThrows(IllegalArgumentException.class, () -> repository.removeRows(new int[] {remaining.size()}));
+		repository.close();
+	}
+
+	@Test
+	void scanReadsRecordsWithoutCandidates() throws Exception {
+		List<Candidate> candidates = candidates(13).list(3_000);
+		OffHeapCandidateRepository repository = repository(null);
+		candidates.forEach(repository::addCandidate);
+
+		long[] totals = new long[4];
+		repository.scan(record -> {
+			totals[0] += record.getGlobalIcfesScore();
+			totals[1] += record.getMathScore() + record.getEnglishScore();
+			totals[2] += record.isMinorityCommunity() ? 1 : 0;
+			totals[3] += record.getRow();
+		});
+		assertEquals(candidates.stream().mapToLong(Candidate::getGlobalIcfesScore).sum(), totals[0]);
+		assertEquals(candidates.stream().mapToLong(c -> c.getMathScore() + c.getEnglishScore()).sum(), totals[1]);
+		assertEquals(candidates.stream().filter(Candidate::isMinorityCommunity).count(), totals[2]);
+		assertEquals(3_000L * 2_999 / 2, totals[3]);
+		repository.close();
+	}
+
+	@Test
+	void reopensAPersistedStoreOnlyWhenItWasSealed() throws Exception {
+		Path file = directory.resolve("candidatos.bin");
+		List<Candidate> candidates = candidates(17).list(4_000);
+		OffHeapCandidateRepository repository = repository(file);
+		candidates.forEach(repository::addCandidate);
+		SourceStamp source = SourceStamp.ofContent(1_000, 42);
+		repository.markSource(source, 7);
+		repository.close();
+
+		OffHeapCandidateRepository reopened = repository(file);
+		assertTrue(reopened.holdsSource(source, 7));
+		// Otro contenido del mismo tamaño, la misma cifra como fecha de un archivo u otra configuración
+		assertFalse(reopened.holdsSource(SourceStamp.ofContent(1_000, 43), 7));
+		assertFalse(reopened.holdsSource(SourceStamp.ofFile(1_000, 42), 7));
+		assertFalse(reopened.holdsSource(source, 8));
+		assertSameCandidates(candidates, reopened.getAllCandidates());
+		assertEquals(sorter.sort(candidates), reopened.getRankedCandidates());
+
+		// Un cambio sin sellar invalida la reutilización aunque el archivo se cierre bien
+		reopened.clear();
+		reopened.addCandidate(candidates.get(0));
+		assertFalse(reopened.holdsSource(source, 7));
+		reopened.close();
+		OffHeapCandidateRepository changed = repository(file);
+		assertFalse(changed.holdsSource(source, 7));
+		assertSameCandidates(candidates.subList(0, 1), changed.getAllCandidates());
+		changed.close();
+	}
+
+	private OffHeapCandidateRepository repository(Path file) {
+		return new OffHeapCandidateRepository(sorter.getComparator(), sorter.getRankingKey(), file, SMALL_CHUNK_BITS);
+	}
+
+	/**
+	 * Incluye etnias ausentes, fechas ausentes, puntajes fuera de los rangos usuales y
+	 * aspirantes sin programas elegidos.
+	 */
+	private static CandidateFixtures.Generator candidates(long seed) {
+		return CandidateFixtures.random(seed).nameVariants(50).outliers(20).gaps(10).withPrograms();
+	}
+
+	private static void assertSameCandidates(List<Candidate> expected, List<Candidate> actual) {
+		assertEquals(expected, actual);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getRegistrationDate(), actual.get(i).getRegistrationDate());
+			assertEquals(expected.get(i).getProgramChoices(), actual.get(i).getProgramChoices());
+			assertEquals(expected.get(i).isMinorityCommunity(), actual.get(i).isMinorityCommunity());
+		}
+	}
+}
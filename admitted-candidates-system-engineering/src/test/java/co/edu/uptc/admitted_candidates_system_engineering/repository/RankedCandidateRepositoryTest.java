@@ -0,0 +1,130 @@
+package co.edu.uptc.admitted_candidates_system_engineering.repository;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.service.CandidateSorter;
+import co.edu.uptc.admitted_candidates_system_engineering.service.RuleBasedCandidateSorter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.assertSameOrder;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RankedCandidateRepositoryTest {
+
+	private final CandidateSorter sorter = new CandidateSorter();
+
+	/**
+	 * Los puntajes negativos no se pueden saturar en la clave: dos globales negativos distintos
+	 * quedarían empatados en ella y la materia siguiente decidiría el orden.
+	 */
+	@Test
+	void ranksNegativeAndExtremeScoresLikeTheComparator() {
+		List<Candidate> candidates = List.of(
+			candidate("Ana", "Gómez", "General", -5, null, 90, 0),
+			candidate("Luis", "Pérez", "General", -1, null, 10, 0),
+			candidate("Eva", "Ruiz", "General", Short.MIN_VALUE, null, Short.MAX_VALUE, 0),
+			candidate("Juan", "Díaz", "General", 0, null, -20, Short.MIN_VALUE),
+			candidate("Sara", "Mora", "General", 0, null, -20, Short.MAX_VALUE),
+			candidate("Noa", "Vera", "Raizal", Short.MIN_VALUE, null, Short.MIN_VALUE, Short.MIN_VALUE),
+			candidate("Iván", "Rey", "General", Short.MAX_VALUE, null, 0, 0));
+		RankedCandidateRepository repository = new RankedCandidateRepository(sorter);
+		candidates.forEach(repository::addCandidate);
+
+		List<Candidate> expected = sorter.sort(candidates);
+		assertEquals(expected, repository.getRankedCandidates());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(i + 1, repository.rankOf(expected.get(i)));
+		}
+	}
+
+	/**
+	 * Inserciones y retiros al azar contra una lista de referencia ordenada de forma estable en
+	 * orden de llegada. Los puntajes estrechos dan muchas claves repetidas y empates completos,
+	 * y se reinsertan copias iguales de candidatos ya guardados.
+	 */
+	@Test
+	void matchesAStableSortedReferenceUnderInsertionsAndRemovals() {
+		RuleBasedCandidateSorter rules = new RuleBasedCandidateSorter("minority desc, global desc, name asc", "");
+		checkAgainstReference(sorter.getComparator(), sorter.getRankingKey(), 1);
+		checkAgainstReference(sorter.getComparator(), null, 2);
+		checkAgainstReference(rules.getComparator(), rules.getRankingKey(), 3);
+	}
+
+	@Test
+	void rejectsNegativeRanges() {
+		RankedCandidateRepository repository = new RankedCandidateRepository(sorter);
+		repository.addCandidate(candidate("Ana", "Gómez", "General", 400, null, 90, 90));
+
+		assertThrows(IllegalArgumentException.class, () -> repository.getRankedRange(-1, 5));
+		assertThrows(IllegalArgumentException.class, () -> repository.getRankedRange(0, -1));
+		assertEquals(List.of(), repository.getRankedRange(1, 5));
+		assertEquals(-1, repository.rankOf(null));
+	}
+
+	private void checkAgainstReference(Comparator<Candidate> comparator, ToLongFunction<Candidate> key, long seed) {
+		Random random = new Random(seed);
+		RankedCandidateRepository repository = new RankedCandidateRepository(comparator, key);
+		List<Candidate> arrivals = new ArrayList<>();
+		List<Candidate> pool = random(seed).global(395, 400).subjects(98, 100).list(4_000);
+
+		for (int step = 0; step < pool.size(); step++) {
+			Candidate next = pool.get(step);
+			if (!arrivals.isEmpty() && random.nextInt(10) == 0) {
+				Candidate stored = arrivals.get(random.nextInt(arrivals.size()));
+				next = candidate(stored.getName(), stored.getLastName(), stored.getEthnicity(),
+					stored.getGlobalIcfesScore(), stored.getRegistrationDate(), stored.getMathScore(),
+					stored.getEnglishScore());
+			}
+			repository.addCandidate(next);
+			arrivals.add(next);
+
+			if (random.nextInt(4) == 0) {
+				List<Candidate> removed = new ArrayList<>();
+				for (int i = random.nextInt(3); i >= 0; i--) {
+					removed.add(arrivals.get(random.nextInt(arrivals.size())));
+				}
+				// Se retiran todos los iguales a alguno de los pedidos
+				int before = arrivals.size();
+				arrivals.removeIf(candidate -> removed.stream().anyMatch(candidate::equals));
+				assertEquals(before - arrivals.size(), repository.removeCandidates(removed), "paso " + step);
+				for (Candidate candidate : removed) {
+					assertEquals(-1, repository.rankOf(candidate), "paso " + step);
+				}
+			}
+			if (step % 250 == 0 || step == pool.size() - 1) {
+				assertMatches(repository, arrivals, comparator, random, "paso " + step);
+			}
+		}
+	}
+
+	private static void assertMatches(RankedCandidateRepository repository, List<Candidate> arrivals,
+			Comparator<Candidate> comparator, Random random, String message) {
+		List<Candidate> expected = new ArrayList<>(arrivals);
+		expected.sort(comparator);
+		int size = expected.size();
+
+		assertEquals(size, repository.getTotalCandidates(), message);
+		assertSameOrder(expected, repository.getRankedCandidates());
+		for (int i = 0; i < 20; i++) {
+			int offset = random.nextInt(size + 5);
+			int limit = random.nextInt(60);
+			assertSameOrder(expected.subList(Math.min(offset, size), Math.min(offset + limit, size)),
+				repository.getRankedRange(offset, limit));
+		}
+		int tail = Math.max(size - 3, 0);
+		assertSameOrder(expected.subList(tail, size), repository.getRankedRange(tail, Integer.MAX_VALUE));
+		for (int i = 0; i < 50 && size > 0; i++) {
+			Candidate candidate = expected.get(random.nextInt(size));
+			// La posición es la del primer registro igual: las copias comparten posición
+			assertEquals(expected.indexOf(candidate) + 1, repository.rankOf(candidate), message);
+		}
+	}
+}
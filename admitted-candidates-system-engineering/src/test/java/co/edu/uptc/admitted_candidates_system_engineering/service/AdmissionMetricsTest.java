@@ -0,0 +1,143 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.StageMetrics;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.InMemoryCandidateRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionMetricsTest {
+
+	@Test
+	void recordsEachStageAndKeepsTotals() {
+		AdmissionMetrics metrics = new AdmissionMetrics(new InMemoryCandidateRepository(), true);
+
+		for (int run = 1; run <= 2; run++) {
+			try (IAdmissionMetrics.Stage stage = metrics.startStage("load")) {
+				stage.setRecords(1_000L * run);
+				stage.setBytesRead(4_096L * run);
+				allocate();
+			}
+		}
+		try (IAdmissionMetrics.Stage stage = metrics.startStage("rank")) {
+			stage.setRecords(10);
+		}
+
+		List<StageMetrics> stages = metrics.getStages();
+		assertEquals(2, stages.size());
+		StageMetrics load = stages.get(0);
+		assertEquals("load", load.getName());
+		assertEquals(2, load.getExecutions());
+		assertEquals(2_000, load.getLastRecords());
+		assertEquals(8_192, load.getLastBytesRead());
+		assertTrue(load.getTotalNanos() >= load.getLastNanos());
+		assertTrue(load.getLastAllocatedBytes() == -1 || load.getLastAllocatedBytes() >= 1_000_000);
+		assertEquals("rank", stages.get(1).getName());
+		assertEquals(8_192, metrics.getBytesRead());
+
+		metrics.reset();
+		assertTrue(metrics.getStages().isEmpty());
+	}
+
+	@Test
+	void countsAllocationOfPoolWorkersThatEndInsideTheStage() throws Exception {
+		AdmissionMetrics metrics = new AdmissionMetrics(new InMemoryCandidateRepository(), true);
+
+		try (IAdmissionMetrics.Stage stage = metrics.startStage("load")) {
+			ForkJoinPool pool = new ForkJoinPool(2, AdmissionMetrics.workerThreads("metrics-test-"), null, false);
+			for (Future<?> task : pool.invokeAll(List.of(Executors.callable(AdmissionMetricsTest::allocate),
+					Executors.callable(AdmissionMetricsTest::allocate)))) {
+				task.get();
+			}
+			pool.shutdown();
+			assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+		}
+
+		long allocated = metrics.getStages().get(0).getLastAllocatedBytes();
+		assertTrue(allocated == -1 || allocated >= 4_000_000, String.valueOf(allocated));
+	}
+
+	@Test
+	void disabledMetricsMeasureNothing() throws Exception {
+		AdmissionMetrics metrics = new AdmissionMetrics(new InMemoryCandidateRepository(), false);
+		metrics.register();
+
+		try (IAdmissionMetrics.Stage stage = metrics.startStage("load")) {
+			stage.setRecords(5);
+		}
+
+		assertFalse(metrics.isEnabled());
+		assertTrue(metrics.getStages().isEmpty());
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(AdmissionMetrics.OBJECT_NAME)));
+	}
+
+	@Test
+	void publishesStagesThroughJmx() throws Exception {
+		AdmissionMetrics metrics = new AdmissionMetrics(new InMemoryCandidateRepository(), true);
+		metrics.register();
+		try {
+			try (IAdmissionMetrics.Stage stage = metrics.startStage("rank")) {
+				stage.setRecords(42);
+			}
+
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(AdmissionMetrics.OBJECT_NAME);
+			assertEquals(0, server.getAttribute(name, "RepositorySize"));
+			CompositeData[] stages = (CompositeData[]) server.getAttribute(name, "Stages");
+			assertEquals(1, stages.length);
+			assertEquals("rank", stages[0].get("name"));
+			assertEquals(42L, stages[0].get("lastRecords"));
+		} finally {
+			metrics.unregister();
+		}
+	}
+
+	@Test
+	void emitsFlightRecorderEventPerStage(@TempDir Path directory) throws Exception {
+		AdmissionMetrics metrics = new AdmissionMetrics(new InMemoryCandidateRepository(), true);
+		Path file = directory.resolve("admission.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(AdmissionStageEvent.NAME);
+			recording.start();
+			try (IAdmissionMetrics.Stage stage = metrics.startStage("load")) {
+				stage.setRecords(7);
+				stage.setBytesRead(128);
+			}
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+			.filter(event -> event.getEventType().getName().equals(AdmissionStageEvent.NAME))
+			.toList();
+		assertEquals(1, events.size());
+		assertEquals("load", events.get(0).getString("stage"));
+		assertEquals(7, events.get(0).getLong("records"));
+		assertEquals(128, events.get(0).getLong("bytesRead"));
+	}
+
+	private static void allocate() {
+		byte[][] blocks = new byte[16][];
+		for (int i = 0; i < blocks.length; i++) {
+			blocks[i] = new byte[128 * 1024];
+		}
+		assertEquals(16, blocks.length);
+	}
+}
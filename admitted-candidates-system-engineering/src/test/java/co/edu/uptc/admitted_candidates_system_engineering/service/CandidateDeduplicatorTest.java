@@ -0,0 +1,207 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.assertSameOrder;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateDeduplicatorTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+	private final Candidate first = candidate("Ana María", "Gómez", "General", 400, DAY, 80, 70);
+	private final Candidate stronger = candidate("ANA  MARIA", "gomez", "General", 410, DAY, 60, 60);
+	private final Candidate latest = candidate("ana maría ", " Gómez", "General", 410, DAY, 60, 50);
+	private final Candidate other = candidate("Luis", "Pérez", "General", 300, DAY, 50, 50);
+
+	/**
+	 * Cada sobreviviente queda en la posición en que llegó su registro.
+	 */
+	@Test
+	void eachPolicyKeepsItsRecordWhereItArrived() {
+		List<Candidate> input = List.of(first, other, stronger, latest);
+
+		assertSameOrder(input, dedup("none", input));
+		assertSameOrder(List.of(first, other), dedup("keep-first", input));
+		assertSameOrder(List.of(other, latest), dedup("keep-latest", input));
+		// Mismo global: decide matemáticas; en empate total se queda el primero
+		assertSameOrder(List.of(other, stronger), dedup("keep-highest-score", input));
+		assertSameOrder(List.of(stronger, other), dedup("KEEP_HIGHEST_SCORE", List.of(stronger, latest, other)));
+	}
+
+	@Test
+	void identityFoldsCaseAccentsAndSpaces() {
+		String identity = CandidateDeduplicator.identityOf(first);
+
+		assertEquals(identity, CandidateDeduplicator.identityOf(stronger));
+		assertEquals(identity, CandidateDeduplicator.identityOf(latest));
+		assertEquals(CandidateDeduplicator.identityKeyOf(first), CandidateDeduplicator.identityKeyOf(latest));
+		assertEquals(identity, CandidateDeduplicator.identityOf(
+			candidate("\tÁNA  MARÍA", "GÓMEZ", "General", 0, DAY, 0, 0)));
+
+		// Los espacios separan palabras, la fecha separa inscripciones
+		assertNotEquals(identity, CandidateDeduplicator.identityOf(candidate("AnaMaría", "Gómez", "General", 0, DAY, 0, 0)));
+		assertNotEquals(identity, CandidateDeduplicator.identityOf(
+			candidate("Ana María", "Gómez", "General", 0, DAY.plusDays(1), 0, 0)));
+		assertNotEquals(identity, CandidateDeduplicator.identityOf(candidate("Ana", "María Gómez", "General", 0, DAY, 0, 0)));
+	}
+
+	@Test
+	void missingNamesAndDatesAreComparedAsValues() {
+		Candidate undated = candidate("Ana", "Gómez", "General", 400, null, 80, 70);
+		Candidate undatedAgain = candidate("ana", "gómez", "General", 420, null, 80, 70);
+		Candidate dated = candidate("Ana", "Gómez", "General", 400, DAY, 80, 70);
+		Candidate noName = candidate(null, "Gómez", "General", 300, DAY, 50, 50);
+		Candidate noNameAgain = candidate(null, "GOMEZ", "General", 310, DAY, 50, 50);
+		Candidate noLastName = candidate("Gómez", null, "General", 300, DAY, 50, 50);
+
+		List<Candidate> kept = dedup("keep-latest", List.of(undated, dated, noName, undatedAgain, noNameAgain, noLastName));
+
+		assertSameOrder(List.of(dated, undatedAgain, noNameAgain, noLastName), kept);
+	}
+
+	/**
+	 * Estos dos aspirantes tienen la misma clave de 64 bits: el nombre y la fecha se compensan en
+	 * el XOR final del hash. La clave solo encuentra al candidato; la identidad decide.
+	 */
+	@Test
+	void keyCollisionIsConfirmedWithTheIdentity() {
+		Candidate a = candidate("Ana91131", "Gómez", "General", 400, LocalDate.ofEpochDay(19_000), 80, 70);
+		Candidate b = candidate("Ana133943", "Gómez", "General", 450, LocalDate.ofEpochDay(1_227_545_458), 90, 90);
+		assertEquals(CandidateDeduplicator.identityKeyOf(a), CandidateDeduplicator.identityKeyOf(b));
+
+		CandidateDeduplicator.Session session = new CandidateDeduplicator("keep-highest-score").open(c -> { });
+		session.accept(a);
+		session.accept(b);
+		assertEquals(0, session.getDuplicates());
+		assertSameOrder(List.of(a, b), dedup("keep-highest-score", List.of(a, b)));
+	}
+
+	/**
+	 * Más aspirantes que los que caben en la tabla inicial: los repetidos deben encontrarse
+	 * después de cada crecimiento.
+	 */
+	@Test
+	void findsDuplicatesAcrossRehashes() {
+		List<Candidate> unique = new ArrayList<>();
+		for (int i = 0; i < 20_000; i++) {
+			unique.add(candidate("Aspirante " + i, "Apellido " + (i % 7), "General", i % 500, DAY.plusDays(i % 3), 50, 50));
+		}
+		List<Candidate> input = new ArrayList<>(unique);
+		List<Candidate> repeated = new ArrayList<>();
+		for (int i = unique.size() - 1; i >= 0; i -= 2) {
+			Candidate copy = unique.get(i);
+			repeated.add(candidate(copy.getName().toUpperCase(), copy.getLastName(), "General",
+				copy.getGlobalIcfesScore(), copy.getRegistrationDate(), 50, 50));
+		}
+		input.addAll(repeated);
+
+		List<Candidate> kept = new ArrayList<>();
+		CandidateDeduplicator.Session session = new CandidateDeduplicator("keep-latest").open(kept::add);
+		input.forEach(session);
+
+		assertEquals(repeated.size(), session.finish());
+		List<Candidate> expected = new ArrayList<>();
+		for (int i = 0; i < unique.size(); i += 2) {
+			expected.add(unique.get(i));
+		}
+		expected.addAll(repeated);
+		assertEquals(expected.size(), kept.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), kept.get(i), "posición " + i);
+		}
+	}
+
+	/**
+	 * Con un destino por filas ningún candidato espera al cierre: cada uno se guarda al llegar,
+	 * las coincidencias se leen de las filas y los reemplazados se retiran al final.
+	 */
+	@Test
+	void rowStoreReceivesEachCandidateOnArrival() throws IOException {
+		List<Candidate> input = new ArrayList<>(List.of(first, other, stronger, latest, other));
+		input.addAll(random(4).list(300));
+		Candidate a = candidate("Ana91131", "Gómez", "General", 400, LocalDate.ofEpochDay(19_000), 80, 70);
+		Candidate b = candidate("Ana133943", "Gómez", "General", 450, LocalDate.ofEpochDay(1_227_545_458), 90, 90);
+		input.add(a);
+		input.add(b);
+
+		for (String policy : List.of("none", "keep-first", "keep-latest", "keep-highest-score")) {
+			OffHeapCandidateRepository repository = new OffHeapCandidateRepository(new CandidateSorter());
+			try {
+				CandidateDeduplicator.Session session = new CandidateDeduplicator(policy).open(
+					new CandidateDeduplicator.RowStore() {
+						@Override
+						public void accept(Candidate candidate) {
+							repository.addCandidate(candidate);
+						}
+
+						@Override
+						public Candidate get(int row) {
+							return repository.getCandidate(row);
+						}
+
+						@Override
+						public void finish(int[] replacedRows) {
+							repository.removeRows(replacedRows);
+						}
+					});
+				input.forEach(session);
+				long survivors = input.size() - session.getDuplicates();
+				if (policy.equals("keep-first")) {
+					assertEquals(survivors, repository.getTotalCandidates());
+				}
+				assertTrue(repository.getTotalCandidates() >= survivors, policy);
+
+				assertEquals(input.size() - survivors, session.finish(), policy);
+				assertEquals(survivors, repository.getTotalCandidates(), policy);
+				assertEquals(dedup(policy, input), repository.getAllCandidates(), policy);
+			} finally {
+				repository.close();
+			}
+		}
+	}
+
+	@Test
+	void countsTheDiscardedRecords() {
+		List<Candidate> input = List.of(first, other, stronger, latest, other);
+
+		List<Candidate> passed = new ArrayList<>();
+		CandidateDeduplicator.Session none = new CandidateDeduplicator().open(passed::add);
+		input.forEach(none);
+		assertEquals(0, none.finish());
+		assertEquals(input.size(), passed.size());
+
+		CandidateDeduplicator.Session session = new CandidateDeduplicator("keep-first").open(c -> { });
+		input.forEach(session);
+		assertEquals(3, session.getDuplicates());
+		assertEquals(3, session.finish());
+	}
+
+	@Test
+	void rejectsUnknownPolicies() {
+		assertEquals(CandidateDeduplicator.Policy.NONE, CandidateDeduplicator.Policy.parse(" "));
+		assertEquals(CandidateDeduplicator.Policy.KEEP_LATEST, CandidateDeduplicator.Policy.parse(" Keep-Latest "));
+		assertThrows(IllegalArgumentException.class, () -> new CandidateDeduplicator("keep-oldest"));
+	}
+
+	private static List<Candidate> dedup(String policy, List<Candidate> candidates) {
+		List<Candidate> kept = new ArrayList<>();
+		CandidateDeduplicator.Session session = new CandidateDeduplicator(policy).open(kept::add);
+		candidates.forEach(session);
+		session.finish();
+		return kept;
+	}
+}
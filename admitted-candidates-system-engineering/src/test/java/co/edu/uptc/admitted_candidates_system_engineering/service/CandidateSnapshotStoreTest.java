@@ -0,0 +1,126 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.CLASSIFIER;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateSnapshotStoreTest {
+
+	private final CandidateSorter sorter = new CandidateSorter();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void loadsWhatWasWrittenInRankingOrder() throws IOException {
+		CandidateSnapshotStore store = store("none");
+		List<Candidate> ranked = sorter.sort(random(5).gaps(10).withPrograms().list(300));
+		SourceStamp source = SourceStamp.ofContent(12_345, 0xCAFEL);
+
+		store.write(ranked, source);
+		List<Candidate> loaded = new ArrayList<>();
+		assertEquals(ranked.size(), store.load(loaded::add));
+
+		assertTrue(store.isFresh(source));
+		assertEquals(ranked.size(), loaded.size());
+		for (int i = 0; i < ranked.size(); i++) {
+			Candidate expected = ranked.get(i);
+			Candidate actual = loaded.get(i);
+			String position = "posición " + i;
+			assertEquals(expected.getName(), actual.getName(), position);
+			assertEquals(expected.getLastName(), actual.getLastName(), position);
+			assertEquals(expected.getEthnicity(), actual.getEthnicity(), position);
+			assertEquals(expected.getGlobalIcfesScore(), actual.getGlobalIcfesScore(), position);
+			assertEquals(expected.getMathScore(), actual.getMathScore(), position);
+			assertEquals(expected.getEnglishScore(), actual.getEnglishScore(), position);
+			assertEquals(expected.getRegistrationEpochDay(), actual.getRegistrationEpochDay(), position);
+			assertEquals(expected.isMinorityCommunity(), actual.isMinorityCommunity(), position);
+			assertEquals(expected.getProgramChoices(), actual.getProgramChoices(), position);
+		}
+	}
+
+	/**
+	 * Un recurso del classpath redesplegado con otro contenido no puede seguir sirviendo el ranking anterior.
+	 */
+	@Test
+	void classpathSnapshotIsStaleWhenTheResourceContentChanges() throws IOException {
+		CandidateSnapshotStore store = store("none");
+		store.write(sorter.sort(random(7).list(20)), SourceStamp.ofContent(4_096, 0x1234L));
+
+		assertTrue(store.isFresh(SourceStamp.ofContent(4_096, 0x1234L)));
+		assertFalse(store.isFresh(SourceStamp.ofContent(4_096, 0x1235L)));
+		assertFalse(store.isFresh(SourceStamp.ofContent(4_097, 0x1234L)));
+		assertFalse(store.isFresh(SourceStamp.ofFile(4_096, 0x1234L)));
+	}
+
+	@Test
+	void fileSnapshotIsStaleWhenTheFileOrTheConfigurationChanges() throws IOException {
+		Path source = directory.resolve("candidates.json");
+		Files.writeString(source, "[]");
+		Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+		CandidateDataLoader loader = new CandidateDataLoader(source.toString());
+		CandidateSnapshotStore store = store("none");
+		store.write(sorter.sort(random(9).list(20)), loader.stampConfiguredSource());
+
+		assertTrue(store.isFresh(loader.stampConfiguredSource()));
+		assertFalse(store("keep-latest").isFresh(loader.stampConfiguredSource()));
+
+		Files.writeString(source, "[ ]");
+		assertFalse(store.isFresh(loader.stampConfiguredSource()));
+	}
+
+	/**
+	 * Un ranking que no cabe en el tamaño máximo no se guarda, y un archivo más grande que el
+	 * máximo (de una versión anterior) no se da por vigente: el arranque vuelve a la fuente.
+	 */
+	@Test
+	void oversizeSnapshotIsNotWrittenNorConsideredFresh() throws IOException {
+		List<Candidate> ranked = sorter.sort(random(13).list(200));
+		SourceStamp source = SourceStamp.ofContent(1_000, 0xBEEFL);
+		long recordsEnd = CandidateSnapshotStore.HEADER_SIZE + (long) ranked.size() * CandidateSnapshotStore.RECORD_SIZE;
+		Path file = directory.resolve("ranking.snapshot");
+
+		long size = store("none").write(ranked, source);
+		assertTrue(size > recordsEnd);
+		assertFalse(limited(size - 1).isFresh(source));
+		assertTrue(limited(size).isFresh(source));
+
+		// Los registros no caben: no se escribe nada y se borra el snapshot anterior
+		assertEquals(-1, limited(recordsEnd - 1).write(ranked, source));
+		assertFalse(Files.exists(file));
+
+		// Los registros caben pero la tabla de textos no
+		assertEquals(-1, limited(recordsEnd + 1).write(ranked, source));
+		assertFalse(Files.exists(file));
+		assertFalse(Files.exists(directory.resolve("ranking.snapshot.tmp")));
+		assertFalse(limited(size).isFresh(source));
+
+		assertEquals(size, limited(size).write(ranked, source));
+		List<Candidate> loaded = new ArrayList<>();
+		assertEquals(ranked.size(), limited(size).load(loaded::add));
+	}
+
+	private CandidateSnapshotStore limited(long maxBytes) {
+		return new CandidateSnapshotStore(directory.resolve("ranking.snapshot").toString(), sorter, CLASSIFIER,
+			new CandidateDeduplicator("none"), maxBytes);
+	}
+
+	private CandidateSnapshotStore store(String dedupPolicy) {
+		return new CandidateSnapshotStore(directory.resolve("ranking.snapshot").toString(), sorter, CLASSIFIER,
+			new CandidateDeduplicator(dedupPolicy));
+	}
+}
@@ -0,0 +1,186 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeferredAcceptanceTest {
+
+	private static final int UNASSIGNED = DeferredAcceptance.UNASSIGNED;
+
+	@Test
+	void matchesStudentOptimalStableAssignmentFoundByBruteForce() {
+		Random random = new Random(2025);
+		for (int trial = 0; trial < 500; trial++) {
+			Instance instance = Instance.random(random, 1 + random.nextInt(6), 1 + random.nextInt(3));
+
+			int[] assignment = instance.engine().run();
+
+			assertTrue(instance.isStable(assignment), "intento " + trial + ": " + Arrays.toString(assignment));
+			List<int[]> stable = instance.allStableAssignments();
+			assertFalse(stable.isEmpty(), "intento " + trial);
+			for (int[] other : stable) {
+				for (int a = 0; a < instance.applicants; a++) {
+					assertTrue(instance.preferenceIndex(a, assignment[a]) <= instance.preferenceIndex(a, other[a]),
+						"intento " + trial + ": el aspirante " + a + " prefiere " + Arrays.toString(other));
+				}
+			}
+		}
+	}
+
+	@Test
+	void respectsCapacitiesOnLargerRandomInputs() {
+		Random random = new Random(7);
+		for (int trial = 0; trial < 10; trial++) {
+			Instance instance = Instance.random(random, 500, 12);
+
+			int[] assignment = instance.engine().run();
+
+			assertTrue(instance.isStable(assignment), "intento " + trial);
+		}
+	}
+
+	@Test
+	void applicantsWithoutChoicesOrSeatsStayUnassigned() {
+		int[] choiceStart = {0, 0, 1, 2};
+		short[] choices = {0, 1};
+		int[] capacities = {1, 0};
+		int[] rank = {0, 1, 2};
+		DeferredAcceptance engine = new DeferredAcceptance(3, choiceStart, choices, capacities, new int[][] {rank, rank});
+
+		assertArrayEquals(new int[] {UNASSIGNED, 0, UNASSIGNED}, engine.run());
+		assertEquals(2, engine.getProposals());
+	}
+
+	/**
+	 * Instancia pequeña con preferencias y prioridades explícitas, y un verificador por fuerza bruta.
+	 */
+	private static final class Instance {
+		private final int applicants;
+		private final int[][] preferences;
+		private final int[] capacities;
+		private final int[][] priority;
+
+		private Instance(int applicants, int[][] preferences, int[] capacities, int[][] priority) {
+			this.applicants = applicants;
+			this.preferences = preferences;
+			this.capacities = capacities;
+			this.priority = priority;
+		}
+
+		static Instance random(Random random, int applicants, int programs) {
+			int[][] preferences = new int[applicants][];
+			for (int a = 0; a < applicants; a++) {
+				List<Integer> all = new ArrayList<>();
+				for (int p = 0; p < programs; p++) {
+					all.add(p);
+				}
+				Collections.shuffle(all, random);
+				preferences[a] = all.subList(0, random.nextInt(programs + 1)).stream().mapToInt(Integer::intValue).toArray();
+			}
+			int[] capacities = new int[programs];
+			int[][] priority = new int[programs][];
+			for (int p = 0; p < programs; p++) {
+				capacities[p] = random.nextInt(Math.max(2, applicants / 3) + 1);
+				List<Integer> order = new ArrayList<>();
+				for (int a = 0; a < applicants; a++) {
+					order.add(a);
+				}
+				Collections.shuffle(order, random);
+				priority[p] = new int[applicants];
+				for (int position = 0; position < applicants; position++) {
+					priority[p][order.get(position)] = position;
+				}
+			}
+			return new Instance(applicants, preferences, capacities, priority);
+		}
+
+		DeferredAcceptance engine() {
+			int[] choiceStart = new int[applicants + 1];
+			List<Short> choices = new ArrayList<>();
+			for (int a = 0; a < applicants; a++) {
+				for (int program : preferences[a]) {
+					choices.add((short) program);
+				}
+				choiceStart[a + 1] = choices.size();
+			}
+			short[] flat = new short[choices.size()];
+			for (int i = 0; i < flat.length; i++) {
+				flat[i] = choices.get(i);
+			}
+			return new DeferredAcceptance(applicants, choiceStart, flat, capacities, priority);
+		}
+
+		/** Posición del programa en la lista del aspirante; sin cupo cuenta como la peor. */
+		int preferenceIndex(int applicant, int program) {
+			for (int i = 0; i < preferences[applicant].length; i++) {
+				if (preferences[applicant][i] == program) {
+					return i;
+				}
+			}
+			return program == UNASSIGNED ? preferences[applicant].length : Integer.MAX_VALUE;
+		}
+
+		boolean isStable(int[] assignment) {
+			int[] filled = new int[capacities.length];
+			for (int a = 0; a < applicants; a++) {
+				if (assignment[a] != UNASSIGNED) {
+					if (preferenceIndex(a, assignment[a]) == Integer.MAX_VALUE) {
+						return false; // asignado a un programa que no eligió
+					}
+					filled[assignment[a]]++;
+				}
+			}
+			for (int p = 0; p < capacities.length; p++) {
+				if (filled[p] > capacities[p]) {
+					return false;
+				}
+			}
+			for (int a = 0; a < applicants; a++) {
+				int current = preferenceIndex(a, assignment[a]);
+				for (int i = 0; i < current; i++) {
+					int p = preferences[a][i];
+					if (filled[p] < capacities[p]) {
+						return false; // prefiere un programa con cupo libre
+					}
+					for (int b = 0; b < applicants; b++) {
+						if (assignment[b] == p && priority[p][a] < priority[p][b]) {
+							return false; // el programa prefiere a a sobre un admitido
+						}
+					}
+				}
+			}
+			return true;
+		}
+
+		List<int[]> allStableAssignments() {
+			List<int[]> stable = new ArrayList<>();
+			enumerate(0, new int[applicants], stable);
+			return stable;
+		}
+
+		private void enumerate(int applicant, int[] assignment, List<int[]> stable) {
+			if (applicant == applicants) {
+				if (isStable(assignment)) {
+					stable.add(assignment.clone());
+				}
+				return;
+			}
+			assignment[applicant] = UNASSIGNED;
+			enumerate(applicant + 1, assignment, stable);
+			for (int program : preferences[applicant]) {
+				assignment[applicant] = program;
+				enumerate(applicant + 1, assignment, stable);
+			}
+		}
+	}
+}
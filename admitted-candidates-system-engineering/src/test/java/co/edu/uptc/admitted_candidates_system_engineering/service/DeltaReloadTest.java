@@ -0,0 +1,325 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.controller.DeltaReloadWatcher;
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.EthnicityClassifier;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SourceStamp;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ConcurrentCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.InMemoryCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.RankedCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.view.MessagePrinter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.CLASSIFIER;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeltaReloadTest {
+
+	private final CandidateSorter sorter = new CandidateSorter();
+	private final List<MultiProgramAdmissionService> programServices = new ArrayList<>();
+
+	@TempDir
+	Path directory;
+
+	@AfterEach
+	void shutdown() {
+		programServices.forEach(MultiProgramAdmissionService::shutdown);
+	}
+
+	@Test
+	void initializingTwiceReplacesTheData() throws Exception {
+		List<Candidate> base = random(3).numberedFrom(0).list(300);
+		AdmissionService service = service(new InMemoryCandidateRepository(), writeCsv("base.csv", base));
+
+		service.initializeSystem();
+		service.initializeSystem();
+
+		assertEquals(300, service.getTotalCandidates());
+		assertEquals(sorter.sort(base), service.getRankingSnapshot().getRankedCandidates());
+	}
+
+	/**
+	 * Un candidato buscado llega sin clasificar: el servicio lo clasifica antes de ubicarlo.
+	 */
+	@Test
+	void rankOfClassifiesTheProbe() throws Exception {
+		List<Candidate> base = random(5).numberedFrom(0).list(200);
+		List<Candidate> ranked = sorter.sort(base);
+		Path baseFile = writeCsv("base.csv", base);
+
+		OffHeapCandidateRepository offHeap = new OffHeapCandidateRepository(sorter);
+		try {
+			for (ICandidateRepository repository : List.of(new InMemoryCandidateRepository(),
+					new RankedCandidateRepository(sorter), offHeap)) {
+				AdmissionService service = service(repository, baseFile);
+				service.initializeSystem();
+				String message = repository.getClass().getSimpleName();
+
+				for (int position : new int[] {1, 2, 57, 200}) {
+					Candidate stored = ranked.get(position - 1);
+					Candidate probe = new Candidate(stored.getName(), stored.getLastName(), stored.getEthnicity(),
+						stored.getGlobalIcfesScore(), stored.getRegistrationDate(), stored.getMathScore(),
+						stored.getEnglishScore());
+					assertEquals(position, service.rankOf(probe), message);
+				}
+				assertEquals(-1, service.rankOf(new Candidate("Nadie", "Inscrito", "Raizal", 300, null, 50, 50)), message);
+				assertEquals(-1, service.rankOf(null), message);
+			}
+		} finally {
+			offHeap.close();
+		}
+	}
+
+	/**
+	 * Sin snapshot ni repositorio persistente nadie guarda el sello de la fuente: no se calcula.
+	 */
+	@Test
+	void sourceIsStampedOnlyWhenTheStampIsKept() throws Exception {
+		Path baseFile = writeCsv("base.csv", random(9).numberedFrom(0).list(50));
+		AtomicInteger stamps = new AtomicInteger();
+		CandidateDataLoader loader = new CandidateDataLoader(baseFile.toString()) {
+			@Override
+			public SourceStamp stampConfiguredSource() throws IOException {
+				stamps.incrementAndGet();
+				return super.stampConfiguredSource();
+			}
+		};
+
+		service(new InMemoryCandidateRepository(), loader, "").initializeSystem();
+		assertEquals(0, stamps.get());
+
+		Path snapshot = directory.resolve("ranking.snapshot");
+		AdmissionService withSnapshot = service(new InMemoryCandidateRepository(), loader, snapshot.toString());
+		withSnapshot.initializeSystem();
+		assertEquals(1, stamps.get());
+		assertTrue(Files.isRegularFile(snapshot));
+		assertEquals(50, withSnapshot.getTotalCandidates());
+	}
+
+	@Test
+	void batchesGiveTheSameRankingAsAFullReload() throws Exception {
+		List<Candidate> base = random(7).numberedFrom(0).list(2_000);
+		Path baseFile = writeCsv("base.csv", base);
+		Random random = new Random(11);
+		List<Candidate> updates = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			Candidate previous = base.get(random.nextInt(base.size()));
+			Candidate updated = candidate(previous.getName(), previous.getLastName(), previous.getEthnicity(),
+				random.nextInt(501), previous.getRegistrationDate(), random.nextInt(101), random.nextInt(101));
+			updates.add(updated);
+		}
+		updates.addAll(random(13).numberedFrom(2_000).list(100));
+		List<Candidate> withdrawals = List.of(base.get(1), base.get(2), updates.get(0), updates.get(updates.size() - 1));
+
+		long distinctUpdates = updates.stream().map(CandidateDeduplicator::identityOf).distinct().count();
+		Map<String, Candidate> expected = new LinkedHashMap<>();
+		base.forEach(candidate -> expected.put(CandidateDeduplicator.identityOf(candidate), candidate));
+		updates.forEach(candidate -> expected.put(CandidateDeduplicator.identityOf(candidate), candidate));
+		withdrawals.forEach(candidate -> expected.remove(CandidateDeduplicator.identityOf(candidate)));
+		List<Candidate> expectedRanking = sorter.sort(new ArrayList<>(expected.values()));
+
+		for (ICandidateRepository repository : List.of(new InMemoryCandidateRepository(), new ColumnarCandidateRepository(),
+				new RankedCandidateRepository(sorter), new ConcurrentCandidateRepository(4),
+				new OffHeapCandidateRepository(sorter))) {
+			AdmissionService service = service(repository, baseFile);
+			service.initializeSystem();
+			service.getRankingSnapshot();
+
+			IngestionReport delta = service.applyDelta(writeCsv("lote-1.csv", updates));
+			IngestionReport deletes = service.applyDelta(writeCsv("lote-2.delete.csv", withdrawals));
+
+			String name = repository.getClass().getSimpleName();
+			assertEquals(distinctUpdates, delta.getTotalRecords(), name);
+			assertEquals(4, deletes.getCandidatesRemoved(), name);
+			assertEquals(expected.size(), service.getTotalCandidates(), name);
+			assertEquals(expectedRanking, service.getRankingSnapshot().getRankedCandidates(), name);
+			assertEquals(expectedRanking, sorter.sort(repository.getAllCandidates()), name);
+		}
+	}
+
+	@Test
+	void watcherAppliesNewBatchesFromTheInputDirectory() throws Exception {
+		Path baseFile = writeCsv("base.csv", random(17).numberedFrom(0).list(100));
+		AdmissionService service = service(new InMemoryCandidateRepository(), baseFile);
+		service.initializeSystem();
+		writeBatch("inicial.csv", random(19).numberedFrom(100).list(5), 0);
+		DeltaReloadWatcher watcher = watcher(service, baseFile, new MessagePrinter());
+		try {
+			assertEquals(batches().toAbsolutePath().normalize(), watcher.start());
+			assertEquals(105, service.getTotalCandidates());
+
+			writeBatch("nuevo.csv", random(23).numberedFrom(200).list(20), 0);
+			long deadline = System.nanoTime() + 10_000_000_000L;
+			while (service.getTotalCandidates() != 125 && System.nanoTime() < deadline) {
+				Thread.sleep(20);
+			}
+			assertEquals(125, service.getTotalCandidates());
+			assertEquals(125, service.getRankingSnapshot().size());
+		} finally {
+			watcher.stop();
+		}
+	}
+
+	@Test
+	void watcherRequiresADedicatedDirectory() throws Exception {
+		Path baseFile = writeCsv("base.csv", random(29).numberedFrom(0).list(10));
+		AdmissionService service = service(new InMemoryCandidateRepository(), baseFile);
+		CandidateDataLoader loader = new CandidateDataLoader(baseFile.toString());
+
+		assertThrows(IllegalStateException.class,
+			() -> new DeltaReloadWatcher(service, new MessagePrinter(), loader, " ", 50));
+		assertThrows(IllegalStateException.class,
+			() -> new DeltaReloadWatcher(service, new MessagePrinter(), loader, directory.toString(), 50));
+	}
+
+	/**
+	 * El alta es más antigua que el retiro pero su nombre va después: aplicarlos por nombre
+	 * devolvería los retirados. Al reiniciar, la carga parte de la fuente y el registro de lotes
+	 * los vuelve a aplicar en el mismo orden.
+	 */
+	@Test
+	void restartReplaysBatchesInTheOrderTheyWereApplied() throws Exception {
+		List<Candidate> base = random(31).numberedFrom(0).list(100);
+		Path baseFile = writeCsv("base.csv", base);
+		List<Candidate> enrolled = random(37).numberedFrom(200).list(20);
+		writeBatch("z-altas.csv", enrolled, 20_000);
+		writeBatch("a.delete.csv", enrolled.subList(0, 5), 10_000);
+		List<Candidate> expected = new ArrayList<>(base);
+		expected.addAll(enrolled.subList(5, enrolled.size()));
+
+		for (int boot = 0; boot < 2; boot++) {
+			AdmissionService service = service(new InMemoryCandidateRepository(), baseFile);
+			service.initializeSystem();
+			AtomicInteger appliedBatches = new AtomicInteger();
+			DeltaReloadWatcher watcher = watcher(service, baseFile, countingPrinter(appliedBatches));
+			try {
+				watcher.start();
+			} finally {
+				watcher.stop();
+			}
+
+			assertEquals(2, appliedBatches.get(), "arranque " + boot);
+			assertEquals(sorter.sort(expected), service.getRankingSnapshot().getRankedCandidates(), "arranque " + boot);
+		}
+	}
+
+	/**
+	 * El repositorio persistente se vuelve a sellar con cada lote, así que tras el reinicio ya los
+	 * tiene: solo se aplica el lote que llegó mientras la aplicación estaba detenida.
+	 */
+	@Test
+	void restartWithAPersistentStoreOnlyAppliesNewBatches() throws Exception {
+		List<Candidate> base = random(41).numberedFrom(0).list(100);
+		Path baseFile = writeCsv("base.csv", base);
+		Path storeFile = directory.resolve("candidatos.bin");
+		List<Candidate> enrolled = random(43).numberedFrom(200).list(20);
+		writeBatch("z-altas.csv", enrolled, 20_000);
+		writeBatch("a.delete.csv", enrolled.subList(0, 5), 10_000);
+
+		OffHeapCandidateRepository first = new OffHeapCandidateRepository(sorter, storeFile.toString());
+		AdmissionService service = service(first, baseFile);
+		service.initializeSystem();
+		DeltaReloadWatcher watcher = watcher(service, baseFile, new MessagePrinter());
+		watcher.start();
+		watcher.stop();
+		first.close();
+
+		List<Candidate> late = random(47).numberedFrom(300).list(10);
+		writeBatch("tardio.csv", late, 0);
+		OffHeapCandidateRepository reopened = new OffHeapCandidateRepository(sorter, storeFile.toString());
+		service = service(reopened, baseFile);
+		service.initializeSystem();
+		assertTrue(service.retainsAppliedBatches());
+		AtomicInteger appliedBatches = new AtomicInteger();
+		watcher = watcher(service, baseFile, countingPrinter(appliedBatches));
+		try {
+			watcher.start();
+		} finally {
+			watcher.stop();
+		}
+
+		List<Candidate> expected = new ArrayList<>(base);
+		expected.addAll(enrolled.subList(5, enrolled.size()));
+		expected.addAll(late);
+		assertEquals(1, appliedBatches.get());
+		assertEquals(sorter.sort(expected), service.getRankingSnapshot().getRankedCandidates());
+		reopened.close();
+	}
+
+	private DeltaReloadWatcher watcher(AdmissionService service, Path dataFile, MessagePrinter printer) {
+		return new DeltaReloadWatcher(service, printer, new CandidateDataLoader(dataFile.toString()),
+			batches().toString(), 50);
+	}
+
+	private static MessagePrinter countingPrinter(AtomicInteger appliedBatches) {
+		return new MessagePrinter() {
+			@Override
+			public void printDeltaApplied(String file, IngestionReport report) {
+				appliedBatches.incrementAndGet();
+			}
+		};
+	}
+
+	private Path batches() {
+		return directory.resolve("lotes");
+	}
+
+	/**
+	 * Escribe un lote en la carpeta de lotes con la fecha de modificación de hace {@code ageMillis}.
+	 */
+	private Path writeBatch(String name, List<Candidate> candidates, long ageMillis) throws IOException {
+		Files.createDirectories(batches());
+		Path file = Files.move(writeCsv(name, candidates), batches().resolve(name));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - ageMillis));
+		return file;
+	}
+
+	private AdmissionService service(ICandidateRepository repository, Path dataFile) {
+		return service(repository, new CandidateDataLoader(dataFile.toString()), "");
+	}
+
+	private AdmissionService service(ICandidateRepository repository, CandidateDataLoader loader, String snapshotFile) {
+		CandidateDeduplicator deduplicator = new CandidateDeduplicator();
+		EthnicityClassifier classifier = CLASSIFIER;
+		MultiProgramAdmissionService programs = new MultiProgramAdmissionService(new AdmissionPrograms(), 1);
+		programServices.add(programs);
+		return new AdmissionService(repository, sorter, loader, new ParallelCandidateLoader(loader, 1),
+			new PooledRankingService(sorter, 10, true), new ScoreAnalyticsService(), programs, classifier,
+			new CandidateSnapshotStore(snapshotFile, sorter, classifier, deduplicator), deduplicator, "streaming");
+	}
+
+	private Path writeCsv(String name, List<Candidate> candidates) throws IOException {
+		StringBuilder text = new StringBuilder("name,lastName,ethnicity,globalIcfesScore,registrationDate,mathScore,englishScore\n");
+		for (Candidate candidate : candidates) {
+			text.append(candidate.getName()).append(',')
+				.append(candidate.getLastName()).append(',')
+				.append(candidate.getEthnicity()).append(',')
+				.append(candidate.getGlobalIcfesScore()).append(',')
+				.append(candidate.getRegistrationDate()).append(',')
+				.append(candidate.getMathScore()).append(',')
+				.append(candidate.getEnglishScore()).append('\n');
+		}
+		return Files.writeString(directory.resolve(name), text);
+	}
+}
@@ -0,0 +1,228 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedRecordParserTest {
+
+	private static final String[] NAMES = {"Ana", "José \"Pepe\"", "Zoë, María", "Ñandú\nSegunda línea", "😀 Emoji", "Back\\slash"};
+	private static final String[] ETHNICITIES = {"General", "Indígena Wayuu", "Raizal", "Afrocolombiano"};
+	private static final String[] PROGRAMS = {"SIS", "MED", "DER"};
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void csvAndNdjsonMatchJacksonOnTheSameCandidates() throws IOException {
+		List<Candidate> candidates = randomCandidates(2_000, 3);
+		Path json = writeJson(candidates);
+		Path csv = writeCsv(candidates);
+		Path ndjson = writeNdjson(candidates);
+
+		List<Candidate> expected = new ArrayList<>();
+		new CandidateDataLoader().streamCandidatesFromFile(json, expected::add);
+
+		// Ventanas pequeñas para que muchos registros queden partidos entre dos ventanas
+		for (int window : new int[] {512, 4_096, MappedRecordParser.DEFAULT_WINDOW_SIZE}) {
+			assertSameCandidates(expected, parse(new CsvCandidateParser(window), csv));
+			assertSameCandidates(expected, parse(new NdjsonCandidateParser(window), ndjson));
+		}
+	}
+
+	@Test
+	void loaderPicksParserByExtension() throws IOException {
+		List<Candidate> candidates = randomCandidates(50, 11);
+		Path csv = writeCsv(candidates);
+		Path jsonl = Files.move(writeNdjson(candidates), directory.resolve("candidatos.jsonl"));
+		Path ndjson = writeNdjson(candidates);
+		CandidateDataLoader loader = new CandidateDataLoader();
+
+		assertEquals(CandidateDataLoader.Format.CSV, loader.formatOf(csv));
+		assertEquals(CandidateDataLoader.Format.NDJSON, loader.formatOf(jsonl));
+		assertEquals(CandidateDataLoader.Format.JSON, loader.formatOf(directory.resolve("candidatos.json")));
+		assertEquals(CandidateDataLoader.Format.CSV, new CandidateDataLoader("", "csv").formatOf(ndjson));
+		List<Candidate> loaded = new ArrayList<>();
+		assertEquals(50, loader.streamCandidatesFromFile(csv, loaded::add));
+		assertEquals(50, loader.streamCandidatesFromFile(ndjson, loaded::add));
+		assertEquals(50, loader.streamCandidatesFromFile(jsonl, loaded::add));
+		assertEquals(candidates, loaded.subList(0, 50));
+	}
+
+	@Test
+	void repeatedEthnicitiesAndProgramsShareOneInstance() throws IOException {
+		List<Candidate> candidates = randomCandidates(200, 5);
+		for (MappedRecordParser parser : new MappedRecordParser[] {new CsvCandidateParser(), new NdjsonCandidateParser()}) {
+			List<Candidate> loaded = parse(parser, parser instanceof CsvCandidateParser ? writeCsv(candidates) : writeNdjson(candidates));
+			for (Candidate candidate : loaded) {
+				Candidate first = loaded.stream()
+					.filter(other -> other.getEthnicity().equals(candidate.getEthnicity()))
+					.findFirst().orElseThrow();
+				assertSame(first.getEthnicity(), candidate.getEthnicity());
+			}
+		}
+	}
+
+	@Test
+	void csvHeaderOrderAndMissingColumns() throws IOException {
+		Path csv = write("orden.csv", "\uFEFFenglishScore,extra,name,registrationDate,programChoices\r\n"
+			+ "90,x,Ana,2024-10-01,SIS; MED\r\n"
+			+ ",\"y\",\"\",,\r\n");
+
+		List<Candidate> loaded = parse(new CsvCandidateParser(), csv);
+
+		assertEquals(2, loaded.size());
+		assertEquals(90, loaded.get(0).getEnglishScore());
+		assertEquals("Ana", loaded.get(0).getName());
+		assertNull(loaded.get(0).getLastName());
+		assertEquals(LocalDate.of(2024, 10, 1), loaded.get(0).getRegistrationDate());
+		assertEquals(List.of("SIS", "MED"), loaded.get(0).getProgramChoices());
+		assertEquals("", loaded.get(1).getName());
+		assertNull(loaded.get(1).getRegistrationDate());
+		assertEquals(List.of(), loaded.get(1).getProgramChoices());
+	}
+
+	@Test
+	void ndjsonSkipsUnknownFieldsAndAcceptsNulls() throws IOException {
+		Path ndjson = write("extra.ndjson",
+			"{\"id\": {\"a\": [1, 2.5e3, true]}, \"name\": \"Ana\", \"mathScore\": 80.0, \"ethnicity\": null}\n"
+			+ "\n"
+			+ "{ }");
+
+		List<Candidate> loaded = parse(new NdjsonCandidateParser(), ndjson);
+
+		assertEquals(2, loaded.size());
+		assertEquals("Ana", loaded.get(0).getName());
+		assertEquals(80, loaded.get(0).getMathScore());
+		assertNull(loaded.get(0).getEthnicity());
+	}
+
+	@Test
+	void malformedRecordsAreRejected() throws IOException {
+		assertThrows(IOException.class, () -> parse(new CsvCandidateParser(),
+			write("fecha.csv", "name,registrationDate\nAna,2024-13-01\n")));
+		assertThrows(IOException.class, () -> parse(new CsvCandidateParser(),
+			write("comillas.csv", "name,mathScore\n\"Ana,80\n")));
+		assertThrows(IOException.class, () -> parse(new CsvCandidateParser(),
+			write("encabezado.csv", "a,b\n1,2\n")));
+		assertThrows(IOException.class, () -> parse(new NdjsonCandidateParser(),
+			write("numero.ndjson", "{\"mathScore\": \"80\"}\n")));
+		assertThrows(IOException.class, () -> parse(new NdjsonCandidateParser(),
+			write("cortado.ndjson", "{\"name\": \"Ana\"")));
+		assertThrows(IOException.class, () -> parse(new NdjsonCandidateParser(16),
+			write("grande.ndjson", "{\"name\": \"Un nombre más largo que la ventana\"}\n")));
+	}
+
+	private static List<Candidate> parse(MappedRecordParser parser, Path file) throws IOException {
+		List<Candidate> loaded = new ArrayList<>();
+		long count = parser.parse(file, loaded::add);
+		assertEquals(loaded.size(), count);
+		return loaded;
+	}
+
+	private static void assertSameCandidates(List<Candidate> expected, List<Candidate> actual) {
+		assertEquals(expected, actual);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getMathScore(), actual.get(i).getMathScore());
+			assertEquals(expected.get(i).getEnglishScore(), actual.get(i).getEnglishScore());
+			assertEquals(expected.get(i).getProgramChoices(), actual.get(i).getProgramChoices());
+		}
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+	}
+
+	private Path writeJson(List<Candidate> candidates) throws IOException {
+		ArrayNode array = mapper.createArrayNode();
+		candidates.forEach(candidate -> array.add(toJson(candidate)));
+		return write("candidatos.json", mapper.writeValueAsString(array));
+	}
+
+	private Path writeNdjson(List<Candidate> candidates) throws IOException {
+		StringBuilder text = new StringBuilder();
+		for (Candidate candidate : candidates) {
+			// Escapes \\u en algunas líneas para cubrir la decodificación completa de textos
+			String line = mapper.writeValueAsString(toJson(candidate));
+			text.append(candidate.getMathScore() % 2 == 0 ? line : line.replace("a", "\\u0061")).append('\n');
+		}
+		return write("candidatos.ndjson", text.toString());
+	}
+
+	private Path writeCsv(List<Candidate> candidates) throws IOException {
+		StringBuilder text = new StringBuilder("name,lastName,ethnicity,globalIcfesScore,registrationDate,mathScore,englishScore,programChoices\n");
+		for (Candidate candidate : candidates) {
+			text.append(quote(candidate.getName())).append(',')
+				.append(quote(candidate.getLastName())).append(',')
+				.append(candidate.getEthnicity()).append(',')
+				.append(candidate.getGlobalIcfesScore()).append(',')
+				.append(candidate.getRegistrationDate()).append(',')
+				.append(candidate.getMathScore()).append(',')
+				.append(candidate.getEnglishScore()).append(',')
+				.append(String.join(";", candidate.getProgramChoices())).append('\n');
+		}
+		return write("candidatos.csv", text.toString());
+	}
+
+	private static String quote(String text) {
+		boolean needsQuotes = text.contains(",") || text.contains("\"") || text.contains("\n");
+		return needsQuotes ? '"' + text.replace("\"", "\"\"") + '"' : text;
+	}
+
+	private ObjectNode toJson(Candidate candidate) {
+		ObjectNode node = mapper.createObjectNode();
+		node.put("name", candidate.getName());
+		node.put("lastName", candidate.getLastName());
+		node.put("ethnicity", candidate.getEthnicity());
+		node.put("globalIcfesScore", candidate.getGlobalIcfesScore());
+		node.put("registrationDate", candidate.getRegistrationDate().toString());
+		node.put("mathScore", candidate.getMathScore());
+		node.put("englishScore", candidate.getEnglishScore());
+		ArrayNode choices = node.putArray("programChoices");
+		candidate.getProgramChoices().forEach(choices::add);
+		return node;
+	}
+
+	private static List<Candidate> randomCandidates(int count, long seed) {
+		Random random = new Random(seed);
+		List<Candidate> candidates = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Candidate candidate = new Candidate(
+				NAMES[random.nextInt(NAMES.length)] + i,
+				NAMES[random.nextInt(NAMES.length)],
+				ETHNICITIES[random.nextInt(ETHNICITIES.length)],
+				random.nextInt(501),
+				LocalDate.of(2024, 1 + random.nextInt(12), 1 + random.nextInt(28)),
+				random.nextInt(101),
+				random.nextInt(101));
+			List<String> choices = new ArrayList<>();
+			for (String program : PROGRAMS) {
+				if (random.nextBoolean()) {
+					choices.add(program);
+				}
+			}
+			candidate.setProgramChoices(choices);
+			candidates.add(candidate);
+		}
+		return candidates;
+	}
+}
@@ -0,0 +1,144 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramAdmissions;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ProgramRanking;
+import co.edu.uptc.admitted_candidates_system_engineering.model.SeatAssignment;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiProgramAdmissionServiceTest {
+
+	private MultiProgramAdmissionService service;
+
+	@AfterEach
+	void shutdown() {
+		if (service != null) {
+			service.shutdown();
+		}
+	}
+
+	@Test
+	void eachProgramMatchesSortingItsOwnApplicants() {
+		String medRules = "minority desc, 0.4*global + 3*math + 2*english desc, lastName asc, name asc";
+		String derRules = "english desc, registrationDate asc, name desc";
+		service = new MultiProgramAdmissionService(programs(
+			new AdmissionPrograms.Program("SIS", "Sistemas", 40, ""),
+			new AdmissionPrograms.Program("MED", "Medicina", 15, medRules),
+			new AdmissionPrograms.Program("DER", "Derecho", 0, derRules)), 3);
+		List<Candidate> candidates = random(5).global(300, 500).subjects(80, 100).withPrograms().list(3_000);
+		ColumnarCandidateRepository store = new ColumnarCandidateRepository();
+		candidates.forEach(store::addCandidate);
+
+		ProgramAdmissions admissions = service.rank(store);
+
+		assertEquals(3, admissions.getRankings().size());
+		assertProgram(admissions.getRankings().get(0), candidates, "SIS", true, new CandidateSorter(), 40);
+		assertProgram(admissions.getRankings().get(1), candidates, "MED", false,
+			new RuleBasedCandidateSorter(RankingRules.parse(medRules)), 15);
+		assertProgram(admissions.getRankings().get(2), candidates, "DER", false,
+			new RuleBasedCandidateSorter(RankingRules.parse(derRules)), 0);
+	}
+
+	@Test
+	void seatAssignmentWithOneProgramFollowsCandidateSorterPriority() {
+		service = new MultiProgramAdmissionService(programs(new AdmissionPrograms.Program("SIS", null, 100, null)), 1);
+		List<Candidate> candidates = random(13).global(300, 500).subjects(80, 100).withPrograms().list(2_000);
+		candidates.forEach(candidate -> candidate.setProgramChoices(null));
+		ColumnarCandidateRepository store = new ColumnarCandidateRepository();
+		candidates.forEach(store::addCandidate);
+
+		SeatAssignment assignment = service.assignSeats(store);
+
+		assertEquals(new CandidateSorter().sort(candidates).subList(0, 100),
+			assignment.getPrograms().get(0).getAdmittedCandidates());
+		assertEquals(1_900, assignment.getUnassigned());
+	}
+
+	@Test
+	void seatAssignmentGivesEachApplicantAtMostOneSeat() {
+		service = new MultiProgramAdmissionService(programs(
+			new AdmissionPrograms.Program("SIS", null, 300, null),
+			new AdmissionPrograms.Program("MED", null, 100, "math desc, english desc, lastName, name"),
+			new AdmissionPrograms.Program("DER", null, 100, "english desc, global desc, name, lastName")), 2);
+		List<Candidate> candidates = random(17).global(300, 500).subjects(80, 100).withPrograms().list(3_000);
+		ColumnarCandidateRepository store = new ColumnarCandidateRepository();
+		candidates.forEach(store::addCandidate);
+
+		SeatAssignment assignment = service.assignSeats(store);
+
+		Map<Candidate, String> seats = new IdentityHashMap<>();
+		int admitted = 0;
+		for (ProgramRanking program : assignment.getPrograms()) {
+			assertTrue(program.getAdmittedCandidates().size() <= program.getSeats());
+			admitted += program.getAdmittedCandidates().size();
+			for (Candidate candidate : program.getAdmittedCandidates()) {
+				assertEquals(null, seats.put(candidate, program.getCode()));
+			}
+		}
+		assertEquals(assignment.getApplicants(), admitted + assignment.getUnassigned());
+	}
+
+	@Test
+	void programWithoutApplicantsAdmitsNobody() {
+		service = new MultiProgramAdmissionService(programs(
+			new AdmissionPrograms.Program("SIS", null, 10, null),
+			new AdmissionPrograms.Program("ARQ", null, 10, null)), 2);
+		ColumnarCandidateRepository store = new ColumnarCandidateRepository();
+		random(9).global(300, 500).subjects(80, 100).withPrograms().list(200).forEach(store::addCandidate);
+
+		ProgramRanking architecture = service.rank(store).getRankings().get(1);
+
+		assertEquals("ARQ", architecture.getTitle());
+		assertEquals(0, architecture.getTotalApplicants());
+		assertTrue(architecture.getAdmittedCandidates().isEmpty());
+		assertEquals(-1, architecture.getCutoffScore());
+	}
+
+	@Test
+	void rejectsInvalidPrograms() {
+		assertThrows(IllegalArgumentException.class, () -> new MultiProgramAdmissionService(programs(
+			new AdmissionPrograms.Program("SIS", null, 1, null),
+			new AdmissionPrograms.Program("SIS", null, 1, null)), 1));
+		assertThrows(IllegalArgumentException.class, () -> new MultiProgramAdmissionService(programs(
+			new AdmissionPrograms.Program("SIS", null, -1, null)), 1));
+		assertThrows(IllegalArgumentException.class, () -> new MultiProgramAdmissionService(programs(
+			new AdmissionPrograms.Program("SIS", null, 1, "age desc")), 1));
+	}
+
+	private static void assertProgram(ProgramRanking ranking, List<Candidate> candidates, String code,
+			boolean principal, ISorter<Candidate> sorter, int seats) {
+		List<Candidate> applicants = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			List<String> choices = candidate.getProgramChoices();
+			if (choices.contains(code) || (principal && choices.isEmpty())) {
+				applicants.add(candidate);
+			}
+		}
+		List<Candidate> expected = sorter.sort(applicants);
+		if (seats > 0) {
+			expected = expected.subList(0, Math.min(seats, expected.size()));
+		}
+
+		assertEquals(code, ranking.getCode());
+		assertEquals(applicants.size(), ranking.getTotalApplicants());
+		assertEquals(expected, ranking.getAdmittedCandidates(), "programa " + code);
+	}
+
+	private static AdmissionPrograms programs(AdmissionPrograms.Program... programs) {
+		AdmissionPrograms admissionPrograms = new AdmissionPrograms();
+		admissionPrograms.setPrograms(List.of(programs));
+		return admissionPrograms;
+	}
+}
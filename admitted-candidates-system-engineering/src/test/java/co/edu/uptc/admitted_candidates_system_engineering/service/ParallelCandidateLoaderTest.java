@@ -0,0 +1,110 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.IngestionReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelCandidateLoaderTest {
+
+	private final CandidateDataLoader dataLoader = new CandidateDataLoader();
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Llaves, corchetes, comillas escapadas y barras dentro de los textos no cuentan como
+	 * estructura. Con regiones y bloques de pocos bytes sus límites caen dentro de los objetos
+	 * y de las secuencias de escape.
+	 */
+	@Test
+	void matchesTheStreamingParserWhenBoundariesFallInsideObjects() throws IOException {
+		StringBuilder json = new StringBuilder("[\n");
+		String[] names = {"Ana {María}", "Luis \\\"el [primero]\\\"", "Sofía }{", "Barra \\\\", "Fin \\\\\\\"}"};
+		for (int i = 0; i < 40; i++) {
+			if (i > 0) {
+				json.append(i % 3 == 0 ? ",\n" : " ,");
+			}
+			json.append("  {\"name\": \"").append(names[i % names.length]).append(' ').append(i)
+				.append("\", \"lastName\": \"Gómez \\u007B").append(i % 7).append("\\\\\"")
+				.append(", \"ethnicity\": \"").append(i % 4 == 0 ? "Raizal" : "General")
+				.append("\", \"globalIcfesScore\": ").append(200 + i * 7)
+				.append(", \"registrationDate\": \"2024-10-").append(10 + i % 20)
+				.append("\", \"mathScore\": ").append(i % 101)
+				.append(", \"englishScore\": ").append((i * 13) % 101);
+			if (i % 5 == 0) {
+				json.append(", \"programChoices\": [\"SIS\", \"MAT{]\"]");
+			}
+			json.append('}');
+		}
+		json.append("\n]\n");
+		Path file = write("candidatos.json", json.toString());
+		List<Candidate> expected = stream(file);
+		assertEquals(40, expected.size());
+
+		for (long segmentSize : new long[] {1, 7, 37, 1 << 20}) {
+			for (int chunkBytes : new int[] {1, 64, 1_000, 1 << 20}) {
+				List<Candidate> loaded = new ArrayList<>();
+				IngestionReport report = loader(3, segmentSize, chunkBytes).load(file, loaded::add);
+
+				String message = "región " + segmentSize + ", bloque " + chunkBytes;
+				assertEquals(expected, loaded, message);
+				assertEquals(40, report.getTotalRecords(), message);
+				for (int i = 0; i < expected.size(); i++) {
+					assertEquals(expected.get(i).getProgramChoices(), loaded.get(i).getProgramChoices(), message);
+				}
+			}
+		}
+	}
+
+	@Test
+	void emptyArrayLoadsNothing() throws IOException {
+		Path file = write("vacio.json", " [ \n ] ");
+
+		for (long segmentSize : new long[] {1, 3, 1 << 20}) {
+			List<Candidate> loaded = new ArrayList<>();
+			loader(2, segmentSize, 16).load(file, loaded::add);
+
+			assertTrue(loaded.isEmpty());
+			assertEquals(stream(file), loaded);
+		}
+	}
+
+	@Test
+	void rejectsContentOutsideTheArray() throws IOException {
+		ParallelCandidateLoader loader = loader(2, 5, 16);
+
+		assertThrows(IOException.class, () -> loader.load(write("objeto.json", "{\"name\": \"Ana\"}"), c -> { }));
+		assertThrows(IOException.class, () -> loader.load(write("abierto.json", "[{\"name\": \"Ana ]\"}"), c -> { }));
+		assertThrows(IOException.class, () -> loader.load(write("sobrante.json", "[] {}"), c -> { }));
+		assertThrows(IOException.class, () -> loader.load(write("numero.json", "[{\"name\": \"Ana\"}, 3]"), c -> { }));
+	}
+
+	private ParallelCandidateLoader loader(int parallelism, long segmentSize, int chunkBytes) {
+		return new ParallelCandidateLoader(dataLoader, parallelism, segmentSize, chunkBytes);
+	}
+
+	private List<Candidate> stream(Path file) throws IOException {
+		List<Candidate> candidates = new ArrayList<>();
+		try (InputStream input = Files.newInputStream(file)) {
+			dataLoader.streamCandidates(input, candidates::add);
+		}
+		return candidates;
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+	}
+}
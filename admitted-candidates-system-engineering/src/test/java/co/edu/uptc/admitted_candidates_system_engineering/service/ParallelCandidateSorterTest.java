@@ -0,0 +1,74 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.assertSameOrder;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelCandidateSorterTest {
+
+	private final CandidateSorter comparatorSorter = new CandidateSorter();
+	private final List<ParallelCandidateSorter> sorters = new ArrayList<>();
+
+	@AfterEach
+	void shutdown() {
+		sorters.forEach(ParallelCandidateSorter::shutdown);
+	}
+
+	@Test
+	void producesSameOrderAsComparatorSorterForAnyThreadCount() {
+		// Pocos puntajes distintos: muchos empates de clave que se resuelven por apellido y nombre
+		List<Candidate> candidates = random(42).global(300, 320).subjects(95, 100).list(150_000);
+		List<Candidate> expected = comparatorSorter.sort(candidates);
+
+		for (int threads : new int[] {1, 2, 3, 8}) {
+			assertSameOrder(expected, sorter(2, threads).sort(candidates));
+		}
+	}
+
+	@Test
+	void keepsInputOrderForFullyTiedCandidates() {
+		List<Candidate> candidates = new ArrayList<>();
+		for (int i = 0; i < 50_000; i++) {
+			candidates.add(candidate("Ana", "Gómez", i % 7 == 0 ? "Raizal" : "General", 400,
+				LocalDate.of(2024, 10, 1), 90, 90));
+		}
+
+		assertSameOrder(comparatorSorter.sort(candidates), sorter(2, 4).sort(candidates));
+	}
+
+	@Test
+	void handlesTheWholeScoreRange() {
+		List<Candidate> candidates = random(7).global(Short.MIN_VALUE, Short.MAX_VALUE)
+			.subjects(Short.MIN_VALUE, Short.MAX_VALUE).list(20_000);
+		candidates.add(candidate("Ana", "Gómez", "General", Short.MAX_VALUE, null, Short.MIN_VALUE, 0));
+		candidates.add(candidate("Ana", "Gómez", "Raizal", Short.MIN_VALUE, null, Short.MAX_VALUE, 0));
+		candidates.add(candidate("Ana", "Gómez", "General", 0, null, 0, Short.MAX_VALUE));
+		candidates.add(candidate("Ana", "Gómez", "General", 0, null, 0, Short.MIN_VALUE));
+
+		assertSameOrder(comparatorSorter.sort(candidates), sorter(2, 4).sort(candidates));
+	}
+
+	@Test
+	void usesTheSequentialSorterBelowTheThreshold() {
+		List<Candidate> candidates = random(11).list(500);
+
+		assertSameOrder(comparatorSorter.sort(candidates), sorter(1_000, 4).sort(candidates));
+		assertTrue(sorter(1_000, 4).sort(new ArrayList<>()).isEmpty());
+		assertTrue(sorter(1_000, 4).sort(null).isEmpty());
+	}
+
+	private ParallelCandidateSorter sorter(int threshold, int threads) {
+		ParallelCandidateSorter sorter = new ParallelCandidateSorter(threshold, threads);
+		sorters.add(sorter);
+		return sorter;
+	}
+}
@@ -0,0 +1,53 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.assertSameOrder;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RadixCandidateSorterTest {
+
+	private final CandidateSorter comparatorSorter = new CandidateSorter();
+	private final RadixCandidateSorter radixSorter = new RadixCandidateSorter();
+
+	@Test
+	void producesSameOrderAsComparatorSorter() {
+		List<Candidate> candidates = random(42).global(300, 500).subjects(90, 100).list(5_000);
+
+		assertSameOrder(comparatorSorter.sort(candidates), radixSorter.sort(candidates));
+	}
+
+	@Test
+	void keepsInputOrderForFullyTiedCandidates() {
+		List<Candidate> candidates = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			candidates.add(candidate("Ana", "Gómez", "General", 400, LocalDate.of(2024, 10, 1), 90, 90));
+		}
+
+		assertSameOrder(candidates, radixSorter.sort(candidates));
+	}
+
+	@Test
+	void handlesScoresOutsideTheUsualRanges() {
+		List<Candidate> candidates = random(7).global(Short.MIN_VALUE, Short.MAX_VALUE).subjects(-50, 50).list(1_000);
+		candidates.add(candidate("Ana", "Gómez", "General", Short.MAX_VALUE, null, Short.MIN_VALUE, 0));
+		candidates.add(candidate("Ana", "Gómez", "Raizal", Short.MIN_VALUE, null, Short.MAX_VALUE, 0));
+		candidates.add(candidate("Ana", "Gómez", "General", 0, null, 0, Short.MAX_VALUE));
+		candidates.add(candidate("Ana", "Gómez", "General", 0, null, 0, Short.MIN_VALUE));
+
+		assertSameOrder(comparatorSorter.sort(candidates), radixSorter.sort(candidates));
+	}
+
+	@Test
+	void returnsEmptyListForEmptyInput() {
+		assertTrue(radixSorter.sort(new ArrayList<>()).isEmpty());
+		assertTrue(radixSorter.sort(null).isEmpty());
+	}
+}
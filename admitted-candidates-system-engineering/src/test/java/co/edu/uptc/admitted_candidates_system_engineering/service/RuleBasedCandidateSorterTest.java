@@ -0,0 +1,132 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.assertSameOrder;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleBasedCandidateSorterTest {
+
+	private final CandidateSorter comparatorSorter = new CandidateSorter();
+	private final RuleBasedCandidateSorter defaultRules = new RuleBasedCandidateSorter(RankingRules.defaults());
+
+	@Test
+	void defaultRulesProduceSameOrderAsComparatorSorter() {
+		List<Candidate> candidates = random(42).global(300, 500).subjects(90, 100).list(20_000);
+
+		assertSameOrder(comparatorSorter.sort(candidates), defaultRules.sort(candidates));
+	}
+
+	@Test
+	void defaultRulesHandleScoresOutsideTheUsualRanges() {
+		List<Candidate> candidates = random(7).global(Short.MIN_VALUE, Short.MAX_VALUE).subjects(-50, 50).list(2_000);
+		candidates.add(candidate("Ana", "Gómez", "General", Short.MAX_VALUE, null, Short.MIN_VALUE, 0));
+		candidates.add(candidate("Ana", "Gómez", "Raizal", Short.MIN_VALUE, null, Short.MAX_VALUE, 0));
+
+		assertSameOrder(comparatorSorter.sort(candidates), defaultRules.sort(candidates));
+	}
+
+	@Test
+	void comparatorAndRankingKeyAgreeWithSort() {
+		List<Candidate> candidates = random(11).global(300, 500).list(5_000);
+		List<Candidate> sorted = defaultRules.sort(candidates);
+
+		for (int i = 1; i < sorted.size(); i++) {
+			Candidate previous = sorted.get(i - 1);
+			Candidate current = sorted.get(i);
+			assertTrue(defaultRules.getComparator().compare(previous, current) <= 0, "posición " + i);
+			assertTrue(defaultRules.getRankingKey().applyAsLong(previous)
+				<= defaultRules.getRankingKey().applyAsLong(current), "posición " + i);
+		}
+	}
+
+	/**
+	 * La clave distingue a los candidatos que separan las reglas numéricas iniciales, no solo la minoría.
+	 */
+	@Test
+	void rankingKeyPacksTheLeadingNumericRules() {
+		List<Candidate> candidates = random(13).global(Short.MIN_VALUE, Short.MAX_VALUE).subjects(-50, 50).list(3_000);
+		candidates.add(candidate("Ana", "Gómez", "General", Short.MAX_VALUE, null, Short.MIN_VALUE, Short.MAX_VALUE));
+		candidates.add(candidate("Ana", "Gómez", "Raizal", Short.MIN_VALUE, null, Short.MAX_VALUE, Short.MIN_VALUE));
+		List<Candidate> sorted = defaultRules.sort(candidates);
+		ToLongFunction<Candidate> key = defaultRules.getRankingKey();
+
+		for (int i = 1; i < sorted.size(); i++) {
+			Candidate previous = sorted.get(i - 1);
+			Candidate current = sorted.get(i);
+			boolean sameScores = previous.isMinorityCommunity() == current.isMinorityCommunity()
+				&& previous.getGlobalIcfesScore() == current.getGlobalIcfesScore()
+				&& previous.getMathScore() == current.getMathScore()
+				&& previous.getEnglishScore() == current.getEnglishScore();
+			if (sameScores) {
+				assertEquals(key.applyAsLong(previous), key.applyAsLong(current), "posición " + i);
+			} else {
+				assertTrue(key.applyAsLong(previous) < key.applyAsLong(current), "posición " + i);
+			}
+		}
+	}
+
+	@Test
+	void rankingKeyFollowsCompositeAndDateRules() {
+		RuleBasedCandidateSorter weighted = new RuleBasedCandidateSorter(
+			"0.5*global + 2*math + 1.25*english desc, registrationDate asc, name desc", "");
+		List<Candidate> candidates = random(17).global(200, 500).list(5_000);
+		candidates.add(candidate("Ana", "Gómez", "General", 400, null, 90, 90));
+		List<Candidate> sorted = weighted.sort(candidates);
+		ToLongFunction<Candidate> key = weighted.getRankingKey();
+
+		for (int i = 1; i < sorted.size(); i++) {
+			Candidate previous = sorted.get(i - 1);
+			Candidate current = sorted.get(i);
+			assertTrue(key.applyAsLong(previous) <= key.applyAsLong(current), "posición " + i);
+			if (previous.getRegistrationEpochDay() != current.getRegistrationEpochDay()
+				|| weighted.getRules().value(0, previous) != weighted.getRules().value(0, current)) {
+				assertTrue(key.applyAsLong(previous) < key.applyAsLong(current), "posición " + i);
+			}
+		}
+	}
+
+	@Test
+	void weightedCompositeMatchesEquivalentComparator() {
+		RuleBasedCandidateSorter weighted = new RuleBasedCandidateSorter(
+			"0.5*global + 2*math + 1.25*english desc, registrationDate asc, name desc", "");
+		Comparator<Candidate> expected = Comparator
+			.<Candidate>comparingLong(c -> -(50L * c.getGlobalIcfesScore() + 200L * c.getMathScore()
+				+ 125L * c.getEnglishScore()))
+			.thenComparing(Candidate::getRegistrationDate)
+			.thenComparing(Candidate::getName, Comparator.reverseOrder());
+		List<Candidate> candidates = random(3).global(200, 500).list(10_000);
+
+		List<Candidate> reference = new ArrayList<>(candidates);
+		reference.sort(expected);
+		assertSameOrder(reference, weighted.sort(candidates));
+	}
+
+	@Test
+	void textFirstRuleHasNoRankingKey() {
+		RuleBasedCandidateSorter byName = new RuleBasedCandidateSorter("lastName, name", "");
+
+		assertNull(byName.getRankingKey());
+		assertEquals("lastName, name", byName.getRules().getDefinition());
+	}
+
+	@Test
+	void rejectsInvalidRules() {
+		assertThrows(IllegalArgumentException.class, () -> RankingRules.parse("age desc"));
+		assertThrows(IllegalArgumentException.class, () -> RankingRules.parse("0.5*lastName desc"));
+		assertThrows(IllegalArgumentException.class, () -> RankingRules.parse("x*global desc"));
+		assertThrows(IllegalArgumentException.class, () -> RankingRules.parse("0.0000001*global"));
+		assertThrows(IllegalArgumentException.class, () -> RankingRules.parse("# solo un comentario"));
+	}
+}
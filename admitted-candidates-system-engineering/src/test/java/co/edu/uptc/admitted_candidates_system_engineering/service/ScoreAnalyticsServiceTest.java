@@ -0,0 +1,114 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import co.edu.uptc.admitted_candidates_system_engineering.model.ScoreAnalytics;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ColumnarCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.ICandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.InMemoryCandidateRepository;
+import co.edu.uptc.admitted_candidates_system_engineering.repository.OffHeapCandidateRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ScoreAnalyticsServiceTest {
+
+	private final CandidateSorter sorter = new CandidateSorter();
+	private final ScoreAnalyticsService service = new ScoreAnalyticsService();
+
+	/**
+	 * El corte leído de los histogramas es el del último admitido del ranking ordenado, también
+	 * cuando cae entre los puntajes fuera de la escala.
+	 */
+	@Test
+	void cutoffMatchesTheSortedRanking() throws IOException {
+		List<Candidate> candidates = random(31).outliers(40).gaps(25).list(4_000);
+		List<Candidate> ranked = sorter.sort(candidates);
+		int minority = (int) candidates.stream().filter(Candidate::isMinorityCommunity).count();
+		int[] seatCounts = {1, 7, minority - 1, minority, minority + 1, 2_500, candidates.size(), candidates.size() + 10,
+			0, -3};
+
+		OffHeapCandidateRepository offHeap = new OffHeapCandidateRepository(sorter);
+		try {
+			for (ICandidateRepository repository : List.of(new InMemoryCandidateRepository(),
+					new ColumnarCandidateRepository(), offHeap)) {
+				candidates.forEach(repository::addCandidate);
+				for (int seats : seatCounts) {
+					assertCutoff(ranked, service.analyze(repository, sorter, seats), seats,
+						repository.getClass().getSimpleName() + ", " + seats + " cupos");
+				}
+			}
+		} finally {
+			offHeap.close();
+		}
+	}
+
+	@Test
+	void analyzesCountsWithoutCutoffWhenNobodyIsLoaded() {
+		ScoreAnalytics analytics = service.analyze(new InMemoryCandidateRepository(), sorter, 10);
+
+		assertEquals(0, analytics.getTotalCandidates());
+		assertEquals(0, analytics.getCutoff().getAdmitted());
+		assertEquals(-1, analytics.getCutoff().getScore());
+	}
+
+	/**
+	 * Con reglas que no ordenan por bolsa y puntaje global, los histogramas no ubican al último admitido.
+	 */
+	@Test
+	void cutoffFollowsTheConfiguredRules() {
+		ICandidateRepository repository = new InMemoryCandidateRepository();
+		random(5).list(200).forEach(repository::addCandidate);
+
+		assertNotNull(service.analyze(repository, new RadixCandidateSorter(), 20).getCutoff());
+		assertNotNull(service.analyze(repository, rules(RankingRules.DEFAULT_DEFINITION), 20).getCutoff());
+		assertNotNull(service.analyze(repository, rules("2*minority desc, global desc, name asc"), 20).getCutoff());
+		assertNull(service.analyze(repository, rules("global desc, minority desc"), 20).getCutoff());
+		assertNull(service.analyze(repository, rules("minority asc, global desc"), 20).getCutoff());
+		assertNull(service.analyze(repository, rules("minority desc, global + math desc"), 20).getCutoff());
+		assertNull(service.analyze(repository, rules("minority desc"), 20).getCutoff());
+		assertEquals(200, service.analyze(repository, rules("lastName"), 20).getTotalCandidates());
+	}
+
+	private static void assertCutoff(List<Candidate> ranked, ScoreAnalytics analytics, int seats, String message) {
+		int admitted = seats <= 0 ? ranked.size() : Math.min(seats, ranked.size());
+		Candidate last = ranked.get(admitted - 1);
+		int bin = bin(last.getGlobalIcfesScore());
+		long tied = ranked.stream()
+			.filter(c -> c.isMinorityCommunity() == last.isMinorityCommunity() && bin(c.getGlobalIcfesScore()) == bin)
+			.count();
+		long admittedAtScore = ranked.subList(0, admitted).stream()
+			.filter(c -> c.isMinorityCommunity() == last.isMinorityCommunity() && bin(c.getGlobalIcfesScore()) == bin)
+			.count();
+
+		ScoreAnalytics.Cutoff cutoff = analytics.getCutoff();
+		assertEquals(ranked.size(), analytics.getTotalCandidates(), message);
+		assertEquals(admitted, cutoff.getAdmitted(), message);
+		assertEquals(last.isMinorityCommunity(), cutoff.isMinorityPool(), message);
+		assertEquals(bin, bin(cutoff.getScore()), message);
+		if (bin == last.getGlobalIcfesScore()) {
+			assertEquals(last.getGlobalIcfesScore(), cutoff.getScore(), message);
+		}
+		assertEquals(tied, cutoff.getTiedAtScore(), message);
+		assertEquals(admittedAtScore, cutoff.getAdmittedAtScore(), message);
+	}
+
+	/**
+	 * Casilla del histograma global: los puntajes fuera de la escala comparten la de su extremo.
+	 */
+	private static int bin(int global) {
+		if (global < 0) {
+			return -1;
+		}
+		return Math.min(global, ScoreAnalyticsService.GLOBAL_SCALE_MAX + 1);
+	}
+
+	private static RuleBasedCandidateSorter rules(String definition) {
+		return new RuleBasedCandidateSorter(definition, "");
+	}
+}
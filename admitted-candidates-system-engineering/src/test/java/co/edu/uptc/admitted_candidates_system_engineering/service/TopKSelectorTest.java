@@ -0,0 +1,70 @@
+package co.edu.uptc.admitted_candidates_system_engineering.service;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.assertSameOrder;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKSelectorTest {
+
+	private final Comparator<Candidate> comparator = new CandidateSorter().getComparator();
+
+	/**
+	 * Con puntajes en rangos estrechos hay empates completos justo en el corte: deben quedar los
+	 * que llegaron primero, como en un ordenamiento estable recortado.
+	 */
+	@Test
+	void selectsTheSamePrefixAsAStableSort() {
+		List<Candidate> candidates = random(19).global(380, 390).subjects(95, 100).list(3_000);
+		List<Candidate> sorted = new ArrayList<>(candidates);
+		sorted.sort(comparator);
+
+		for (int k : new int[] {0, 1, 2, 10, 137, 1_000, 2_999, 3_000, 3_001, 50_000}) {
+			TopKSelector<Candidate> selector = select(k, candidates);
+
+			assertEquals(candidates.size(), selector.getSeen());
+			assertSameOrder(sorted.subList(0, Math.min(k, sorted.size())), selector.getSelected());
+		}
+	}
+
+	@Test
+	void tiesAtTheCutoffKeepTheEarliestArrivals() {
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			items.add(i);
+		}
+		// Solo compara decenas: 0-9 empatan entre sí, 10-19 también, y así
+		TopKSelector<Integer> selector = new TopKSelector<>(15, Comparator.comparingInt(i -> i / 10));
+		for (int i = items.size() - 1; i >= 0; i--) {
+			selector.accept(items.get(i));
+		}
+
+		List<Integer> selected = selector.getSelected();
+		assertEquals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 19, 18, 17, 16, 15), selected);
+	}
+
+	@Test
+	void emptyInputAndZeroSeatsSelectNothing() {
+		assertTrue(select(5, List.of()).getSelected().isEmpty());
+
+		TopKSelector<Candidate> none = select(0, random(3).list(50));
+		assertEquals(50, none.getSeen());
+		assertTrue(none.getSelected().isEmpty());
+
+		assertThrows(IllegalArgumentException.class, () -> new TopKSelector<>(-1, comparator));
+	}
+
+	private TopKSelector<Candidate> select(int k, List<Candidate> candidates) {
+		TopKSelector<Candidate> selector = new TopKSelector<>(k, comparator);
+		candidates.forEach(selector);
+		return selector;
+	}
+}
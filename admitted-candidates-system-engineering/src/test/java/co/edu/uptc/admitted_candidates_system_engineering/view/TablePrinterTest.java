@@ -0,0 +1,106 @@
+package co.edu.uptc.admitted_candidates_system_engineering.view;
+
+import co.edu.uptc.admitted_candidates_system_engineering.model.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.candidate;
+import static co.edu.uptc.admitted_candidates_system_engineering.CandidateFixtures.random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TablePrinterTest {
+
+	private static final String NEW_LINE = System.lineSeparator();
+	private static final String TITLE = "ADMITIDOS DE PRUEBA";
+
+	private final TablePrinter printer = new TablePrinter();
+
+	/**
+	 * Las filas armadas a mano deben ser idénticas a las del formato con String.format que
+	 * usaba la tabla antes: marcador de minorías, recortes, celdas vacías y separadores.
+	 */
+	@Test
+	void matchesTheFormattedLayout() throws IOException {
+		List<Candidate> candidates = new ArrayList<>();
+		candidates.add(candidate("Ana", "Gómez", "Indígena Wayuu", 480, LocalDate.of(2024, 10, 1), 95, 90));
+		candidates.add(candidate("Nombre Larguísimo De Veinte Y Más", "Apellido Que Tampoco Cabe", "General", 470, null, 100, 5));
+		candidates.add(candidate("Veinte Caracteres Ok", null, null, 460, null, 0, 100));
+		candidates.add(candidate("Luis", "Pérez", "Afrodescendiente del Pacífico", 450, null, 80, 80));
+		candidates.addAll(random(6).list(16));
+
+		for (int size : new int[] {1, 4, 5, 6, 10, 11, 20}) {
+			List<Candidate> rows = candidates.subList(0, size);
+			StringBuilder output = new StringBuilder();
+			printer.printTable(rows, TITLE, output);
+
+			assertEquals(formatted(rows), output.toString(), size + " filas");
+		}
+	}
+
+	@Test
+	void marksMinoritiesAndTruncatesLongNames() throws IOException {
+		StringBuilder output = new StringBuilder();
+		printer.printTable(List.of(
+			candidate("Ana", "Gómez", "Raizal", 480, null, 95, 90),
+			candidate("Nombre Larguísimo De Veinte Y Más", "Gómez", "General", 470, null, 90, 90)), TITLE, output);
+
+		assertTrue(output.toString().contains("| 1*   | Ana "));
+		assertTrue(output.toString().contains("| 2    | Nombre Larguísimo... | Gómez "));
+	}
+
+	@Test
+	void emptyListPrintsTheMessage() throws IOException {
+		StringBuilder empty = new StringBuilder();
+		StringBuilder missing = new StringBuilder();
+		printer.printTable(List.of(), TITLE, empty);
+		printer.printTable(null, TITLE, missing);
+
+		assertEquals("\n| No hay candidatos para mostrar." + NEW_LINE, empty.toString());
+		assertEquals(empty.toString(), missing.toString());
+	}
+
+	/**
+	 * La tabla tal como la imprimían printf y println.
+	 */
+	private static String formatted(List<Candidate> candidates) {
+		String separator = "+" + "-".repeat(100) + "+";
+		String header = "| %-4s | %-20s | %-20s | %-12s | %-8s | %-8s | %-15s |";
+		String row = "| %-4s | %-20s | %-20s | %-12d | %-8d | %-8d | %-15s |";
+
+		StringBuilder out = new StringBuilder();
+		out.append("\n").append("=".repeat(110)).append(NEW_LINE);
+		out.append("                     ").append(TITLE).append(NEW_LINE);
+		out.append("=".repeat(110)).append(NEW_LINE);
+		out.append(separator).append(NEW_LINE);
+		out.append(String.format(header, "POS", "NOMBRE", "APELLIDO", "ICFES TOTAL", "MATEMÁT.", "INGLÉS", "ETNIA"))
+			.append(NEW_LINE);
+		out.append(separator).append(NEW_LINE);
+		for (int i = 0; i < candidates.size(); i++) {
+			Candidate candidate = candidates.get(i);
+			String ethnicity = candidate.getEthnicity() == null || candidate.getEthnicity().trim().isEmpty()
+				? "General" : truncate(candidate.getEthnicity(), 15);
+			String position = (i + 1) + (candidate.isMinorityCommunity() ? "*" : "");
+			out.append(String.format(row, position, truncate(candidate.getName(), 20),
+				truncate(candidate.getLastName(), 20), candidate.getGlobalIcfesScore(), candidate.getMathScore(),
+				candidate.getEnglishScore(), ethnicity)).append(NEW_LINE);
+			if ((i + 1) % 5 == 0 && i < candidates.size() - 1) {
+				out.append("|").append("-".repeat(100)).append("|").append(NEW_LINE);
+			}
+		}
+		out.append(separator).append(NEW_LINE);
+		out.append("| Tabla generada exitosamente\n").append(NEW_LINE);
+		return out.toString();
+	}
+
+	private static String truncate(String value, int maxLength) {
+		if (value == null) {
+			return "";
+		}
+		return value.length() <= maxLength ? value : value.substring(0, maxLength - 3) + "...";
+	}
+}